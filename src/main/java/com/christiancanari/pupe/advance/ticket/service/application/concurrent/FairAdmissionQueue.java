@@ -0,0 +1,313 @@
+package com.christiancanari.pupe.advance.ticket.service.application.concurrent;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreThrottlingException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Control de admisión con cola acotada y turnos equitativos por solicitante.
+ *
+ * <p>
+ * Admite hasta {@code maxConcurrent} procesamientos simultáneos, más {@code smallReserved}
+ * cupos que solo pueden usar las solicitudes pequeñas, para que un listado chico no espere
+ * detrás de listados grandes que ocupan todos los cupos generales.
+ * </p>
+ *
+ * <p>
+ * Las solicitudes sin cupo esperan en una cola por solicitante. Al liberarse un cupo, los
+ * solicitantes se atienden por turnos (round-robin) y cada uno en orden de llegada, por lo
+ * que quien envía muchas solicitudes no desplaza a los demás. Si la cola está completa, o la
+ * espera supera {@code maxWait}, la solicitud se rechaza con {@link ErrorType#TOO_MANY_REQUESTS}.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class FairAdmissionQueue {
+
+    private final Limits limits;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition granted = lock.newCondition();
+    private final Map<String, Deque<Waiter>> waiting = new LinkedHashMap<>();
+
+    private int running;
+    private int runningReserved;
+    private int queued;
+
+    /**
+     * Crea el control de admisión.
+     *
+     * @param limits límites del control de admisión
+     */
+    public FairAdmissionQueue(Limits limits) {
+        this.limits = limits;
+    }
+
+    /**
+     * Obtiene un cupo de procesamiento, esperando turno si no hay cupos libres.
+     *
+     * @param caller       identificador del solicitante
+     * @param requestBytes tamaño del listado recibido; negativo si se desconoce
+     * @return cupo a liberar al finalizar el procesamiento
+     * @throws CoreThrottlingException con {@link ErrorType#TOO_MANY_REQUESTS} si la cola está completa
+     *                                 o no se obtiene cupo dentro de {@code maxWait}
+     */
+    public Permit acquire(String caller, long requestBytes) {
+
+        if (!limits.enabled()) {
+            return new Permit(null);
+        }
+
+        boolean small = requestBytes >= 0 && requestBytes <= limits.smallRequestMaxBytes();
+
+        lock.lock();
+        try {
+            if (queued == 0) {
+                Slot slot = freeSlot(small);
+                if (slot != null) {
+                    occupy(slot);
+                    return new Permit(slot);
+                }
+            }
+
+            if (queued >= limits.queueCapacity()) {
+                throw saturated("Capacidad de procesamiento saturada, intente nuevamente más tarde");
+            }
+
+            Waiter waiter = new Waiter(small);
+            waiting.computeIfAbsent(caller, key -> new ArrayDeque<>()).addLast(waiter);
+            queued++;
+            dispatch();
+
+            return new Permit(await(caller, waiter));
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retorna la cantidad de procesamientos admitidos en curso.
+     *
+     * @return procesamientos en curso
+     */
+    public int running() {
+        lock.lock();
+        try {
+            return running + runningReserved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retorna la cantidad de solicitudes esperando turno.
+     *
+     * @return solicitudes en cola
+     */
+    public int queued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Slot await(String caller, Waiter waiter) {
+
+        long remaining = limits.maxWait().toNanos();
+
+        try {
+            while (waiter.slot == null) {
+                if (remaining <= 0) {
+                    abandon(caller, waiter);
+                    throw saturated("No se obtuvo turno de procesamiento dentro del tiempo máximo de espera");
+                }
+                remaining = granted.awaitNanos(remaining);
+            }
+            return waiter.slot;
+
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            if (waiter.slot != null) {
+                release(waiter.slot);
+            } else {
+                abandon(caller, waiter);
+            }
+            throw new CoreTechnicalException("La espera de turno de procesamiento fue interrumpida",
+                    ErrorType.UNEXPECTED_ERROR, ex);
+        }
+    }
+
+    /**
+     * Asigna los cupos libres a las solicitudes en espera, un solicitante por turno.
+     */
+    private void dispatch() {
+
+        boolean assigned = false;
+        boolean progress = true;
+
+        while (progress && queued > 0) {
+
+            progress = false;
+            Iterator<Map.Entry<String, Deque<Waiter>>> callers = waiting.entrySet().iterator();
+
+            while (callers.hasNext()) {
+
+                Map.Entry<String, Deque<Waiter>> entry = callers.next();
+                Waiter head = entry.getValue().peekFirst();
+                Slot slot = freeSlot(head.small);
+
+                if (slot == null) {
+                    continue;
+                }
+
+                entry.getValue().removeFirst();
+                occupy(slot);
+                head.slot = slot;
+                queued--;
+
+                // El solicitante atendido pasa al final del turno
+                callers.remove();
+                if (!entry.getValue().isEmpty()) {
+                    waiting.put(entry.getKey(), entry.getValue());
+                }
+
+                assigned = progress = true;
+                break;
+            }
+        }
+
+        if (assigned) {
+            granted.signalAll();
+        }
+    }
+
+    private Slot freeSlot(boolean small) {
+
+        if (running < limits.maxConcurrent()) {
+            return Slot.GENERAL;
+        }
+
+        return small && runningReserved < limits.smallReserved() ? Slot.RESERVED : null;
+    }
+
+    private void occupy(Slot slot) {
+        if (slot == Slot.GENERAL) {
+            running++;
+        } else {
+            runningReserved++;
+        }
+    }
+
+    private void release(Slot slot) {
+
+        lock.lock();
+        try {
+            if (slot == Slot.GENERAL) {
+                running--;
+            } else {
+                runningReserved--;
+            }
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void abandon(String caller, Waiter waiter) {
+
+        Deque<Waiter> queue = waiting.get(caller);
+
+        if (queue != null && queue.remove(waiter)) {
+            queued--;
+            if (queue.isEmpty()) {
+                waiting.remove(caller);
+            }
+        }
+    }
+
+    private CoreThrottlingException saturated(String message) {
+        log.warn("[Admission] Solicitud rechazada: {} en curso, {} en cola", running + runningReserved, queued);
+        return new CoreThrottlingException(message, ErrorType.TOO_MANY_REQUESTS, limits.retryAfter());
+    }
+
+    /**
+     * Tipo de cupo asignado a una solicitud.
+     */
+    private enum Slot {
+        GENERAL,
+        RESERVED
+    }
+
+    /**
+     * Solicitud en espera; {@code slot} se asigna bajo el lock al concederle un cupo.
+     */
+    private static final class Waiter {
+
+        private final boolean small;
+        private Slot slot;
+
+        private Waiter(boolean small) {
+            this.small = small;
+        }
+    }
+
+    /**
+     * Cupo de procesamiento concedido; se libera una única vez al cerrarlo.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final Slot slot;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Slot slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public void close() {
+            if (slot != null && released.compareAndSet(false, true)) {
+                release(slot);
+            }
+        }
+    }
+
+    /**
+     * Límites del control de admisión.
+     *
+     * @param enabled              habilita el control de admisión
+     * @param maxConcurrent        procesamientos simultáneos de cualquier tamaño
+     * @param smallReserved        procesamientos simultáneos adicionales reservados para solicitudes pequeñas
+     * @param smallRequestMaxBytes tamaño máximo del listado, en bytes, para considerar pequeña una solicitud
+     * @param queueCapacity        solicitudes que pueden esperar turno
+     * @param maxWait              espera máxima de una solicitud en cola
+     * @param retryAfter           espera sugerida al solicitante rechazado
+     */
+    public record Limits(
+            boolean enabled,
+            int maxConcurrent,
+            int smallReserved,
+            long smallRequestMaxBytes,
+            int queueCapacity,
+            Duration maxWait,
+            Duration retryAfter
+    ) {
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.christiancanari.pupe.advance.ticket.service.application.concurrent;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Ejecutor de tareas en paralelo con concurrencia acotada y resultados en orden de entrada.
+ *
+ * <p>
+ * Cada elemento se procesa en un hilo virtual; como máximo {@code maxInFlight} tareas
+ * se encuentran en curso a la vez. Los resultados se entregan al consumidor en el mismo
+ * orden de los elementos de entrada, a medida que cada tarea y sus predecesoras finalizan.
+ * </p>
+ *
+ * <p>
+ * Si una tarea falla, las tareas pendientes se cancelan (interrumpiendo sus hilos)
+ * y la excepción original se propaga al invocador. Del mismo modo, si el plazo de
+ * {@link TicketProcessingContext} termina, no se inician nuevas tareas y las pendientes se cancelan.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public final class OrderedParallelExecutor {
+
+    private OrderedParallelExecutor() {
+    }
+
+    /**
+     * Aplica la tarea a cada elemento y retorna los resultados en el orden de entrada.
+     *
+     * @param items       elementos a procesar
+     * @param maxInFlight máximo de tareas simultáneas; {@code 1} ejecuta secuencialmente
+     * @param threadName  prefijo del nombre de los hilos
+     * @param task        tarea a aplicar sobre cada elemento
+     * @param <T>         tipo de los elementos
+     * @param <R>         tipo de los resultados
+     * @return resultados en el orden de entrada
+     */
+    public static <T, R> List<R> mapOrdered(
+            List<T> items,
+            int maxInFlight,
+            String threadName,
+            Function<T, R> task
+    ) {
+        List<R> results = new ArrayList<>(items.size());
+        forEachOrdered(items.iterator(), maxInFlight, threadName, task, results::add);
+        return results;
+    }
+
+    /**
+     * Aplica la tarea a cada elemento y entrega cada resultado al consumidor en el orden de entrada.
+     *
+     * <p>
+     * El consumidor se invoca siempre desde el hilo que llama a este método. Los elementos
+     * se obtienen del iterador solo cuando existe capacidad para una nueva tarea, por lo que
+     * la memoria retenida depende de {@code maxInFlight} y no del total de elementos.
+     * </p>
+     *
+     * @param items       elementos a procesar
+     * @param maxInFlight máximo de tareas simultáneas; {@code 1} ejecuta secuencialmente
+     * @param threadName  prefijo del nombre de los hilos
+     * @param task        tarea a aplicar sobre cada elemento
+     * @param consumer    receptor de los resultados
+     * @param <T>         tipo de los elementos
+     * @param <R>         tipo de los resultados
+     */
+    public static <T, R> void forEachOrdered(
+            Iterator<T> items,
+            int maxInFlight,
+            String threadName,
+            Function<T, R> task,
+            Consumer<R> consumer
+    ) {
+
+        if (maxInFlight <= 1) {
+            items.forEachRemaining(item -> {
+                TicketProcessingContext.checkDeadline();
+                consumer.accept(task.apply(item));
+            });
+            return;
+        }
+
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(threadName, 0).factory());
+        CompletionService<R> completionService = new ExecutorCompletionService<>(executor);
+        Deque<Future<R>> window = new ArrayDeque<>();
+
+        try {
+            while (true) {
+
+                while (window.size() < maxInFlight && items.hasNext()) {
+                    TicketProcessingContext.checkDeadline();
+                    T item = items.next();
+                    window.addLast(completionService.submit(() -> task.apply(item)));
+                }
+
+                if (window.isEmpty()) {
+                    return;
+                }
+
+                Future<R> head = window.peekFirst();
+
+                while (!head.isDone()) {
+                    Future<R> completed = completionService.take();
+                    if (completed.state() == Future.State.FAILED) {
+                        throw unwrap(completed.exceptionNow());
+                    }
+                }
+
+                window.removeFirst();
+
+                if (head.state() == Future.State.FAILED) {
+                    throw unwrap(head.exceptionNow());
+                }
+
+                consumer.accept(head.resultNow());
+            }
+
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            TicketProcessingContext.checkDeadline();
+            throw new CoreTechnicalException("El procesamiento fue interrumpido", ErrorType.UNEXPECTED_ERROR, ex);
+        } catch (RuntimeException | Error ex) {
+            if (!window.isEmpty()) {
+                log.warn("Cancelando {} tareas pendientes por error en el procesamiento paralelo", window.size());
+            }
+            throw ex;
+        } finally {
+            window.forEach(future -> future.cancel(true));
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Obtiene la excepción a propagar a partir de la causa de una tarea fallida.
+     */
+    private static RuntimeException unwrap(Throwable cause) {
+
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+
+        if (cause instanceof Error error) {
+            throw error;
+        }
+
+        return new CoreTechnicalException("Error inesperado en el procesamiento paralelo",
+                ErrorType.UNEXPECTED_ERROR, cause);
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.christiancanari.pupe.advance.ticket.service.application.concurrent;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketDeadline;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingListener;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Receptor de avance y plazo asociados al procesamiento en curso.
+ *
+ * <p>
+ * Se almacenan en {@link InheritableThreadLocal}: los hilos creados por
+ * {@link OrderedParallelExecutor} durante el procesamiento heredan el receptor y el plazo
+ * del hilo que los crea, por lo que los servicios que procesan carpetas, llaman a Google Drive
+ * y analizan PDFs pueden informar su avance y abandonar el trabajo cuando el plazo termina,
+ * sin recibirlos como parámetro.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TicketProcessingContext {
+
+    private static final InheritableThreadLocal<TicketProcessingListener> LISTENER = new InheritableThreadLocal<>();
+    private static final InheritableThreadLocal<TicketDeadline> DEADLINE = new InheritableThreadLocal<>();
+
+    private TicketProcessingContext() {
+    }
+
+    /**
+     * Retorna el receptor del procesamiento en curso.
+     *
+     * @return receptor asociado al hilo actual, o {@link TicketProcessingListener#NONE}
+     */
+    public static TicketProcessingListener listener() {
+        TicketProcessingListener listener = LISTENER.get();
+        return listener != null ? listener : TicketProcessingListener.NONE;
+    }
+
+    /**
+     * Retorna el plazo del procesamiento en curso.
+     *
+     * @return plazo asociado al hilo actual, o {@link TicketDeadline#NONE}
+     */
+    public static TicketDeadline deadline() {
+        TicketDeadline deadline = DEADLINE.get();
+        return deadline != null ? deadline : TicketDeadline.NONE;
+    }
+
+    /**
+     * Verifica que el plazo del procesamiento en curso siga vigente.
+     *
+     * @throws CoreTechnicalException con {@link ErrorType#DEADLINE_EXCEEDED} si el plazo venció
+     *                                o el procesamiento fue cancelado
+     */
+    public static void checkDeadline() {
+
+        TicketDeadline deadline = deadline();
+
+        if (deadline.isDone()) {
+            throw new CoreTechnicalException(
+                    "El procesamiento se interrumpió antes de finalizar: " + deadline.reason(),
+                    ErrorType.DEADLINE_EXCEEDED
+            );
+        }
+    }
+
+    /**
+     * Ejecuta una acción con el receptor indicado asociado al hilo actual y a los hilos que cree,
+     * conservando el plazo vigente.
+     *
+     * @param listener receptor del avance
+     * @param action   acción a ejecutar
+     * @param <T>      tipo del resultado
+     * @return resultado de la acción
+     */
+    public static <T> T with(TicketProcessingListener listener, Supplier<T> action) {
+        return with(listener, deadline(), action);
+    }
+
+    /**
+     * Ejecuta una acción con el receptor y el plazo indicados asociados al hilo actual y a los hilos que cree.
+     *
+     * @param listener receptor del avance
+     * @param deadline plazo del procesamiento
+     * @param action   acción a ejecutar
+     * @param <T>      tipo del resultado
+     * @return resultado de la acción
+     */
+    public static <T> T with(TicketProcessingListener listener, TicketDeadline deadline, Supplier<T> action) {
+
+        TicketProcessingListener previousListener = LISTENER.get();
+        TicketDeadline previousDeadline = DEADLINE.get();
+        LISTENER.set(listener);
+        DEADLINE.set(deadline);
+
+        try {
+            return action.get();
+        } finally {
+            restore(LISTENER, previousListener);
+            restore(DEADLINE, previousDeadline);
+        }
+    }
+
+    /**
+     * Captura el receptor y el plazo vigentes para restablecerlos en hilos que no los heredan,
+     * como los trabajadores de larga vida de una etapa de procesamiento.
+     *
+     * @return receptor y plazo asociados al hilo actual
+     */
+    public static Snapshot snapshot() {
+        return new Snapshot(listener(), deadline());
+    }
+
+    /**
+     * Ejecuta una acción entregando además a {@code onFailure} los errores que se informen
+     * durante ella. El resto de los eventos, y los propios errores, se siguen informando
+     * al receptor vigente.
+     *
+     * <p>
+     * {@code onFailure} puede invocarse desde los hilos creados por la acción.
+     * </p>
+     *
+     * @param onFailure receptor de los errores informados por la acción
+     * @param action    acción a ejecutar
+     * @param <T>       tipo del resultado
+     * @return resultado de la acción
+     */
+    public static <T> T collectingFailures(Consumer<TicketProcessingError> onFailure, Supplier<T> action) {
+        return with(new FailureCollector(listener(), onFailure), action);
+    }
+
+    /**
+     * Receptor y plazo capturados de un procesamiento.
+     *
+     * @param listener receptor del avance
+     * @param deadline plazo del procesamiento
+     */
+    public record Snapshot(TicketProcessingListener listener, TicketDeadline deadline) {
+
+        /**
+         * Ejecuta una acción con el receptor y el plazo capturados asociados al hilo actual.
+         *
+         * @param action acción a ejecutar
+         * @param <T>    tipo del resultado
+         * @return resultado de la acción
+         */
+        public <T> T call(Supplier<T> action) {
+            return with(listener, deadline, action);
+        }
+    }
+
+    private static <V> void restore(ThreadLocal<V> holder, V previous) {
+        if (previous != null) {
+            holder.set(previous);
+        } else {
+            holder.remove();
+        }
+    }
+
+    /**
+     * Receptor que reenvía todos los eventos y entrega además los errores a un consumidor.
+     */
+    private record FailureCollector(
+            TicketProcessingListener delegate,
+            Consumer<TicketProcessingError> onFailure
+    ) implements TicketProcessingListener {
+
+        @Override
+        public void folderResolved(ResolvedFolder folder) {
+            delegate.folderResolved(folder);
+        }
+
+        @Override
+        public void folderListRead(int folders) {
+            delegate.folderListRead(folders);
+        }
+
+        @Override
+        public void pdfsListed(String folderName, int pdfs) {
+            delegate.pdfsListed(folderName, pdfs);
+        }
+
+        @Override
+        public void pdfExtracted(String folderName, String pdfName, boolean ticketFound) {
+            delegate.pdfExtracted(folderName, pdfName, ticketFound);
+        }
+
+        @Override
+        public void folderProcessed(String folderName, int tickets) {
+            delegate.folderProcessed(folderName, tickets);
+        }
+
+        @Override
+        public void failed(TicketProcessingError error) {
+            onFailure.accept(error);
+            delegate.failed(error);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.christiancanari.pupe.advance.ticket.service.application.pipeline;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Etapa de un {@link StagedPipeline}: un conjunto propio de trabajadores que toma tareas
+ * de una cola de entrega acotada.
+ *
+ * <p>
+ * Las etapas son de larga vida y se comparten entre todas las ejecuciones del pipeline, por lo
+ * que su cantidad de trabajadores es el límite global de trabajo simultáneo de la etapa:
+ * <ul>
+ *     <li>{@link Kind#IO}: hilos virtuales, baratos de bloquear en llamadas de red o disco</li>
+ *     <li>{@link Kind#CPU}: hilos de plataforma, dimensionados a los procesadores disponibles</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Entregar una tarea a una etapa con la cola completa bloquea a quien la entrega, ya sea
+ * el trabajador de la etapa anterior o el hilo que recorre el origen, por lo que la
+ * contrapresión se propaga hacia el inicio del pipeline sin coordinación adicional.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public final class PipelineStage implements AutoCloseable {
+
+    /**
+     * Perfil de costo de una etapa, que determina el tipo de sus hilos.
+     */
+    public enum Kind {
+        /** Etapa dominada por esperas de red o disco. */
+        IO,
+        /** Etapa dominada por cómputo. */
+        CPU
+    }
+
+    private final String name;
+    private final Kind kind;
+    private final int workers;
+    private final BlockingQueue<StageTask> queue;
+    private final List<Thread> threads = new ArrayList<>();
+
+    private final AtomicInteger busy = new AtomicInteger();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean closed;
+
+    private PipelineStage(String name, Kind kind, int workers, int queueCapacity, ThreadFactory threadFactory) {
+
+        this.name = name;
+        this.kind = kind;
+        this.workers = workers;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        for (int i = 0; i < workers; i++) {
+            threads.add(threadFactory.newThread(this::work));
+        }
+        threads.forEach(Thread::start);
+    }
+
+    /**
+     * Crea una etapa de entrada/salida atendida por hilos virtuales.
+     *
+     * @param name          nombre de la etapa (hilos y métricas)
+     * @param workers       tareas simultáneas de la etapa
+     * @param queueCapacity tareas que pueden esperar en la cola de entrega
+     * @return etapa iniciada
+     */
+    public static PipelineStage io(String name, int workers, int queueCapacity) {
+        return new PipelineStage(name, Kind.IO, workers, queueCapacity,
+                Thread.ofVirtual().name("stage-" + name + "-", 0).factory());
+    }
+
+    /**
+     * Crea una etapa de cómputo atendida por hilos de plataforma.
+     *
+     * @param name          nombre de la etapa (hilos y métricas)
+     * @param workers       tareas simultáneas de la etapa; normalmente la cantidad de procesadores
+     * @param queueCapacity tareas que pueden esperar en la cola de entrega
+     * @return etapa iniciada
+     */
+    public static PipelineStage cpu(String name, int workers, int queueCapacity) {
+        return new PipelineStage(name, Kind.CPU, workers, queueCapacity,
+                Thread.ofPlatform().name("stage-" + name + "-", 0).daemon(true).factory());
+    }
+
+    /**
+     * Entrega una tarea a la etapa, esperando mientras su cola esté completa.
+     *
+     * @param task tarea a ejecutar
+     * @throws InterruptedException   si el hilo es interrumpido mientras espera lugar en la cola
+     * @throws CoreTechnicalException si la etapa está cerrada
+     */
+    void submit(StageTask task) throws InterruptedException {
+
+        if (closed) {
+            throw closedError();
+        }
+
+        queue.put(task);
+    }
+
+    /**
+     * Registra el resultado de una tarea de la etapa.
+     *
+     * @param success {@code true} si la tarea finalizó sin error
+     */
+    void completed(boolean success) {
+        (success ? succeeded : failed).increment();
+    }
+
+    private void work() {
+
+        while (!closed) {
+
+            StageTask task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException ex) {
+                return;
+            }
+
+            busy.incrementAndGet();
+            try {
+                task.run();
+            } catch (RuntimeException ex) {
+                log.error("[Pipeline] Error no controlado en la etapa {}", name, ex);
+            } finally {
+                busy.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Detiene los trabajadores y aborta las tareas que aún esperaban en la cola.
+     */
+    @Override
+    public void close() {
+
+        closed = true;
+        threads.forEach(Thread::interrupt);
+
+        List<StageTask> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        pending.forEach(task -> task.abort(closedError()));
+    }
+
+    private CoreTechnicalException closedError() {
+        return new CoreTechnicalException("La etapa de procesamiento " + name + " está cerrada",
+                ErrorType.UNEXPECTED_ERROR);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    public int workers() {
+        return workers;
+    }
+
+    /**
+     * Retorna la cantidad de tareas esperando en la cola de entrega.
+     *
+     * @return profundidad de la cola
+     */
+    public int queued() {
+        return queue.size();
+    }
+
+    /**
+     * Retorna la capacidad de la cola de entrega.
+     *
+     * @return capacidad de la cola
+     */
+    public int capacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    /**
+     * Retorna la cantidad de trabajadores ejecutando una tarea.
+     *
+     * @return trabajadores ocupados
+     */
+    public int busy() {
+        return busy.get();
+    }
+
+    /**
+     * Retorna la cantidad de tareas finalizadas sin error.
+     *
+     * @return tareas exitosas
+     */
+    public long succeeded() {
+        return succeeded.sum();
+    }
+
+    /**
+     * Retorna la cantidad de tareas finalizadas con error.
+     *
+     * @return tareas fallidas
+     */
+    public long failed() {
+        return failed.sum();
+    }
+
+    /**
+     * Tarea entregada a una etapa.
+     */
+    interface StageTask {
+
+        /**
+         * Ejecuta la tarea en un trabajador de la etapa.
+         */
+        void run();
+
+        /**
+         * Informa que la tarea no se ejecutará.
+         *
+         * @param reason motivo
+         */
+        void abort(RuntimeException reason);
+    }
+
+}
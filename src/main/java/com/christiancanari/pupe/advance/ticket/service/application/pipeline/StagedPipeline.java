@@ -0,0 +1,238 @@
+package com.christiancanari.pupe.advance.ticket.service.application.pipeline;
+
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.TicketProcessingContext;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Pipeline por etapas que transforma cada elemento de un origen pasando por una secuencia de
+ * {@link PipelineStage}, cada una con sus propios trabajadores y cola de entrega acotada.
+ *
+ * <p>
+ * Un elemento avanza a la siguiente etapa apenas finaliza la anterior, por lo que etapas con
+ * distinto perfil de costo (descargas de red y parseo de PDFs, por ejemplo) trabajan en paralelo
+ * sobre elementos distintos. Cuando una etapa se satura, su cola completa bloquea a la etapa
+ * anterior y, finalmente, al recorrido del origen.
+ * </p>
+ *
+ * <p>
+ * {@link #forEachOrdered(Iterator, int, Consumer)} conserva las garantías de
+ * {@link com.christiancanari.pupe.advance.ticket.service.application.concurrent.OrderedParallelExecutor}:
+ * <ul>
+ *     <li>Los resultados se entregan en el hilo invocante y en el orden del origen</li>
+ *     <li>Como máximo {@code maxInFlight} elementos de la ejecución están en proceso</li>
+ *     <li>El primer error detiene la ejecución: no se entregan más elementos y los pendientes
+ *     se descartan al llegar a su etapa</li>
+ *     <li>El receptor de avance y el plazo del hilo invocante se restablecen en cada etapa</li>
+ * </ul>
+ * </p>
+ *
+ * @param <T> tipo de los elementos del origen
+ * @param <R> tipo de los resultados de la última etapa
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class StagedPipeline<T, R> {
+
+    private static final long POLL_MILLIS = 200;
+
+    private final List<Step> steps;
+
+    private StagedPipeline(List<Step> steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * Crea un pipeline con su primera etapa.
+     *
+     * @param stage    etapa que ejecuta la transformación
+     * @param function transformación de cada elemento
+     * @param <T>      tipo de los elementos del origen
+     * @param <R>      tipo del resultado de la etapa
+     * @return pipeline de una etapa
+     */
+    public static <T, R> StagedPipeline<T, R> of(PipelineStage stage, Function<? super T, ? extends R> function) {
+        return new StagedPipeline<>(List.of(Step.of(stage, function)));
+    }
+
+    /**
+     * Agrega una etapa que transforma el resultado de la etapa anterior.
+     *
+     * @param stage    etapa que ejecuta la transformación
+     * @param function transformación del resultado anterior
+     * @param <V>      tipo del resultado de la nueva etapa
+     * @return nuevo pipeline con la etapa agregada
+     */
+    public <V> StagedPipeline<T, V> then(PipelineStage stage, Function<? super R, ? extends V> function) {
+        List<Step> extended = new ArrayList<>(steps);
+        extended.add(Step.of(stage, function));
+        return new StagedPipeline<>(List.copyOf(extended));
+    }
+
+    /**
+     * Procesa los elementos del origen a través de las etapas y entrega los resultados en orden.
+     *
+     * @param items       origen de los elementos, recorrido en el hilo invocante
+     * @param maxInFlight máximo de elementos de esta ejecución en proceso simultáneamente
+     * @param consumer    receptor de los resultados, invocado en el hilo invocante
+     * @throws RuntimeException el primer error de una etapa, del origen o del receptor
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachOrdered(Iterator<? extends T> items, int maxInFlight, Consumer<? super R> consumer) {
+
+        Run run = new Run(TicketProcessingContext.snapshot());
+        Deque<CompletableFuture<Object>> window = new ArrayDeque<>();
+
+        try {
+            while (true) {
+
+                while (window.size() < maxInFlight && !run.failure.isDone() && items.hasNext()) {
+                    TicketProcessingContext.checkDeadline();
+                    CompletableFuture<Object> result = new CompletableFuture<>();
+                    result.whenComplete((value, error) -> {
+                        if (error != null) {
+                            run.failure.completeExceptionally(error);
+                        }
+                    });
+                    window.addLast(result);
+                    dispatch(run, 0, items.next(), result);
+                }
+
+                if (window.isEmpty()) {
+                    return;
+                }
+
+                consumer.accept((R) await(run, window.removeFirst()));
+            }
+
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            TicketProcessingContext.checkDeadline();
+            throw new CoreTechnicalException("El procesamiento por etapas fue interrumpido",
+                    ErrorType.UNEXPECTED_ERROR, ex);
+        } finally {
+            run.cancelled = true;
+        }
+    }
+
+    /**
+     * Entrega un elemento a la etapa indicada, esperando si su cola está completa.
+     */
+    private void dispatch(Run run, int index, Object value, CompletableFuture<Object> result)
+            throws InterruptedException {
+
+        Step step = steps.get(index);
+
+        step.stage().submit(new PipelineStage.StageTask() {
+
+            @Override
+            public void run() {
+
+                if (run.cancelled || result.isDone()) {
+                    return;
+                }
+
+                Object output;
+                try {
+                    output = run.context.call(() -> step.function().apply(value));
+                    step.stage().completed(true);
+                } catch (Throwable ex) {
+                    step.stage().completed(false);
+                    result.completeExceptionally(ex);
+                    return;
+                }
+
+                if (index + 1 == steps.size()) {
+                    result.complete(output);
+                    return;
+                }
+
+                try {
+                    dispatch(run, index + 1, output, result);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    abort(new CoreTechnicalException("La entrega a la etapa siguiente fue interrumpida",
+                            ErrorType.UNEXPECTED_ERROR, ex));
+                } catch (RuntimeException ex) {
+                    abort(ex);
+                }
+            }
+
+            @Override
+            public void abort(RuntimeException reason) {
+                result.completeExceptionally(reason);
+            }
+        });
+    }
+
+    /**
+     * Espera el resultado de un elemento, finalizando antes si otro elemento falló
+     * o se cumplió el plazo del procesamiento.
+     */
+    private static Object await(Run run, CompletableFuture<Object> result) throws InterruptedException {
+
+        CompletableFuture<Object> either = CompletableFuture.anyOf(result, run.failure);
+
+        while (!either.isDone()) {
+            try {
+                either.get(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | ExecutionException ignored) {
+                TicketProcessingContext.checkDeadline();
+            }
+        }
+
+        if (result.isDone() && !result.isCompletedExceptionally()) {
+            return result.resultNow();
+        }
+
+        CompletableFuture<Object> failed = result.isCompletedExceptionally() ? result : run.failure;
+        throw rethrow(failed.exceptionNow());
+    }
+
+    private static RuntimeException rethrow(Throwable error) {
+        if (error instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (error instanceof Error fatal) {
+            throw fatal;
+        }
+        return new CoreTechnicalException("Error en el procesamiento por etapas",
+                ErrorType.UNEXPECTED_ERROR, error);
+    }
+
+    /**
+     * Estado de una ejecución de {@link #forEachOrdered(Iterator, int, Consumer)}.
+     */
+    private static final class Run {
+
+        private final TicketProcessingContext.Snapshot context;
+        private final CompletableFuture<Object> failure = new CompletableFuture<>();
+        private volatile boolean cancelled;
+
+        private Run(TicketProcessingContext.Snapshot context) {
+            this.context = context;
+        }
+    }
+
+    private record Step(PipelineStage stage, Function<Object, Object> function) {
+
+        @SuppressWarnings("unchecked")
+        static Step of(PipelineStage stage, Function<?, ?> function) {
+            return new Step(stage, (Function<Object, Object>) function);
+        }
+    }
+
+}
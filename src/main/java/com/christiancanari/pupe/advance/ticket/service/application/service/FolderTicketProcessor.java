@@ -1,8 +1,12 @@
 package com.christiancanari.pupe.advance.ticket.service.application.service;
 
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketFile;
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Servicio de aplicación encargado de procesar una carpeta de tickets
@@ -22,4 +26,29 @@ public interface FolderTicketProcessor {
      */
     List<TicketInvoice> process(String folderName);
 
+    /**
+     * Resuelve en bloque las carpetas indicadas y sus subcarpetas de tickets.
+     *
+     * @param folderNames nombres de las carpetas a resolver
+     * @return mapa con una entrada por cada nombre solicitado
+     */
+    Map<String, ResolvedFolder> resolveFolders(List<String> folderNames);
+
+    /**
+     * Procesa una carpeta previamente resuelta.
+     *
+     * @param folder carpeta resuelta a procesar
+     * @return lista de tickets extraídos
+     */
+    List<TicketInvoice> process(ResolvedFolder folder);
+
+    /**
+     * Descarga y extrae los PDFs indicados respetando la configuración de concurrencia.
+     *
+     * @param folderName nombre de la carpeta a la que pertenecen los PDFs
+     * @param pdfFiles   PDFs a extraer
+     * @return un resultado por PDF en el mismo orden; vacío si el extractor no obtuvo información
+     */
+    List<Optional<TicketInvoice>> extract(String folderName, List<TicketFile> pdfFiles);
+
 }
@@ -1,8 +1,14 @@
 package com.christiancanari.pupe.advance.ticket.service.application.service;
 
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.TicketProcessingContext;
+import com.christiancanari.pupe.advance.ticket.service.application.pipeline.PipelineStage;
+import com.christiancanari.pupe.advance.ticket.service.application.pipeline.StagedPipeline;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketProcessingProperties;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketFile;
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
 import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketGoogleDrivePort;
 import com.christiancanari.pupe.advance.ticket.service.domain.service.TicketInvoiceExtractor;
 import com.christiancanari.pupe.advance.ticket.service.domain.service.TicketInvoicePolicy;
@@ -11,9 +17,18 @@ import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.except
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementación del servicio {@link FolderTicketProcessor}.
@@ -21,7 +36,34 @@ import java.util.Optional;
  * <p>
  * Se encarga de procesar una carpeta de Google Drive:
  * localizar la carpeta de tickets, filtrar PDFs válidos
- * y extraer la información de cada archivo.
+ * y extraer la información de cada archivo. Los PDFs se consumen
+ * página a página, sin esperar el listado completo de la carpeta.
+ * </p>
+ *
+ * <p>
+ * Con {@code ticket.processing.pdfs.concurrent} habilitado, los PDFs recorren un
+ * {@link StagedPipeline} de dos etapas compartidas por todas las carpetas: {@code pdf-download}
+ * (hilos virtuales, {@code max-downloads} trabajadores) y {@code pdf-parse}, que analiza y
+ * clasifica con PDFBox (hilos de plataforma, {@code max-parses} trabajadores). Las colas de
+ * entrega entre etapas admiten el doble de elementos que trabajadores tiene la etapa destino,
+ * por lo que un análisis lento frena las descargas en lugar de acumular PDFs en memoria.
+ * </p>
+ *
+ * <p>
+ * El fin del listado de PDFs de cada carpeta y cada PDF analizado se informan al
+ * receptor de avance de {@link TicketProcessingContext}.
+ * </p>
+ *
+ * <p>
+ * Con {@code ticket.processing.errors.continue-on-error} habilitado, un PDF que no puede
+ * descargarse o analizarse se informa como {@link TicketProcessingError} al mismo receptor
+ * y se omite, en lugar de interrumpir el procesamiento de la carpeta.
+ * </p>
+ *
+ * <p>
+ * Antes de descargar y de analizar cada PDF se verifica el plazo de {@link TicketProcessingContext};
+ * si terminó, el PDF no se procesa y la carpeta finaliza con
+ * {@link ErrorType#DEADLINE_EXCEEDED}, aun con {@code continue-on-error} habilitado.
  * </p>
  *
  * @author Christian Rodriguez
@@ -30,11 +72,17 @@ import java.util.Optional;
  */
 @Slf4j
 @Service
-public class FolderTicketProcessorImpl implements FolderTicketProcessor {
+public class FolderTicketProcessorImpl implements FolderTicketProcessor, AutoCloseable {
+
+    /** Elementos que puede retener la cola de entrega de una etapa por cada trabajador. */
+    private static final int QUEUED_PER_WORKER = 2;
 
     private final TicketGoogleDrivePort ticketGoogleDrivePort;
     private final TicketInvoiceExtractor ticketInvoiceExtractor;
     private final TicketInvoicePolicy ticketInvoicePolicy;
+    private final TicketProcessingProperties.Pdfs pdfProperties;
+    private final List<PipelineStage> stages;
+    private final boolean continueOnError;
 
     /**
      * Constructor con inyección de dependencias.
@@ -42,11 +90,21 @@ public class FolderTicketProcessorImpl implements FolderTicketProcessor {
     public FolderTicketProcessorImpl(
             TicketGoogleDrivePort ticketGoogleDrivePort,
             TicketInvoiceExtractor ticketInvoiceExtractor,
-            TicketInvoicePolicy ticketInvoicePolicy
+            TicketInvoicePolicy ticketInvoicePolicy,
+            TicketProcessingProperties ticketProcessingProperties
     ) {
         this.ticketGoogleDrivePort = ticketGoogleDrivePort;
         this.ticketInvoiceExtractor = ticketInvoiceExtractor;
         this.ticketInvoicePolicy = ticketInvoicePolicy;
+        this.pdfProperties = ticketProcessingProperties.pdfs();
+        this.stages = pdfProperties.concurrent()
+                ? List.of(
+                        PipelineStage.io("pdf-download", pdfProperties.maxDownloads(),
+                                pdfProperties.maxDownloads() * QUEUED_PER_WORKER),
+                        PipelineStage.cpu("pdf-parse", pdfProperties.effectiveMaxParses(),
+                                pdfProperties.effectiveMaxParses() * QUEUED_PER_WORKER))
+                : List.of();
+        this.continueOnError = ticketProcessingProperties.errors().continueOnError();
     }
 
     /**
@@ -72,37 +130,261 @@ public class FolderTicketProcessorImpl implements FolderTicketProcessor {
             Optional<String> ticketsFolderId =
                     ticketGoogleDrivePort.findTicketFolderId(folderId.get());
 
-            if (ticketsFolderId.isEmpty()) {
-                log.warn("Subcarpeta 'Tickets' no encontrada en {}", folderName);
-                return List.of();
-            }
+            return processResolved(new ResolvedFolder(folderName, folderId.get(), ticketsFolderId.orElse(null)));
 
-            List<TicketFile> pdfFiles =
-                    ticketGoogleDrivePort.listPdfFiles(ticketsFolderId.get());
+        } catch (CoreBusinessException | CoreTechnicalException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw folderError(folderName, ex);
+        }
+    }
 
-            if (pdfFiles.isEmpty()) {
-                log.info("No se encontraron PDFs en la carpeta: {}", folderName);
-                return List.of();
-            }
+    /**
+     * Resuelve en bloque las carpetas y sus subcarpetas de tickets.
+     *
+     * @param folderNames nombres de las carpetas
+     * @return mapa con una entrada por cada nombre solicitado
+     */
+    @Override
+    public Map<String, ResolvedFolder> resolveFolders(List<String> folderNames) {
 
-            return pdfFiles.stream()
-                    .filter(pdf -> ticketInvoicePolicy.isValid(pdf.name()))
-                    .map(pdf -> extractInvoice(folderName, pdf))
-                    .flatMap(Optional::stream)
-                    .toList();
+        log.debug("➡ Resolviendo {} carpetas en bloque", folderNames.size());
 
+        try {
+            return ticketGoogleDrivePort.resolveFolders(folderNames);
         } catch (CoreBusinessException | CoreTechnicalException ex) {
             throw ex;
         } catch (Exception ex) {
-            log.error("Error técnico procesando la carpeta {}", folderName, ex);
+            log.error("Error técnico resolviendo carpetas en bloque", ex);
             throw new CoreTechnicalException(
-                    "Error procesando la carpeta: " + folderName,
+                    "Error resolviendo las carpetas en Google Drive",
                     ErrorType.DRIVE_ACCESS_ERROR,
                     ex
             );
         }
     }
 
+    /**
+     * Procesa una carpeta previamente resuelta y retorna los tickets válidos encontrados.
+     *
+     * @param folder carpeta resuelta
+     * @return lista de tickets procesados
+     */
+    @Override
+    public List<TicketInvoice> process(ResolvedFolder folder) {
+
+        log.debug("➡ Procesando carpeta resuelta: {}", folder.folderName());
+
+        try {
+            return processResolved(folder);
+        } catch (CoreBusinessException | CoreTechnicalException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw folderError(folder.folderName(), ex);
+        }
+    }
+
+    /**
+     * Lista y extrae los PDFs válidos de una carpeta resuelta.
+     *
+     * @param folder carpeta resuelta
+     * @return lista de tickets procesados
+     */
+    private List<TicketInvoice> processResolved(ResolvedFolder folder) {
+
+        String folderName = folder.folderName();
+
+        if (!folder.isFound()) {
+            log.warn("Carpeta no encontrada en Google Drive: {}", folderName);
+            return List.of();
+        }
+
+        if (!folder.hasTicketsFolder()) {
+            log.warn("Subcarpeta 'Tickets' no encontrada en {}", folderName);
+            return List.of();
+        }
+
+        try (Stream<TicketFile> pdfFiles =
+                     ticketGoogleDrivePort.streamPdfFiles(folder.ticketsFolderId())) {
+
+            Stream<TicketFile> validPdfFiles = onListed(
+                    pdfFiles.filter(pdf -> ticketInvoicePolicy.isValid(pdf.name())),
+                    count -> TicketProcessingContext.listener().pdfsListed(folderName, count));
+
+            List<TicketInvoice> invoices = extractAll(folderName, validPdfFiles)
+                    .stream()
+                    .flatMap(Optional::stream)
+                    .toList();
+
+            if (invoices.isEmpty()) {
+                log.info("No se encontraron PDFs en la carpeta: {}", folderName);
+            }
+
+            return invoices;
+        }
+    }
+
+    /**
+     * Envuelve el listado de PDFs para informar su cantidad en cuanto se agota,
+     * sin esperar a que termine la extracción.
+     *
+     * @param pdfFiles PDFs válidos de la carpeta
+     * @param listed   acción que recibe la cantidad de PDFs listados
+     * @return el mismo listado, consumido en forma perezosa
+     */
+    private static Stream<TicketFile> onListed(Stream<TicketFile> pdfFiles, IntConsumer listed) {
+
+        Iterator<TicketFile> source = pdfFiles.iterator();
+
+        Iterator<TicketFile> counting = new Iterator<>() {
+
+            private int count;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                boolean hasNext = source.hasNext();
+                if (!hasNext && !exhausted) {
+                    exhausted = true;
+                    listed.accept(count);
+                }
+                return hasNext;
+            }
+
+            @Override
+            public TicketFile next() {
+                TicketFile next = source.next();
+                count++;
+                return next;
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(counting, Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Descarga y extrae los PDFs indicados respetando la configuración de concurrencia.
+     *
+     * @param folderName nombre de la carpeta
+     * @param pdfFiles   PDFs a extraer
+     * @return un resultado por PDF en el mismo orden
+     */
+    @Override
+    public List<Optional<TicketInvoice>> extract(String folderName, List<TicketFile> pdfFiles) {
+
+        log.debug("➡ Extrayendo {} PDFs de la carpeta {}", pdfFiles.size(), folderName);
+
+        try {
+            return extractAll(folderName, pdfFiles.stream());
+        } catch (CoreBusinessException | CoreTechnicalException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw folderError(folderName, ex);
+        }
+    }
+
+    /**
+     * Extrae los PDFs en forma secuencial o concurrente según la configuración.
+     *
+     * @param folderName nombre de la carpeta
+     * @param pdfFiles   PDFs a extraer
+     * @return un resultado por PDF en el orden del flujo
+     */
+    private List<Optional<TicketInvoice>> extractAll(String folderName, Stream<TicketFile> pdfFiles) {
+        return pdfProperties.concurrent()
+                ? extractConcurrently(folderName, pdfFiles)
+                : pdfFiles.map(pdf -> extractInvoice(folderName, pdf)).toList();
+    }
+
+    /**
+     * Construye la excepción técnica para un error inesperado al procesar una carpeta.
+     */
+    private CoreTechnicalException folderError(String folderName, Exception ex) {
+        log.error("Error técnico procesando la carpeta {}", folderName, ex);
+        return new CoreTechnicalException(
+                "Error procesando la carpeta: " + folderName,
+                ErrorType.DRIVE_ACCESS_ERROR,
+                ex
+        );
+    }
+
+    /**
+     * Extrae los PDFs de una carpeta solapando descargas y análisis.
+     *
+     * <p>
+     * Cada PDF se descarga en memoria en la etapa de descarga y luego se analiza en la
+     * etapa de análisis, por lo que mientras unos archivos se descargan otros ya están
+     * siendo procesados por PDFBox. El orden del resultado corresponde al orden del
+     * listado de Google Drive.
+     * </p>
+     *
+     * @param folderName nombre de la carpeta
+     * @param pdfFiles   PDFs válidos de la carpeta
+     * @return un resultado por PDF en el orden del listado
+     */
+    private List<Optional<TicketInvoice>> extractConcurrently(String folderName, Stream<TicketFile> pdfFiles) {
+
+        List<Optional<TicketInvoice>> invoices = new ArrayList<>();
+
+        StagedPipeline
+                .of(stages.get(0), (TicketFile pdf) -> download(folderName, pdf))
+                .then(stages.get(1), downloaded -> parse(folderName, downloaded))
+                .forEachOrdered(
+                        pdfFiles.iterator(),
+                        pdfProperties.maxDownloads() + pdfProperties.effectiveMaxParses(),
+                        invoices::add
+                );
+
+        return invoices;
+    }
+
+    /**
+     * Descarga completamente un PDF en memoria.
+     *
+     * @param folderName nombre de la carpeta
+     * @param ticketFile archivo PDF a descargar
+     * @return PDF descargado, sin contenido si falló y se omite por {@code continue-on-error}
+     */
+    private DownloadedPdf download(String folderName, TicketFile ticketFile) {
+
+        TicketProcessingContext.checkDeadline();
+
+        try (InputStream pdfStream = ticketGoogleDrivePort.downloadFile(ticketFile)) {
+            return new DownloadedPdf(ticketFile, pdfStream.readAllBytes());
+        } catch (Exception ex) {
+            failed(folderName, ticketFile, ex);
+            return new DownloadedPdf(ticketFile, null);
+        }
+    }
+
+    /**
+     * Analiza un PDF descargado y extrae su información.
+     *
+     * @param folderName nombre de la carpeta
+     * @param pdf        PDF descargado
+     * @return ticket extraído si el procesamiento fue exitoso
+     */
+    private Optional<TicketInvoice> parse(String folderName, DownloadedPdf pdf) {
+
+        if (pdf.content() == null) {
+            return Optional.empty();
+        }
+
+        TicketProcessingContext.checkDeadline();
+
+        try {
+            return extracted(folderName, pdf.file(), Optional.ofNullable(
+                    ticketInvoiceExtractor.extract(
+                            folderName,
+                            pdf.file().name(),
+                            new ByteArrayInputStream(pdf.content())
+                    )
+            ));
+        } catch (Exception ex) {
+            return failed(folderName, pdf.file(), ex);
+        }
+    }
+
     /**
      * Extrae la información de un archivo PDF individual.
      *
@@ -112,25 +394,97 @@ public class FolderTicketProcessorImpl implements FolderTicketProcessor {
      */
     private Optional<TicketInvoice> extractInvoice(String folderName, TicketFile ticketFile) {
 
+        TicketProcessingContext.checkDeadline();
+
         try (InputStream pdfStream =
-                     ticketGoogleDrivePort.downloadFile(ticketFile.id())) {
+                     ticketGoogleDrivePort.downloadFile(ticketFile)) {
 
-            return Optional.ofNullable(
+            return extracted(folderName, ticketFile, Optional.ofNullable(
                     ticketInvoiceExtractor.extract(
                             folderName,
                             ticketFile.name(),
                             pdfStream
                     )
-            );
+            ));
 
         } catch (Exception ex) {
-            log.error("Error procesando PDF {}", ticketFile.name(), ex);
-            throw new CoreTechnicalException(
-                    "Error procesando archivo PDF: " + ticketFile.name(),
-                    ErrorType.PDF_PROCESSING_ERROR,
-                    ex
-            );
+            return failed(folderName, ticketFile, ex);
+        }
+    }
+
+    /**
+     * Informa el PDF analizado al receptor de avance.
+     */
+    private static Optional<TicketInvoice> extracted(
+            String folderName,
+            TicketFile ticketFile,
+            Optional<TicketInvoice> invoice
+    ) {
+        TicketProcessingContext.listener().pdfExtracted(folderName, ticketFile.name(), invoice.isPresent());
+        return invoice;
+    }
+
+    /**
+     * Trata el error de un PDF: lo propaga o, si está habilitado continuar ante errores,
+     * lo informa al receptor de avance y omite el PDF.
+     *
+     * @throws CoreTechnicalException si no está habilitado continuar ante errores,
+     *                                o con {@link ErrorType#DEADLINE_EXCEEDED} si el plazo terminó
+     */
+    private Optional<TicketInvoice> failed(String folderName, TicketFile ticketFile, Exception ex) {
+
+        TicketProcessingContext.checkDeadline();
+
+        CoreTechnicalException error = pdfError(ticketFile, ex);
+
+        if (!continueOnError) {
+            throw error;
         }
+
+        String detail = ex.getMessage() != null ? error.getMessage() + " (" + ex.getMessage() + ")" : error.getMessage();
+
+        TicketProcessingContext.listener().failed(new TicketProcessingError(
+                folderName, ticketFile.name(), error.getType().name(), detail, ticketFile.id()));
+
+        return Optional.empty();
+    }
+
+    /**
+     * Construye la excepción técnica para un error al procesar un PDF.
+     */
+    private CoreTechnicalException pdfError(TicketFile ticketFile, Exception ex) {
+        log.error("Error procesando PDF {}", ticketFile.name(), ex);
+        return new CoreTechnicalException(
+                "Error procesando archivo PDF: " + ticketFile.name(),
+                ErrorType.PDF_PROCESSING_ERROR,
+                ex
+        );
+    }
+
+    /**
+     * Retorna las etapas del pipeline de PDFs para su observación.
+     *
+     * @return etapas de descarga y análisis; vacía si el procesamiento es secuencial
+     */
+    public List<PipelineStage> stages() {
+        return stages;
+    }
+
+    /**
+     * Detiene los trabajadores de las etapas.
+     */
+    @Override
+    public void close() {
+        stages.forEach(PipelineStage::close);
+    }
+
+    /**
+     * PDF descargado en memoria, entregado de la etapa de descarga a la de análisis.
+     *
+     * @param file    archivo PDF
+     * @param content contenido descargado; {@code null} si la descarga falló y se omite
+     */
+    private record DownloadedPdf(TicketFile file, byte[] content) {
     }
 
 }
@@ -0,0 +1,340 @@
+package com.christiancanari.pupe.advance.ticket.service.application.service;
+
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.TicketProcessingContext;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.DriveChange;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.DriveChanges;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderManifest;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ManifestEntry;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketFile;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketGoogleDrivePort;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketManifestStorePort;
+import com.christiancanari.pupe.advance.ticket.service.domain.service.TicketInvoicePolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de {@link FolderTicketProcessor} que procesa las carpetas de forma incremental.
+ *
+ * <p>
+ * Mantiene, mediante {@link TicketManifestStorePort}, un manifiesto por subcarpeta de tickets
+ * con los PDFs conocidos y el resultado de su extracción, junto con el token de la API de
+ * cambios de Google Drive:
+ * <ul>
+ *     <li>Al iniciar una ejecución ({@link #resolveFolders(List)} o {@link #process(String)})
+ *     se consultan los cambios desde el último token y se actualizan todos los manifiestos:
+ *     los PDFs nuevos o modificados quedan pendientes y los eliminados o movidos se retiran</li>
+ *     <li>Al procesar una carpeta solo se descargan y extraen las entradas pendientes;
+ *     el resto se responde desde el estado almacenado</li>
+ *     <li>Una carpeta sin manifiesto se lista y procesa completa la primera vez</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Si no existe token almacenado, los manifiestos se descartan porque no es posible
+ * saber qué cambió desde que se generaron. Los tickets se retornan en el orden en que
+ * los PDFs fueron descubiertos. Los PDFs cuya extracción falló y se omitió por
+ * {@code continue-on-error} permanecen pendientes para reintentarse en la siguiente ejecución.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class IncrementalFolderTicketProcessor implements FolderTicketProcessor {
+
+    private final FolderTicketProcessor delegate;
+    private final TicketGoogleDrivePort ticketGoogleDrivePort;
+    private final TicketInvoicePolicy ticketInvoicePolicy;
+    private final TicketManifestStorePort ticketManifestStorePort;
+    private final ReentrantLock stateLock = new ReentrantLock();
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param delegate                procesador que realiza la descarga y extracción
+     * @param ticketGoogleDrivePort   puerto de Google Drive
+     * @param ticketInvoicePolicy     política de PDFs válidos
+     * @param ticketManifestStorePort almacenamiento del estado incremental
+     */
+    public IncrementalFolderTicketProcessor(
+            FolderTicketProcessor delegate,
+            TicketGoogleDrivePort ticketGoogleDrivePort,
+            TicketInvoicePolicy ticketInvoicePolicy,
+            TicketManifestStorePort ticketManifestStorePort
+    ) {
+        this.delegate = delegate;
+        this.ticketGoogleDrivePort = ticketGoogleDrivePort;
+        this.ticketInvoicePolicy = ticketInvoicePolicy;
+        this.ticketManifestStorePort = ticketManifestStorePort;
+    }
+
+    /**
+     * Sincroniza los cambios de Drive y procesa la carpeta indicada.
+     *
+     * @param folderName nombre de la carpeta a procesar
+     * @return lista de tickets extraídos
+     */
+    @Override
+    public List<TicketInvoice> process(String folderName) {
+
+        synchronizeChanges();
+
+        ResolvedFolder folder = ticketGoogleDrivePort.findFolderIdByName(folderName)
+                .map(folderId -> new ResolvedFolder(
+                        folderName,
+                        folderId,
+                        ticketGoogleDrivePort.findTicketFolderId(folderId).orElse(null)))
+                .orElseGet(() -> ResolvedFolder.notFound(folderName));
+
+        return process(folder);
+    }
+
+    /**
+     * Sincroniza los cambios de Drive y resuelve en bloque las carpetas de la ejecución.
+     *
+     * @param folderNames nombres de las carpetas a resolver
+     * @return mapa con una entrada por cada nombre solicitado
+     */
+    @Override
+    public Map<String, ResolvedFolder> resolveFolders(List<String> folderNames) {
+        synchronizeChanges();
+        return delegate.resolveFolders(folderNames);
+    }
+
+    /**
+     * Procesa una carpeta resuelta extrayendo solo los PDFs pendientes de su manifiesto.
+     *
+     * @param folder carpeta resuelta a procesar
+     * @return lista de tickets extraídos
+     */
+    @Override
+    public List<TicketInvoice> process(ResolvedFolder folder) {
+
+        if (!folder.isFound() || !folder.hasTicketsFolder()) {
+            return delegate.process(folder);
+        }
+
+        String folderName = folder.folderName();
+        String ticketsFolderId = folder.ticketsFolderId();
+
+        Optional<FolderManifest> stored = withStateLock(() -> ticketManifestStorePort.load(ticketsFolderId));
+        FolderManifest snapshot = stored.orElseGet(() -> listManifest(folderName, ticketsFolderId));
+
+        List<TicketFile> pending = snapshot.entries().values().stream()
+                .filter(ManifestEntry::pending)
+                .map(ManifestEntry::file)
+                .toList();
+
+        log.info("[Incremental] Carpeta {}: {} PDFs conocidos, {} por extraer",
+                folderName, snapshot.entries().size(), pending.size());
+
+        TicketProcessingContext.listener().pdfsListed(folderName, snapshot.entries().size());
+
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+
+        List<Optional<TicketInvoice>> extracted = pending.isEmpty()
+                ? List.of()
+                : TicketProcessingContext.collectingFailures(
+                        error -> failed.add(error.fileId()),
+                        () -> delegate.extract(folderName, pending));
+
+        Map<String, Optional<TicketInvoice>> results = new HashMap<>();
+        for (int i = 0; i < pending.size(); i++) {
+            results.put(pending.get(i).id(), extracted.get(i));
+        }
+
+        if (!pending.isEmpty() || stored.isEmpty()) {
+            withStateLock(() -> {
+                storeResults(snapshot, pending.stream().filter(file -> !failed.contains(file.id())).toList(), results);
+                return null;
+            });
+        }
+
+        return snapshot.entries().values().stream()
+                .flatMap(entry -> entry.pending()
+                        ? results.get(entry.file().id()).stream()
+                        : Stream.ofNullable(entry.toInvoice(folderName)))
+                .toList();
+    }
+
+    @Override
+    public List<Optional<TicketInvoice>> extract(String folderName, List<TicketFile> pdfFiles) {
+        return delegate.extract(folderName, pdfFiles);
+    }
+
+    /**
+     * Aplica a los manifiestos los cambios de Drive ocurridos desde el último token almacenado.
+     */
+    void synchronizeChanges() {
+
+        withStateLock(() -> {
+
+            Optional<String> startPageToken = ticketManifestStorePort.loadStartPageToken();
+
+            if (startPageToken.isEmpty()) {
+                String token = ticketGoogleDrivePort.getStartPageToken();
+                ticketManifestStorePort.clear();
+                ticketManifestStorePort.saveStartPageToken(token);
+                log.info("[Incremental] Sin token de cambios previo, se inicia el seguimiento desde {}", token);
+                return null;
+            }
+
+            DriveChanges changes = ticketGoogleDrivePort.listChanges(startPageToken.get());
+
+            if (!changes.changes().isEmpty()) {
+                applyChanges(changes.changes());
+            }
+
+            ticketManifestStorePort.saveStartPageToken(changes.newStartPageToken());
+            return null;
+        });
+    }
+
+    /**
+     * Actualiza los manifiestos afectados por los cambios indicados.
+     *
+     * <p>
+     * Cada cambio solo puede afectar a los manifiestos de sus carpetas padre actuales, donde el
+     * archivo puede agregarse, y a los que ya lo contienen, de donde puede retirarse. Ambos se
+     * obtienen de índices por carpeta y por archivo, sin recorrer todos los manifiestos por cambio.
+     * </p>
+     */
+    private void applyChanges(List<DriveChange> changes) {
+
+        Map<String, FolderManifest> manifests = new HashMap<>(ticketManifestStorePort.loadAll());
+        Map<String, Set<String>> foldersByFile = new HashMap<>();
+        Map<String, FolderManifest> modified = new LinkedHashMap<>();
+
+        manifests.values().forEach(manifest -> manifest.entries().keySet().forEach(fileId ->
+                foldersByFile.computeIfAbsent(fileId, id -> new HashSet<>()).add(manifest.ticketsFolderId())));
+
+        for (DriveChange change : changes) {
+
+            Set<String> affected = new LinkedHashSet<>(foldersByFile.getOrDefault(change.fileId(), Set.of()));
+            change.parents().stream().filter(manifests::containsKey).forEach(affected::add);
+
+            for (String ticketsFolderId : affected) {
+
+                FolderManifest manifest = manifests.get(ticketsFolderId);
+                FolderManifest updated = applyChange(manifest, change);
+
+                if (updated == manifest) {
+                    continue;
+                }
+
+                manifests.put(ticketsFolderId, updated);
+                modified.put(ticketsFolderId, updated);
+
+                if (updated.entries().containsKey(change.fileId())) {
+                    foldersByFile.computeIfAbsent(change.fileId(), id -> new HashSet<>()).add(ticketsFolderId);
+                } else {
+                    foldersByFile.getOrDefault(change.fileId(), new HashSet<>()).remove(ticketsFolderId);
+                }
+            }
+        }
+
+        modified.values().forEach(ticketManifestStorePort::save);
+
+        log.info("[Incremental] {} cambios de Drive aplicados, {} carpetas afectadas",
+                changes.size(), modified.size());
+    }
+
+    /**
+     * Aplica un cambio a un manifiesto.
+     *
+     * @return el mismo manifiesto si el cambio no lo afecta; una copia actualizada en caso contrario
+     */
+    private FolderManifest applyChange(FolderManifest manifest, DriveChange change) {
+
+        ManifestEntry existing = manifest.entries().get(change.fileId());
+
+        boolean belongs = !change.isRemoved()
+                && change.parents().contains(manifest.ticketsFolderId())
+                && ticketInvoicePolicy.isValid(change.file().name());
+
+        if (!belongs) {
+            return existing == null ? manifest : manifest.without(change.fileId());
+        }
+
+        if (existing == null || !existing.isSameVersion(change.file())) {
+            return manifest.with(ManifestEntry.pending(change.file()));
+        }
+
+        return existing.file().equals(change.file())
+                ? manifest
+                : manifest.with(new ManifestEntry(change.file(), existing.values(), existing.pending()));
+    }
+
+    /**
+     * Construye el manifiesto inicial de una carpeta con todos sus PDFs válidos pendientes.
+     */
+    private FolderManifest listManifest(String folderName, String ticketsFolderId) {
+
+        log.info("[Incremental] Carpeta {} sin manifiesto, se procesará completa", folderName);
+
+        Map<String, ManifestEntry> entries = new LinkedHashMap<>();
+
+        try (Stream<TicketFile> pdfFiles = ticketGoogleDrivePort.streamPdfFiles(ticketsFolderId)) {
+            pdfFiles.filter(pdf -> ticketInvoicePolicy.isValid(pdf.name()))
+                    .forEach(pdf -> entries.put(pdf.id(), ManifestEntry.pending(pdf)));
+        }
+
+        return new FolderManifest(ticketsFolderId, entries);
+    }
+
+    /**
+     * Registra los resultados extraídos sobre la versión vigente del manifiesto,
+     * ignorando las entradas que cambiaron mientras se extraían.
+     */
+    private void storeResults(
+            FolderManifest snapshot,
+            List<TicketFile> extracted,
+            Map<String, Optional<TicketInvoice>> results
+    ) {
+
+        Optional<FolderManifest> stored = ticketManifestStorePort.load(snapshot.ticketsFolderId());
+        FolderManifest latest = stored.orElse(snapshot);
+        List<String> skipped = new ArrayList<>();
+
+        for (TicketFile file : extracted) {
+            ManifestEntry current = latest.entries().get(file.id());
+            if (current != null && current.pending() && current.file().equals(file)) {
+                latest = latest.with(ManifestEntry.processed(file, results.get(file.id()).orElse(null)));
+            } else {
+                skipped.add(file.id());
+            }
+        }
+
+        if (!skipped.isEmpty()) {
+            log.debug("[Incremental] Resultados descartados por cambios concurrentes: {}", skipped);
+        }
+
+        ticketManifestStorePort.save(latest);
+    }
+
+    private <T> T withStateLock(Supplier<T> action) {
+        stateLock.lock();
+        try {
+            return action.get();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+}
@@ -1,26 +1,85 @@
 package com.christiancanari.pupe.advance.ticket.service.application.usecase;
 
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.OrderedParallelExecutor;
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.TicketProcessingContext;
 import com.christiancanari.pupe.advance.ticket.service.application.service.FolderTicketProcessor;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderCheckpoint;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ProcessTicketCommand;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketDeadline;
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingListener;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReport;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
 import com.christiancanari.pupe.advance.ticket.service.domain.port.in.ProcessTicketUseCase;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketCheckpointPort;
 import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketFileWriterPort;
 import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketFolderReaderPort;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketInvoiceSink;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketProcessingProperties;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreBusinessException;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreException;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Implementación del caso de uso {@link ProcessTicketUseCase}.
  *
  * <p>
  * Orquesta el procesamiento de tickets a partir de un archivo Excel:
- * lee las carpetas, procesa los tickets asociados y genera
- * el archivo Excel de salida.
+ * lee las carpetas a medida que se recorre el archivo, las resuelve por bloques en Google Drive,
+ * procesa los tickets asociados y genera el archivo de salida en el
+ * {@link TicketReportFormat} solicitado.
+ * </p>
+ *
+ * <p>
+ * Los tickets de cada carpeta se emiten al {@link TicketInvoiceSink} del archivo de salida
+ * en cuanto la carpeta y sus predecesoras finalizan, por lo que la memoria utilizada
+ * depende de las carpetas en curso y no del tamaño total del reporte.
+ * </p>
+ *
+ * <p>
+ * Las carpetas pueden procesarse en paralelo ({@code ticket.processing.folders.parallel})
+ * con un máximo de carpetas simultáneas; el orden de las filas generadas siempre
+ * corresponde al orden de las carpetas en el archivo de entrada.
+ * </p>
+ *
+ * <p>
+ * Con {@code ticket.processing.errors.continue-on-error} habilitado, el error de una carpeta
+ * o de uno de sus PDFs no interrumpe el reporte: se registra en la hoja o sección de errores
+ * junto a los tickets de la carpeta. Los errores al leer el listado o al resolver un bloque
+ * de carpetas en Drive siguen interrumpiendo el procesamiento.
+ * </p>
+ *
+ * <p>
+ * Si la solicitud indica un identificador de punto de control, cada carpeta escrita en el
+ * reporte se registra mediante {@link TicketCheckpointPort}. Una ejecución posterior con el
+ * mismo identificador reutiliza las carpetas ya completadas, sin resolverlas ni procesarlas,
+ * y continúa desde la siguiente. Los puntos de control se eliminan al completar el reporte.
  * </p>
  *
  * @author Christian Rodriguez
@@ -31,21 +90,32 @@ import java.util.List;
 @Service
 public class ProcessTicketUseCaseImpl implements ProcessTicketUseCase {
 
-    private final TicketFolderReaderPort ticketFolderReaderPort;
-    private final TicketFileWriterPort ticketFileWriterPort;
+    /** Cantidad de nombres de carpeta que se leen y resuelven en Drive por bloque. */
+    static final int RESOLVE_BATCH_SIZE = 100;
+
+    private final Map<FolderListFormat, TicketFolderReaderPort> ticketFolderReaderPorts;
+    private final Map<TicketReportFormat, TicketFileWriterPort> ticketFileWriterPorts;
     private final FolderTicketProcessor folderTicketProcessor;
+    private final TicketProcessingProperties ticketProcessingProperties;
+    private final TicketCheckpointPort ticketCheckpointPort;
 
     /**
      * Constructor con inyección de dependencias.
      */
     public ProcessTicketUseCaseImpl(
-            TicketFolderReaderPort ticketFolderReaderPort,
-            TicketFileWriterPort ticketFileWriterPort,
-            FolderTicketProcessor folderTicketProcessor
+            List<TicketFolderReaderPort> ticketFolderReaderPorts,
+            List<TicketFileWriterPort> ticketFileWriterPorts,
+            FolderTicketProcessor folderTicketProcessor,
+            TicketProcessingProperties ticketProcessingProperties,
+            TicketCheckpointPort ticketCheckpointPort
     ) {
-        this.ticketFolderReaderPort = ticketFolderReaderPort;
-        this.ticketFileWriterPort = ticketFileWriterPort;
+        this.ticketFolderReaderPorts = new EnumMap<>(FolderListFormat.class);
+        ticketFolderReaderPorts.forEach(port -> this.ticketFolderReaderPorts.put(port.format(), port));
+        this.ticketFileWriterPorts = new EnumMap<>(TicketReportFormat.class);
+        ticketFileWriterPorts.forEach(port -> this.ticketFileWriterPorts.put(port.format(), port));
         this.folderTicketProcessor = folderTicketProcessor;
+        this.ticketProcessingProperties = ticketProcessingProperties;
+        this.ticketCheckpointPort = ticketCheckpointPort;
     }
 
     /**
@@ -57,47 +127,478 @@ public class ProcessTicketUseCaseImpl implements ProcessTicketUseCase {
     @Override
     public byte[] process(InputStream inputStream) {
 
-        log.info("▶ Inicio del procesamiento de tickets");
+        TicketFolderReaderPort reader = readerFor(FolderListFormat.XLSX);
+        TicketFileWriterPort writer = writerFor(TicketReportFormat.XLSX);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (ResolvedFolderIterator folders = openFolders(reader, inputStream, TicketProcessingListener.NONE, null)) {
+            writeReport(folders, writer, outputStream, TicketProcessingListener.NONE, TicketDeadline.NONE, null);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Lee y resuelve el primer bloque de carpetas del listado de entrada, difiriendo
+     * la lectura del resto y su procesamiento hasta que el reporte se escriba.
+     *
+     * <p>
+     * El plazo del comando queda asociado, mediante {@link TicketProcessingContext}, a la
+     * resolución del primer bloque y al procesamiento de las carpetas. Al terminar el plazo
+     * no se inician nuevas carpetas ni PDFs y el procesamiento finaliza con
+     * {@link ErrorType#DEADLINE_EXCEEDED}.
+     * </p>
+     *
+     * @param command listado de carpetas y formatos de entrada y salida
+     * @return reporte pendiente de escritura
+     */
+    @Override
+    public TicketReport processReport(ProcessTicketCommand command) {
+
+        TicketFolderReaderPort reader = readerFor(command.inputFormat());
+        TicketFileWriterPort writer = writerFor(command.outputFormat());
+        ResolvedFolderIterator folders = TicketProcessingContext.with(
+                TicketProcessingContext.listener(),
+                command.deadline(),
+                () -> openFolders(reader, command.input(), command.listener(), command.checkpointKey()));
+
+        return outputStream -> {
+            try (folders) {
+                writeReport(folders, writer, outputStream, command.listener(), command.deadline(), command.checkpointKey());
+            }
+        };
+    }
+
+    /**
+     * @throws CoreException si el listado no puede leerse o el formato no tiene lector
+     */
+    @Override
+    public String folderListDigest(InputStream inputStream, FolderListFormat format) {
+
+        TicketFolderReaderPort reader = readerFor(format);
+        MessageDigest digest = sha256();
+
+        try (Stream<String> names = readFolders(reader, inputStream)) {
+            names.forEach(name -> digest.update((name + "\n").getBytes(StandardCharsets.UTF_8)));
+        } catch (CoreException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw invalidInput(format, ex);
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Obtiene el lector de carpetas del formato indicado.
+     *
+     * @param format formato del listado de carpetas
+     * @return lector del formato
+     * @throws CoreBusinessException si no existe un lector para el formato
+     */
+    private TicketFolderReaderPort readerFor(FolderListFormat format) {
+
+        TicketFolderReaderPort reader = ticketFolderReaderPorts.get(format);
+
+        if (reader == null) {
+            throw new CoreBusinessException("Formato de listado de carpetas no disponible: " + format,
+                    ErrorType.FOLDER_LIST_FORMAT_NOT_SUPPORTED);
+        }
+
+        return reader;
+    }
+
+    /**
+     * Obtiene el generador de archivos del formato indicado.
+     *
+     * @param format formato del reporte
+     * @return generador del formato
+     * @throws CoreBusinessException si no existe un generador para el formato
+     */
+    private TicketFileWriterPort writerFor(TicketReportFormat format) {
+
+        TicketFileWriterPort writer = ticketFileWriterPorts.get(format);
+
+        if (writer == null) {
+            throw new CoreBusinessException("Formato de reporte no disponible: " + format,
+                    ErrorType.REPORT_FORMAT_NOT_SUPPORTED);
+        }
+
+        return writer;
+    }
+
+    /**
+     * Abre la lectura de carpetas del listado de entrada y resuelve el primer bloque.
+     *
+     * <p>
+     * Resolver el primer bloque antes de retornar permite informar un listado inválido,
+     * sin carpetas o un error de Drive antes de comenzar a escribir el reporte.
+     * </p>
+     *
+     * @param reader        lector del listado
+     * @param inputStream   listado de carpetas
+     * @param listener      receptor del avance
+     * @param checkpointKey identificador del punto de control; {@code null} si no se utiliza
+     * @return carpetas resueltas en el orden del listado
+     */
+    private ResolvedFolderIterator openFolders(
+            TicketFolderReaderPort reader,
+            InputStream inputStream,
+            TicketProcessingListener listener,
+            String checkpointKey
+    ) {
+
+        log.info("▶ Inicio del procesamiento de tickets ({})", reader.format());
+
+        List<FolderCheckpoint> restored = checkpointKey == null ? List.of() : ticketCheckpointPort.load(checkpointKey);
+
+        if (!restored.isEmpty()) {
+            log.info("Reanudando el listado desde el punto de control: {} carpetas completadas", restored.size());
+        }
+
+        ResolvedFolderIterator folders = new ResolvedFolderIterator(
+                reader.format(), readFolders(reader, inputStream), listener, checkpointKey, restored);
+
+        try {
+            if (!folders.hasNext()) {
+                log.warn("El listado de entrada no contiene carpetas a procesar");
+                throw new CoreBusinessException(
+                        "No se encontraron carpetas para procesar",
+                        ErrorType.NO_FOLDERS_FOUND
+                );
+            }
+        } catch (RuntimeException ex) {
+            folders.close();
+            throw ex;
+        }
+
+        return folders;
+    }
+
+    /**
+     * Procesa las carpetas y emite sus tickets al archivo de salida a medida que cada
+     * carpeta finaliza, respetando el orden de entrada.
+     *
+     * <p>
+     * Solo se retienen en memoria los tickets de las carpetas en curso. El receptor de avance
+     * y el plazo quedan asociados, mediante {@link TicketProcessingContext}, a los hilos que
+     * procesan las carpetas.
+     * </p>
+     *
+     * @param folders       carpetas resueltas
+     * @param writer        generador del archivo
+     * @param outputStream  flujo donde se escribe el archivo
+     * @param listener      receptor del avance
+     * @param deadline      plazo del procesamiento
+     * @param checkpointKey identificador del punto de control; {@code null} si no se utiliza
+     */
+    private void writeReport(
+            Iterator<FolderWork> folders,
+            TicketFileWriterPort writer,
+            OutputStream outputStream,
+            TicketProcessingListener listener,
+            TicketDeadline deadline,
+            String checkpointKey
+    ) {
+
+        AtomicInteger total = new AtomicInteger();
+        AtomicInteger position = new AtomicInteger();
+
+        try (TicketInvoiceSink sink = fileOperation(() -> writer.openSink(outputStream))) {
 
-        List<String> folders = readFolders(inputStream);
+            TicketProcessingContext.with(listener, deadline, () -> {
+                OrderedParallelExecutor.forEachOrdered(
+                        folders,
+                        ticketProcessingProperties.folders().effectiveConcurrency(),
+                        "folder-",
+                        work -> work.restored() != null
+                                ? ProcessedFolder.restored(work.restored())
+                                : processFolder(work.folder()),
+                        processed -> {
+                            processed.invoices().forEach(invoice -> fileOperation(() -> {
+                                sink.accept(invoice);
+                                return null;
+                            }));
+                            processed.errors().forEach(error -> fileOperation(() -> {
+                                sink.acceptError(error);
+                                return null;
+                            }));
+                            int folderPosition = position.getAndIncrement();
+                            if (checkpointKey != null && !processed.restored()) {
+                                ticketCheckpointPort.append(checkpointKey, new FolderCheckpoint(folderPosition,
+                                        processed.folderName(), processed.invoices(), processed.errors()));
+                            }
+                            total.addAndGet(processed.invoices().size());
+                            listener.folderProcessed(processed.folderName(), processed.invoices().size());
+                        }
+                );
+                return null;
+            });
+
+            fileOperation(() -> {
+                sink.complete();
+                return null;
+            });
+        }
 
-        if (folders.isEmpty()) {
-            log.warn("El archivo Excel no contiene carpetas a procesar");
-            throw new CoreBusinessException(
-                    "No se encontraron carpetas para procesar",
-                    ErrorType.NO_FOLDERS_FOUND
-            );
+        if (checkpointKey != null) {
+            ticketCheckpointPort.delete(checkpointKey);
         }
 
-        List<TicketInvoice> invoices = folders.stream()
-                .flatMap(folder -> folderTicketProcessor.process(folder).stream())
-                .toList();
+        log.info("Procesamiento finalizado. Total de tickets generados: {}", total.get());
+    }
+
+    /**
+     * Procesa una carpeta reuniendo los errores de sus PDFs omitidos. Si está habilitado
+     * continuar ante errores, el error de la carpeta se registra y se retorna sin tickets,
+     * salvo que el plazo del procesamiento haya terminado.
+     *
+     * @param folder carpeta resuelta
+     * @return tickets y errores de la carpeta
+     */
+    private ProcessedFolder processFolder(ResolvedFolder folder) {
+
+        ConcurrentLinkedQueue<TicketProcessingError> errors = new ConcurrentLinkedQueue<>();
+
+        TicketProcessingContext.checkDeadline();
+
+        try {
+            List<TicketInvoice> invoices = TicketProcessingContext.collectingFailures(
+                    errors::add, () -> folderTicketProcessor.process(folder));
+            return new ProcessedFolder(folder.folderName(), invoices, List.copyOf(errors), false);
+
+        } catch (RuntimeException ex) {
 
-        log.info("Procesamiento finalizado. Total de tickets generados: {}", invoices.size());
+            if (!ticketProcessingProperties.errors().continueOnError()) {
+                throw ex;
+            }
 
+            TicketProcessingContext.checkDeadline();
+
+            log.error("Error procesando la carpeta {}, se continúa con las siguientes", folder.folderName(), ex);
+
+            ErrorType type = ex instanceof CoreException coreException ? coreException.getType() : ErrorType.UNEXPECTED_ERROR;
+            TicketProcessingError error = new TicketProcessingError(folder.folderName(), null, type.name(), ex.getMessage());
+
+            TicketProcessingContext.listener().failed(error);
+            errors.add(error);
+
+            return new ProcessedFolder(folder.folderName(), List.of(), List.copyOf(errors), false);
+        }
+    }
+
+    /**
+     * Ejecuta una operación sobre el archivo de salida, traduciendo sus errores a
+     * {@link ErrorType#FILE_GENERATION_ERROR}.
+     */
+    private static <T> T fileOperation(Supplier<T> operation) {
         try {
-            return ticketFileWriterPort.export(invoices);
+            return operation.get();
         } catch (Exception ex) {
-            log.error("Error generando el archivo Excel de salida", ex);
-            throw new CoreTechnicalException("Error generando el archivo de salida", ErrorType.FILE_GENERATION_ERROR,
-                    ex);
+            log.error("Error generando el archivo de salida", ex);
+            throw new CoreTechnicalException("Error generando el archivo de salida",
+                    ErrorType.FILE_GENERATION_ERROR, ex);
         }
     }
 
     /**
-     * Lee los nombres de carpetas desde el archivo Excel.
+     * Abre la lectura de los nombres de carpetas desde el listado de entrada.
      *
-     * @param inputStream archivo Excel de entrada
-     * @return lista de carpetas
+     * @param reader      lector del listado
+     * @param inputStream listado de carpetas
+     * @return nombres de carpetas, leídos a medida que se consumen
      */
-    private List<String> readFolders(InputStream inputStream) {
+    private Stream<String> readFolders(TicketFolderReaderPort reader, InputStream inputStream) {
         try {
-            List<String> folders = ticketFolderReaderPort.readFolderNames(inputStream);
-            log.debug("Carpetas leídas desde Excel: {}", folders.size());
-            return folders;
+            return reader.streamFolderNames(inputStream);
         } catch (Exception ex) {
-            log.error("Error leyendo el archivo Excel de entrada", ex);
-            throw new CoreTechnicalException("El archivo Excel de carpetas no es válido", ErrorType.EXCEL_INVALID, ex);
+            throw invalidInput(reader.format(), ex);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+
+    /**
+     * Traduce un error de lectura del listado; los errores ya tipificados por el lector se conservan.
+     */
+    private static CoreException invalidInput(FolderListFormat format, Exception ex) {
+
+        if (ex instanceof CoreException coreException) {
+            return coreException;
+        }
+
+        log.error("Error leyendo el listado de carpetas de entrada", ex);
+
+        return format == FolderListFormat.XLSX
+                ? new CoreTechnicalException("El archivo Excel de carpetas no es válido", ErrorType.EXCEL_INVALID, ex)
+                : new CoreTechnicalException("El listado de carpetas no es válido", ErrorType.FOLDER_LIST_INVALID, ex);
+    }
+
+    /**
+     * Iterador de carpetas resueltas que lee los nombres del archivo por bloques de
+     * {@value #RESOLVE_BATCH_SIZE} y resuelve cada bloque en Google Drive al necesitarlo.
+     *
+     * <p>
+     * Mantiene la resolución en bloque sin esperar a leer el archivo completo: mientras se
+     * procesan las primeras carpetas, el resto del archivo aún no fue leído.
+     * </p>
+     *
+     * <p>
+     * Las carpetas iniciales que coinciden con el punto de control se entregan con su resultado
+     * almacenado y no se resuelven. Si el listado deja de coincidir, el punto de control se
+     * recorta a las carpetas coincidentes y el resto se procesa normalmente.
+     * </p>
+     */
+    private final class ResolvedFolderIterator implements Iterator<FolderWork>, AutoCloseable {
+
+        private final FolderListFormat format;
+        private final Stream<String> names;
+        private final Iterator<String> source;
+        private final TicketProcessingListener listener;
+        private final String checkpointKey;
+        private final Deque<FolderWork> resolved = new ArrayDeque<>();
+        private List<FolderCheckpoint> restored;
+        private int read;
+        private boolean exhausted;
+
+        private ResolvedFolderIterator(
+                FolderListFormat format,
+                Stream<String> names,
+                TicketProcessingListener listener,
+                String checkpointKey,
+                List<FolderCheckpoint> restored
+        ) {
+            this.format = format;
+            this.names = names;
+            this.source = names.iterator();
+            this.listener = listener;
+            this.checkpointKey = checkpointKey;
+            this.restored = restored;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (resolved.isEmpty()) {
+                resolveNextBatch();
+            }
+            return !resolved.isEmpty();
+        }
+
+        @Override
+        public FolderWork next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return resolved.removeFirst();
+        }
+
+        @Override
+        public void close() {
+            names.close();
+        }
+
+        private void resolveNextBatch() {
+
+            List<String> batch = nextNames();
+
+            if (batch.size() < RESOLVE_BATCH_SIZE && !exhausted) {
+                exhausted = true;
+                listener.folderListRead(read + batch.size());
+            }
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            int first = read;
+            read += batch.size();
+            log.debug("Carpetas leídas desde Excel: {}", read);
+
+            int restoredInBatch = 0;
+            while (restoredInBatch < batch.size() && matchesCheckpoint(first + restoredInBatch, batch.get(restoredInBatch))) {
+                resolved.addLast(new FolderWork(null, restored.get(first + restoredInBatch)));
+                restoredInBatch++;
+            }
+
+            List<String> pending = batch.subList(restoredInBatch, batch.size());
+
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            discardCheckpointFrom(first + restoredInBatch);
+
+            Map<String, ResolvedFolder> resolvedFolders = folderTicketProcessor.resolveFolders(pending);
+
+            for (String name : pending) {
+                ResolvedFolder folder = resolvedFolders.getOrDefault(name, ResolvedFolder.notFound(name));
+                resolved.addLast(new FolderWork(folder, null));
+                listener.folderResolved(folder);
+            }
+        }
+
+        private boolean matchesCheckpoint(int position, String name) {
+            return position < restored.size() && restored.get(position).folderName().equals(name);
+        }
+
+        /**
+         * Recorta el punto de control a las carpetas anteriores a la posición indicada cuando
+         * contiene resultados posteriores que ya no corresponden al listado.
+         */
+        private void discardCheckpointFrom(int position) {
+
+            if (position >= restored.size()) {
+                return;
+            }
+
+            log.warn("El listado no coincide con el punto de control desde la carpeta {}, se descarta el resto",
+                    position + 1);
+
+            List<FolderCheckpoint> kept = List.copyOf(restored.subList(0, position));
+            ticketCheckpointPort.delete(checkpointKey);
+            kept.forEach(checkpoint -> ticketCheckpointPort.append(checkpointKey, checkpoint));
+            restored = kept;
+        }
+
+        private List<String> nextNames() {
+            try {
+                List<String> batch = new ArrayList<>(RESOLVE_BATCH_SIZE);
+                while (batch.size() < RESOLVE_BATCH_SIZE && source.hasNext()) {
+                    batch.add(source.next());
+                }
+                return batch;
+            } catch (Exception ex) {
+                throw invalidInput(format, ex);
+            }
+        }
+
+    }
+
+    /**
+     * Carpeta a procesar o, si fue completada en una ejecución anterior, su resultado almacenado.
+     */
+    private record FolderWork(ResolvedFolder folder, FolderCheckpoint restored) {
+    }
+
+    /**
+     * Tickets y errores de una carpeta junto con su nombre, para escribirlos e informar
+     * el avance en el orden de entrada.
+     */
+    private record ProcessedFolder(
+            String folderName,
+            List<TicketInvoice> invoices,
+            List<TicketProcessingError> errors,
+            boolean restored
+    ) {
+
+        static ProcessedFolder restored(FolderCheckpoint checkpoint) {
+            return new ProcessedFolder(checkpoint.folderName(), checkpoint.invoices(), checkpoint.errors(), true);
         }
     }
 
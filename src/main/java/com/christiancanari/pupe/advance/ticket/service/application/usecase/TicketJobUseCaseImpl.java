@@ -0,0 +1,531 @@
+package com.christiancanari.pupe.advance.ticket.service.application.usecase;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ProcessTicketCommand;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJob;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJobEvent;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJobEventType;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJobStatus;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingListener;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReport;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.in.ProcessTicketUseCase;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.in.TicketJobUseCase;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketJobStoragePort;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketJobProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreBusinessException;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Implementación del caso de uso {@link TicketJobUseCase}.
+ *
+ * <p>
+ * Los trabajos se ejecutan en un pool acotado de {@code ticket.jobs.max-concurrent} hilos virtuales
+ * con una cola de {@code ticket.jobs.queue-capacity} posiciones; cuando ambos están completos, el
+ * envío se rechaza con {@link ErrorType#JOB_QUEUE_FULL}. Cada trabajo delega en
+ * {@link ProcessTicketUseCase} y escribe su reporte mediante {@link TicketJobStoragePort}.
+ * </p>
+ *
+ * <p>
+ * El estado de los trabajos se mantiene en memoria. Los trabajos finalizados, junto con sus
+ * archivos, se eliminan una vez transcurrido {@code ticket.jobs.ttl} desde su finalización.
+ * </p>
+ *
+ * <p>
+ * Cada trabajo actúa como {@link TicketProcessingListener} de su procesamiento: actualiza sus
+ * contadores y publica un {@link TicketJobEvent} a los receptores suscritos, incluyendo
+ * el rendimiento en carpetas por segundo y el tiempo estimado para finalizar.
+ * </p>
+ *
+ * <p>
+ * Con {@code ticket.jobs.checkpoints.enabled}, el listado recibido se identifica por su hash
+ * SHA-256 y su formato. Si un trabajo anterior con el mismo listado fue interrumpido, el nuevo
+ * trabajo continúa desde la última carpeta que aquel completó.
+ * </p>
+ *
+ * <p>
+ * Con {@code ticket.jobs.coalescing.enabled}, los envíos con el mismo listado normalizado de
+ * carpetas y el mismo formato de reporte que un trabajo en cola, en curso o completado hace
+ * menos de {@code ticket.jobs.coalescing.completed-ttl} reciben ese trabajo en lugar de crear
+ * uno nuevo, por lo que Drive se recorre una sola vez. Un trabajo fallido no se comparte.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class TicketJobUseCaseImpl implements TicketJobUseCase, AutoCloseable {
+
+    private final ProcessTicketUseCase processTicketUseCase;
+    private final TicketJobStoragePort ticketJobStoragePort;
+    private final Duration ttl;
+    private final boolean checkpoints;
+    private final TicketJobProperties.Coalescing coalescing;
+
+    private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+    private final Map<String, JobState> coalesced = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService cleaner;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param processTicketUseCase caso de uso que genera el reporte
+     * @param ticketJobStoragePort almacenamiento de los archivos de los trabajos
+     * @param properties           configuración de los trabajos asíncronos
+     */
+    public TicketJobUseCaseImpl(
+            ProcessTicketUseCase processTicketUseCase,
+            TicketJobStoragePort ticketJobStoragePort,
+            TicketJobProperties properties
+    ) {
+        this.processTicketUseCase = processTicketUseCase;
+        this.ticketJobStoragePort = ticketJobStoragePort;
+        this.ttl = properties.ttl();
+        this.checkpoints = properties.checkpoints().enabled();
+        this.coalescing = properties.coalescing();
+
+        BlockingQueue<Runnable> queue = properties.queueCapacity() > 0
+                ? new ArrayBlockingQueue<>(properties.queueCapacity())
+                : new SynchronousQueue<>();
+
+        this.executor = new ThreadPoolExecutor(
+                properties.maxConcurrent(),
+                properties.maxConcurrent(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                queue,
+                Thread.ofVirtual().name("ticket-job-", 0).factory()
+        );
+
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("ticket-job-cleaner").daemon(true).factory());
+
+        long interval = properties.cleanupInterval().toMillis();
+        cleaner.scheduleWithFixedDelay(() -> evictExpired(Instant.now()), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Copia el listado al almacenamiento de trabajos y encola su procesamiento, o retorna el
+     * trabajo existente para el mismo listado y formato si puede compartirse.
+     *
+     * <p>
+     * Un trabajo rechazado por la cola queda registrado como fallido con
+     * {@link ErrorType#JOB_QUEUE_FULL} hasta su vencimiento: otro envío idéntico pudo unirse
+     * a él antes del rechazo y debe observar el motivo en lugar de un trabajo inexistente.
+     * </p>
+     *
+     * @throws CoreBusinessException con {@link ErrorType#JOB_QUEUE_FULL} si la cola está completa
+     */
+    @Override
+    public TicketJob submit(InputStream input, FolderListFormat inputFormat, TicketReportFormat outputFormat) {
+
+        JobState job = new JobState(UUID.randomUUID().toString(), inputFormat, outputFormat, Instant.now());
+
+        MessageDigest digest = sha256();
+        ticketJobStoragePort.saveInput(job.id, new DigestInputStream(input, digest));
+
+        if (checkpoints) {
+            job.checkpointKey = HexFormat.of().formatHex(digest.digest()) + "-" + inputFormat.name().toLowerCase(Locale.ROOT);
+        }
+
+        jobs.put(job.id, job);
+
+        JobState leader = coalesce(job);
+
+        if (leader != job) {
+            jobs.remove(job.id);
+            ticketJobStoragePort.delete(job.id);
+            log.info("[Jobs] Envío unificado con el trabajo {} ({})", leader.id, leader.status);
+            return leader.snapshot();
+        }
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException ex) {
+            String message = "La cola de trabajos está completa, intente nuevamente más tarde";
+            releaseCoalescing(job);
+            ticketJobStoragePort.deleteInput(job.id);
+            job.finish(TicketJobStatus.FAILED, ErrorType.JOB_QUEUE_FULL.name(), message);
+            log.warn("[Jobs] Trabajo {} rechazado: {} en curso y {} en cola",
+                    job.id, executor.getActiveCount(), executor.getQueue().size());
+            throw new CoreBusinessException(message, ErrorType.JOB_QUEUE_FULL, ex);
+        }
+
+        log.info("[Jobs] Trabajo {} encolado ({} -> {})", job.id, inputFormat, outputFormat);
+
+        return job.snapshot();
+    }
+
+    /**
+     * @throws CoreBusinessException con {@link ErrorType#RESOURCE_NOT_FOUND} si el trabajo no existe o venció
+     */
+    @Override
+    public TicketJob status(String jobId) {
+        return find(jobId).snapshot();
+    }
+
+    /**
+     * @throws CoreBusinessException con {@link ErrorType#RESOURCE_NOT_FOUND} si el trabajo no existe o venció,
+     *                               o con {@link ErrorType#CONFLICT} si no finalizó correctamente
+     */
+    @Override
+    public TicketReport result(String jobId) {
+
+        JobState job = find(jobId);
+
+        switch (job.status) {
+            case COMPLETED -> {
+                return outputStream -> {
+                    try (InputStream result = ticketJobStoragePort.openResult(jobId)) {
+                        result.transferTo(outputStream);
+                    }
+                };
+            }
+            case FAILED -> throw new CoreBusinessException(
+                    "El trabajo " + jobId + " finalizó con error: " + job.errorMessage, ErrorType.CONFLICT);
+            default -> throw new CoreBusinessException(
+                    "El trabajo " + jobId + " aún no finaliza", ErrorType.CONFLICT);
+        }
+    }
+
+    @Override
+    public Subscription subscribe(String jobId, Consumer<TicketJobEvent> subscriber) {
+
+        JobState job = find(jobId);
+        job.subscribers.add(subscriber);
+
+        TicketJobEvent current = job.event(TicketJobEventType.STATUS, null, null, null, null);
+        subscriber.accept(current);
+
+        if (current.job().status().isFinished()) {
+            subscriber.accept(job.event(current.job().status() == TicketJobStatus.COMPLETED
+                    ? TicketJobEventType.COMPLETED
+                    : TicketJobEventType.FAILED, null, null, null, null));
+        }
+
+        return () -> job.subscribers.remove(subscriber);
+    }
+
+    /**
+     * Elimina los trabajos finalizados cuyo tiempo de retención venció.
+     *
+     * @param now instante de referencia
+     * @return cantidad de trabajos eliminados
+     */
+    int evictExpired(Instant now) {
+
+        int evicted = 0;
+
+        for (JobState job : jobs.values()) {
+            if (job.status.isFinished() && job.finishedAt.plus(ttl).isBefore(now) && jobs.remove(job.id, job)) {
+                job.subscribers.clear();
+                ticketJobStoragePort.delete(job.id);
+                evicted++;
+            }
+        }
+
+        coalesced.values().removeIf(job -> !isShareable(job, now));
+
+        if (evicted > 0) {
+            log.info("[Jobs] {} trabajos vencidos eliminados", evicted);
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Detiene el ejecutor de trabajos, interrumpiendo los trabajos en curso.
+     */
+    @Override
+    public void close() {
+        cleaner.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private JobState find(String jobId) {
+
+        JobState job = jobs.get(jobId);
+
+        if (job == null) {
+            throw new CoreBusinessException("Trabajo no encontrado: " + jobId, ErrorType.RESOURCE_NOT_FOUND);
+        }
+
+        return job;
+    }
+
+    /**
+     * Registra el trabajo como el que atiende su listado, salvo que exista otro que pueda compartirse.
+     *
+     * @return trabajo que atenderá el envío
+     */
+    private JobState coalesce(JobState job) {
+
+        if (!coalescing.enabled()) {
+            return job;
+        }
+
+        job.coalescingKey = coalescingKey(job);
+
+        if (job.coalescingKey == null) {
+            return job;
+        }
+
+        Instant now = Instant.now();
+        return coalesced.compute(job.coalescingKey, (key, current) -> isShareable(current, now) ? current : job);
+    }
+
+    /**
+     * Calcula la clave de unificación a partir del listado normalizado y el formato del reporte.
+     *
+     * @return clave, o {@code null} si el listado no puede leerse; el error se informará al procesarlo
+     */
+    private String coalescingKey(JobState job) {
+
+        try (InputStream input = ticketJobStoragePort.openInput(job.id)) {
+
+            String digest = processTicketUseCase.folderListDigest(input, job.inputFormat);
+
+            return digest == null ? null : digest + "-" + job.format.name().toLowerCase(Locale.ROOT);
+
+        } catch (CoreException | IOException ex) {
+            log.debug("[Jobs] Trabajo {} sin unificación: el listado no pudo leerse", job.id, ex);
+            return null;
+        }
+    }
+
+    private boolean isShareable(JobState job, Instant now) {
+
+        if (job == null || !jobs.containsKey(job.id)) {
+            return false;
+        }
+
+        return switch (job.status) {
+            case QUEUED, RUNNING -> true;
+            case COMPLETED -> job.finishedAt.plus(coalescing.completedTtl()).isAfter(now);
+            case FAILED -> false;
+        };
+    }
+
+    private void releaseCoalescing(JobState job) {
+        if (job.coalescingKey != null) {
+            coalesced.remove(job.coalescingKey, job);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+
+    /**
+     * Procesa un trabajo y registra su resultado.
+     */
+    private void run(JobState job) {
+
+        job.startedAt = Instant.now();
+        job.status = TicketJobStatus.RUNNING;
+        job.publish(TicketJobEventType.STATUS, null, null, null, null);
+
+        log.info("[Jobs] Trabajo {} iniciado", job.id);
+
+        try (InputStream input = ticketJobStoragePort.openInput(job.id)) {
+
+            TicketReport report = processTicketUseCase.processReport(
+                    new ProcessTicketCommand(input, job.inputFormat, job.format, job, job.checkpointKey));
+
+            ticketJobStoragePort.saveResult(job.id, report);
+            job.finish(TicketJobStatus.COMPLETED, null, null);
+
+            log.info("[Jobs] Trabajo {} finalizado: {} carpetas, {} tickets",
+                    job.id, job.foldersProcessed.get(), job.ticketsGenerated.get());
+
+        } catch (CoreException ex) {
+            log.warn("[Jobs] Trabajo {} finalizado con error {}: {}", job.id, ex.getType(), ex.getMessage());
+            releaseCoalescing(job);
+            job.finish(TicketJobStatus.FAILED, ex.getType().name(), ex.getMessage());
+        } catch (Exception ex) {
+            log.error("[Jobs] Trabajo {} finalizado con error inesperado", job.id, ex);
+            releaseCoalescing(job);
+            job.finish(TicketJobStatus.FAILED, ErrorType.UNEXPECTED_ERROR.name(),
+                    "Error inesperado procesando el trabajo");
+        } finally {
+            ticketJobStoragePort.deleteInput(job.id);
+        }
+    }
+
+    /**
+     * Estado mutable de un trabajo, actualizado por el hilo que lo procesa.
+     */
+    private static final class JobState implements TicketProcessingListener {
+
+        private final String id;
+        private final FolderListFormat inputFormat;
+        private final TicketReportFormat format;
+        private final Instant submittedAt;
+
+        private final AtomicInteger foldersResolved = new AtomicInteger();
+        private final AtomicInteger foldersProcessed = new AtomicInteger();
+        private final AtomicInteger pdfsExtracted = new AtomicInteger();
+        private final AtomicInteger ticketsGenerated = new AtomicInteger();
+        private final List<Consumer<TicketJobEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+        private volatile TicketJobStatus status = TicketJobStatus.QUEUED;
+        private volatile Integer foldersTotal;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile String errorCode;
+        private volatile String errorMessage;
+        private volatile String checkpointKey;
+        private volatile String coalescingKey;
+
+        private JobState(String id, FolderListFormat inputFormat, TicketReportFormat format, Instant submittedAt) {
+            this.id = id;
+            this.inputFormat = inputFormat;
+            this.format = format;
+            this.submittedAt = submittedAt;
+        }
+
+        @Override
+        public void folderResolved(ResolvedFolder folder) {
+            foldersResolved.incrementAndGet();
+            publish(TicketJobEventType.FOLDER_RESOLVED, folder.folderName(), null, folder.isFound(), null);
+        }
+
+        @Override
+        public void folderListRead(int folders) {
+            foldersTotal = folders;
+            publish(TicketJobEventType.STATUS, null, null, null, null);
+        }
+
+        @Override
+        public void pdfsListed(String folderName, int pdfs) {
+            publish(TicketJobEventType.PDFS_LISTED, folderName, null, null, pdfs);
+        }
+
+        @Override
+        public void pdfExtracted(String folderName, String pdfName, boolean ticketFound) {
+            pdfsExtracted.incrementAndGet();
+            publish(TicketJobEventType.PDF_EXTRACTED, folderName, pdfName, ticketFound, null);
+        }
+
+        @Override
+        public void folderProcessed(String folderName, int tickets) {
+            foldersProcessed.incrementAndGet();
+            ticketsGenerated.addAndGet(tickets);
+            publish(TicketJobEventType.FOLDER_DONE, folderName, null, null, tickets);
+        }
+
+        /**
+         * Registra la finalización; el estado se publica al final para que quien lo observe
+         * finalizado también observe el resto de los campos.
+         */
+        private void finish(TicketJobStatus finalStatus, String code, String message) {
+            errorCode = code;
+            errorMessage = message;
+            finishedAt = Instant.now();
+            status = finalStatus;
+            publish(finalStatus == TicketJobStatus.COMPLETED ? TicketJobEventType.COMPLETED : TicketJobEventType.FAILED,
+                    null, null, null, null);
+        }
+
+        /**
+         * Entrega un evento a los receptores suscritos; un receptor que falla se descarta.
+         */
+        private void publish(TicketJobEventType type, String folderName, String fileName, Boolean found, Integer count) {
+
+            if (subscribers.isEmpty()) {
+                return;
+            }
+
+            TicketJobEvent event = event(type, folderName, fileName, found, count);
+
+            for (Consumer<TicketJobEvent> subscriber : subscribers) {
+                try {
+                    subscriber.accept(event);
+                } catch (RuntimeException ex) {
+                    log.warn("[Jobs] Receptor de eventos del trabajo {} descartado", id, ex);
+                    subscribers.remove(subscriber);
+                }
+            }
+        }
+
+        /**
+         * Construye un evento con el estado actual, el rendimiento y el tiempo estimado para finalizar.
+         */
+        private TicketJobEvent event(TicketJobEventType type, String folderName, String fileName, Boolean found,
+                                     Integer count) {
+
+            TicketJob job = snapshot();
+            double foldersPerSecond = 0;
+            Long etaSeconds = null;
+
+            if (job.startedAt() != null) {
+                Instant until = job.finishedAt() != null ? job.finishedAt() : Instant.now();
+                double elapsed = Duration.between(job.startedAt(), until).toMillis() / 1000.0;
+                foldersPerSecond = elapsed > 0 ? job.foldersProcessed() / elapsed : 0;
+            }
+
+            if (job.status().isFinished()) {
+                etaSeconds = 0L;
+            } else if (job.foldersTotal() != null && foldersPerSecond > 0) {
+                etaSeconds = (long) Math.ceil((job.foldersTotal() - job.foldersProcessed()) / foldersPerSecond);
+            }
+
+            return new TicketJobEvent(type, folderName, fileName, found, count, job, foldersPerSecond, etaSeconds);
+        }
+
+        private TicketJob snapshot() {
+            return new TicketJob(
+                    id,
+                    status,
+                    format,
+                    submittedAt,
+                    startedAt,
+                    finishedAt,
+                    foldersTotal,
+                    foldersResolved.get(),
+                    foldersProcessed.get(),
+                    pdfsExtracted.get(),
+                    ticketsGenerated.get(),
+                    errorCode,
+                    errorMessage
+            );
+        }
+    }
+
+}
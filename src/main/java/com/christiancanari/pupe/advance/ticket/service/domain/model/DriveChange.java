@@ -0,0 +1,46 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+import java.util.Set;
+
+/**
+ * Representa un cambio informado por la API de cambios de Google Drive.
+ *
+ * <p>
+ * Cuando el archivo fue eliminado, enviado a la papelera o no es un PDF,
+ * {@code file} es {@code null} y el cambio equivale a una baja.
+ * </p>
+ *
+ * @param fileId  identificador del archivo modificado
+ * @param file    versión actual del archivo PDF; {@code null} si ya no existe como PDF
+ * @param parents carpetas que contienen actualmente al archivo
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record DriveChange(
+        String fileId,
+        TicketFile file,
+        Set<String> parents
+) {
+
+    /**
+     * Crea un cambio que representa la baja del archivo.
+     *
+     * @param fileId identificador del archivo
+     * @return cambio de baja
+     */
+    public static DriveChange removed(String fileId) {
+        return new DriveChange(fileId, null, Set.of());
+    }
+
+    /**
+     * Indica si el archivo ya no existe como PDF disponible.
+     *
+     * @return {@code true} si el cambio equivale a una baja
+     */
+    public boolean isRemoved() {
+        return file == null;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+import java.util.List;
+
+/**
+ * Conjunto de cambios de Google Drive obtenidos desde un token de inicio.
+ *
+ * @param changes           cambios en el orden informado por Drive
+ * @param newStartPageToken token desde el cual solicitar los cambios siguientes
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record DriveChanges(
+        List<DriveChange> changes,
+        String newStartPageToken
+) {
+}
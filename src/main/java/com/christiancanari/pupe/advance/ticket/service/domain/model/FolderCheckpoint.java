@@ -0,0 +1,29 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+import java.util.List;
+
+/**
+ * Resultado de una carpeta ya escrita en el reporte, registrado para reanudar
+ * una ejecución interrumpida del mismo listado de entrada.
+ *
+ * @param position   posición de la carpeta en el listado de entrada, comenzando en cero
+ * @param folderName nombre de la carpeta
+ * @param invoices   tickets generados para la carpeta
+ * @param errors     errores registrados para la carpeta
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record FolderCheckpoint(
+        int position,
+        String folderName,
+        List<TicketInvoice> invoices,
+        List<TicketProcessingError> errors
+) {
+
+    public FolderCheckpoint {
+        invoices = invoices == null ? List.of() : List.copyOf(invoices);
+        errors = errors == null ? List.of() : List.copyOf(errors);
+    }
+}
@@ -0,0 +1,21 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+/**
+ * Formatos admitidos para el listado de carpetas a procesar.
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum FolderListFormat {
+
+    /** Libro Excel con los nombres en la primera columna y fila de encabezado. */
+    XLSX,
+
+    /** Arreglo JSON de nombres de carpeta. */
+    JSON,
+
+    /** Texto plano o CSV con un nombre de carpeta por línea (primera columna, sin encabezado). */
+    CSV
+
+}
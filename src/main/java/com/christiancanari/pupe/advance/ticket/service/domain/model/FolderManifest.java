@@ -0,0 +1,54 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Manifiesto de los PDFs conocidos de una subcarpeta de tickets, usado por el procesamiento incremental.
+ *
+ * <p>
+ * Las entradas se indexan por identificador de archivo y conservan el orden
+ * en que fueron descubiertas.
+ * </p>
+ *
+ * @param ticketsFolderId identificador de la subcarpeta de tickets
+ * @param entries         entradas indexadas por identificador de archivo
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record FolderManifest(
+        String ticketsFolderId,
+        Map<String, ManifestEntry> entries
+) {
+
+    public FolderManifest {
+        entries = new LinkedHashMap<>(entries);
+    }
+
+    /**
+     * Retorna una copia del manifiesto con la entrada agregada o reemplazada.
+     *
+     * @param entry entrada a registrar
+     * @return manifiesto actualizado
+     */
+    public FolderManifest with(ManifestEntry entry) {
+        Map<String, ManifestEntry> updated = new LinkedHashMap<>(entries);
+        updated.put(entry.file().id(), entry);
+        return new FolderManifest(ticketsFolderId, updated);
+    }
+
+    /**
+     * Retorna una copia del manifiesto sin la entrada indicada.
+     *
+     * @param fileId identificador del archivo
+     * @return manifiesto actualizado
+     */
+    public FolderManifest without(String fileId) {
+        Map<String, ManifestEntry> updated = new LinkedHashMap<>(entries);
+        updated.remove(fileId);
+        return new FolderManifest(ticketsFolderId, updated);
+    }
+
+}
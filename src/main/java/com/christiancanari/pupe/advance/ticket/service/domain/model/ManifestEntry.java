@@ -0,0 +1,71 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.classifier.ClassifiedTicketValues;
+
+/**
+ * Entrada del manifiesto de una carpeta: un PDF conocido y el resultado de su extracción.
+ *
+ * @param file    archivo PDF con su versión de contenido
+ * @param values  valores extraídos; {@code null} si la extracción no produjo un ticket o está pendiente
+ * @param pending indica si el archivo es nuevo o cambió y aún debe extraerse
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record ManifestEntry(
+        TicketFile file,
+        ClassifiedTicketValues values,
+        boolean pending
+) {
+
+    /**
+     * Crea una entrada pendiente de extracción.
+     *
+     * @param file archivo PDF
+     * @return entrada pendiente
+     */
+    public static ManifestEntry pending(TicketFile file) {
+        return new ManifestEntry(file, null, true);
+    }
+
+    /**
+     * Crea una entrada con el resultado de su extracción.
+     *
+     * @param file    archivo PDF
+     * @param invoice ticket extraído; {@code null} si la extracción no produjo información
+     * @return entrada procesada
+     */
+    public static ManifestEntry processed(TicketFile file, TicketInvoice invoice) {
+        return new ManifestEntry(
+                file,
+                invoice == null
+                        ? null
+                        : new ClassifiedTicketValues(invoice.facturaContent(), invoice.comprobanteContent()),
+                false
+        );
+    }
+
+    /**
+     * Indica si la entrada corresponde a la misma versión de contenido del archivo indicado.
+     *
+     * @param other archivo a comparar
+     * @return {@code true} si ambos tienen la misma versión conocida
+     */
+    public boolean isSameVersion(TicketFile other) {
+        return file.contentVersion().isPresent() && file.contentVersion().equals(other.contentVersion());
+    }
+
+    /**
+     * Reconstruye el ticket almacenado para la carpeta indicada.
+     *
+     * @param folderName nombre de la carpeta origen
+     * @return ticket almacenado; {@code null} si la extracción no produjo información
+     */
+    public TicketInvoice toInvoice(String folderName) {
+        return values == null
+                ? null
+                : new TicketInvoice(folderName, file.name(), values.invoices(), values.receipts());
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+import java.io.InputStream;
+
+/**
+ * Solicitud de procesamiento de tickets.
+ *
+ * @param input         contenido del listado de carpetas
+ * @param inputFormat   formato del listado de carpetas
+ * @param outputFormat  formato del reporte a generar
+ * @param listener      receptor del avance del procesamiento
+ * @param checkpointKey identificador del listado para registrar y reanudar el avance;
+ *                      {@code null} para no utilizar puntos de control
+ * @param deadline      plazo del procesamiento; sin vencimiento si es {@code null}
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record ProcessTicketCommand(
+        InputStream input,
+        FolderListFormat inputFormat,
+        TicketReportFormat outputFormat,
+        TicketProcessingListener listener,
+        String checkpointKey,
+        TicketDeadline deadline
+) {
+
+    public ProcessTicketCommand {
+        if (listener == null) {
+            listener = TicketProcessingListener.NONE;
+        }
+        if (deadline == null) {
+            deadline = TicketDeadline.NONE;
+        }
+    }
+
+    /**
+     * Crea una solicitud sin plazo.
+     *
+     * @param input         contenido del listado de carpetas
+     * @param inputFormat   formato del listado de carpetas
+     * @param outputFormat  formato del reporte a generar
+     * @param listener      receptor del avance del procesamiento
+     * @param checkpointKey identificador del listado para registrar y reanudar el avance
+     */
+    public ProcessTicketCommand(
+            InputStream input,
+            FolderListFormat inputFormat,
+            TicketReportFormat outputFormat,
+            TicketProcessingListener listener,
+            String checkpointKey
+    ) {
+        this(input, inputFormat, outputFormat, listener, checkpointKey, TicketDeadline.NONE);
+    }
+
+    /**
+     * Crea una solicitud sin receptor de avance ni puntos de control, con el plazo indicado.
+     *
+     * @param input        contenido del listado de carpetas
+     * @param inputFormat  formato del listado de carpetas
+     * @param outputFormat formato del reporte a generar
+     * @param deadline     plazo del procesamiento
+     */
+    public ProcessTicketCommand(
+            InputStream input,
+            FolderListFormat inputFormat,
+            TicketReportFormat outputFormat,
+            TicketDeadline deadline
+    ) {
+        this(input, inputFormat, outputFormat, TicketProcessingListener.NONE, null, deadline);
+    }
+
+    /**
+     * Crea una solicitud sin puntos de control.
+     *
+     * @param input        contenido del listado de carpetas
+     * @param inputFormat  formato del listado de carpetas
+     * @param outputFormat formato del reporte a generar
+     * @param listener     receptor del avance del procesamiento
+     */
+    public ProcessTicketCommand(
+            InputStream input,
+            FolderListFormat inputFormat,
+            TicketReportFormat outputFormat,
+            TicketProcessingListener listener
+    ) {
+        this(input, inputFormat, outputFormat, listener, null, TicketDeadline.NONE);
+    }
+
+    /**
+     * Crea una solicitud sin receptor de avance.
+     *
+     * @param input        contenido del listado de carpetas
+     * @param inputFormat  formato del listado de carpetas
+     * @param outputFormat formato del reporte a generar
+     */
+    public ProcessTicketCommand(InputStream input, FolderListFormat inputFormat, TicketReportFormat outputFormat) {
+        this(input, inputFormat, outputFormat, TicketProcessingListener.NONE, null, TicketDeadline.NONE);
+    }
+}
@@ -0,0 +1,54 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+/**
+ * Representa el resultado de resolver una carpeta de adelanto en Google Drive.
+ *
+ * <p>
+ * Asocia el nombre de la carpeta solicitada con su identificador y con el
+ * identificador de su subcarpeta de tickets. Cualquiera de los identificadores
+ * puede ser {@code null} si no fue encontrado.
+ * </p>
+ *
+ * @param folderName      nombre de la carpeta solicitada
+ * @param folderId        identificador de la carpeta; {@code null} si no existe
+ * @param ticketsFolderId identificador de la subcarpeta de tickets; {@code null} si no existe
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record ResolvedFolder(
+        String folderName,
+        String folderId,
+        String ticketsFolderId
+) {
+
+    /**
+     * Crea el resultado para una carpeta que no existe en Google Drive.
+     *
+     * @param folderName nombre de la carpeta solicitada
+     * @return carpeta no resuelta
+     */
+    public static ResolvedFolder notFound(String folderName) {
+        return new ResolvedFolder(folderName, null, null);
+    }
+
+    /**
+     * Indica si la carpeta fue encontrada.
+     *
+     * @return {@code true} si existe el identificador de la carpeta
+     */
+    public boolean isFound() {
+        return folderId != null;
+    }
+
+    /**
+     * Indica si la carpeta cuenta con subcarpeta de tickets.
+     *
+     * @return {@code true} si existe el identificador de la subcarpeta de tickets
+     */
+    public boolean hasTicketsFolder() {
+        return ticketsFolderId != null;
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Plazo y señal de cancelación de un procesamiento de tickets.
+ *
+ * <p>
+ * Un procesamiento termina su plazo cuando vence el tiempo asignado o cuando se cancela
+ * explícitamente, por ejemplo porque el cliente cerró la conexión. La cancelación es
+ * cooperativa: quienes procesan carpetas, llaman a Google Drive o analizan PDFs consultan
+ * el plazo antes de iniciar cada unidad de trabajo y abandonan el resto.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TicketDeadline {
+
+    /** Plazo sin vencimiento que no puede cancelarse. */
+    public static final TicketDeadline NONE = new TicketDeadline(Long.MAX_VALUE, System::nanoTime);
+
+    private final long expiresAtNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<String> cancelReason = new AtomicReference<>();
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+
+    TicketDeadline(long timeoutNanos, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.expiresAtNanos = timeoutNanos == Long.MAX_VALUE
+                ? Long.MAX_VALUE
+                : nanoClock.getAsLong() + timeoutNanos;
+    }
+
+    /**
+     * Crea un plazo sin vencimiento que solo termina al cancelarse.
+     *
+     * @return plazo cancelable sin límite de tiempo
+     */
+    public static TicketDeadline unbounded() {
+        return new TicketDeadline(Long.MAX_VALUE, System::nanoTime);
+    }
+
+    /**
+     * Crea un plazo que vence después del tiempo indicado.
+     *
+     * @param timeout tiempo asignado al procesamiento
+     * @return plazo cancelable
+     */
+    public static TicketDeadline after(Duration timeout) {
+        return new TicketDeadline(timeout.toNanos(), System::nanoTime);
+    }
+
+    /**
+     * Cancela el procesamiento. Solo se conserva el primer motivo informado.
+     *
+     * @param reason motivo de la cancelación
+     */
+    public void cancel(String reason) {
+        if (this != NONE && cancelReason.compareAndSet(null, reason)) {
+            cancelled.countDown();
+        }
+    }
+
+    /**
+     * Indica si el plazo venció o el procesamiento fue cancelado.
+     *
+     * @return {@code true} si el trabajo pendiente debe abandonarse
+     */
+    public boolean isDone() {
+        return cancelReason.get() != null || remainingNanos() <= 0;
+    }
+
+    /**
+     * Retorna el motivo por el que terminó el plazo.
+     *
+     * @return motivo de la cancelación, {@code "plazo vencido"} si venció, o {@code null} si sigue vigente
+     */
+    public String reason() {
+
+        String reason = cancelReason.get();
+
+        if (reason != null) {
+            return reason;
+        }
+
+        return remainingNanos() <= 0 ? "plazo vencido" : null;
+    }
+
+    /**
+     * Retorna el tiempo restante del plazo.
+     *
+     * @return tiempo restante, {@link Duration#ZERO} si terminó
+     */
+    public Duration remaining() {
+        return cancelReason.get() != null ? Duration.ZERO : Duration.ofNanos(Math.max(0, remainingNanos()));
+    }
+
+    /**
+     * Espera el tiempo indicado, retornando antes si el plazo vence o el procesamiento se cancela.
+     *
+     * @param delay tiempo a esperar
+     * @throws InterruptedException si el hilo es interrumpido durante la espera
+     */
+    public void sleep(Duration delay) throws InterruptedException {
+        long nanos = Math.min(delay.toNanos(), remainingNanos());
+        if (nanos > 0) {
+            cancelled.await(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private long remainingNanos() {
+        return expiresAtNanos == Long.MAX_VALUE ? Long.MAX_VALUE : expiresAtNanos - nanoClock.getAsLong();
+    }
+
+}
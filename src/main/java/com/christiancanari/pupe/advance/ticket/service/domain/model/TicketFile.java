@@ -1,15 +1,22 @@
 package com.christiancanari.pupe.advance.ticket.service.domain.model;
 
+import java.time.Instant;
+import java.util.Optional;
+
 /**
  * Representa un archivo de ticket almacenado en Google Drive.
  *
  * <p>
  * Contiene únicamente la información necesaria para identificar
- * y procesar el archivo dentro del dominio.
+ * y procesar el archivo dentro del dominio. La suma MD5 y la fecha de
+ * modificación identifican la versión del contenido y pueden ser {@code null}
+ * cuando Drive no las informa.
  * </p>
  *
- * @param id   identificador del archivo en Google Drive
- * @param name nombre del archivo
+ * @param id           identificador del archivo en Google Drive
+ * @param name         nombre del archivo
+ * @param md5Checksum  suma MD5 del contenido informada por Drive
+ * @param modifiedTime fecha de última modificación del archivo
  *
  * @author Christian Rodriguez
  * @version 1.0.0
@@ -17,6 +24,33 @@ package com.christiancanari.pupe.advance.ticket.service.domain.model;
  */
 public record TicketFile(
         String id,
-        String name
+        String name,
+        String md5Checksum,
+        Instant modifiedTime
 ) {
+
+    /**
+     * Crea un archivo sin información de versión.
+     *
+     * @param id   identificador del archivo en Google Drive
+     * @param name nombre del archivo
+     */
+    public TicketFile(String id, String name) {
+        this(id, name, null, null);
+    }
+
+    /**
+     * Retorna un identificador de la versión del contenido, basado en la suma MD5
+     * o, en su defecto, en la fecha de modificación.
+     *
+     * @return versión del contenido si Drive la informó
+     */
+    public Optional<String> contentVersion() {
+
+        if (md5Checksum != null && !md5Checksum.isBlank()) {
+            return Optional.of("md5:" + md5Checksum);
+        }
+
+        return Optional.ofNullable(modifiedTime).map(time -> "mtime:" + time.toEpochMilli());
+    }
 }
@@ -0,0 +1,41 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Estado de un trabajo asíncrono de procesamiento de tickets en un momento dado.
+ *
+ * @param id               identificador del trabajo
+ * @param status           estado del trabajo
+ * @param format           formato del reporte a generar
+ * @param submittedAt      instante de recepción
+ * @param startedAt        instante de inicio del procesamiento, {@code null} si aún está en cola
+ * @param finishedAt       instante de finalización, {@code null} si no ha finalizado
+ * @param foldersTotal     total de carpetas del listado, {@code null} mientras no se haya leído completo
+ * @param foldersResolved  carpetas leídas del listado y resueltas en Google Drive
+ * @param foldersProcessed carpetas cuyos tickets ya fueron escritos en el reporte
+ * @param pdfsExtracted    PDFs descargados y analizados
+ * @param ticketsGenerated tickets escritos en el reporte
+ * @param errorCode        tipo de error si el trabajo falló
+ * @param errorMessage     mensaje de error si el trabajo falló
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TicketJob(
+        String id,
+        TicketJobStatus status,
+        TicketReportFormat format,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant finishedAt,
+        Integer foldersTotal,
+        int foldersResolved,
+        int foldersProcessed,
+        int pdfsExtracted,
+        int ticketsGenerated,
+        String errorCode,
+        String errorMessage
+) {
+}
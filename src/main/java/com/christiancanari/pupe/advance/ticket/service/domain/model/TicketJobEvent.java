@@ -0,0 +1,32 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+/**
+ * Evento de avance de un trabajo asíncrono.
+ *
+ * @param type             tipo de evento
+ * @param folderName       carpeta asociada, si corresponde
+ * @param fileName         PDF asociado, si corresponde
+ * @param found            carpeta encontrada ({@link TicketJobEventType#FOLDER_RESOLVED}) o ticket
+ *                         obtenido ({@link TicketJobEventType#PDF_EXTRACTED}); {@code null} en otros eventos
+ * @param count            PDFs listados ({@link TicketJobEventType#PDFS_LISTED}) o tickets de la carpeta
+ *                         ({@link TicketJobEventType#FOLDER_DONE}); {@code null} en otros eventos
+ * @param job              estado del trabajo al emitir el evento
+ * @param foldersPerSecond carpetas escritas por segundo desde el inicio del procesamiento
+ * @param etaSeconds       segundos estimados para finalizar; {@code null} mientras no se conozca
+ *                         el total de carpetas o no exista avance
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TicketJobEvent(
+        TicketJobEventType type,
+        String folderName,
+        String fileName,
+        Boolean found,
+        Integer count,
+        TicketJob job,
+        double foldersPerSecond,
+        Long etaSeconds
+) {
+}
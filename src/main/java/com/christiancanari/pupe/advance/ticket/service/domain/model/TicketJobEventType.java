@@ -0,0 +1,41 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+/**
+ * Tipos de evento emitidos durante un trabajo asíncrono de procesamiento de tickets.
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum TicketJobEventType {
+
+    /** Estado actual del trabajo, emitido al suscribirse y al iniciar el procesamiento. */
+    STATUS,
+
+    /** Carpeta resuelta en Google Drive. */
+    FOLDER_RESOLVED,
+
+    /** Listado de PDFs válidos de una carpeta finalizado. */
+    PDFS_LISTED,
+
+    /** PDF descargado y analizado. */
+    PDF_EXTRACTED,
+
+    /** Tickets de una carpeta escritos en el reporte. */
+    FOLDER_DONE,
+
+    /** Trabajo finalizado correctamente. */
+    COMPLETED,
+
+    /** Trabajo finalizado con error. */
+    FAILED;
+
+    /**
+     * Indica si el evento es el último del trabajo.
+     *
+     * @return {@code true} para {@link #COMPLETED} y {@link #FAILED}
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,32 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+/**
+ * Estados de un trabajo asíncrono de procesamiento de tickets.
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum TicketJobStatus {
+
+    /** Aceptado y en espera de un hilo del ejecutor de trabajos. */
+    QUEUED,
+
+    /** En procesamiento. */
+    RUNNING,
+
+    /** Finalizado; el reporte está disponible para su descarga. */
+    COMPLETED,
+
+    /** Finalizado con error; no existe reporte. */
+    FAILED;
+
+    /**
+     * Indica si el trabajo ya no cambiará de estado.
+     *
+     * @return {@code true} para {@link #COMPLETED} y {@link #FAILED}
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,36 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+/**
+ * Error registrado durante el procesamiento de una carpeta o de uno de sus PDFs.
+ *
+ * @param folderName nombre de la carpeta
+ * @param fileName   nombre del PDF; {@code null} si el error afecta a la carpeta completa
+ * @param errorType  tipo de error
+ * @param message    mensaje descriptivo del error
+ * @param fileId     identificador del PDF en Google Drive; {@code null} si el error afecta a la carpeta
+ *                   completa. Distingue PDFs homónimos, que Drive permite en una misma carpeta
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TicketProcessingError(
+        String folderName,
+        String fileName,
+        String errorType,
+        String message,
+        String fileId
+) {
+
+    /**
+     * Crea un error sin identificador de PDF.
+     *
+     * @param folderName nombre de la carpeta
+     * @param fileName   nombre del PDF; {@code null} si el error afecta a la carpeta completa
+     * @param errorType  tipo de error
+     * @param message    mensaje descriptivo del error
+     */
+    public TicketProcessingError(String folderName, String fileName, String errorType, String message) {
+        this(folderName, fileName, errorType, message, null);
+    }
+}
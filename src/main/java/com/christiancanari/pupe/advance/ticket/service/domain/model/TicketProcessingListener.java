@@ -0,0 +1,74 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+/**
+ * Receptor del avance de un procesamiento de tickets.
+ *
+ * <p>
+ * Los eventos de carpetas se emiten en el orden del listado. Los eventos de PDFs pueden
+ * emitirse en paralelo desde los hilos de las carpetas y de las descargas, por lo que las
+ * implementaciones deben ser seguras ante concurrencia y retornar de inmediato.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface TicketProcessingListener {
+
+    /** Receptor que ignora el avance. */
+    TicketProcessingListener NONE = new TicketProcessingListener() {
+    };
+
+    /**
+     * Informa que una carpeta del listado fue resuelta en Google Drive.
+     *
+     * @param folder carpeta resuelta, posiblemente no encontrada
+     */
+    default void folderResolved(ResolvedFolder folder) {
+    }
+
+    /**
+     * Informa que el listado de carpetas se leyó por completo.
+     *
+     * @param folders cantidad total de carpetas del listado
+     */
+    default void folderListRead(int folders) {
+    }
+
+    /**
+     * Informa que terminó el listado de los PDFs válidos de una carpeta.
+     *
+     * @param folderName nombre de la carpeta
+     * @param pdfs       cantidad de PDFs válidos
+     */
+    default void pdfsListed(String folderName, int pdfs) {
+    }
+
+    /**
+     * Informa que un PDF fue descargado y analizado.
+     *
+     * @param folderName  nombre de la carpeta
+     * @param pdfName     nombre del PDF
+     * @param ticketFound {@code true} si se obtuvo información del ticket
+     */
+    default void pdfExtracted(String folderName, String pdfName, boolean ticketFound) {
+    }
+
+    /**
+     * Informa que los tickets de una carpeta fueron escritos en el reporte.
+     *
+     * @param folderName nombre de la carpeta
+     * @param tickets    cantidad de tickets de la carpeta
+     */
+    default void folderProcessed(String folderName, int tickets) {
+    }
+
+    /**
+     * Informa un error registrado sin interrumpir el procesamiento
+     * ({@code ticket.processing.errors.continue-on-error}).
+     *
+     * @param error error de la carpeta o del PDF
+     */
+    default void failed(TicketProcessingError error) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Reporte de tickets ya procesado, pendiente de ser escrito.
+ *
+ * <p>
+ * Permite separar el procesamiento (lectura, Drive y extracción) de la generación
+ * del archivo, de forma que este último se escriba directamente en el destino final
+ * sin materializarlo en memoria.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface TicketReport {
+
+    /**
+     * Escribe el reporte en el flujo indicado, sin cerrarlo.
+     *
+     * @param outputStream flujo de salida
+     * @throws IOException si ocurre un error de escritura
+     */
+    void writeTo(OutputStream outputStream) throws IOException;
+
+}
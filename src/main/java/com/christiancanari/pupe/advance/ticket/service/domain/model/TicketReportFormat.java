@@ -0,0 +1,74 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.model;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Formatos disponibles para el reporte de tickets procesados.
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum TicketReportFormat {
+
+    /** Libro Excel, pensado para usuarios. Formato por defecto. */
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx", false),
+
+    /** Valores separados por comas (RFC 4180) en UTF-8, pensado para integraciones. */
+    CSV("text/csv;charset=UTF-8", "csv", true),
+
+    /** Un objeto JSON por línea, pensado para integraciones. */
+    NDJSON("application/x-ndjson", "ndjson", true);
+
+    private final String contentType;
+    private final String extension;
+    private final boolean compressible;
+
+    TicketReportFormat(String contentType, String extension, boolean compressible) {
+        this.contentType = contentType;
+        this.extension = extension;
+        this.compressible = compressible;
+    }
+
+    /**
+     * Retorna el tipo de contenido del formato.
+     *
+     * @return tipo MIME
+     */
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * Retorna la extensión de archivo del formato, sin punto.
+     *
+     * @return extensión
+     */
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Indica si el contenido es texto plano y se beneficia de la compresión gzip.
+     * XLSX ya es un archivo zip, por lo que comprimirlo nuevamente no aporta.
+     *
+     * @return {@code true} si conviene comprimir el contenido
+     */
+    public boolean compressible() {
+        return compressible;
+    }
+
+    /**
+     * Busca un formato por su nombre o extensión, sin distinguir mayúsculas.
+     *
+     * @param name nombre del formato
+     * @return formato encontrado
+     */
+    public static Optional<TicketReportFormat> fromName(String name) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(name) || format.extension.equalsIgnoreCase(name))
+                .findFirst();
+    }
+
+}
@@ -1,5 +1,10 @@
 package com.christiancanari.pupe.advance.ticket.service.domain.port.in;
 
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ProcessTicketCommand;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReport;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
+
 import java.io.InputStream;
 
 /**
@@ -23,4 +28,54 @@ public interface ProcessTicketUseCase {
      */
     byte[] process(InputStream inputStream);
 
+    /**
+     * Procesa un listado de carpetas y retorna el reporte pendiente de escritura.
+     *
+     * <p>
+     * La apertura del listado y la resolución del primer bloque de carpetas ocurren antes
+     * de retornar, por lo que un listado inválido o sin carpetas se informa desde este método.
+     * El resto del listado se lee y cada carpeta se procesa al escribir el reporte, emitiendo
+     * las filas a medida que las carpetas finalizan.
+     * </p>
+     *
+     * @param command listado de carpetas y formatos de entrada y salida
+     * @return reporte listo para escribirse en un flujo de salida
+     */
+    TicketReport processReport(ProcessTicketCommand command);
+
+    /**
+     * Calcula el hash SHA-256 de los nombres de carpetas del listado, tal como se procesarían:
+     * listados equivalentes en distinto formato o con espacios y filas vacías distintas
+     * producen el mismo hash.
+     *
+     * @param inputStream listado de carpetas
+     * @param format      formato del listado
+     * @return hash hexadecimal de los nombres de carpetas en orden
+     */
+    String folderListDigest(InputStream inputStream, FolderListFormat format);
+
+    /**
+     * Procesa un archivo Excel recibido como flujo de entrada y retorna el reporte
+     * pendiente de escritura.
+     *
+     * @param inputStream flujo de entrada del archivo Excel original
+     * @param format      formato del reporte a generar
+     * @return reporte listo para escribirse en un flujo de salida
+     * @see #processReport(ProcessTicketCommand)
+     */
+    default TicketReport processReport(InputStream inputStream, TicketReportFormat format) {
+        return processReport(new ProcessTicketCommand(inputStream, FolderListFormat.XLSX, format));
+    }
+
+    /**
+     * Procesa un archivo Excel y retorna el reporte en formato {@link TicketReportFormat#XLSX}.
+     *
+     * @param inputStream flujo de entrada del archivo Excel original
+     * @return reporte listo para escribirse en un flujo de salida
+     * @see #processReport(ProcessTicketCommand)
+     */
+    default TicketReport processReport(InputStream inputStream) {
+        return processReport(inputStream, TicketReportFormat.XLSX);
+    }
+
 }
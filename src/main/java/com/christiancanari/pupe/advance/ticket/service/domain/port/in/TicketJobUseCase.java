@@ -0,0 +1,83 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.port.in;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJob;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJobEvent;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReport;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Caso de uso de aplicación para procesar listados de carpetas de forma asíncrona.
+ *
+ * <p>
+ * El envío retorna de inmediato con el identificador del trabajo; el procesamiento
+ * se ejecuta en segundo plano y su estado, avance y reporte se consultan por separado.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface TicketJobUseCase {
+
+    /**
+     * Registra un trabajo y lo encola para su procesamiento.
+     *
+     * <p>
+     * El listado se copia antes de retornar, por lo que el flujo de entrada
+     * puede cerrarse al finalizar la petición.
+     * </p>
+     *
+     * @param input        contenido del listado de carpetas
+     * @param inputFormat  formato del listado de carpetas
+     * @param outputFormat formato del reporte a generar
+     * @return estado inicial del trabajo
+     */
+    TicketJob submit(InputStream input, FolderListFormat inputFormat, TicketReportFormat outputFormat);
+
+    /**
+     * Consulta el estado y avance de un trabajo.
+     *
+     * @param jobId identificador del trabajo
+     * @return estado actual del trabajo
+     */
+    TicketJob status(String jobId);
+
+    /**
+     * Obtiene el reporte de un trabajo finalizado correctamente.
+     *
+     * @param jobId identificador del trabajo
+     * @return reporte listo para escribirse en un flujo de salida
+     */
+    TicketReport result(String jobId);
+
+    /**
+     * Suscribe un receptor a los eventos de avance de un trabajo.
+     *
+     * <p>
+     * El receptor recibe de inmediato el estado actual del trabajo y, si ya finalizó, el evento
+     * final. Los eventos se entregan desde los hilos del procesamiento, por lo que el receptor
+     * no debe bloquearse.
+     * </p>
+     *
+     * @param jobId      identificador del trabajo
+     * @param subscriber receptor de los eventos
+     * @return suscripción a cerrar cuando el receptor ya no requiera eventos
+     */
+    Subscription subscribe(String jobId, Consumer<TicketJobEvent> subscriber);
+
+    /**
+     * Suscripción a los eventos de un trabajo.
+     */
+    interface Subscription extends AutoCloseable {
+
+        /**
+         * Detiene la entrega de eventos al receptor.
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,45 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.port.out;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderCheckpoint;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para los puntos de control de las ejecuciones, que permiten reanudar
+ * un listado desde la última carpeta completada.
+ *
+ * <p>
+ * Los puntos de control son una optimización: las implementaciones no deben interrumpir
+ * el procesamiento ante errores propios, solo registrarlos.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface TicketCheckpointPort {
+
+    /**
+     * Obtiene las carpetas completadas de una ejecución anterior.
+     *
+     * @param key identificador del listado de entrada
+     * @return carpetas completadas en el orden del listado, desde la posición cero y sin saltos
+     */
+    List<FolderCheckpoint> load(String key);
+
+    /**
+     * Registra de forma durable una carpeta completada.
+     *
+     * @param key        identificador del listado de entrada
+     * @param checkpoint resultado de la carpeta
+     */
+    void append(String key, FolderCheckpoint checkpoint);
+
+    /**
+     * Elimina los puntos de control de un listado.
+     *
+     * @param key identificador del listado de entrada
+     */
+    void delete(String key);
+
+}
@@ -1,7 +1,10 @@
 package com.christiancanari.pupe.advance.ticket.service.domain.port.out;
 
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -13,12 +16,48 @@ import java.util.List;
  */
 public interface TicketFileWriterPort {
 
+    /**
+     * Retorna el formato de archivo que genera la implementación.
+     *
+     * @return formato generado
+     */
+    TicketReportFormat format();
+
+    /**
+     * Abre un receptor que genera el archivo fila a fila sobre el flujo indicado.
+     *
+     * <p>
+     * El flujo no se cierra; su ciclo de vida corresponde a quien lo entrega.
+     * </p>
+     *
+     * @param outputStream flujo de salida donde se escribe el archivo
+     * @return receptor de filas del archivo
+     */
+    TicketInvoiceSink openSink(OutputStream outputStream);
+
+    /**
+     * Genera un archivo a partir de una lista de tickets y lo escribe en el flujo indicado.
+     *
+     * @param invoices     lista de tickets procesados
+     * @param outputStream flujo de salida donde se escribe el archivo
+     */
+    default void export(List<TicketInvoice> invoices, OutputStream outputStream) {
+        try (TicketInvoiceSink sink = openSink(outputStream)) {
+            invoices.forEach(sink::accept);
+            sink.complete();
+        }
+    }
+
     /**
      * Genera un archivo a partir de una lista de tickets.
      *
      * @param invoices lista de tickets procesados
      * @return archivo generado en formato byte[]
      */
-    byte[] export(List<TicketInvoice> invoices);
+    default byte[] export(List<TicketInvoice> invoices) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        export(invoices, outputStream);
+        return outputStream.toByteArray();
+    }
 
 }
@@ -1,7 +1,10 @@
 package com.christiancanari.pupe.advance.ticket.service.domain.port.out;
 
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+
 import java.io.InputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Puerto de salida para la lectura de nombres de carpetas desde una fuente de datos.
@@ -12,12 +15,36 @@ import java.util.List;
  */
 public interface TicketFolderReaderPort {
 
+    /**
+     * Retorna el formato de listado que interpreta la implementación.
+     *
+     * @return formato admitido
+     */
+    FolderListFormat format();
+
+    /**
+     * Obtiene los nombres de carpetas a procesar a medida que se leen de la fuente.
+     *
+     * <p>
+     * El flujo retornado mantiene recursos abiertos y debe cerrarse al finalizar su consumo.
+     * Los errores de lectura pueden producirse tanto al invocar este método como al recorrer el flujo.
+     * </p>
+     *
+     * @param inputStream flujo de entrada de la fuente de datos
+     * @return nombres de carpetas en el orden de la fuente
+     */
+    Stream<String> streamFolderNames(InputStream inputStream);
+
     /**
      * Obtiene los nombres de carpetas a procesar.
      *
      * @param inputStream flujo de entrada de la fuente de datos
      * @return lista de nombres de carpetas
      */
-    List<String> readFolderNames(InputStream inputStream);
+    default List<String> readFolderNames(InputStream inputStream) {
+        try (Stream<String> folderNames = streamFolderNames(inputStream)) {
+            return folderNames.toList();
+        }
+    }
 
 }
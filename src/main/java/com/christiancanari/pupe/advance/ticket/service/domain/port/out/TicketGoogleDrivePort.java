@@ -1,10 +1,15 @@
 package com.christiancanari.pupe.advance.ticket.service.domain.port.out;
 
+import com.christiancanari.pupe.advance.ticket.service.domain.model.DriveChanges;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketFile;
 
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Puerto de salida para la interacción con Google Drive.
@@ -33,13 +38,37 @@ public interface TicketGoogleDrivePort {
     Optional<String> findTicketFolderId(String parentFolderId);
 
     /**
-     * Lista los archivos PDF contenidos en una carpeta.
+     * Resuelve en bloque varias carpetas y sus subcarpetas de tickets,
+     * agrupando las búsquedas para reducir la cantidad de consultas a Google Drive.
+     *
+     * @param folderNames nombres de las carpetas a resolver
+     * @return mapa con una entrada por cada nombre solicitado, incluidas las no encontradas
+     */
+    Map<String, ResolvedFolder> resolveFolders(Collection<String> folderNames);
+
+    /**
+     * Lista los archivos PDF contenidos en una carpeta,
+     * recorriendo todas las páginas del resultado.
      *
      * @param folderId identificador de la carpeta
      * @return lista de archivos PDF encontrados
      */
     List<TicketFile> listPdfFiles(String folderId);
 
+    /**
+     * Obtiene los archivos PDF contenidos en una carpeta como un flujo perezoso.
+     *
+     * <p>
+     * Las páginas se solicitan a medida que el flujo es consumido, permitiendo
+     * procesar los archivos de la primera página mientras se obtienen las siguientes.
+     * El flujo debe cerrarse al finalizar su consumo.
+     * </p>
+     *
+     * @param folderId identificador de la carpeta
+     * @return flujo de archivos PDF encontrados
+     */
+    Stream<TicketFile> streamPdfFiles(String folderId);
+
     /**
      * Descarga un archivo desde Google Drive.
      *
@@ -48,4 +77,36 @@ public interface TicketGoogleDrivePort {
      */
     InputStream downloadFile(String fileId);
 
+    /**
+     * Descarga un archivo listado desde Google Drive.
+     *
+     * <p>
+     * Permite a las implementaciones aprovechar la versión del contenido
+     * ({@link TicketFile#contentVersion()}), por ejemplo para servirlo desde caché.
+     * </p>
+     *
+     * @param ticketFile archivo a descargar
+     * @return flujo de entrada del archivo
+     */
+    default InputStream downloadFile(TicketFile ticketFile) {
+        return downloadFile(ticketFile.id());
+    }
+
+    /**
+     * Obtiene el token que representa el estado actual de Google Drive,
+     * a partir del cual se solicitarán los cambios posteriores.
+     *
+     * @return token de inicio de cambios
+     */
+    String getStartPageToken();
+
+    /**
+     * Obtiene todos los cambios ocurridos en Google Drive desde el token indicado,
+     * recorriendo todas las páginas del resultado.
+     *
+     * @param startPageToken token desde el cual solicitar los cambios
+     * @return cambios y nuevo token de inicio
+     */
+    DriveChanges listChanges(String startPageToken);
+
 }
@@ -0,0 +1,53 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.port.out;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
+
+/**
+ * Receptor de filas de un reporte de tickets en construcción.
+ *
+ * <p>
+ * Permite emitir cada {@link TicketInvoice} a medida que se extrae, sin acumular
+ * el reporte completo en memoria. El archivo solo se considera válido tras invocar
+ * {@link #complete()}. Los formatos que requieren el contenido completo (como XLSX)
+ * descartan el reporte si el receptor se cierra sin completarse; los formatos de texto
+ * pueden haber escrito parte de las filas en el flujo de salida.
+ * </p>
+ *
+ * <p>
+ * Las implementaciones no son seguras para uso concurrente: las filas deben
+ * entregarse desde un único hilo y en el orden en que deben aparecer.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface TicketInvoiceSink extends AutoCloseable {
+
+    /**
+     * Agrega una fila al reporte.
+     *
+     * @param invoice ticket procesado
+     */
+    void accept(TicketInvoice invoice);
+
+    /**
+     * Registra un error de procesamiento en la hoja o sección de errores del reporte.
+     *
+     * @param error error de la carpeta o del PDF
+     */
+    void acceptError(TicketProcessingError error);
+
+    /**
+     * Finaliza el reporte y escribe el contenido pendiente en el flujo de salida.
+     */
+    void complete();
+
+    /**
+     * Libera los recursos del receptor. No cierra el flujo de salida.
+     */
+    @Override
+    void close();
+
+}
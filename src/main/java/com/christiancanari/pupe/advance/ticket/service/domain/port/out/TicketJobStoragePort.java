@@ -0,0 +1,67 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.port.out;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReport;
+
+import java.io.InputStream;
+
+/**
+ * Puerto de salida para almacenar los archivos de los trabajos asíncronos.
+ *
+ * <p>
+ * Cada trabajo conserva el listado de carpetas recibido hasta que comienza su procesamiento
+ * y el reporte generado hasta que el trabajo vence.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface TicketJobStoragePort {
+
+    /**
+     * Almacena el listado de carpetas de un trabajo.
+     *
+     * @param jobId identificador del trabajo
+     * @param input contenido del listado
+     */
+    void saveInput(String jobId, InputStream input);
+
+    /**
+     * Abre el listado de carpetas almacenado de un trabajo.
+     *
+     * @param jobId identificador del trabajo
+     * @return contenido del listado
+     */
+    InputStream openInput(String jobId);
+
+    /**
+     * Escribe el reporte de un trabajo. El reporte solo queda visible en
+     * {@link #openResult(String)} cuando la escritura finaliza sin errores.
+     *
+     * @param jobId  identificador del trabajo
+     * @param report reporte pendiente de escritura
+     */
+    void saveResult(String jobId, TicketReport report);
+
+    /**
+     * Abre el reporte almacenado de un trabajo.
+     *
+     * @param jobId identificador del trabajo
+     * @return contenido del reporte
+     */
+    InputStream openResult(String jobId);
+
+    /**
+     * Elimina el listado de carpetas de un trabajo, si existe.
+     *
+     * @param jobId identificador del trabajo
+     */
+    void deleteInput(String jobId);
+
+    /**
+     * Elimina todos los archivos de un trabajo.
+     *
+     * @param jobId identificador del trabajo
+     */
+    void delete(String jobId);
+}
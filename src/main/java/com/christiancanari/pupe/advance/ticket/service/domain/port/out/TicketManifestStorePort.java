@@ -0,0 +1,59 @@
+package com.christiancanari.pupe.advance.ticket.service.domain.port.out;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderManifest;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Puerto de salida para la persistencia del estado del procesamiento incremental:
+ * el token de cambios de Google Drive y los manifiestos de cada carpeta.
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface TicketManifestStorePort {
+
+    /**
+     * Obtiene el token desde el cual solicitar los cambios de Google Drive.
+     *
+     * @return token almacenado si existe
+     */
+    Optional<String> loadStartPageToken();
+
+    /**
+     * Almacena el token desde el cual solicitar los próximos cambios.
+     *
+     * @param startPageToken token de cambios
+     */
+    void saveStartPageToken(String startPageToken);
+
+    /**
+     * Obtiene el manifiesto de una subcarpeta de tickets.
+     *
+     * @param ticketsFolderId identificador de la subcarpeta de tickets
+     * @return manifiesto si existe
+     */
+    Optional<FolderManifest> load(String ticketsFolderId);
+
+    /**
+     * Obtiene todos los manifiestos almacenados.
+     *
+     * @return manifiestos indexados por identificador de subcarpeta de tickets
+     */
+    Map<String, FolderManifest> loadAll();
+
+    /**
+     * Almacena o reemplaza un manifiesto.
+     *
+     * @param manifest manifiesto a almacenar
+     */
+    void save(FolderManifest manifest);
+
+    /**
+     * Elimina todo el estado almacenado.
+     */
+    void clear();
+
+}
@@ -0,0 +1,216 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.checkpoint.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderCheckpoint;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketCheckpointPort;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketJobProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Adapter que almacena los puntos de control de las ejecuciones en el sistema de archivos.
+ *
+ * <p>
+ * Cada listado tiene un archivo {@code <key>.ndjson} en {@code ticket.jobs.checkpoints.directory}
+ * con una línea JSON por carpeta completada. Cada línea se agrega y se sincroniza con el disco
+ * antes de continuar, por lo que una interrupción pierde a lo sumo la carpeta en curso. Al
+ * leer, el archivo se trunca tras la última línea válida y contigua, de modo que una línea
+ * incompleta no se fusiona con la siguiente que se agregue al reanudar.
+ * </p>
+ *
+ * <p>
+ * Los errores de lectura o escritura no interrumpen el procesamiento: se registran y el
+ * listado se procesa sin reanudar. Los archivos sin modificar durante
+ * {@code ticket.jobs.checkpoints.retention} se eliminan al iniciar.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class FileTicketCheckpointAdapter implements TicketCheckpointPort {
+
+    private static final String CHECKPOINT_SUFFIX = ".ndjson";
+
+    private final JsonMapper jsonMapper;
+    private final Path directory;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * Construye el adapter, preparando el directorio de puntos de control.
+     *
+     * @param properties propiedades de los trabajos asíncronos
+     * @param jsonMapper serializador de los puntos de control
+     */
+    public FileTicketCheckpointAdapter(TicketJobProperties properties, JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        this.directory = properties.checkpoints().directory();
+        prepare(properties.checkpoints().retention(), Instant.now());
+    }
+
+    @Override
+    public List<FolderCheckpoint> load(String key) {
+
+        Path file = file(key);
+        List<FolderCheckpoint> checkpoints = new ArrayList<>();
+
+        writeLock.lock();
+        try {
+            long fileSize = Files.size(file);
+            long validBytes = 0;
+
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+
+                String line;
+                while ((line = reader.readLine()) != null) {
+
+                    long lineEnd = validBytes + line.getBytes(StandardCharsets.UTF_8).length + 1;
+                    FolderCheckpoint checkpoint = lineEnd > fileSize ? null : parse(file, line);
+
+                    if (checkpoint == null || checkpoint.position() > checkpoints.size()) {
+                        break;
+                    }
+                    if (checkpoint.position() == checkpoints.size()) {
+                        checkpoints.add(checkpoint);
+                    }
+                    validBytes = lineEnd;
+                }
+            }
+
+            if (validBytes < fileSize) {
+                truncate(file, validBytes);
+            }
+
+        } catch (NoSuchFileException ex) {
+            return List.of();
+        } catch (IOException ex) {
+            log.warn("[Checkpoint] No se pudo leer {}, el listado se procesará completo", file, ex);
+            return List.of();
+        } finally {
+            writeLock.unlock();
+        }
+
+        return checkpoints;
+    }
+
+    @Override
+    public void append(String key, FolderCheckpoint checkpoint) {
+
+        Path file = file(key);
+
+        writeLock.lock();
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+
+            byte[] json = jsonMapper.writeValueAsBytes(checkpoint);
+            ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+
+        } catch (Exception ex) {
+            log.warn("[Checkpoint] No se pudo registrar la carpeta {} en {}", checkpoint.folderName(), file, ex);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        deleteQuietly(file(key));
+    }
+
+    /**
+     * Crea el directorio y elimina los puntos de control vencidos.
+     *
+     * @param retention tiempo de conservación
+     * @param now       instante de referencia
+     * @return cantidad de archivos eliminados
+     */
+    int prepare(Duration retention, Instant now) {
+
+        int deleted = 0;
+
+        try {
+            Files.createDirectories(directory);
+
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(f -> f.getFileName().toString().endsWith(CHECKPOINT_SUFFIX)).toList()) {
+                    if (Files.getLastModifiedTime(file).toInstant().plus(retention).isBefore(now)) {
+                        deleteQuietly(file);
+                        deleted++;
+                    }
+                }
+            }
+
+        } catch (IOException ex) {
+            log.warn("[Checkpoint] No se pudo preparar el directorio {}", directory, ex);
+        }
+
+        if (deleted > 0) {
+            log.info("[Checkpoint] {} puntos de control vencidos eliminados", deleted);
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Descarta el contenido posterior a la última línea válida para que los siguientes
+     * puntos de control se agreguen en una línea nueva.
+     *
+     * @param file       archivo de puntos de control
+     * @param validBytes bytes que se conservan
+     * @throws IOException si no se puede truncar el archivo
+     */
+    private static void truncate(Path file, long validBytes) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(validBytes);
+            channel.force(false);
+        }
+
+        log.info("[Checkpoint] {} truncado a {} bytes tras descartar líneas inválidas", file, validBytes);
+    }
+
+    private FolderCheckpoint parse(Path file, String line) {
+        try {
+            return jsonMapper.readValue(line, FolderCheckpoint.class);
+        } catch (Exception ex) {
+            log.warn("[Checkpoint] Línea ilegible en {}, se descartan las siguientes", file);
+            return null;
+        }
+    }
+
+    private Path file(String key) {
+        return directory.resolve(key.replaceAll("[^A-Za-z0-9_-]", "_") + CHECKPOINT_SUFFIX);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("[Checkpoint] No se pudo eliminar {}", file, ex);
+        }
+    }
+
+}
@@ -2,16 +2,48 @@ package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.ad
 
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
 import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketGoogleDrivePort;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.DriveChange;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.DriveChanges;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketFile;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.resilience.ResilientDriveExecutor;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.GoogleDriveProperties;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
 import com.google.api.services.drive.Drive;
+import com.google.api.services.drive.model.Change;
+import com.google.api.services.drive.model.ChangeList;
+import com.google.api.services.drive.model.File;
 import com.google.api.services.drive.model.FileList;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
 import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Adapter de infraestructura encargado de la comunicación con Google Drive.
@@ -24,12 +56,15 @@ import java.util.Optional;
  * <ul>
  *     <li>Buscar carpetas por nombre</li>
  *     <li>Localizar subcarpetas específicas de tickets</li>
- *     <li>Listar archivos PDF dentro de una carpeta</li>
+ *     <li>Resolver en bloque carpetas y subcarpetas de tickets</li>
+ *     <li>Listar archivos PDF dentro de una carpeta (con paginación completa)</li>
  *     <li>Descargar archivos desde Google Drive</li>
  * </ul>
  *
  * <p>
- * Cualquier error técnico proveniente de la API de Google Drive
+ * Todas las llamadas a la API se ejecutan a través de {@link ResilientDriveExecutor},
+ * que reintenta los errores transitorios y corta el tráfico cuando Drive está degradado.
+ * Cualquier error técnico definitivo proveniente de la API de Google Drive
  * es encapsulado en {@link CoreTechnicalException}.
  * </p>
  *
@@ -41,15 +76,33 @@ import java.util.Optional;
 @Repository
 public class TicketGoogleDriveAdapter implements TicketGoogleDrivePort {
 
+    private static final String PDF_MIME_TYPE = "application/pdf";
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+    private static final String PDF_FIELDS = "nextPageToken, files(id, name, md5Checksum, modifiedTime)";
+    private static final String CHANGE_FIELDS = "nextPageToken, newStartPageToken, changes(fileId, removed, "
+            + "file(id, name, mimeType, parents, trashed, md5Checksum, modifiedTime))";
+
     private final Drive drive;
+    private final GoogleDriveProperties googleDriveProperties;
+    private final ResilientDriveExecutor resilientDriveExecutor;
+    private final Executor pageExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("drive-page-", 0).factory());
 
     /**
      * Construye el adapter con una instancia configurada del cliente {@link Drive} de Google.
      *
-     * @param drive cliente oficial de Google Drive
+     * @param drive                  cliente oficial de Google Drive
+     * @param googleDriveProperties  propiedades de configuración de Google Drive
+     * @param resilientDriveExecutor ejecutor con reintentos y circuit breaker para las llamadas
      */
-    public TicketGoogleDriveAdapter(Drive drive) {
+    public TicketGoogleDriveAdapter(
+            Drive drive,
+            GoogleDriveProperties googleDriveProperties,
+            ResilientDriveExecutor resilientDriveExecutor
+    ) {
         this.drive = drive;
+        this.googleDriveProperties = googleDriveProperties;
+        this.resilientDriveExecutor = resilientDriveExecutor;
     }
 
     /**
@@ -65,14 +118,14 @@ public class TicketGoogleDriveAdapter implements TicketGoogleDrivePort {
 
         try {
             String query = String.format("mimeType='application/vnd.google-apps.folder' " +
-                            "and name contains '%s' and trashed=false", folderName);
+                            "and name contains '%s' and trashed=false", escape(folderName));
 
-            FileList result = drive.files().list()
+            FileList result = resilientDriveExecutor.execute("files.list", () -> drive.files().list()
                     .setQ(query)
                     .setFields("files(id)")
                     .setSupportsAllDrives(true)
                     .setIncludeItemsFromAllDrives(true)
-                    .execute();
+                    .execute());
 
             if (result.getFiles().isEmpty()) {
                 log.warn("[Drive] Carpeta no encontrada: {}", folderName);
@@ -84,6 +137,8 @@ public class TicketGoogleDriveAdapter implements TicketGoogleDrivePort {
 
             return Optional.of(folderId);
 
+        } catch (CoreTechnicalException ex) {
+            throw ex;
         } catch (Exception ex) {
             log.error("[Drive] Error buscando carpeta {}", folderName, ex);
             throw new CoreTechnicalException("Error accediendo a Google Drive al buscar la carpeta",
@@ -110,12 +165,12 @@ public class TicketGoogleDriveAdapter implements TicketGoogleDrivePort {
                     parentFolderId
             );
 
-            FileList result = drive.files().list()
+            FileList result = resilientDriveExecutor.execute("files.list", () -> drive.files().list()
                     .setQ(query)
                     .setFields("files(id)")
                     .setSupportsAllDrives(true)
                     .setIncludeItemsFromAllDrives(true)
-                    .execute();
+                    .execute());
 
             if (result.getFiles().isEmpty()) {
                 log.warn("[Drive] Subcarpeta Tickets no encontrada en parentId={}", parentFolderId);
@@ -127,6 +182,8 @@ public class TicketGoogleDriveAdapter implements TicketGoogleDrivePort {
 
             return Optional.of(ticketFolderId);
 
+        } catch (CoreTechnicalException ex) {
+            throw ex;
         } catch (Exception ex) {
             log.error("[Drive] Error buscando subcarpeta Tickets", ex);
             throw new CoreTechnicalException("Error accediendo a Google Drive al buscar la subcarpeta de Tickets",
@@ -136,7 +193,219 @@ public class TicketGoogleDriveAdapter implements TicketGoogleDrivePort {
     }
 
     /**
-     * Lista todos los archivos PDF contenidos en una carpeta de Google Drive.
+     * Resuelve en bloque un conjunto de carpetas y sus subcarpetas de tickets.
+     *
+     * <p>
+     * Los nombres se agrupan en lotes de {@code batchSize} y cada lote se resuelve
+     * con una consulta combinada ({@code name contains 'a' or name contains 'b' ...}).
+     * Las subcarpetas de tickets se buscan de la misma forma combinando los padres
+     * ({@code 'id1' in parents or 'id2' in parents ...}). De esta manera, N carpetas
+     * requieren del orden de {@code 2 * N / batchSize} consultas en lugar de {@code 2 * N}.
+     * </p>
+     *
+     * <p>
+     * La consulta combinada devuelve las carpetas de todos los nombres del lote, por lo que cada
+     * resultado se asigna aplicando el mismo criterio de {@code name contains} de Drive: el nombre
+     * solicitado debe ser prefijo del nombre de la carpeta o de una de sus palabras. Entre varias
+     * candidatas se prefiere la de nombre idéntico, luego la que comienza con el nombre solicitado
+     * y por último la primera en que coincide una palabra.
+     * </p>
+     *
+     * @param folderNames nombres de las carpetas a resolver
+     * @return mapa con una entrada por cada nombre solicitado
+     */
+    @Override
+    public Map<String, ResolvedFolder> resolveFolders(Collection<String> folderNames) {
+
+        List<String> names = List.copyOf(new LinkedHashSet<>(folderNames));
+
+        log.info("🔍 [Drive] Resolviendo en bloque {} carpetas", names.size());
+
+        Map<String, String> folderIds = new HashMap<>();
+
+        partition(names).forEach(batch -> folderIds.putAll(findFolderIds(batch)));
+
+        Map<String, String> ticketFolderIds = new HashMap<>();
+
+        partition(List.copyOf(new LinkedHashSet<>(folderIds.values())))
+                .forEach(batch -> ticketFolderIds.putAll(findTicketFolderIds(batch)));
+
+        Map<String, ResolvedFolder> resolved = new LinkedHashMap<>();
+
+        names.forEach(name -> {
+            String folderId = folderIds.get(name);
+            resolved.put(name, new ResolvedFolder(name, folderId,
+                    folderId != null ? ticketFolderIds.get(folderId) : null));
+        });
+
+        log.info("[Drive] Resolución en bloque finalizada. Carpetas encontradas: {}/{}",
+                folderIds.size(), names.size());
+
+        return resolved;
+    }
+
+    /**
+     * Busca los identificadores de un lote de carpetas con una sola consulta combinada.
+     *
+     * @param names nombres de las carpetas del lote
+     * @return mapa nombre solicitado → identificador de la carpeta encontrada
+     */
+    private Map<String, String> findFolderIds(List<String> names) {
+
+        String query = "mimeType='application/vnd.google-apps.folder' and trashed=false and ("
+                + names.stream()
+                .map(name -> "name contains '" + escape(name) + "'")
+                .collect(Collectors.joining(" or "))
+                + ")";
+
+        List<File> folders = listAll(query, "nextPageToken, files(id, name)",
+                "Error accediendo a Google Drive al resolver carpetas en bloque");
+
+        Map<String, String> folderIds = new HashMap<>();
+
+        names.forEach(name -> folders.stream()
+                .filter(folder -> folder.getName() != null && matchRank(folder.getName(), name) < NO_MATCH)
+                .min(Comparator.comparingInt(folder -> matchRank(folder.getName(), name)))
+                .ifPresent(folder -> folderIds.put(name, folder.getId())));
+
+        return folderIds;
+    }
+
+    /**
+     * Clasifica la coincidencia de un nombre de carpeta con el término de {@code name contains},
+     * que en Drive es una coincidencia por prefijo del nombre o de alguna de sus palabras.
+     *
+     * @return 0 nombre idéntico, 1 prefijo del nombre, 2 prefijo de una palabra, o {@link #NO_MATCH}
+     */
+    static int matchRank(String folderName, String term) {
+
+        String candidate = folderName.toLowerCase(Locale.ROOT);
+        String expected = term.toLowerCase(Locale.ROOT);
+
+        if (candidate.equals(expected)) {
+            return 0;
+        }
+
+        if (candidate.startsWith(expected)) {
+            return 1;
+        }
+
+        for (int index = candidate.indexOf(expected); index > 0; index = candidate.indexOf(expected, index + 1)) {
+            if (!Character.isLetterOrDigit(candidate.charAt(index - 1))) {
+                return 2;
+            }
+        }
+
+        return NO_MATCH;
+    }
+
+    /**
+     * Busca las subcarpetas de tickets de un lote de carpetas padre con una sola consulta combinada.
+     *
+     * @param parentFolderIds identificadores de las carpetas padre del lote
+     * @return mapa identificador padre → identificador de la subcarpeta de tickets
+     */
+    private Map<String, String> findTicketFolderIds(List<String> parentFolderIds) {
+
+        String query = "mimeType='application/vnd.google-apps.folder' "
+                + "and name contains 'Tickets en general' and trashed=false and ("
+                + parentFolderIds.stream()
+                .map(parentId -> "'" + escape(parentId) + "' in parents")
+                .collect(Collectors.joining(" or "))
+                + ")";
+
+        List<File> ticketFolders = listAll(query, "nextPageToken, files(id, parents)",
+                "Error accediendo a Google Drive al resolver subcarpetas de Tickets en bloque");
+
+        Set<String> requested = new HashSet<>(parentFolderIds);
+        Map<String, String> ticketFolderIds = new HashMap<>();
+
+        ticketFolders.forEach(folder -> Optional.ofNullable(folder.getParents())
+                .orElse(List.of())
+                .stream()
+                .filter(requested::contains)
+                .forEach(parentId -> ticketFolderIds.putIfAbsent(parentId, folder.getId())));
+
+        return ticketFolderIds;
+    }
+
+    /**
+     * Ejecuta una consulta de listado recorriendo todas sus páginas.
+     *
+     * @param query        consulta de Drive
+     * @param fields       campos solicitados (debe incluir {@code nextPageToken})
+     * @param errorMessage mensaje de error en caso de fallo
+     * @return archivos encontrados en todas las páginas
+     */
+    private List<File> listAll(String query, String fields, String errorMessage) {
+
+        try {
+            List<File> files = new ArrayList<>();
+            String pageToken = null;
+
+            do {
+                String currentPageToken = pageToken;
+                FileList page = resilientDriveExecutor.execute("files.list", () -> drive.files().list()
+                        .setQ(query)
+                        .setFields(fields)
+                        .setPageSize(googleDriveProperties.pageSize())
+                        .setPageToken(currentPageToken)
+                        .setSupportsAllDrives(true)
+                        .setIncludeItemsFromAllDrives(true)
+                        .execute());
+
+                files.addAll(Optional.ofNullable(page.getFiles()).orElse(List.of()));
+                pageToken = page.getNextPageToken();
+
+            } while (pageToken != null && !pageToken.isBlank());
+
+            return files;
+
+        } catch (CoreTechnicalException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            log.error("[Drive] {}", errorMessage, ex);
+            throw new CoreTechnicalException(errorMessage, ErrorType.DRIVE_ACCESS_ERROR, ex);
+        }
+    }
+
+    /**
+     * Divide una lista en lotes de tamaño {@code batchSize}.
+     */
+    private List<List<String>> partition(List<String> values) {
+
+        int batchSize = googleDriveProperties.batchSize();
+
+        return IntStream.range(0, (values.size() + batchSize - 1) / batchSize)
+                .mapToObj(index -> values.subList(index * batchSize,
+                        Math.min(values.size(), (index + 1) * batchSize)))
+                .toList();
+    }
+
+    /**
+     * Escapa un literal para ser usado dentro de una consulta de Google Drive.
+     */
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("'", "\\'");
+    }
+
+    /**
+     * Convierte un archivo de Drive al modelo de dominio, incluyendo su versión de contenido.
+     */
+    private static TicketFile toTicketFile(File file) {
+        return new TicketFile(
+                file.getId(),
+                file.getName(),
+                file.getMd5Checksum(),
+                Optional.ofNullable(file.getModifiedTime())
+                        .map(time -> Instant.ofEpochMilli(time.getValue()))
+                        .orElse(null)
+        );
+    }
+
+    /**
+     * Lista todos los archivos PDF contenidos en una carpeta de Google Drive,
+     * recorriendo todas las páginas del resultado.
      *
      * @param folderId identificador de la carpeta
      * @return lista de archivos PDF encontrados
@@ -144,37 +413,154 @@ public class TicketGoogleDriveAdapter implements TicketGoogleDrivePort {
     @Override
     public List<TicketFile> listPdfFiles(String folderId) {
 
+        try (Stream<TicketFile> pdfFiles = streamPdfFiles(folderId)) {
+
+            List<TicketFile> files = pdfFiles.toList();
+            log.info("[Drive] PDFs encontrados: {}", files.size());
+
+            return files;
+        }
+
+    }
+
+    /**
+     * Obtiene los archivos PDF de una carpeta como un flujo perezoso paginado.
+     *
+     * <p>
+     * La primera página se solicita al comenzar el consumo del flujo. Cada vez que
+     * se recibe una página con {@code nextPageToken}, la siguiente se solicita en
+     * segundo plano para que esté disponible cuando el consumidor la necesite.
+     * </p>
+     *
+     * @param folderId identificador de la carpeta
+     * @return flujo de archivos PDF encontrados
+     */
+    @Override
+    public Stream<TicketFile> streamPdfFiles(String folderId) {
+
         log.info("📄 [Drive] Listando archivos PDF del folder {}", folderId);
 
-        try {
-            String query = String.format(
-                    "'%s' in parents and mimeType='application/pdf' and trashed=false",
-                    folderId
-            );
+        String query = String.format(
+                "'%s' in parents and mimeType='application/pdf' and trashed=false",
+                folderId
+        );
+
+        PdfFilePageIterator iterator = new PdfFilePageIterator(folderId, query);
 
-            FileList result = drive.files().list()
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(iterator::close);
+    }
+
+    /**
+     * Solicita una página del listado de archivos PDF.
+     *
+     * @param folderId  identificador de la carpeta (solo para trazabilidad)
+     * @param query     consulta de Drive
+     * @param pageToken token de la página a solicitar; {@code null} para la primera
+     * @return página obtenida
+     */
+    private FileList fetchPdfPage(String folderId, String query, String pageToken) {
+
+        try {
+            FileList page = resilientDriveExecutor.execute("files.list", () -> drive.files().list()
                     .setQ(query)
-                    .setFields("files(id, name)")
+                    .setFields(PDF_FIELDS)
+                    .setPageSize(googleDriveProperties.pageSize())
+                    .setPageToken(pageToken)
                     .setSupportsAllDrives(true)
                     .setIncludeItemsFromAllDrives(true)
-                    .execute();
-
-            List<TicketFile> files = Optional.ofNullable(result.getFiles())
-                    .orElse(List.of())
-                    .stream()
-                    .map(file -> new TicketFile(file.getId(), file.getName()))
-                    .toList();
+                    .execute());
 
-            log.info("[Drive] PDFs encontrados: {}", files.size());
+            log.debug("[Drive] Página de PDFs recibida para folder {}: {} archivos",
+                    folderId, Optional.ofNullable(page.getFiles()).map(List::size).orElse(0));
 
-            return files;
+            return page;
 
+        } catch (CoreTechnicalException ex) {
+            throw ex;
         } catch (Exception ex) {
             log.error("[Drive] Error listando PDFs del folder {}", folderId, ex);
             throw new CoreTechnicalException("Error accediendo a Google Drive al listar archivos PDF",
                     ErrorType.DRIVE_ACCESS_ERROR, ex);
         }
+    }
+
+    /**
+     * Iterador perezoso sobre las páginas del listado de PDFs de una carpeta.
+     *
+     * <p>
+     * Mantiene como máximo una página adicional solicitada por adelantado.
+     * </p>
+     */
+    private final class PdfFilePageIterator implements Iterator<TicketFile> {
+
+        private final String folderId;
+        private final String query;
+
+        private Iterator<TicketFile> current = Collections.emptyIterator();
+        private CompletableFuture<FileList> nextPage;
+        private boolean started;
+
+        private PdfFilePageIterator(String folderId, String query) {
+            this.folderId = folderId;
+            this.query = query;
+        }
 
+        @Override
+        public boolean hasNext() {
+
+            while (!current.hasNext()) {
+
+                if (started && nextPage == null) {
+                    return false;
+                }
+
+                FileList page = started ? awaitNextPage() : fetchPdfPage(folderId, query, null);
+                started = true;
+
+                current = Optional.ofNullable(page.getFiles())
+                        .orElse(List.of())
+                        .stream()
+                        .map(TicketGoogleDriveAdapter::toTicketFile)
+                        .iterator();
+
+                String token = page.getNextPageToken();
+                nextPage = token == null || token.isBlank()
+                        ? null
+                        : CompletableFuture.supplyAsync(() -> fetchPdfPage(folderId, query, token), pageExecutor);
+            }
+
+            return true;
+        }
+
+        @Override
+        public TicketFile next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        private FileList awaitNextPage() {
+            try {
+                return nextPage.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof CoreTechnicalException technical) {
+                    throw technical;
+                }
+                throw new CoreTechnicalException("Error accediendo a Google Drive al listar archivos PDF",
+                        ErrorType.DRIVE_ACCESS_ERROR, ex.getCause());
+            }
+        }
+
+        private void close() {
+            if (nextPage != null) {
+                nextPage.cancel(true);
+                nextPage = null;
+            }
+        }
     }
 
     /**
@@ -189,10 +575,12 @@ public class TicketGoogleDriveAdapter implements TicketGoogleDrivePort {
         log.info("[Drive] Descargando archivo con id={}", fileId);
 
         try {
-            return drive.files()
+            return resilientDriveExecutor.execute("files.get.media", () -> drive.files()
                     .get(fileId)
-                    .executeMediaAsInputStream();
+                    .executeMediaAsInputStream());
 
+        } catch (CoreTechnicalException ex) {
+            throw ex;
         } catch (Exception ex) {
             log.error("[Drive] Error descargando archivo {}", fileId, ex);
             throw new CoreTechnicalException("Error accediendo a Google Drive al descargar el archivo",
@@ -201,4 +589,106 @@ public class TicketGoogleDriveAdapter implements TicketGoogleDrivePort {
 
     }
 
+    /**
+     * Obtiene el token de inicio de la API de cambios de Google Drive.
+     *
+     * @return token de inicio de cambios
+     */
+    @Override
+    public String getStartPageToken() {
+
+        try {
+            String token = resilientDriveExecutor.execute("changes.getStartPageToken", () -> drive.changes()
+                    .getStartPageToken()
+                    .setSupportsAllDrives(true)
+                    .execute())
+                    .getStartPageToken();
+
+            log.debug("[Drive] Token de inicio de cambios obtenido: {}", token);
+
+            return token;
+
+        } catch (CoreTechnicalException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            log.error("[Drive] Error obteniendo el token de inicio de cambios", ex);
+            throw new CoreTechnicalException("Error accediendo a Google Drive al obtener el token de cambios",
+                    ErrorType.DRIVE_ACCESS_ERROR, ex);
+        }
+    }
+
+    /**
+     * Obtiene los cambios de Google Drive desde el token indicado, recorriendo todas las páginas.
+     *
+     * @param startPageToken token desde el cual solicitar los cambios
+     * @return cambios y nuevo token de inicio
+     */
+    @Override
+    public DriveChanges listChanges(String startPageToken) {
+
+        log.info("[Drive] Consultando cambios desde el token {}", startPageToken);
+
+        try {
+            List<DriveChange> changes = new ArrayList<>();
+            String pageToken = startPageToken;
+
+            while (true) {
+
+                String currentPageToken = pageToken;
+
+                ChangeList page = resilientDriveExecutor.execute("changes.list", () -> drive.changes()
+                        .list(currentPageToken)
+                        .setFields(CHANGE_FIELDS)
+                        .setPageSize(googleDriveProperties.pageSize())
+                        .setIncludeRemoved(true)
+                        .setSupportsAllDrives(true)
+                        .setIncludeItemsFromAllDrives(true)
+                        .execute());
+
+                Optional.ofNullable(page.getChanges())
+                        .orElse(List.of())
+                        .stream()
+                        .map(TicketGoogleDriveAdapter::toDriveChange)
+                        .forEach(changes::add);
+
+                if (page.getNewStartPageToken() != null) {
+                    log.info("[Drive] {} cambios obtenidos, nuevo token {}",
+                            changes.size(), page.getNewStartPageToken());
+                    return new DriveChanges(changes, page.getNewStartPageToken());
+                }
+
+                pageToken = page.getNextPageToken();
+            }
+
+        } catch (CoreTechnicalException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            log.error("[Drive] Error consultando cambios desde el token {}", startPageToken, ex);
+            throw new CoreTechnicalException("Error accediendo a Google Drive al consultar cambios",
+                    ErrorType.DRIVE_ACCESS_ERROR, ex);
+        }
+    }
+
+    /**
+     * Convierte un cambio de Drive al modelo de dominio; los archivos eliminados,
+     * en papelera o que no son PDF se representan como bajas.
+     */
+    private static DriveChange toDriveChange(Change change) {
+
+        File file = change.getFile();
+
+        if (Boolean.TRUE.equals(change.getRemoved())
+                || file == null
+                || Boolean.TRUE.equals(file.getTrashed())
+                || !PDF_MIME_TYPE.equals(file.getMimeType())) {
+            return DriveChange.removed(change.getFileId());
+        }
+
+        return new DriveChange(
+                change.getFileId(),
+                toTicketFile(file),
+                Set.copyOf(Optional.ofNullable(file.getParents()).orElse(List.of()))
+        );
+    }
+
 }
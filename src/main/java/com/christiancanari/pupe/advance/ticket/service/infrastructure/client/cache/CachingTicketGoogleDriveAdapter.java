@@ -0,0 +1,234 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.cache;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.DriveChanges;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketFile;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketGoogleDrivePort;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config.DriveFolderCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de {@link TicketGoogleDrivePort} que mantiene en caché la resolución
+ * de identificadores de carpetas.
+ *
+ * <p>
+ * Los resultados de {@link #findFolderIdByName(String)}, {@link #findTicketFolderId(String)}
+ * y {@link #resolveFolders(Collection)} se almacenan en cachés acotadas (LRU aproximado
+ * de Caffeine) con expiración por tiempo:
+ * </p>
+ *
+ * <ul>
+ *     <li>Resultados encontrados: expiran según {@code ttl}</li>
+ *     <li>Resultados no encontrados: expiran según {@code negativeTtl}, normalmente menor</li>
+ * </ul>
+ *
+ * <p>
+ * Los errores técnicos no se almacenan. Las métricas de aciertos, fallos y
+ * desalojos se publican en Micrometer bajo {@code cache.*} con el tag
+ * {@code cache=drive.folder-id} o {@code cache=drive.tickets-folder-id}.
+ * El resto de operaciones se delegan sin cambios.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class CachingTicketGoogleDriveAdapter implements TicketGoogleDrivePort {
+
+    static final String FOLDER_CACHE_NAME = "drive.folder-id";
+    static final String TICKETS_FOLDER_CACHE_NAME = "drive.tickets-folder-id";
+
+    private final TicketGoogleDrivePort delegate;
+    private final Cache<String, Optional<String>> folderIds;
+    private final Cache<String, Optional<String>> ticketFolderIds;
+
+    /**
+     * Construye el decorador con caché.
+     *
+     * @param delegate      puerto de Google Drive real
+     * @param properties    configuración de la caché
+     * @param meterRegistry registro de métricas
+     */
+    public CachingTicketGoogleDriveAdapter(
+            TicketGoogleDrivePort delegate,
+            DriveFolderCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this(delegate, properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    CachingTicketGoogleDriveAdapter(
+            TicketGoogleDrivePort delegate,
+            DriveFolderCacheProperties properties,
+            MeterRegistry meterRegistry,
+            Ticker ticker
+    ) {
+        this.delegate = delegate;
+        this.folderIds = CaffeineCacheMetrics.monitor(meterRegistry, buildCache(properties, ticker), FOLDER_CACHE_NAME);
+        this.ticketFolderIds = CaffeineCacheMetrics.monitor(meterRegistry, buildCache(properties, ticker),
+                TICKETS_FOLDER_CACHE_NAME);
+    }
+
+    /**
+     * Busca el identificador de una carpeta por nombre, usando la caché cuando es posible.
+     *
+     * @param folderName nombre de la carpeta
+     * @return identificador de la carpeta si existe
+     */
+    @Override
+    public Optional<String> findFolderIdByName(String folderName) {
+        return folderIds.get(folderName, delegate::findFolderIdByName);
+    }
+
+    /**
+     * Obtiene el identificador de la subcarpeta de tickets, usando la caché cuando es posible.
+     *
+     * @param parentFolderId identificador de la carpeta padre
+     * @return identificador de la subcarpeta de tickets si existe
+     */
+    @Override
+    public Optional<String> findTicketFolderId(String parentFolderId) {
+        return ticketFolderIds.get(parentFolderId, delegate::findTicketFolderId);
+    }
+
+    /**
+     * Resuelve en bloque las carpetas, consultando a Google Drive solo aquellas
+     * que no se encuentran completamente en caché y almacenando su resultado.
+     *
+     * @param folderNames nombres de las carpetas a resolver
+     * @return mapa con una entrada por cada nombre solicitado
+     */
+    @Override
+    public Map<String, ResolvedFolder> resolveFolders(Collection<String> folderNames) {
+
+        Map<String, ResolvedFolder> resolved = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+
+        new LinkedHashSet<>(folderNames).forEach(name ->
+                fromCache(name).ifPresentOrElse(folder -> resolved.put(name, folder), () -> misses.add(name)));
+
+        if (!misses.isEmpty()) {
+
+            log.debug("[DriveCache] Carpetas resueltas desde caché: {}, pendientes: {}",
+                    resolved.size(), misses.size());
+
+            Map<String, ResolvedFolder> fetched = delegate.resolveFolders(misses);
+
+            fetched.values().forEach(folder -> {
+                folderIds.put(folder.folderName(), Optional.ofNullable(folder.folderId()));
+                if (folder.isFound()) {
+                    ticketFolderIds.put(folder.folderId(), Optional.ofNullable(folder.ticketsFolderId()));
+                }
+            });
+
+            misses.forEach(name -> resolved.put(name,
+                    fetched.getOrDefault(name, ResolvedFolder.notFound(name))));
+        }
+
+        Map<String, ResolvedFolder> ordered = new LinkedHashMap<>();
+        new LinkedHashSet<>(folderNames).forEach(name -> ordered.put(name, resolved.get(name)));
+
+        return ordered;
+    }
+
+    /**
+     * Construye la carpeta resuelta solo si toda su información está en caché.
+     */
+    private Optional<ResolvedFolder> fromCache(String folderName) {
+
+        Optional<String> folderId = folderIds.getIfPresent(folderName);
+
+        if (folderId == null) {
+            return Optional.empty();
+        }
+
+        if (folderId.isEmpty()) {
+            return Optional.of(ResolvedFolder.notFound(folderName));
+        }
+
+        return Optional.ofNullable(ticketFolderIds.getIfPresent(folderId.get()))
+                .map(ticketsId -> new ResolvedFolder(folderName, folderId.get(), ticketsId.orElse(null)));
+    }
+
+    @Override
+    public List<TicketFile> listPdfFiles(String folderId) {
+        return delegate.listPdfFiles(folderId);
+    }
+
+    @Override
+    public Stream<TicketFile> streamPdfFiles(String folderId) {
+        return delegate.streamPdfFiles(folderId);
+    }
+
+    @Override
+    public InputStream downloadFile(String fileId) {
+        return delegate.downloadFile(fileId);
+    }
+
+    @Override
+    public String getStartPageToken() {
+        return delegate.getStartPageToken();
+    }
+
+    @Override
+    public DriveChanges listChanges(String startPageToken) {
+        return delegate.listChanges(startPageToken);
+    }
+
+    @Override
+    public InputStream downloadFile(TicketFile ticketFile) {
+        return delegate.downloadFile(ticketFile);
+    }
+
+    /**
+     * Construye una caché acotada con expiración diferenciada para resultados vacíos.
+     */
+    private static Cache<String, Optional<String>> buildCache(DriveFolderCacheProperties properties, Ticker ticker) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(new FolderIdExpiry(properties.ttl(), properties.negativeTtl()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Política de expiración que distingue resultados encontrados y no encontrados.
+     */
+    private record FolderIdExpiry(Duration ttl, Duration negativeTtl) implements Expiry<String, Optional<String>> {
+
+        @Override
+        public long expireAfterCreate(String key, Optional<String> value, long currentTime) {
+            return (value.isPresent() ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<String> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<String> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -0,0 +1,438 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.cache;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.DriveChanges;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketFile;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketGoogleDrivePort;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config.DrivePdfCacheProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de {@link TicketGoogleDrivePort} que mantiene en disco una caché
+ * direccionada por contenido de los PDFs descargados.
+ *
+ * <p>
+ * Cada PDF se almacena bajo una clave derivada de su identificador y de su versión
+ * ({@code md5Checksum} o, en su defecto, {@code modifiedTime}), por lo que un archivo
+ * modificado en Drive genera una nueva entrada y nunca se sirve contenido obsoleto.
+ * Las ejecuciones repetidas sobre carpetas sin cambios no realizan descargas.
+ * </p>
+ *
+ * <ul>
+ *     <li>Escrituras atómicas: el contenido se descarga a un archivo temporal y se mueve
+ *     a su ubicación final solo si la suma MD5 coincide con la informada por Drive</li>
+ *     <li>Desalojo LRU acotado por tamaño total ({@code maxSize}); el orden de uso
+ *     sobrevive reinicios mediante la fecha de modificación de cada archivo</li>
+ *     <li>Los aciertos se sirven como flujos respaldados por archivo, sin cargar el PDF en memoria</li>
+ * </ul>
+ *
+ * <p>
+ * Los archivos sin versión informada se descargan siempre. Las métricas se publican
+ * bajo {@code drive.pdf-cache.*}. El resto de operaciones se delegan sin cambios.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class DiskCachingTicketGoogleDriveAdapter implements TicketGoogleDrivePort {
+
+    static final String FILE_SUFFIX = ".pdf";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int KEY_LOCK_STRIPES = 64;
+
+    private final TicketGoogleDrivePort delegate;
+    private final Path directory;
+    private final long maxSizeBytes;
+
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final ReentrantLock[] keyLocks = Stream.generate(ReentrantLock::new)
+            .limit(KEY_LOCK_STRIPES)
+            .toArray(ReentrantLock[]::new);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /**
+     * Construye el decorador con caché en disco, cargando las entradas existentes.
+     *
+     * @param delegate      puerto de Google Drive real
+     * @param properties    configuración de la caché
+     * @param meterRegistry registro de métricas
+     */
+    public DiskCachingTicketGoogleDriveAdapter(
+            TicketGoogleDrivePort delegate,
+            DrivePdfCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.directory = properties.directory();
+        this.maxSizeBytes = properties.maxSize().toBytes();
+
+        this.hits = meterRegistry.counter("drive.pdf-cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("drive.pdf-cache.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("drive.pdf-cache.evictions");
+
+        Gauge.builder("drive.pdf-cache.size", this, DiskCachingTicketGoogleDriveAdapter::sizeBytes)
+                .description("Tamaño en bytes de la caché en disco de PDFs")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        Gauge.builder("drive.pdf-cache.entries", this, DiskCachingTicketGoogleDriveAdapter::entryCount)
+                .description("Cantidad de PDFs almacenados en la caché en disco")
+                .register(meterRegistry);
+
+        loadIndex();
+    }
+
+    @Override
+    public Optional<String> findFolderIdByName(String folderName) {
+        return delegate.findFolderIdByName(folderName);
+    }
+
+    @Override
+    public Optional<String> findTicketFolderId(String parentFolderId) {
+        return delegate.findTicketFolderId(parentFolderId);
+    }
+
+    @Override
+    public Map<String, ResolvedFolder> resolveFolders(Collection<String> folderNames) {
+        return delegate.resolveFolders(folderNames);
+    }
+
+    @Override
+    public List<TicketFile> listPdfFiles(String folderId) {
+        return delegate.listPdfFiles(folderId);
+    }
+
+    @Override
+    public Stream<TicketFile> streamPdfFiles(String folderId) {
+        return delegate.streamPdfFiles(folderId);
+    }
+
+    @Override
+    public InputStream downloadFile(String fileId) {
+        return delegate.downloadFile(fileId);
+    }
+
+    @Override
+    public String getStartPageToken() {
+        return delegate.getStartPageToken();
+    }
+
+    @Override
+    public DriveChanges listChanges(String startPageToken) {
+        return delegate.listChanges(startPageToken);
+    }
+
+    /**
+     * Sirve el PDF desde la caché en disco si su versión ya fue descargada;
+     * en caso contrario lo descarga, lo almacena y lo sirve desde el archivo cacheado.
+     *
+     * @param ticketFile archivo a descargar
+     * @return flujo de entrada respaldado por archivo
+     */
+    @Override
+    public InputStream downloadFile(TicketFile ticketFile) {
+
+        Optional<String> version = ticketFile.contentVersion();
+
+        if (version.isEmpty()) {
+            log.debug("[PdfCache] {} sin versión informada, se descarga sin caché", ticketFile.id());
+            misses.increment();
+            return delegate.downloadFile(ticketFile);
+        }
+
+        String key = key(ticketFile.id(), version.get());
+        Path cached = directory.resolve(key + FILE_SUFFIX);
+
+        InputStream hit = openCached(key, cached);
+        if (hit != null) {
+            log.debug("[PdfCache] Acierto para {} ({})", ticketFile.id(), version.get());
+            hits.increment();
+            return hit;
+        }
+
+        misses.increment();
+        return store(key, cached, ticketFile);
+    }
+
+    /**
+     * Abre una entrada cacheada, marcándola como usada recientemente.
+     *
+     * @return flujo de la entrada o {@code null} si no existe
+     */
+    private InputStream openCached(String key, Path cached) {
+
+        synchronized (this) {
+            if (entries.get(key) == null) {
+                return null;
+            }
+        }
+
+        try {
+            InputStream stream = Files.newInputStream(cached);
+            touch(cached);
+            return stream;
+
+        } catch (NoSuchFileException ex) {
+            forget(key);
+            return null;
+        } catch (IOException ex) {
+            log.warn("[PdfCache] No se pudo leer la entrada {}, se descargará nuevamente", cached, ex);
+            forget(key);
+            return null;
+        }
+    }
+
+    /**
+     * Descarga el archivo a un temporal, valida su MD5 y lo publica atómicamente en la caché.
+     */
+    private InputStream store(String key, Path cached, TicketFile ticketFile) {
+
+        Path temp = null;
+
+        try {
+            temp = Files.createTempFile(directory, key, TEMP_SUFFIX);
+            MessageDigest md5 = MessageDigest.getInstance("MD5");
+
+            try (InputStream source = delegate.downloadFile(ticketFile);
+                 OutputStream target = new DigestOutputStream(Files.newOutputStream(temp), md5)) {
+                source.transferTo(target);
+            }
+
+            String actualMd5 = HexFormat.of().formatHex(md5.digest());
+
+            if (ticketFile.md5Checksum() != null && !ticketFile.md5Checksum().equalsIgnoreCase(actualMd5)) {
+                log.warn("[PdfCache] MD5 de {} no coincide (esperado={}, obtenido={}), no se almacena en caché",
+                        ticketFile.id(), ticketFile.md5Checksum(), actualMd5);
+                return Files.newInputStream(temp, StandardOpenOption.DELETE_ON_CLOSE);
+            }
+
+            long size = Files.size(temp);
+            InputStream stream;
+            List<Map.Entry<String, Long>> evicted;
+
+            ReentrantLock keyLock = keyLock(key);
+            keyLock.lock();
+            try {
+                move(temp, cached);
+                stream = Files.newInputStream(cached);
+                evicted = register(key, size);
+            } finally {
+                keyLock.unlock();
+            }
+
+            evict(evicted);
+            log.debug("[PdfCache] Almacenado {} ({} bytes)", ticketFile.id(), size);
+
+            return stream;
+
+        } catch (RuntimeException ex) {
+            deleteQuietly(temp);
+            throw ex;
+        } catch (IOException | NoSuchAlgorithmException ex) {
+            deleteQuietly(temp);
+            log.error("[PdfCache] Error almacenando {} en la caché en disco", ticketFile.id(), ex);
+            throw new CoreTechnicalException("Error descargando el archivo hacia la caché local",
+                    ErrorType.DRIVE_ACCESS_ERROR, ex);
+        }
+    }
+
+    /**
+     * Registra una entrada y retira del índice las menos usadas hasta respetar el tamaño máximo.
+     *
+     * @return entradas retiradas, cuyos archivos se eliminan con {@link #evict(List)}
+     */
+    private synchronized List<Map.Entry<String, Long>> register(String key, long size) {
+
+        Long previous = entries.put(key, size);
+        totalBytes += size - (previous == null ? 0 : previous);
+
+        List<Map.Entry<String, Long>> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+
+        while (totalBytes > maxSizeBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            eldest.remove();
+            totalBytes -= entry.getValue();
+            evicted.add(Map.entry(entry.getKey(), entry.getValue()));
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Elimina los archivos de las entradas retiradas del índice.
+     *
+     * <p>
+     * La eliminación ocurre fuera del monitor del índice, de modo que los aciertos concurrentes
+     * no esperan tras la E/S de disco ni se fija el hilo portador de los hilos virtuales. Cada
+     * archivo se elimina bajo el bloqueo de su clave y solo si la entrada no volvió a registrarse,
+     * ya que un {@code store} concurrente de la misma clave publica y registra su archivo bajo
+     * ese mismo bloqueo.
+     * </p>
+     */
+    private void evict(List<Map.Entry<String, Long>> evicted) {
+
+        for (Map.Entry<String, Long> entry : evicted) {
+
+            ReentrantLock keyLock = keyLock(entry.getKey());
+            keyLock.lock();
+            try {
+                synchronized (this) {
+                    if (entries.containsKey(entry.getKey())) {
+                        continue;
+                    }
+                }
+                deleteQuietly(directory.resolve(entry.getKey() + FILE_SUFFIX));
+            } finally {
+                keyLock.unlock();
+            }
+
+            evictions.increment();
+            log.debug("[PdfCache] Desalojada entrada {} ({} bytes)", entry.getKey(), entry.getValue());
+        }
+    }
+
+    private ReentrantLock keyLock(String key) {
+        return keyLocks[Math.floorMod(key.hashCode(), keyLocks.length)];
+    }
+
+    private synchronized void forget(String key) {
+        Long size = entries.remove(key);
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    synchronized long sizeBytes() {
+        return totalBytes;
+    }
+
+    synchronized int entryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Carga las entradas existentes ordenadas por último uso y elimina temporales huérfanos.
+     */
+    private void loadIndex() {
+
+        try {
+            Files.createDirectories(directory);
+
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(Files::isRegularFile)
+                        .sorted(Comparator.comparing(DiskCachingTicketGoogleDriveAdapter::lastModified))
+                        .forEach(this::index);
+            }
+
+        } catch (IOException ex) {
+            throw new CoreTechnicalException("No se pudo inicializar la caché en disco de PDFs en " + directory,
+                    ErrorType.UNEXPECTED_ERROR, ex);
+        }
+
+        log.info("[PdfCache] Caché en disco en {} con {} entradas ({} bytes, máximo {})",
+                directory, entries.size(), totalBytes, maxSizeBytes);
+    }
+
+    private void index(Path file) {
+
+        String name = file.getFileName().toString();
+
+        if (name.endsWith(TEMP_SUFFIX)) {
+            deleteQuietly(file);
+        } else if (name.endsWith(FILE_SUFFIX)) {
+            try {
+                evict(register(name.substring(0, name.length() - FILE_SUFFIX.length()), Files.size(file)));
+            } catch (IOException ex) {
+                log.warn("[PdfCache] Se ignora la entrada ilegible {}", file, ex);
+            }
+        }
+    }
+
+    /**
+     * Calcula la clave de caché a partir del identificador y la versión del archivo.
+     */
+    static String key(String fileId, String version) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((fileId + "|" + version).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ex) {
+            log.debug("[PdfCache] No se pudo actualizar la fecha de uso de {}", file, ex);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException ex) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("[PdfCache] No se pudo eliminar {}", file, ex);
+        }
+    }
+
+}
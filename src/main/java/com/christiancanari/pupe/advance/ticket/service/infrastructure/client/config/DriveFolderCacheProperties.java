@@ -0,0 +1,42 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración de la caché de resolución de carpetas de Google Drive.
+ *
+ * @param enabled     indica si la caché está habilitada
+ * @param maximumSize cantidad máxima de entradas por tipo de búsqueda
+ * @param ttl         tiempo de vida de los resultados encontrados
+ * @param negativeTtl tiempo de vida de los resultados no encontrados
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Validated
+@ConfigurationProperties(prefix = "google.drive.folder-cache")
+public record DriveFolderCacheProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Min(1)
+        @DefaultValue("5000")
+        long maximumSize,
+
+        @NotNull
+        @DefaultValue("6h")
+        Duration ttl,
+
+        @NotNull
+        @DefaultValue("5m")
+        Duration negativeTtl
+) {
+}
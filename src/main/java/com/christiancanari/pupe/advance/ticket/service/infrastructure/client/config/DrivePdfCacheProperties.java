@@ -0,0 +1,41 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.nio.file.Path;
+
+/**
+ * Propiedades de configuración de la caché en disco de PDFs descargados desde Google Drive.
+ *
+ * @param enabled   indica si la caché está habilitada
+ * @param directory directorio donde se almacenan los PDFs; por defecto bajo {@code java.io.tmpdir}
+ * @param maxSize   tamaño máximo total de la caché antes de desalojar los PDFs menos usados
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Validated
+@ConfigurationProperties(prefix = "google.drive.pdf-cache")
+public record DrivePdfCacheProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        Path directory,
+
+        @NotNull
+        @DefaultValue("2GB")
+        DataSize maxSize
+) {
+
+    public DrivePdfCacheProperties {
+        if (directory == null) {
+            directory = Path.of(System.getProperty("java.io.tmpdir"), "pupe-advance-ticket", "pdf-cache");
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de resiliencia de las llamadas a Google Drive.
+ *
+ * @param retry          configuración de reintentos
+ * @param circuitBreaker configuración del circuit breaker
+ * @param limiter        configuración del limitador adaptativo de concurrencia
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Validated
+@ConfigurationProperties(prefix = "google.drive.resilience")
+public record DriveResilienceProperties(
+
+        @Valid
+        @DefaultValue
+        Retry retry,
+
+        @Valid
+        @DefaultValue
+        CircuitBreaker circuitBreaker,
+
+        @Valid
+        @DefaultValue
+        Limiter limiter
+) {
+
+    /**
+     * Configuración de reintentos con backoff exponencial y jitter.
+     *
+     * @param maxAttempts    cantidad máxima de intentos por llamada (incluye el primero)
+     * @param initialBackoff espera antes del primer reintento
+     * @param maxBackoff     espera máxima entre reintentos
+     * @param multiplier     factor de crecimiento de la espera
+     * @param jitter         fracción aleatoria aplicada a la espera (0 a 1)
+     * @param maxRetryAfter  espera máxima aceptada desde la cabecera {@code Retry-After}
+     */
+    public record Retry(
+
+            @Min(1)
+            @DefaultValue("5")
+            int maxAttempts,
+
+            @NotNull
+            @DefaultValue("500ms")
+            Duration initialBackoff,
+
+            @NotNull
+            @DefaultValue("30s")
+            Duration maxBackoff,
+
+            @DecimalMin("1.0")
+            @DefaultValue("2.0")
+            double multiplier,
+
+            @DecimalMin("0.0")
+            @DecimalMax("1.0")
+            @DefaultValue("0.5")
+            double jitter,
+
+            @NotNull
+            @DefaultValue("60s")
+            Duration maxRetryAfter
+    ) {}
+
+    /**
+     * Configuración del circuit breaker.
+     *
+     * @param enabled          indica si el circuit breaker está habilitado
+     * @param failureThreshold fallas transitorias consecutivas que abren el circuito
+     * @param openDuration     tiempo que el circuito permanece abierto antes de probar nuevamente
+     */
+    public record CircuitBreaker(
+
+            @DefaultValue("true")
+            boolean enabled,
+
+            @Min(1)
+            @DefaultValue("10")
+            int failureThreshold,
+
+            @NotNull
+            @DefaultValue("30s")
+            Duration openDuration
+    ) {}
+
+    /**
+     * Configuración del limitador adaptativo (AIMD) de llamadas concurrentes a Drive.
+     *
+     * @param enabled          indica si el limitador está habilitado
+     * @param initialLimit     límite inicial de llamadas en vuelo
+     * @param minLimit         límite mínimo de llamadas en vuelo
+     * @param maxLimit         límite máximo de llamadas en vuelo
+     * @param backoffRatio     factor multiplicativo aplicado al límite ante un 429 o pico de latencia
+     * @param latencyTolerance múltiplo de la latencia base a partir del cual se considera un pico
+     * @param maxWait          espera máxima por un cupo antes de fallar
+     */
+    public record Limiter(
+
+            @DefaultValue("true")
+            boolean enabled,
+
+            @Min(1)
+            @DefaultValue("8")
+            int initialLimit,
+
+            @Min(1)
+            @DefaultValue("1")
+            int minLimit,
+
+            @Min(1)
+            @DefaultValue("64")
+            int maxLimit,
+
+            @DecimalMin("0.1")
+            @DecimalMax("0.95")
+            @DefaultValue("0.7")
+            double backoffRatio,
+
+            @DecimalMin("1.1")
+            @DefaultValue("2.0")
+            double latencyTolerance,
+
+            @NotNull
+            @DefaultValue("60s")
+            Duration maxWait
+    ) {}
+}
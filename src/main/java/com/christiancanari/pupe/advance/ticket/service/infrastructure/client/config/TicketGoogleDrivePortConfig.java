@@ -0,0 +1,65 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketGoogleDrivePort;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.adapter.TicketGoogleDriveAdapter;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.cache.CachingTicketGoogleDriveAdapter;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.cache.DiskCachingTicketGoogleDriveAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuración del puerto {@link TicketGoogleDrivePort} expuesto a la capa de aplicación.
+ *
+ * <p>
+ * Compone los decoradores habilitados por configuración sobre el
+ * {@link TicketGoogleDriveAdapter} y publica el resultado como bean primario.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+public class TicketGoogleDrivePortConfig {
+
+    /**
+     * Crea el puerto de Google Drive utilizado por la aplicación.
+     *
+     * @param adapter               adapter real de Google Drive
+     * @param folderCacheProperties configuración de la caché de carpetas
+     * @param pdfCacheProperties    configuración de la caché en disco de PDFs
+     * @param meterRegistry         registro de métricas
+     * @return puerto de Google Drive decorado
+     */
+    @Bean
+    @Primary
+    public TicketGoogleDrivePort ticketGoogleDrivePort(
+            TicketGoogleDriveAdapter adapter,
+            DriveFolderCacheProperties folderCacheProperties,
+            DrivePdfCacheProperties pdfCacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+
+        TicketGoogleDrivePort port = adapter;
+
+        if (pdfCacheProperties.enabled()) {
+            log.info("[DrivePortConfig] Caché en disco de PDFs habilitada (directory={}, maxSize={})",
+                    pdfCacheProperties.directory(), pdfCacheProperties.maxSize());
+            port = new DiskCachingTicketGoogleDriveAdapter(port, pdfCacheProperties, meterRegistry);
+        }
+
+        if (folderCacheProperties.enabled()) {
+            log.info("[DrivePortConfig] Caché de carpetas habilitada (ttl={}, negativeTtl={}, maximumSize={})",
+                    folderCacheProperties.ttl(), folderCacheProperties.negativeTtl(),
+                    folderCacheProperties.maximumSize());
+            port = new CachingTicketGoogleDriveAdapter(port, folderCacheProperties, meterRegistry);
+        }
+
+        return port;
+    }
+
+}
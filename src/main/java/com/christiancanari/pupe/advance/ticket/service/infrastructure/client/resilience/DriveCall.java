@@ -0,0 +1,25 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.resilience;
+
+import java.io.IOException;
+
+/**
+ * Llamada a la API de Google Drive que puede ser reintentada.
+ *
+ * @param <T> tipo del resultado de la llamada
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface DriveCall<T> {
+
+    /**
+     * Ejecuta la llamada.
+     *
+     * @return resultado de la llamada
+     * @throws IOException si ocurre un error de comunicación con Google Drive
+     */
+    T execute() throws IOException;
+
+}
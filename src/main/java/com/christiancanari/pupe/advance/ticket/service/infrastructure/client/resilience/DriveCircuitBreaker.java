@@ -0,0 +1,160 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.resilience;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config.DriveResilienceProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker para las llamadas a Google Drive.
+ *
+ * <p>
+ * Estados:
+ * <ul>
+ *     <li>{@link State#CLOSED}: las llamadas fluyen normalmente</li>
+ *     <li>{@link State#OPEN}: tras {@code failureThreshold} fallas transitorias consecutivas,
+ *     las llamadas se rechazan inmediatamente durante {@code openDuration}</li>
+ *     <li>{@link State#HALF_OPEN}: vencido el plazo, se permite una única llamada de prueba;
+ *     si tiene éxito el circuito se cierra, si falla vuelve a abrirse</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Solo cuentan como fallas las atribuibles a degradación de Drive (5xx y errores de red);
+ * las señales de sobrecarga (429, límite de cuota) corresponden al limitador de concurrencia.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class DriveCircuitBreaker {
+
+    /**
+     * Estados del circuit breaker.
+     */
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final DriveResilienceProperties.CircuitBreaker properties;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInProgress;
+    private long openings;
+
+    /**
+     * Crea el circuit breaker.
+     *
+     * @param properties configuración del circuit breaker
+     * @param nanoClock  fuente de tiempo en nanosegundos
+     */
+    public DriveCircuitBreaker(DriveResilienceProperties.CircuitBreaker properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Indica si se permite ejecutar una llamada.
+     *
+     * @return {@code true} si la llamada puede ejecutarse
+     */
+    public synchronized boolean tryAcquire() {
+
+        if (!properties.enabled()) {
+            return true;
+        }
+
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= properties.openDuration().toNanos()) {
+            state = State.HALF_OPEN;
+            trialInProgress = false;
+            log.info("[DriveCircuit] Circuito en HALF_OPEN, se permitirá una llamada de prueba");
+        }
+
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInProgress) {
+                    yield false;
+                }
+                trialInProgress = true;
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * Registra una respuesta de Drive que no indica degradación (exitosa o con un error permanente).
+     */
+    public synchronized void onSuccess() {
+
+        if (state != State.CLOSED) {
+            log.info("[DriveCircuit] Circuito CERRADO tras llamada exitosa");
+        }
+
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInProgress = false;
+    }
+
+    /**
+     * Registra una llamada cuyo resultado no indica si Drive está degradado, como una señal de
+     * sobrecarga o un error previo a obtener respuesta. Libera la llamada de prueba sin cambiar el estado.
+     */
+    public synchronized void onIgnored() {
+        trialInProgress = false;
+    }
+
+    /**
+     * Registra una falla transitoria atribuible a degradación de Drive (error 5xx o de red).
+     */
+    public synchronized void onFailure() {
+
+        consecutiveFailures++;
+
+        if (state == State.HALF_OPEN || consecutiveFailures >= properties.failureThreshold()) {
+            if (state != State.OPEN) {
+                log.warn("[DriveCircuit] Circuito ABIERTO tras {} fallas consecutivas", consecutiveFailures);
+                openings++;
+            }
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+            trialInProgress = false;
+        }
+    }
+
+    /**
+     * Retorna el tiempo que resta para que el circuito abierto admita la llamada de prueba.
+     *
+     * @return nanosegundos restantes; {@code 0} si el circuito no está abierto o el plazo ya venció
+     */
+    public synchronized long remainingOpenNanos() {
+        return state == State.OPEN
+                ? Math.max(0, properties.openDuration().toNanos() - (nanoClock.getAsLong() - openedAt))
+                : 0;
+    }
+
+    /**
+     * Retorna la cantidad de veces que el circuito se abrió, para detectar una llamada de prueba fallida.
+     *
+     * @return cantidad de aperturas
+     */
+    public synchronized long openings() {
+        return openings;
+    }
+
+    /**
+     * Retorna el estado actual del circuito.
+     *
+     * @return estado actual
+     */
+    public synchronized State state() {
+        return state;
+    }
+
+}
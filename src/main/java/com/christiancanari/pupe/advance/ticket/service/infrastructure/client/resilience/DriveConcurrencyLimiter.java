@@ -0,0 +1,233 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.resilience;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config.DriveResilienceProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Limitador adaptativo de llamadas concurrentes a Google Drive (AIMD).
+ *
+ * <p>
+ * El límite de llamadas en vuelo se ajusta según la respuesta de Drive:
+ * <ul>
+ *     <li>Incremento aditivo (aprox. +1 por ventana) mientras la latencia se mantiene
+ *     cercana a la latencia base y el límite está siendo aprovechado</li>
+ *     <li>Decremento multiplicativo ({@code backoffRatio}) ante un 429 / límite de cuota
+ *     o cuando la latencia supera {@code latencyTolerance} veces la latencia base</li>
+ * </ul>
+ * Los decrementos se aplican como máximo una vez por latencia base, para que una
+ * ráfaga de respuestas lentas no colapse el límite de golpe.
+ * </p>
+ *
+ * <p>
+ * La latencia base se mantiene por operación, ya que un listado de mil archivos y el
+ * inicio de una descarga tienen latencias normales muy distintas. Toda muestra, incluso
+ * un pico, alimenta la latencia base de su operación: un aumento sostenido de la latencia
+ * pasa a ser la nueva base y el límite vuelve a crecer en lugar de quedar en {@code minLimit}.
+ * </p>
+ *
+ * <p>
+ * Las llamadas que exceden el límite esperan en cola hasta {@code maxWait}.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class DriveConcurrencyLimiter {
+
+    private static final double BASELINE_SMOOTHING = 0.1;
+
+    /**
+     * Resultado de una llamada, utilizado para ajustar el límite.
+     */
+    public enum Outcome {
+        /** Llamada exitosa: su latencia alimenta el ajuste del límite. */
+        SUCCESS,
+        /** Drive indicó sobrecarga (429 o límite de cuota): se reduce el límite. */
+        DROPPED,
+        /** Error no relacionado con la carga: no modifica el límite. */
+        IGNORED
+    }
+
+    private final DriveResilienceProperties.Limiter properties;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+
+    private final Map<String, Double> baselineNanos = new HashMap<>();
+
+    private double limit;
+    private long lastDecreaseAt;
+    private int inFlight;
+    private int queued;
+
+    /**
+     * Crea el limitador.
+     *
+     * @param properties configuración del limitador
+     * @param nanoClock  fuente de tiempo en nanosegundos
+     */
+    public DriveConcurrencyLimiter(DriveResilienceProperties.Limiter properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.limit = Math.clamp(properties.initialLimit(), properties.minLimit(), properties.maxLimit());
+        this.lastDecreaseAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Obtiene un cupo para ejecutar una llamada, esperando si el límite está alcanzado.
+     *
+     * @return instante de inicio de la llamada, a informar en {@link #release(String, long, Outcome)}
+     * @throws CoreTechnicalException si no se obtiene cupo dentro de {@code maxWait} o el hilo es interrumpido
+     */
+    public long acquire() {
+
+        if (!properties.enabled()) {
+            return nanoClock.getAsLong();
+        }
+
+        lock.lock();
+        try {
+            long remaining = properties.maxWait().toNanos();
+            queued++;
+
+            try {
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        throw new CoreTechnicalException(
+                                "No se obtuvo cupo para llamar a Google Drive dentro del tiempo máximo de espera",
+                                ErrorType.DRIVE_ACCESS_ERROR
+                        );
+                    }
+                    remaining = available.awaitNanos(remaining);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new CoreTechnicalException("La espera de cupo hacia Google Drive fue interrumpida",
+                        ErrorType.DRIVE_ACCESS_ERROR, ex);
+            } finally {
+                queued--;
+            }
+
+            inFlight++;
+            return nanoClock.getAsLong();
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Libera el cupo de una llamada y ajusta el límite según su resultado.
+     *
+     * @param operation operación ejecutada, cuya latencia base se utiliza y actualiza
+     * @param startedAt instante retornado por {@link #acquire()}
+     * @param outcome   resultado de la llamada
+     */
+    public void release(String operation, long startedAt, Outcome outcome) {
+
+        if (!properties.enabled()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            int inFlightBefore = inFlight--;
+
+            switch (outcome) {
+                case SUCCESS -> onSample(operation, now, now - startedAt, inFlightBefore);
+                case DROPPED -> decrease(now, baselineNanos.getOrDefault(operation, 0.0), "límite de cuota");
+                case IGNORED -> { }
+            }
+
+            available.signalAll();
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retorna el límite actual de llamadas en vuelo.
+     *
+     * @return límite actual
+     */
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retorna la cantidad de llamadas en vuelo.
+     *
+     * @return llamadas en vuelo
+     */
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retorna la cantidad de llamadas esperando cupo.
+     *
+     * @return llamadas en cola
+     */
+    public int queued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSample(String operation, long now, long latencyNanos, int inFlightBefore) {
+
+        double baseline = baselineNanos.getOrDefault(operation, (double) latencyNanos);
+        baselineNanos.put(operation, baseline + BASELINE_SMOOTHING * (latencyNanos - baseline));
+
+        if (latencyNanos > baseline * properties.latencyTolerance()) {
+            decrease(now, baseline, "pico de latencia de " + operation);
+            return;
+        }
+
+        if (inFlightBefore * 2 >= limit) {
+            limit = Math.min(properties.maxLimit(), limit + 1 / limit);
+        }
+    }
+
+    private void decrease(long now, double windowNanos, String reason) {
+
+        if (now - lastDecreaseAt < windowNanos) {
+            return;
+        }
+
+        double previous = limit;
+        limit = Math.max(properties.minLimit(), limit * properties.backoffRatio());
+        lastDecreaseAt = now;
+
+        if ((int) previous != (int) limit) {
+            log.info("[DriveLimiter] Límite reducido de {} a {} por {}", (int) previous, (int) limit, reason);
+        }
+    }
+
+}
@@ -0,0 +1,343 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.resilience;
+
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.TicketProcessingContext;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config.DriveResilienceProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ejecutor resiliente de llamadas a la API de Google Drive.
+ *
+ * <p>
+ * Aplica a cada llamada:
+ * <ul>
+ *     <li>Reintentos con backoff exponencial y jitter ante errores transitorios:
+ *     HTTP 429, 5xx, 403 por límite de cuota y errores de red</li>
+ *     <li>Respeto de la cabecera {@code Retry-After} cuando Drive la informa</li>
+ *     <li>Un {@link DriveConcurrencyLimiter} compartido por todas las solicitudes que adapta
+ *     la cantidad de llamadas concurrentes a la latencia y a los 429 de Drive</li>
+ *     <li>Un {@link DriveCircuitBreaker} que rechaza inmediatamente las llamadas nuevas
+ *     mientras Drive se encuentra degradado. Una llamada que ya está reintentando espera,
+ *     dentro del plazo del procesamiento, a que el circuito admita la llamada de prueba,
+ *     y solo falla si esa prueba vuelve a abrirlo. Los 429 y límites de cuota se informan
+ *     al limitador y no cuentan como fallas del circuito</li>
+ *     <li>El plazo del procesamiento en curso ({@link TicketProcessingContext}): no se inician
+ *     intentos una vez terminado y las esperas de reintento se acortan hasta su vencimiento</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Métricas publicadas:
+ * <ul>
+ *     <li>{@code drive.client.retries}: reintentos por operación y causa</li>
+ *     <li>{@code drive.client.circuit.rejections}: llamadas rechazadas con el circuito abierto</li>
+ *     <li>{@code drive.client.circuit.state}: 0 cerrado, 1 semiabierto, 2 abierto</li>
+ *     <li>{@code drive.client.limiter.limit}, {@code drive.client.limiter.in-flight} y
+ *     {@code drive.client.limiter.queued}: estado del limitador adaptativo</li>
+ * </ul>
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ResilientDriveExecutor {
+
+    private static final Set<Integer> RETRYABLE_STATUS = Set.of(429, 500, 502, 503, 504);
+    private static final Set<String> RATE_LIMIT_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded");
+
+    /** Espera mínima entre consultas al circuito mientras otra llamada realiza la prueba. */
+    private static final Duration CIRCUIT_POLL = Duration.ofMillis(100);
+
+    private final DriveResilienceProperties.Retry retryProperties;
+    private final DriveCircuitBreaker circuitBreaker;
+    private final DriveConcurrencyLimiter limiter;
+    private final MeterRegistry meterRegistry;
+    private final Counter circuitRejections;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param properties    configuración de resiliencia
+     * @param meterRegistry registro de métricas
+     */
+    public ResilientDriveExecutor(DriveResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.retryProperties = properties.retry();
+        this.circuitBreaker = new DriveCircuitBreaker(properties.circuitBreaker(), System::nanoTime);
+        this.limiter = new DriveConcurrencyLimiter(properties.limiter(), System::nanoTime);
+        this.meterRegistry = meterRegistry;
+        this.circuitRejections = meterRegistry.counter("drive.client.circuit.rejections");
+
+        Gauge.builder("drive.client.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("Estado del circuit breaker de Google Drive (0 cerrado, 1 semiabierto, 2 abierto)")
+                .register(meterRegistry);
+
+        Gauge.builder("drive.client.limiter.limit", limiter, DriveConcurrencyLimiter::limit)
+                .description("Límite adaptativo actual de llamadas concurrentes a Google Drive")
+                .register(meterRegistry);
+
+        Gauge.builder("drive.client.limiter.in-flight", limiter, DriveConcurrencyLimiter::inFlight)
+                .description("Llamadas a Google Drive en vuelo")
+                .register(meterRegistry);
+
+        Gauge.builder("drive.client.limiter.queued", limiter, DriveConcurrencyLimiter::queued)
+                .description("Llamadas a Google Drive esperando cupo en el limitador")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ejecuta una llamada a Google Drive aplicando reintentos y circuit breaker.
+     *
+     * @param operation nombre de la operación (para trazas y métricas)
+     * @param call      llamada a ejecutar
+     * @param <T>       tipo del resultado
+     * @return resultado de la llamada
+     * @throws IOException            si la llamada falla de forma definitiva
+     * @throws CoreTechnicalException si el circuito está abierto para una llamada nueva, el plazo del
+     *                                procesamiento terminó o el hilo es interrumpido
+     */
+    public <T> T execute(String operation, DriveCall<T> call) throws IOException {
+
+        int attempt = 1;
+        Exception lastFailure = null;
+        long circuitOpenings = -1;
+
+        while (true) {
+
+            TicketProcessingContext.checkDeadline();
+
+            if (!circuitBreaker.tryAcquire()) {
+
+                circuitRejections.increment();
+
+                if (lastFailure == null) {
+                    throw new CoreTechnicalException(
+                            "Google Drive no está disponible temporalmente, intente nuevamente más tarde",
+                            ErrorType.DRIVE_ACCESS_ERROR
+                    );
+                }
+
+                if (circuitOpenings < 0) {
+                    circuitOpenings = circuitBreaker.openings();
+                } else if (circuitBreaker.openings() != circuitOpenings) {
+                    log.warn("[DriveRetry] {} abandona la espera: la llamada de prueba del circuito falló", operation);
+                    if (lastFailure instanceof IOException io) {
+                        throw io;
+                    }
+                    throw (RuntimeException) lastFailure;
+                }
+
+                Duration remaining = Duration.ofNanos(circuitBreaker.remainingOpenNanos());
+                sleep(remaining.compareTo(CIRCUIT_POLL) > 0 ? remaining : CIRCUIT_POLL);
+                continue;
+            }
+
+            circuitOpenings = -1;
+
+            try {
+                T result = attempt(operation, call);
+                circuitBreaker.onSuccess();
+                return result;
+
+            } catch (IOException | RuntimeException ex) {
+
+                record(ex);
+
+                if (!isTransient(ex)) {
+                    throw ex;
+                }
+
+                lastFailure = ex;
+
+                if (attempt >= retryProperties.maxAttempts()) {
+                    log.warn("[DriveRetry] {} agotó {} intentos", operation, attempt);
+                    throw ex;
+                }
+
+                Duration delay = retryAfter(ex).orElse(backoff(attempt));
+
+                meterRegistry.counter("drive.client.retries", "operation", operation, "cause", cause(ex))
+                        .increment();
+
+                log.warn("[DriveRetry] {} falló ({}), reintento {}/{} en {} ms",
+                        operation, cause(ex), attempt, retryProperties.maxAttempts() - 1, delay.toMillis());
+
+                sleep(delay);
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * Informa al circuito el resultado fallido de un intento. Solo los errores 5xx y de red
+     * cuentan como fallas; un error permanente es una respuesta válida de Drive, y las señales
+     * de sobrecarga o los errores sin respuesta (espera de cupo, plazo vencido) no cambian su estado.
+     */
+    private void record(Exception ex) {
+        if (isOverload(ex)) {
+            circuitBreaker.onIgnored();
+        } else if (isTransient(ex)) {
+            circuitBreaker.onFailure();
+        } else if (ex instanceof HttpResponseException) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onIgnored();
+        }
+    }
+
+    /**
+     * Ejecuta un intento dentro de un cupo del limitador adaptativo, informándole
+     * la latencia o la señal de sobrecarga. El cupo se libera antes de cualquier espera de reintento.
+     */
+    private <T> T attempt(String operation, DriveCall<T> call) throws IOException {
+
+        long startedAt = limiter.acquire();
+        DriveConcurrencyLimiter.Outcome outcome = DriveConcurrencyLimiter.Outcome.IGNORED;
+
+        try {
+            T result = call.execute();
+            outcome = DriveConcurrencyLimiter.Outcome.SUCCESS;
+            return result;
+
+        } catch (IOException | RuntimeException ex) {
+            if (isOverload(ex)) {
+                outcome = DriveConcurrencyLimiter.Outcome.DROPPED;
+            }
+            throw ex;
+
+        } finally {
+            limiter.release(operation, startedAt, outcome);
+        }
+    }
+
+    /**
+     * Retorna el limitador adaptativo de concurrencia.
+     *
+     * @return limitador de concurrencia
+     */
+    public DriveConcurrencyLimiter limiter() {
+        return limiter;
+    }
+
+    /**
+     * Retorna el estado actual del circuit breaker.
+     *
+     * @return estado del circuito
+     */
+    public DriveCircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    /**
+     * Indica si el error es transitorio y justifica un reintento.
+     */
+    static boolean isTransient(Exception ex) {
+
+        if (ex instanceof GoogleJsonResponseException json && json.getStatusCode() == 403) {
+            return Optional.ofNullable(json.getDetails())
+                    .map(GoogleJsonError::getErrors)
+                    .orElse(List.of())
+                    .stream()
+                    .anyMatch(error -> RATE_LIMIT_REASONS.contains(error.getReason()));
+        }
+
+        if (ex instanceof HttpResponseException http) {
+            return RETRYABLE_STATUS.contains(http.getStatusCode());
+        }
+
+        return ex instanceof IOException;
+    }
+
+    /**
+     * Indica si el error es una señal explícita de sobrecarga (429 o límite de cuota).
+     */
+    static boolean isOverload(Exception ex) {
+        return ex instanceof HttpResponseException http
+                && (http.getStatusCode() == 429 || http.getStatusCode() == 403 && isTransient(ex));
+    }
+
+    /**
+     * Calcula la espera de backoff exponencial con jitter para el intento indicado.
+     */
+    Duration backoff(int attempt) {
+
+        double base = retryProperties.initialBackoff().toMillis()
+                * Math.pow(retryProperties.multiplier(), attempt - 1.0);
+        double capped = Math.min(base, retryProperties.maxBackoff().toMillis());
+        double jitter = capped * retryProperties.jitter() * ThreadLocalRandom.current().nextDouble();
+
+        return Duration.ofMillis(Math.round(capped - jitter));
+    }
+
+    /**
+     * Obtiene la espera indicada por la cabecera {@code Retry-After}, acotada a {@code maxRetryAfter}.
+     */
+    Optional<Duration> retryAfter(Exception ex) {
+
+        if (!(ex instanceof HttpResponseException http) || http.getHeaders() == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(http.getHeaders().getRetryAfter())
+                .flatMap(ResilientDriveExecutor::parseRetryAfter)
+                .map(delay -> delay.compareTo(retryProperties.maxRetryAfter()) > 0
+                        ? retryProperties.maxRetryAfter()
+                        : delay);
+    }
+
+    /**
+     * Interpreta la cabecera {@code Retry-After} en segundos o como fecha HTTP.
+     */
+    private static Optional<Duration> parseRetryAfter(String value) {
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                Duration delay = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+            } catch (Exception notDate) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private static String cause(Exception ex) {
+        return ex instanceof HttpResponseException http
+                ? String.valueOf(http.getStatusCode())
+                : ex.getClass().getSimpleName();
+    }
+
+    /**
+     * Espera antes de un reintento, terminando antes si vence el plazo del procesamiento en curso.
+     */
+    private static void sleep(Duration delay) {
+        try {
+            TicketProcessingContext.deadline().sleep(delay);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CoreTechnicalException("La espera de reintento hacia Google Drive fue interrumpida",
+                    ErrorType.DRIVE_ACCESS_ERROR, ex);
+        }
+    }
+
+}
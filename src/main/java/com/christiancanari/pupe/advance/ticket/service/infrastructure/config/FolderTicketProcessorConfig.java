@@ -0,0 +1,62 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.config;
+
+import com.christiancanari.pupe.advance.ticket.service.application.service.FolderTicketProcessor;
+import com.christiancanari.pupe.advance.ticket.service.application.service.FolderTicketProcessorImpl;
+import com.christiancanari.pupe.advance.ticket.service.application.service.IncrementalFolderTicketProcessor;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketGoogleDrivePort;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketManifestStorePort;
+import com.christiancanari.pupe.advance.ticket.service.domain.service.TicketInvoicePolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuración del {@link FolderTicketProcessor} utilizado por los casos de uso.
+ *
+ * <p>
+ * Con {@code ticket.processing.incremental.enabled} habilitado, antepone el
+ * {@link IncrementalFolderTicketProcessor} al {@link FolderTicketProcessorImpl}
+ * y publica el resultado como bean primario.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+public class FolderTicketProcessorConfig {
+
+    /**
+     * Crea el procesador de carpetas utilizado por la aplicación.
+     *
+     * @param processor                  procesador completo de carpetas
+     * @param ticketGoogleDrivePort      puerto de Google Drive
+     * @param ticketInvoicePolicy        política de PDFs válidos
+     * @param ticketManifestStorePort    almacenamiento del estado incremental
+     * @param ticketProcessingProperties propiedades del procesamiento de tickets
+     * @return procesador de carpetas
+     */
+    @Bean
+    @Primary
+    public FolderTicketProcessor folderTicketProcessor(
+            FolderTicketProcessorImpl processor,
+            TicketGoogleDrivePort ticketGoogleDrivePort,
+            TicketInvoicePolicy ticketInvoicePolicy,
+            TicketManifestStorePort ticketManifestStorePort,
+            TicketProcessingProperties ticketProcessingProperties
+    ) {
+
+        if (!ticketProcessingProperties.incremental().enabled()) {
+            return processor;
+        }
+
+        log.info("[ProcessorConfig] Procesamiento incremental habilitado (directory={})",
+                ticketProcessingProperties.incremental().directory());
+
+        return new IncrementalFolderTicketProcessor(
+                processor, ticketGoogleDrivePort, ticketInvoicePolicy, ticketManifestStorePort);
+    }
+
+}
@@ -1,8 +1,11 @@
 package com.christiancanari.pupe.advance.ticket.service.infrastructure.config;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
 import java.util.List;
@@ -13,6 +16,8 @@ import java.util.List;
  * @param applicationName nombre de la aplicación reportado a Google Drive
  * @param credentials     configuración de credenciales de acceso
  * @param scopes          scopes habilitados para el acceso a Google Drive
+ * @param pageSize        cantidad de archivos solicitados por página en los listados de Drive
+ * @param batchSize       cantidad de carpetas combinadas en una misma consulta de resolución en bloque
  *
  * @author Christian Rodriguez
  * @version 1.0.0
@@ -28,7 +33,17 @@ public record GoogleDriveProperties(
         Credentials credentials,
 
         @NotEmpty
-        List<String> scopes
+        List<String> scopes,
+
+        @Min(1)
+        @Max(1000)
+        @DefaultValue("1000")
+        int pageSize,
+
+        @Min(1)
+        @Max(100)
+        @DefaultValue("30")
+        int batchSize
 ) {
 
     /**
@@ -0,0 +1,52 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.config;
+
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.FairAdmissionQueue;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del control de admisión de los procesamientos síncronos de tickets.
+ *
+ * <p>
+ * Publica el {@link FairAdmissionQueue} utilizado por el controller y sus métricas
+ * {@code ticket.admission.in-flight} y {@code ticket.admission.queued}.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+public class TicketAdmissionConfig {
+
+    /**
+     * Crea el control de admisión.
+     *
+     * @param properties    propiedades del control de admisión
+     * @param meterRegistry registro de métricas
+     * @return control de admisión
+     */
+    @Bean
+    public FairAdmissionQueue fairAdmissionQueue(TicketAdmissionProperties properties, MeterRegistry meterRegistry) {
+
+        FairAdmissionQueue queue = new FairAdmissionQueue(properties.limits());
+
+        Gauge.builder("ticket.admission.in-flight", queue, FairAdmissionQueue::running)
+                .description("Procesamientos síncronos de tickets en curso")
+                .register(meterRegistry);
+
+        Gauge.builder("ticket.admission.queued", queue, FairAdmissionQueue::queued)
+                .description("Procesamientos síncronos de tickets esperando turno")
+                .register(meterRegistry);
+
+        log.info("[AdmissionConfig] Control de admisión (enabled={}, maxConcurrent={}, smallReserved={}, queueCapacity={})",
+                properties.enabled(), properties.maxConcurrent(), properties.smallReserved(), properties.queueCapacity());
+
+        return queue;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.config;
+
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.FairAdmissionQueue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del control de admisión de los procesamientos síncronos de tickets.
+ *
+ * @param enabled             habilita el control de admisión
+ * @param maxConcurrent       procesamientos simultáneos de cualquier tamaño
+ * @param smallReserved       procesamientos simultáneos adicionales reservados para solicitudes pequeñas
+ * @param smallRequestMaxSize tamaño máximo del listado para considerar pequeña una solicitud
+ * @param queueCapacity       solicitudes que pueden esperar turno; al superarse se responde 429
+ * @param maxWait             espera máxima de una solicitud en cola antes de responder 429
+ * @param retryAfter          valor de la cabecera {@code Retry-After} en las respuestas 429
+ * @param callerHeader        cabecera que identifica al solicitante; si falta se usa la dirección remota
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Validated
+@ConfigurationProperties(prefix = "ticket.admission")
+public record TicketAdmissionProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Min(1)
+        @DefaultValue("2")
+        int maxConcurrent,
+
+        @Min(0)
+        @DefaultValue("1")
+        int smallReserved,
+
+        @NotNull
+        @DefaultValue("256KB")
+        DataSize smallRequestMaxSize,
+
+        @Min(0)
+        @DefaultValue("10")
+        int queueCapacity,
+
+        @NotNull
+        @DefaultValue("30s")
+        Duration maxWait,
+
+        @NotNull
+        @DefaultValue("10s")
+        Duration retryAfter,
+
+        @NotBlank
+        @DefaultValue("X-Client-Id")
+        String callerHeader
+) {
+
+    /**
+     * Convierte la configuración en los límites del control de admisión.
+     *
+     * @return límites del control de admisión
+     */
+    public FairAdmissionQueue.Limits limits() {
+        return new FairAdmissionQueue.Limits(enabled, maxConcurrent, smallReserved, smallRequestMaxSize.toBytes(),
+                queueCapacity, maxWait, retryAfter);
+    }
+}
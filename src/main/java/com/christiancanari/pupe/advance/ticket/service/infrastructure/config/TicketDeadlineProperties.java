@@ -0,0 +1,40 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del plazo de los procesamientos síncronos de tickets.
+ *
+ * @param defaultTimeout plazo aplicado cuando la solicitud no indica uno; sin configurar, el procesamiento
+ *                       no tiene límite de tiempo y solo se cancela si el cliente se desconecta
+ * @param maxTimeout     plazo máximo que puede solicitarse; los valores mayores se acotan.
+ *                       No debería superar {@code spring.mvc.async.request-timeout} si este se configura,
+ *                       ya que cancela el plazo al vencer
+ * @param timeoutHeader  cabecera con la que el cliente puede indicar un plazo propio
+ *                       (por ejemplo {@code 90s}, {@code 5m}, {@code PT2M} o segundos)
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Validated
+@ConfigurationProperties(prefix = "ticket.deadline")
+public record TicketDeadlineProperties(
+
+        Duration defaultTimeout,
+
+        @NotNull
+        @DefaultValue("2h")
+        Duration maxTimeout,
+
+        @NotBlank
+        @DefaultValue("X-Request-Timeout")
+        String timeoutHeader
+) {
+}
@@ -0,0 +1,124 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración de los trabajos asíncronos de procesamiento de tickets.
+ *
+ * @param maxConcurrent   trabajos que se procesan simultáneamente
+ * @param queueCapacity   trabajos que pueden esperar en cola; al superarse se rechazan nuevos envíos
+ * @param ttl             tiempo que se conserva un trabajo finalizado y su reporte
+ * @param cleanupInterval frecuencia con la que se eliminan los trabajos vencidos
+ * @param eventsTimeout   duración máxima de una conexión de eventos de avance (SSE)
+ * @param directory       directorio donde se almacenan los listados recibidos y los reportes generados
+ * @param checkpoints     puntos de control para reanudar un listado reenviado
+ * @param coalescing      unificación de envíos con el mismo listado de carpetas
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Validated
+@ConfigurationProperties(prefix = "ticket.jobs")
+public record TicketJobProperties(
+
+        @Min(1)
+        @DefaultValue("2")
+        int maxConcurrent,
+
+        @Min(0)
+        @DefaultValue("20")
+        int queueCapacity,
+
+        @DefaultValue("1h")
+        Duration ttl,
+
+        @DefaultValue("5m")
+        Duration cleanupInterval,
+
+        @DefaultValue("1h")
+        Duration eventsTimeout,
+
+        Path directory,
+
+        @Valid
+        @DefaultValue
+        Checkpoints checkpoints,
+
+        @Valid
+        @DefaultValue
+        Coalescing coalescing
+) {
+
+    public TicketJobProperties {
+        if (directory == null) {
+            directory = Path.of(System.getProperty("java.io.tmpdir"), "pupe-advance-ticket", "jobs");
+        }
+        if (checkpoints == null) {
+            checkpoints = new Checkpoints(true, Duration.ofHours(24), null);
+        }
+        if (coalescing == null) {
+            coalescing = new Coalescing(true, Duration.ofMinutes(2));
+        }
+    }
+
+    /**
+     * Puntos de control de los trabajos.
+     *
+     * <p>
+     * Cada carpeta completada se registra en disco bajo el hash del listado de entrada. Un
+     * trabajo cuyo listado tiene el mismo hash que uno interrumpido continúa desde la última
+     * carpeta completada, sin volver a descargar ni analizar los PDFs anteriores.
+     * </p>
+     *
+     * @param enabled   habilita el registro y la reanudación
+     * @param retention tiempo que se conservan los puntos de control de un listado no completado
+     * @param directory directorio donde se almacenan los puntos de control
+     */
+    public record Checkpoints(
+
+            @DefaultValue("true")
+            boolean enabled,
+
+            @DefaultValue("24h")
+            Duration retention,
+
+            Path directory
+    ) {
+
+        public Checkpoints {
+            if (directory == null) {
+                directory = Path.of(System.getProperty("java.io.tmpdir"), "pupe-advance-ticket", "checkpoints");
+            }
+        }
+    }
+
+    /**
+     * Unificación de envíos idénticos.
+     *
+     * <p>
+     * Un envío con el mismo listado normalizado de carpetas y el mismo formato de reporte que
+     * un trabajo en cola o en curso no genera un nuevo trabajo: recibe el existente y comparte
+     * su resultado. Un trabajo completado se sigue compartiendo durante {@code completedTtl}.
+     * </p>
+     *
+     * @param enabled      habilita la unificación
+     * @param completedTtl tiempo durante el cual un trabajo completado se entrega a envíos idénticos
+     */
+    public record Coalescing(
+
+            @DefaultValue("true")
+            boolean enabled,
+
+            @DefaultValue("2m")
+            Duration completedTtl
+    ) {
+    }
+}
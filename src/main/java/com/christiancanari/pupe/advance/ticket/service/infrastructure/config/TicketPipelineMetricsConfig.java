@@ -0,0 +1,75 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.config;
+
+import com.christiancanari.pupe.advance.ticket.service.application.pipeline.PipelineStage;
+import com.christiancanari.pupe.advance.ticket.service.application.service.FolderTicketProcessorImpl;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de las métricas de las etapas del pipeline de PDFs.
+ *
+ * <p>
+ * Por cada etapa, identificada con el tag {@code stage}, publica:
+ * <ul>
+ *     <li>{@code ticket.pipeline.queue.depth}: elementos esperando en su cola de entrega</li>
+ *     <li>{@code ticket.pipeline.queue.capacity}: capacidad de su cola de entrega</li>
+ *     <li>{@code ticket.pipeline.workers.busy}: trabajadores ejecutando un elemento</li>
+ *     <li>{@code ticket.pipeline.items}: elementos procesados, con el tag {@code result=success|failure};
+ *     su tasa es el throughput de la etapa</li>
+ * </ul>
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+public class TicketPipelineMetricsConfig {
+
+    /**
+     * Crea el registrador de métricas de las etapas.
+     *
+     * @param processor procesador de carpetas que posee las etapas
+     * @return registrador de métricas
+     */
+    @Bean
+    public MeterBinder ticketPipelineMetrics(FolderTicketProcessorImpl processor) {
+
+        return meterRegistry -> processor.stages().forEach(stage -> {
+
+            Gauge.builder("ticket.pipeline.queue.depth", stage, PipelineStage::queued)
+                    .description("Elementos esperando en la cola de entrega de la etapa")
+                    .tag("stage", stage.name())
+                    .register(meterRegistry);
+
+            Gauge.builder("ticket.pipeline.queue.capacity", stage, PipelineStage::capacity)
+                    .description("Capacidad de la cola de entrega de la etapa")
+                    .tag("stage", stage.name())
+                    .register(meterRegistry);
+
+            Gauge.builder("ticket.pipeline.workers.busy", stage, PipelineStage::busy)
+                    .description("Trabajadores de la etapa ejecutando un elemento")
+                    .tag("stage", stage.name())
+                    .register(meterRegistry);
+
+            FunctionCounter.builder("ticket.pipeline.items", stage, PipelineStage::succeeded)
+                    .description("Elementos procesados por la etapa")
+                    .tags("stage", stage.name(), "result", "success")
+                    .register(meterRegistry);
+
+            FunctionCounter.builder("ticket.pipeline.items", stage, PipelineStage::failed)
+                    .description("Elementos procesados por la etapa")
+                    .tags("stage", stage.name(), "result", "failure")
+                    .register(meterRegistry);
+
+            log.info("[PipelineMetrics] Etapa {} ({}, workers={}, queueCapacity={})",
+                    stage.name(), stage.kind(), stage.workers(), stage.capacity());
+        });
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.nio.file.Path;
+
+/**
+ * Propiedades de configuración del procesamiento de tickets.
+ *
+ * @param folders     configuración del procesamiento de carpetas
+ * @param pdfs        configuración del procesamiento de PDFs dentro de una carpeta
+ * @param incremental configuración del procesamiento incremental basado en la API de cambios de Drive
+ * @param errors      configuración del tratamiento de errores por carpeta y por PDF
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Validated
+@ConfigurationProperties(prefix = "ticket.processing")
+public record TicketProcessingProperties(
+
+        @Valid
+        @DefaultValue
+        Folders folders,
+
+        @Valid
+        @DefaultValue
+        Pdfs pdfs,
+
+        @Valid
+        @DefaultValue
+        Incremental incremental,
+
+        @Valid
+        @DefaultValue
+        Errors errors
+) {
+
+    /**
+     * Configuración del procesamiento de carpetas.
+     *
+     * @param parallel       indica si las carpetas se procesan en paralelo
+     * @param maxConcurrency máximo de carpetas procesadas simultáneamente en modo paralelo
+     */
+    public record Folders(
+
+            @DefaultValue("false")
+            boolean parallel,
+
+            @Min(1)
+            @DefaultValue("8")
+            int maxConcurrency
+    ) {
+
+        /**
+         * Retorna la cantidad efectiva de carpetas simultáneas.
+         *
+         * @return {@code maxConcurrency} en modo paralelo; {@code 1} en modo secuencial
+         */
+        public int effectiveConcurrency() {
+            return parallel ? maxConcurrency : 1;
+        }
+    }
+
+    /**
+     * Configuración del procesamiento de PDFs dentro de una carpeta.
+     *
+     * <p>
+     * En modo concurrente cada PDF se descarga completamente antes de ser analizado,
+     * de modo que las descargas y el análisis con PDFBox se solapan. Los límites
+     * son compartidos por todas las carpetas en proceso.
+     * </p>
+     *
+     * @param concurrent   indica si los PDFs de una carpeta se procesan concurrentemente
+     * @param maxDownloads máximo de descargas simultáneas
+     * @param maxParses    máximo de análisis simultáneos; {@code 0} usa la cantidad de procesadores
+     */
+    public record Pdfs(
+
+            @DefaultValue("false")
+            boolean concurrent,
+
+            @Min(1)
+            @DefaultValue("8")
+            int maxDownloads,
+
+            @Min(0)
+            @DefaultValue("0")
+            int maxParses
+    ) {
+
+        /**
+         * Retorna la cantidad efectiva de análisis simultáneos.
+         *
+         * @return {@code maxParses} o la cantidad de procesadores si no fue configurado
+         */
+        public int effectiveMaxParses() {
+            return maxParses > 0 ? maxParses : Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    /**
+     * Configuración del procesamiento incremental.
+     *
+     * <p>
+     * Con el modo habilitado se mantiene un manifiesto por carpeta de tickets que se
+     * actualiza con la API de cambios de Google Drive; solo se descargan y extraen los
+     * PDFs nuevos o modificados y el resto se responde desde el estado almacenado.
+     * </p>
+     *
+     * @param enabled   indica si el procesamiento incremental está habilitado
+     * @param directory directorio del estado incremental; por defecto bajo {@code java.io.tmpdir}
+     */
+    public record Incremental(
+
+            @DefaultValue("false")
+            boolean enabled,
+
+            Path directory
+    ) {
+
+        public Incremental {
+            if (directory == null) {
+                directory = Path.of(System.getProperty("java.io.tmpdir"), "pupe-advance-ticket", "incremental");
+            }
+        }
+    }
+
+    /**
+     * Configuración del tratamiento de errores.
+     *
+     * <p>
+     * Por defecto, el primer PDF o carpeta que falla interrumpe el procesamiento completo.
+     * Con {@code continueOnError} habilitado, el error se registra en el reporte (hoja ERRORES
+     * o filas de error) y el procesamiento continúa con el resto de PDFs y carpetas.
+     * </p>
+     *
+     * @param continueOnError indica si los errores de PDFs y carpetas se registran en lugar de interrumpir
+     */
+    public record Errors(
+
+            @DefaultValue("false")
+            boolean continueOnError
+    ) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.diagnostics;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.diagnostics.config.VirtualThreadPinningProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Diagnóstico de hilos virtuales que bloquean su hilo portador (pinning).
+ *
+ * <p>
+ * Un hilo virtual que se bloquea dentro de un bloque {@code synchronized} o de código nativo
+ * no libera su hilo portador, por lo que bajo carga reduce la cantidad de hilos virtuales que
+ * pueden ejecutarse. Las secciones sincronizadas del cliente HTTP de Google y de PDFBox son
+ * candidatas habituales.
+ * </p>
+ *
+ * <p>
+ * Escucha mediante JFR los eventos {@code jdk.VirtualThreadPinned} que superan
+ * {@code threshold} y, por cada uno:
+ * <ul>
+ *     <li>Registra su duración en el timer {@code jvm.threads.virtual.pinned} con el tag
+ *     {@code source}: primer frame de la pila ajeno al JDK</li>
+ *     <li>Informa en el log la pila del primer bloqueo de cada origen; los siguientes solo en debug</li>
+ * </ul>
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+    private static final String UNKNOWN_SOURCE = "unknown";
+
+    private final VirtualThreadPinningProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reportedSources = ConcurrentHashMap.newKeySet();
+    private final RecordingStream stream;
+
+    /**
+     * Crea el monitor e inicia la escucha de eventos si está habilitado.
+     *
+     * @param properties    configuración del diagnóstico
+     * @param meterRegistry registro de métricas
+     */
+    public VirtualThreadPinningMonitor(VirtualThreadPinningProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.stream = properties.enabled() ? start() : null;
+    }
+
+    private RecordingStream start() {
+
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(properties.threshold()).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.startAsync();
+
+            log.info("[Pinning] Diagnóstico de hilos virtuales habilitado (threshold={})", properties.threshold());
+            return recording;
+
+        } catch (RuntimeException ex) {
+            log.warn("[Pinning] JFR no disponible, no se registrarán bloqueos de hilos virtuales", ex);
+            return null;
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String source = source(frames);
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("Bloqueos de hilos virtuales que retuvieron su hilo portador")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedSources.add(source)) {
+            log.warn("[Pinning] Hilo virtual bloqueó su portador {} ms en {}:\n{}",
+                    event.getDuration().toMillis(), source, format(frames));
+        } else {
+            log.debug("[Pinning] Hilo virtual bloqueó su portador {} ms en {}", event.getDuration().toMillis(), source);
+        }
+    }
+
+    /**
+     * Obtiene el primer frame ajeno al JDK, que identifica la sección que causó el bloqueo.
+     */
+    private static String source(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(name -> JDK_PACKAGES.stream().noneMatch(name::startsWith))
+                .findFirst()
+                .orElse(UNKNOWN_SOURCE);
+    }
+
+    private String format(List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(properties.maxStackFrames())
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace != null ? stackTrace.getFrames() : List.of();
+    }
+
+    /**
+     * Indica si el monitor está escuchando eventos.
+     *
+     * @return {@code true} si la escucha JFR está activa
+     */
+    public boolean isActive() {
+        return stream != null;
+    }
+
+    @Override
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+}
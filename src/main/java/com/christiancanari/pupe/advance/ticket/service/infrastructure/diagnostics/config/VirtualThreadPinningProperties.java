@@ -0,0 +1,37 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.diagnostics.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del diagnóstico de hilos virtuales que bloquean su hilo portador (pinning).
+ *
+ * @param enabled         habilita el registro de eventos JFR {@code jdk.VirtualThreadPinned}
+ * @param threshold       duración mínima de un bloqueo para ser informado
+ * @param maxStackFrames  cantidad de frames de la pila incluidos en el log del primer bloqueo de cada origen
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Validated
+@ConfigurationProperties(prefix = "diagnostics.virtual-threads.pinning")
+public record VirtualThreadPinningProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @NotNull
+        @DefaultValue("20ms")
+        Duration threshold,
+
+        @Min(1)
+        @DefaultValue("12")
+        int maxStackFrames
+) {
+}
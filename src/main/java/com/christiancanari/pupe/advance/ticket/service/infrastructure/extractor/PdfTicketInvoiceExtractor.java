@@ -1,5 +1,6 @@
 package com.christiancanari.pupe.advance.ticket.service.infrastructure.extractor;
 
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.TicketProcessingContext;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
 import com.christiancanari.pupe.advance.ticket.service.domain.service.TicketInvoiceExtractor;
@@ -22,6 +23,11 @@ import java.io.InputStream;
  * del contenido al {@link TicketInvoiceClassifier}.
  * </p>
  *
+ * <p>
+ * El plazo del procesamiento en curso se verifica antes de cargar el documento
+ * y antes de extraer su texto.
+ * </p>
+ *
  * @author Christian Rodriguez
  * @version 1.0.0
  * @since 1.0.0
@@ -52,8 +58,12 @@ public class PdfTicketInvoiceExtractor implements TicketInvoiceExtractor {
 
         log.debug("Iniciando extracción de ticket desde PDF: {}", pdfName);
 
+        TicketProcessingContext.checkDeadline();
+
         try (PDDocument document = PDDocument.load(pdfStream)) {
 
+            TicketProcessingContext.checkDeadline();
+
             String text = new PDFTextStripper().getText(document);
 
             ClassifiedTicketValues values = classifier.classify(text);
@@ -65,6 +75,8 @@ public class PdfTicketInvoiceExtractor implements TicketInvoiceExtractor {
                     values.receipts()
             );
 
+        } catch (CoreTechnicalException ex) {
+            throw ex;
         } catch (Exception ex) {
             log.error("Error procesando PDF {}", pdfName, ex);
             throw new CoreTechnicalException(
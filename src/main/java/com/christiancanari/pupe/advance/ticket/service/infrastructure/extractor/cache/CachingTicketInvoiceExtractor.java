@@ -0,0 +1,235 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.extractor.cache;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.classifier.ClassifiedTicketValues;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.service.TicketInvoiceExtractor;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.classifier.config.TicketInvoiceClassifierProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.extractor.config.TicketExtractionCacheProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de {@link TicketInvoiceExtractor} que persiste en disco los valores
+ * clasificados de cada PDF para evitar volver a ejecutar PDFBox sobre tickets sin cambios.
+ *
+ * <p>
+ * Cada resultado se almacena bajo el hash SHA-256 del contenido del PDF, dentro de un
+ * directorio por generación identificado por la huella de los patrones de
+ * {@link TicketInvoiceClassifierProperties}. Al cambiar una expresión regular cambia la
+ * generación, por lo que los resultados previos dejan de utilizarse y sus directorios
+ * se eliminan al iniciar.
+ * </p>
+ *
+ * <p>
+ * Los errores de lectura o escritura de la caché no interrumpen el procesamiento:
+ * se registran y el PDF se extrae normalmente. Las métricas se publican bajo
+ * {@code ticket.extraction-cache.requests} con el tag {@code result=hit|miss}.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class CachingTicketInvoiceExtractor implements TicketInvoiceExtractor {
+
+    /** Versión del formato almacenado y de la lógica de extracción; incrementar invalida la caché. */
+    private static final String FORMAT_VERSION = "1";
+
+    private static final Pattern GENERATION_NAME = Pattern.compile("[0-9a-f]{16}");
+    private static final String ENTRY_SUFFIX = ".json";
+
+    private final TicketInvoiceExtractor delegate;
+    private final JsonMapper jsonMapper;
+    private final Path directory;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Construye el decorador, preparando el directorio de la generación vigente.
+     *
+     * @param delegate             extractor real
+     * @param properties           configuración de la caché
+     * @param classifierProperties patrones del clasificador
+     * @param jsonMapper           serializador de los resultados
+     * @param meterRegistry        registro de métricas
+     */
+    public CachingTicketInvoiceExtractor(
+            TicketInvoiceExtractor delegate,
+            TicketExtractionCacheProperties properties,
+            TicketInvoiceClassifierProperties classifierProperties,
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.jsonMapper = jsonMapper;
+
+        String generation = fingerprint(classifierProperties);
+        this.directory = properties.directory().resolve(generation);
+
+        this.hits = meterRegistry.counter("ticket.extraction-cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("ticket.extraction-cache.requests", "result", "miss");
+
+        prepare(properties.directory(), generation);
+    }
+
+    /**
+     * Retorna el resultado almacenado para el contenido del PDF o lo extrae y almacena.
+     *
+     * @param folderName nombre de la carpeta asociada
+     * @param pdfName    nombre del archivo PDF
+     * @param pdfStream  contenido del archivo PDF
+     * @return información del ticket extraída
+     */
+    @Override
+    public TicketInvoice extract(String folderName, String pdfName, InputStream pdfStream) {
+
+        byte[] content = readAll(pdfName, pdfStream);
+        Path entry = directory.resolve(sha256(content) + ENTRY_SUFFIX);
+
+        Optional<ClassifiedTicketValues> cached = read(entry);
+
+        if (cached.isPresent()) {
+            log.debug("[ExtractionCache] Acierto para {}", pdfName);
+            hits.increment();
+            return new TicketInvoice(folderName, pdfName, cached.get().invoices(), cached.get().receipts());
+        }
+
+        misses.increment();
+
+        TicketInvoice invoice = delegate.extract(folderName, pdfName, new ByteArrayInputStream(content));
+
+        if (invoice != null) {
+            write(entry, new ClassifiedTicketValues(invoice.facturaContent(), invoice.comprobanteContent()));
+        }
+
+        return invoice;
+    }
+
+    private Optional<ClassifiedTicketValues> read(Path entry) {
+        try {
+            return Optional.of(jsonMapper.readValue(Files.readAllBytes(entry), ClassifiedTicketValues.class));
+        } catch (NoSuchFileException ex) {
+            return Optional.empty();
+        } catch (Exception ex) {
+            log.warn("[ExtractionCache] Entrada ilegible {}, se extraerá nuevamente", entry, ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Escribe la entrada de forma atómica mediante un archivo temporal.
+     */
+    private void write(Path entry, ClassifiedTicketValues values) {
+
+        Path temp = null;
+
+        try {
+            temp = Files.createTempFile(directory, "entry", ".tmp");
+            Files.write(temp, jsonMapper.writeValueAsBytes(values));
+
+            try {
+                Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+        } catch (Exception ex) {
+            log.warn("[ExtractionCache] No se pudo almacenar {}", entry, ex);
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Crea el directorio de la generación vigente y elimina las generaciones anteriores.
+     */
+    private void prepare(Path root, String generation) {
+
+        try {
+            Files.createDirectories(directory);
+
+            try (Stream<Path> children = Files.list(root)) {
+                children.filter(Files::isDirectory)
+                        .filter(child -> GENERATION_NAME.matcher(child.getFileName().toString()).matches())
+                        .filter(child -> !child.getFileName().toString().equals(generation))
+                        .forEach(CachingTicketInvoiceExtractor::deleteGeneration);
+            }
+
+        } catch (IOException ex) {
+            throw new CoreTechnicalException("No se pudo inicializar la caché de extracción en " + root,
+                    ErrorType.UNEXPECTED_ERROR, ex);
+        }
+
+        log.info("[ExtractionCache] Generación vigente {} en {}", generation, root);
+    }
+
+    /**
+     * Calcula la huella de los patrones del clasificador y de la versión del formato.
+     */
+    static String fingerprint(TicketInvoiceClassifierProperties properties) {
+        String source = String.join("\n", FORMAT_VERSION, properties.invoiceRegex(), properties.receiptRegex());
+        return sha256(source.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+
+    private static byte[] readAll(String pdfName, InputStream pdfStream) {
+        try {
+            return pdfStream.readAllBytes();
+        } catch (IOException ex) {
+            throw new CoreTechnicalException("Error leyendo archivo PDF: " + pdfName,
+                    ErrorType.PDF_PROCESSING_ERROR, ex);
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+
+    private static void deleteGeneration(Path generation) {
+
+        log.info("[ExtractionCache] Eliminando generación obsoleta {}", generation);
+
+        try (Stream<Path> files = Files.walk(generation)) {
+            files.sorted(Comparator.reverseOrder()).forEach(CachingTicketInvoiceExtractor::deleteQuietly);
+        } catch (IOException ex) {
+            log.warn("[ExtractionCache] No se pudo eliminar la generación {}", generation, ex);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("[ExtractionCache] No se pudo eliminar {}", file, ex);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.extractor.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Propiedades de configuración de la caché persistente de resultados de extracción de tickets.
+ *
+ * @param enabled   indica si la caché está habilitada
+ * @param directory directorio donde se almacenan los resultados; por defecto bajo {@code java.io.tmpdir}
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "ticket.extraction.cache")
+public record TicketExtractionCacheProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        Path directory
+) {
+
+    public TicketExtractionCacheProperties {
+        if (directory == null) {
+            directory = Path.of(System.getProperty("java.io.tmpdir"), "pupe-advance-ticket", "extraction-cache");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.extractor.config;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.service.TicketInvoiceExtractor;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.classifier.config.TicketInvoiceClassifierProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.extractor.PdfTicketInvoiceExtractor;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.extractor.cache.CachingTicketInvoiceExtractor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Configuración del {@link TicketInvoiceExtractor} utilizado por la capa de aplicación.
+ *
+ * <p>
+ * Antepone la caché persistente de resultados al {@link PdfTicketInvoiceExtractor}
+ * cuando está habilitada y publica el resultado como bean primario.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+public class TicketInvoiceExtractorConfig {
+
+    /**
+     * Crea el extractor de tickets utilizado por la aplicación.
+     *
+     * @param extractor            extractor real basado en PDFBox
+     * @param cacheProperties      configuración de la caché de resultados
+     * @param classifierProperties patrones del clasificador, usados como huella de la caché
+     * @param jsonMapper           serializador de los resultados almacenados
+     * @param meterRegistry        registro de métricas
+     * @return extractor de tickets decorado
+     */
+    @Bean
+    @Primary
+    public TicketInvoiceExtractor ticketInvoiceExtractor(
+            PdfTicketInvoiceExtractor extractor,
+            TicketExtractionCacheProperties cacheProperties,
+            TicketInvoiceClassifierProperties classifierProperties,
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry
+    ) {
+
+        if (!cacheProperties.enabled()) {
+            return extractor;
+        }
+
+        log.info("[ExtractorConfig] Caché de resultados de extracción habilitada (directory={})",
+                cacheProperties.directory());
+
+        return new CachingTicketInvoiceExtractor(
+                extractor, cacheProperties, classifierProperties, jsonMapper, meterRegistry);
+    }
+
+}
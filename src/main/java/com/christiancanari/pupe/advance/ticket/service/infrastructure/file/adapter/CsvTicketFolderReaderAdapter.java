@@ -0,0 +1,103 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.file.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketFolderReaderPort;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Adapter de infraestructura que lee los nombres de carpetas desde texto plano o CSV.
+ *
+ * <p>
+ * Cada línea contiene un nombre de carpeta; en CSV se toma la primera columna,
+ * admitiendo valores entre comillas dobles según RFC 4180. No se espera fila de
+ * encabezado. El contenido se lee en UTF-8 (se descarta el BOM si existe) y las
+ * líneas vacías se ignoran.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class CsvTicketFolderReaderAdapter implements TicketFolderReaderPort {
+
+    private static final char BOM = '\uFEFF';
+
+    @Override
+    public FolderListFormat format() {
+        return FolderListFormat.CSV;
+    }
+
+    /**
+     * Lee los nombres de carpetas línea a línea a medida que se consume el flujo.
+     *
+     * @param inputStream contenido de texto
+     * @return nombres de carpetas en el orden del contenido; debe cerrarse al finalizar
+     */
+    @Override
+    public Stream<String> streamFolderNames(InputStream inputStream) {
+
+        log.info("[CsvFolderReader] Iniciando lectura de nombres de carpetas desde texto");
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        return reader.lines()
+                .map(line -> !line.isEmpty() && line.charAt(0) == BOM ? line.substring(1) : line)
+                .map(CsvTicketFolderReaderAdapter::firstField)
+                .map(String::trim)
+                .filter(value -> !value.isBlank())
+                .onClose(() -> close(reader));
+    }
+
+    /**
+     * Obtiene el primer campo de una línea CSV.
+     *
+     * @param line línea de texto
+     * @return primer campo, sin comillas de escape
+     */
+    static String firstField(String line) {
+
+        String value = line.stripLeading();
+
+        if (value.isEmpty() || value.charAt(0) != '"') {
+            int comma = value.indexOf(',');
+            return comma < 0 ? value : value.substring(0, comma);
+        }
+
+        StringBuilder field = new StringBuilder();
+
+        for (int i = 1; i < value.length(); i++) {
+            char current = value.charAt(i);
+            if (current != '"') {
+                field.append(current);
+            } else if (i + 1 < value.length() && value.charAt(i + 1) == '"') {
+                field.append('"');
+                i++;
+            } else {
+                return field.toString();
+            }
+        }
+
+        throw new CoreTechnicalException("Valor CSV sin comilla de cierre: " + line, ErrorType.FOLDER_LIST_INVALID);
+    }
+
+    private static void close(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException ex) {
+            log.warn("[CsvFolderReader] No se pudo cerrar el contenido de entrada", ex);
+        }
+    }
+
+}
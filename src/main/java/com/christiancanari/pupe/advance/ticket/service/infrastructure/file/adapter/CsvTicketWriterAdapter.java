@@ -0,0 +1,168 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.file.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketFileWriterPort;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketInvoiceSink;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Adapter de infraestructura que genera el resultado del procesamiento de tickets en formato CSV.
+ *
+ * <p>
+ * Sigue RFC 4180: UTF-8 sin BOM, separador coma, fin de línea CRLF y comillas dobles
+ * solo en los valores que contienen comas, comillas o saltos de línea. Las primeras
+ * columnas coinciden con las del reporte Excel: {@code file}, {@code filePR}, {@code facturas}
+ * y {@code comprobantes}; les siguen {@code tipo} y {@code mensaje}, vacías en las filas de tickets.
+ * </p>
+ *
+ * <p>
+ * Las filas se escriben a medida que se reciben a través de un buffer acotado,
+ * por lo que el contenido llega al destino mientras el procesamiento continúa.
+ * </p>
+ *
+ * <p>
+ * Los errores registrados ({@code ticket.processing.errors.continue-on-error}) se escriben
+ * en el orden en que ocurren como filas de la misma tabla, con {@code file} y {@code filePR}
+ * del archivo afectado, {@code facturas} y {@code comprobantes} vacías, y el tipo y mensaje
+ * del error en {@code tipo} y {@code mensaje}. El archivo es siempre una única tabla.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class CsvTicketWriterAdapter implements TicketFileWriterPort {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Override
+    public TicketReportFormat format() {
+        return TicketReportFormat.CSV;
+    }
+
+    /**
+     * Abre un receptor que escribe cada ticket como una línea CSV.
+     *
+     * @param outputStream flujo de salida donde se escribe el archivo CSV
+     * @return receptor de filas del archivo CSV
+     */
+    @Override
+    public TicketInvoiceSink openSink(OutputStream outputStream) {
+
+        log.info("[CsvWriter] Iniciando generación de archivo CSV");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        CsvTicketInvoiceSink sink = new CsvTicketInvoiceSink(writer);
+        sink.writeLine("file", "filePR", "facturas", "comprobantes", "tipo", "mensaje");
+        return sink;
+    }
+
+    /**
+     * Escapa un valor según RFC 4180.
+     *
+     * @param value valor a escribir
+     * @return valor listo para la línea CSV
+     */
+    static String escape(String value) {
+
+        if (value == null) {
+            return "";
+        }
+
+        boolean quote = value.indexOf(',') >= 0
+                || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0;
+
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    private static CoreTechnicalException generationError(Exception ex) {
+        log.error("[CsvWriter] Error generando el archivo CSV de resultados", ex);
+        return new CoreTechnicalException("Error generando el archivo CSV de resultados",
+                ErrorType.FILE_GENERATION_ERROR, ex);
+    }
+
+    /**
+     * Receptor que escribe las filas CSV de tickets y errores sobre el flujo de salida.
+     */
+    private static final class CsvTicketInvoiceSink implements TicketInvoiceSink {
+
+        private final Writer writer;
+        private int rows;
+        private int errors;
+
+        private CsvTicketInvoiceSink(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void accept(TicketInvoice invoice) {
+            writeLine(
+                    invoice.sourceFileName(),
+                    invoice.processedFileName(),
+                    invoice.facturaContent(),
+                    invoice.comprobanteContent(),
+                    "",
+                    ""
+            );
+            rows++;
+        }
+
+        @Override
+        public void acceptError(TicketProcessingError error) {
+            writeLine(error.folderName(), error.fileName(), "", "", error.errorType(), error.message());
+            errors++;
+        }
+
+        @Override
+        public void complete() {
+            try {
+                writer.flush();
+                log.info("[CsvWriter] Archivo CSV generado correctamente. Registros: {}, errores: {}",
+                        rows, errors);
+            } catch (IOException ex) {
+                throw generationError(ex);
+            }
+        }
+
+        /**
+         * No cierra el flujo de salida; su ciclo de vida corresponde a quien lo entrega.
+         */
+        @Override
+        public void close() {
+            // Sin recursos propios que liberar
+        }
+
+        private void writeLine(String... values) {
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(escape(values[i]));
+                }
+                writer.write(LINE_SEPARATOR);
+            } catch (IOException ex) {
+                throw generationError(ex);
+            }
+        }
+
+    }
+
+}
@@ -1,19 +1,27 @@
 package com.christiancanari.pupe.advance.ticket.service.infrastructure.file.adapter;
 
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
 import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketFolderReaderPort;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
 import org.springframework.stereotype.Component;
 
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.InputStream;
-import java.util.List;
-import java.util.Objects;
-import java.util.stream.IntStream;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Adapter de infraestructura responsable de leer un archivo Excel y extraer los nombres de carpetas desde su contenido.
@@ -32,6 +40,14 @@ import java.util.stream.IntStream;
  * </ul>
  * </p>
  *
+ * <p>
+ * La hoja no se carga como {@code XSSFWorkbook}: se recorre su XML con un lector StAX
+ * sobre {@link XSSFReader}, resolviendo los textos compartidos con la tabla de solo lectura.
+ * Los nombres se entregan a medida que se leen las filas, por lo que el procesamiento
+ * puede comenzar antes de terminar de leer la hoja. Las celdas numéricas se entregan
+ * sin decimales sobrantes (por ejemplo {@code 12345}).
+ * </p>
+ *
  * @author Christian Rodriguez
  * @version 1.0.0
  * @since 1.0.0
@@ -40,49 +56,246 @@ import java.util.stream.IntStream;
 @Component
 public class ExcelTicketFolderReaderAdapter implements TicketFolderReaderPort {
 
+    @Override
+    public FolderListFormat format() {
+        return FolderListFormat.XLSX;
+    }
+
     /**
-     * Lee los nombres de carpetas desde un archivo Excel.
-     *
-     * <p>
-     * Recorre todas las filas de la primera hoja del archivo,
-     * ignorando la fila de encabezado y extrayendo el valor textual
-     * de la primera columna.
-     * </p>
+     * Lee los nombres de carpetas desde un archivo Excel a medida que se recorre la hoja.
      *
      * <p>
+     * Se ignora la fila de encabezado y se extrae el valor textual de la primera columna.
      * Las celdas vacías, nulas o con contenido en blanco son ignoradas.
      * </p>
      *
      * @param inputStream archivo Excel de entrada
-     * @return lista de nombres de carpetas válidos encontrados en el archivo
-     * @throws CoreTechnicalException si ocurre un error durante la lectura del archivo
+     * @return nombres de carpetas válidos, en el orden del archivo; debe cerrarse al finalizar
+     * @throws CoreTechnicalException si el archivo no puede abrirse o su contenido es inválido
      */
     @Override
-    public List<String> readFolderNames(InputStream inputStream) {
+    public Stream<String> streamFolderNames(InputStream inputStream) {
 
         log.info("[ExcelFolderReader] Iniciando lectura de nombres de carpetas desde Excel");
 
-        try (Workbook workbook = new XSSFWorkbook(inputStream)) {
+        OPCPackage excelPackage = null;
 
-            Sheet sheet = workbook.getSheetAt(0);
+        try {
+            excelPackage = OPCPackage.open(inputStream);
 
-            List<String> folderNames = IntStream
-                    .rangeClosed(1, sheet.getLastRowNum())
-                    .mapToObj(sheet::getRow)
-                    .filter(Objects::nonNull)
-                    .map(row -> row.getCell(0))
-                    .filter(Objects::nonNull)
-                    .map(Cell::getStringCellValue)
-                    .map(String::trim)
-                    .filter(value -> !value.isBlank())
-                    .toList();
+            XSSFReader reader = new XSSFReader(excelPackage);
+            reader.setUseReadOnlySharedStringsTable(true);
+            SharedStrings sharedStrings = reader.getSharedStringsTable();
 
-            log.info("[ExcelFolderReader] Lectura completada. Carpetas encontradas: {}", folderNames.size());
-            return folderNames;
+            Iterator<InputStream> sheets = reader.getSheetsData();
+
+            if (!sheets.hasNext()) {
+                throw new IllegalStateException("El archivo Excel no contiene hojas");
+            }
+
+            InputStream sheet = sheets.next();
+            XMLStreamReader xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheet);
+            FolderNameIterator folderNames = new FolderNameIterator(xml, sharedStrings);
+
+            OPCPackage opened = excelPackage;
+
+            return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(folderNames, Spliterator.ORDERED | Spliterator.NONNULL),
+                    false
+            ).onClose(() -> {
+                log.info("[ExcelFolderReader] Lectura completada. Carpetas encontradas: {}", folderNames.count);
+                closeQuietly(xml, sheet, opened);
+            });
 
         } catch (Exception ex) {
-            log.error("[ExcelFolderReader] Error técnico leyendo el archivo Excel de carpetas", ex);
-            throw new CoreTechnicalException("Error leyendo el archivo Excel de carpetas", ErrorType.EXCEL_INVALID, ex);
+            closeQuietly(null, null, excelPackage);
+            throw readError(ex);
         }
     }
+
+    private static CoreTechnicalException readError(Exception ex) {
+        log.error("[ExcelFolderReader] Error técnico leyendo el archivo Excel de carpetas", ex);
+        return new CoreTechnicalException("Error leyendo el archivo Excel de carpetas", ErrorType.EXCEL_INVALID, ex);
+    }
+
+    /**
+     * Libera los recursos de lectura sin guardar cambios en el paquete.
+     */
+    private static void closeQuietly(XMLStreamReader xml, InputStream sheet, OPCPackage excelPackage) {
+        try {
+            if (xml != null) {
+                xml.close();
+            }
+            if (sheet != null) {
+                sheet.close();
+            }
+        } catch (Exception ex) {
+            log.warn("[ExcelFolderReader] No se pudo cerrar la hoja de Excel", ex);
+        }
+        if (excelPackage != null) {
+            excelPackage.revert();
+        }
+    }
+
+    /**
+     * Convierte la referencia de una celda (por ejemplo {@code AB12}) en el índice de su columna.
+     *
+     * @param reference referencia de la celda
+     * @return índice de columna, desde 0
+     */
+    static int columnIndex(String reference) {
+        int column = 0;
+        for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+            column = column * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    /**
+     * Iterador que recorre el XML de la hoja y entrega los valores de la primera columna.
+     */
+    private static final class FolderNameIterator implements Iterator<String> {
+
+        private final XMLStreamReader xml;
+        private final SharedStrings sharedStrings;
+
+        private String next;
+        private boolean finished;
+        private int rowNumber;
+        private int nextColumn;
+        private int count;
+
+        private FolderNameIterator(XMLStreamReader xml, SharedStrings sharedStrings) {
+            this.xml = xml;
+            this.sharedStrings = sharedStrings;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                next = advance();
+                finished = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String value = next;
+            next = null;
+            count++;
+            return value;
+        }
+
+        /**
+         * Avanza hasta el siguiente valor no vacío de la primera columna, fuera del encabezado.
+         *
+         * @return siguiente nombre de carpeta o {@code null} si la hoja terminó
+         */
+        private String advance() {
+            try {
+                while (xml.hasNext()) {
+
+                    if (xml.next() != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+
+                    switch (xml.getLocalName()) {
+                        case "row" -> startRow();
+                        case "c" -> {
+                            String value = readFirstColumnCell();
+                            if (value != null && !value.isBlank()) {
+                                return value.trim();
+                            }
+                        }
+                        default -> { }
+                    }
+                }
+                return null;
+
+            } catch (XMLStreamException | RuntimeException ex) {
+                throw readError(ex);
+            }
+        }
+
+        private void startRow() {
+            String reference = xml.getAttributeValue(null, "r");
+            rowNumber = reference != null ? Integer.parseInt(reference) : rowNumber + 1;
+            nextColumn = 0;
+        }
+
+        /**
+         * Lee la celda actual si pertenece a la primera columna de una fila de datos.
+         *
+         * @return valor textual de la celda o {@code null} si debe ignorarse
+         */
+        private String readFirstColumnCell() throws XMLStreamException {
+
+            String reference = xml.getAttributeValue(null, "r");
+            int column = reference != null ? columnIndex(reference) : nextColumn;
+            nextColumn = column + 1;
+
+            if (rowNumber <= 1 || column != 0) {
+                return null;
+            }
+
+            String type = xml.getAttributeValue(null, "t");
+            String value = null;
+            StringBuilder inline = new StringBuilder();
+
+            while (xml.hasNext()) {
+
+                int event = xml.next();
+
+                if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                    break;
+                }
+
+                if (event != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+
+                switch (xml.getLocalName()) {
+                    case "v" -> value = xml.getElementText();
+                    case "t" -> inline.append(xml.getElementText());
+                    case "rPh" -> skipElement();
+                    default -> { }
+                }
+            }
+
+            if ("inlineStr".equals(type)) {
+                return inline.toString();
+            }
+
+            if ("s".equals(type) && value != null && sharedStrings != null) {
+                return sharedStrings.getItemAt(Integer.parseInt(value.trim())).getString();
+            }
+
+            if ((type == null || "n".equals(type)) && value != null && !value.isBlank()) {
+                return new BigDecimal(value.trim()).stripTrailingZeros().toPlainString();
+            }
+
+            return value;
+        }
+
+        /**
+         * Omite el elemento actual y todo su contenido (por ejemplo, textos fonéticos).
+         */
+        private void skipElement() throws XMLStreamException {
+            int depth = 1;
+            while (depth > 0 && xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+        }
+
+    }
+
 }
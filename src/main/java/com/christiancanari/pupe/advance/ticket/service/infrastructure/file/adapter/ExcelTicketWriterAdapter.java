@@ -2,18 +2,23 @@ package com.christiancanari.pupe.advance.ticket.service.infrastructure.file.adap
 
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
 import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketFileWriterPort;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketInvoiceSink;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.file.config.ExcelReportProperties;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.stream.IntStream;
 
 /**
  * Adapter de infraestructura responsable de generar un archivo Excel
@@ -36,9 +41,19 @@ import java.util.stream.IntStream;
  *             <li>comprobantes</li>
  *         </ul>
  *     </li>
+ *     <li>Hoja: ERRORES, solo si se registraron errores
+ *     ({@code ticket.processing.errors.continue-on-error}), con las columnas
+ *     file, filePR, tipo y mensaje</li>
  * </ul>
  * </p>
  *
+ * <p>
+ * Con {@code ticket.report.excel.streaming} habilitado el libro se genera con
+ * {@link SXSSFWorkbook}, manteniendo en memoria solo una ventana acotada de filas.
+ * Las filas se reciben de a una mediante {@link TicketInvoiceSink}, por lo que el
+ * reporte puede construirse mientras se procesan las carpetas.
+ * </p>
+ *
  * @author Christian Rodriguez
  * @version 1.0.0
  * @since 1.0.0
@@ -47,6 +62,41 @@ import java.util.stream.IntStream;
 @Component
 public class ExcelTicketWriterAdapter implements TicketFileWriterPort {
 
+    private final ExcelReportProperties properties;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param properties configuración del reporte Excel
+     */
+    public ExcelTicketWriterAdapter(ExcelReportProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public TicketReportFormat format() {
+        return TicketReportFormat.XLSX;
+    }
+
+    /**
+     * Abre un receptor que agrega cada ticket como una fila del archivo Excel.
+     *
+     * <p>
+     * En modo streaming solo la ventana configurada de filas permanece en memoria;
+     * el libro se escribe en el flujo indicado al completar el receptor.
+     * </p>
+     *
+     * @param outputStream flujo de salida donde se escribe el archivo Excel
+     * @return receptor de filas del archivo Excel
+     */
+    @Override
+    public TicketInvoiceSink openSink(OutputStream outputStream) {
+
+        log.info("📊 [ExcelWriter] Iniciando generación de archivo Excel");
+
+        return new ExcelTicketInvoiceSink(createWorkbook(), outputStream);
+    }
+
     /**
      * Genera un archivo Excel con la información de los tickets procesados.
      *
@@ -55,37 +105,35 @@ public class ExcelTicketWriterAdapter implements TicketFileWriterPort {
      * como una fila dentro del archivo Excel.
      * </p>
      *
-     * @param invoices lista de tickets procesados
-     * @return arreglo de bytes correspondiente al archivo Excel generado
+     * @param invoices     lista de tickets procesados
+     * @param outputStream flujo de salida donde se escribe el archivo Excel
      * @throws CoreTechnicalException si ocurre un error durante la generación del archivo
      */
     @Override
-    public byte[] export(List<TicketInvoice> invoices) {
-
-        log.info("📊 [ExcelWriter] Iniciando generación de archivo Excel. Registros: {}",
-                invoices != null ? invoices.size() : 0);
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-
-            Sheet sheet = workbook.createSheet("RESULTADO");
-            createHeader(sheet);
-
-            IntStream.range(0, invoices.size())
-                    .forEach(index ->
-                            writeRow(sheet, index + 1, invoices.get(index))
-                    );
+    public void export(List<TicketInvoice> invoices, OutputStream outputStream) {
+        try {
+            TicketFileWriterPort.super.export(invoices, outputStream);
+        } catch (CoreTechnicalException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw generationError(ex);
+        }
+    }
 
-            try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-                workbook.write(bos);
-                log.info("[ExcelWriter] Archivo Excel generado correctamente");
-                return bos.toByteArray();
-            }
+    /**
+     * Crea el libro según el modo configurado.
+     *
+     * @return libro en modo streaming o en memoria
+     */
+    private Workbook createWorkbook() {
 
-        } catch (Exception ex) {
-            log.error("[ExcelWriter] Error generando el archivo Excel de resultados", ex);
-            throw new CoreTechnicalException("Error generando el archivo Excel de resultados",
-                    ErrorType.FILE_GENERATION_ERROR, ex);
+        if (!properties.streaming()) {
+            return new XSSFWorkbook();
         }
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(properties.rowWindow());
+        workbook.setCompressTempFiles(properties.compressTempFiles());
+        return workbook;
     }
 
     /**
@@ -120,4 +168,110 @@ public class ExcelTicketWriterAdapter implements TicketFileWriterPort {
         header.createCell(3).setCellValue("comprobantes");
     }
 
+    /**
+     * Escribe una fila de la hoja ERRORES con los datos de un error de procesamiento.
+     *
+     * @param sheet    hoja de errores
+     * @param rowIndex índice de la fila
+     * @param error    error registrado
+     */
+    private void writeErrorRow(Sheet sheet, int rowIndex, TicketProcessingError error) {
+
+        Row row = sheet.createRow(rowIndex);
+
+        row.createCell(0).setCellValue(error.folderName());
+        row.createCell(1).setCellValue(error.fileName());
+        row.createCell(2).setCellValue(error.errorType());
+        row.createCell(3).setCellValue(error.message());
+    }
+
+    /**
+     * Crea la fila de encabezado de la hoja ERRORES.
+     *
+     * @param sheet hoja de errores
+     */
+    private void createErrorHeader(Sheet sheet) {
+
+        Row header = sheet.createRow(0);
+
+        header.createCell(0).setCellValue("file");
+        header.createCell(1).setCellValue("filePR");
+        header.createCell(2).setCellValue("tipo");
+        header.createCell(3).setCellValue("mensaje");
+    }
+
+    private static CoreTechnicalException generationError(Exception ex) {
+        log.error("[ExcelWriter] Error generando el archivo Excel de resultados", ex);
+        return new CoreTechnicalException("Error generando el archivo Excel de resultados",
+                ErrorType.FILE_GENERATION_ERROR, ex);
+    }
+
+    /**
+     * Receptor que escribe las filas sobre la hoja RESULTADO de un libro abierto
+     * y los errores sobre la hoja ERRORES, creada con el primer error.
+     */
+    private final class ExcelTicketInvoiceSink implements TicketInvoiceSink {
+
+        private final Workbook workbook;
+        private final OutputStream outputStream;
+        private final Sheet sheet;
+        private int rowIndex;
+        private Sheet errorSheet;
+        private int errorRowIndex;
+
+        private ExcelTicketInvoiceSink(Workbook workbook, OutputStream outputStream) {
+            this.workbook = workbook;
+            this.outputStream = outputStream;
+            this.sheet = workbook.createSheet("RESULTADO");
+            createHeader(sheet);
+        }
+
+        @Override
+        public void accept(TicketInvoice invoice) {
+            try {
+                writeRow(sheet, ++rowIndex, invoice);
+            } catch (Exception ex) {
+                throw generationError(ex);
+            }
+        }
+
+        @Override
+        public void acceptError(TicketProcessingError error) {
+            try {
+                if (errorSheet == null) {
+                    errorSheet = workbook.createSheet("ERRORES");
+                    createErrorHeader(errorSheet);
+                }
+                writeErrorRow(errorSheet, ++errorRowIndex, error);
+            } catch (Exception ex) {
+                throw generationError(ex);
+            }
+        }
+
+        @Override
+        public void complete() {
+            try {
+                workbook.write(outputStream);
+                log.info("[ExcelWriter] Archivo Excel generado correctamente. Registros: {}, errores: {}",
+                        rowIndex, errorRowIndex);
+            } catch (Exception ex) {
+                throw generationError(ex);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                workbook.close();
+            } catch (IOException ex) {
+                log.warn("[ExcelWriter] No se pudo cerrar el libro Excel", ex);
+            } finally {
+                if (workbook instanceof SXSSFWorkbook streamingWorkbook) {
+                    streamingWorkbook.dispose();
+                }
+            }
+        }
+
+    }
+
 }
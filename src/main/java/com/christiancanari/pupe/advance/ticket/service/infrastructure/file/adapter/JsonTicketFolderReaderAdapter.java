@@ -0,0 +1,159 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.file.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketFolderReaderPort;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Adapter de infraestructura que lee los nombres de carpetas desde un arreglo JSON.
+ *
+ * <p>
+ * Formato esperado: {@code ["CARPETA_1", "CARPETA_2"]}. Los elementos {@code null} o en
+ * blanco se ignoran y los valores numéricos se toman como texto. El arreglo se recorre
+ * con el parser de streaming de Jackson, por lo que los nombres se entregan a medida
+ * que se leen.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class JsonTicketFolderReaderAdapter implements TicketFolderReaderPort {
+
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jsonMapper parser JSON
+     */
+    public JsonTicketFolderReaderAdapter(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public FolderListFormat format() {
+        return FolderListFormat.JSON;
+    }
+
+    /**
+     * Lee los nombres de carpetas del arreglo JSON a medida que se consume el flujo.
+     *
+     * @param inputStream contenido JSON
+     * @return nombres de carpetas en el orden del arreglo; debe cerrarse al finalizar
+     * @throws CoreTechnicalException si el contenido no es un arreglo JSON válido
+     */
+    @Override
+    public Stream<String> streamFolderNames(InputStream inputStream) {
+
+        log.info("[JsonFolderReader] Iniciando lectura de nombres de carpetas desde JSON");
+
+        JsonParser parser = null;
+
+        try {
+            parser = jsonMapper.createParser(inputStream);
+
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Se esperaba un arreglo JSON de nombres de carpeta");
+            }
+
+            JsonParser opened = parser;
+            FolderNameIterator folderNames = new FolderNameIterator(parser);
+
+            return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(folderNames, Spliterator.ORDERED | Spliterator.NONNULL),
+                    false
+            ).onClose(opened::close);
+
+        } catch (Exception ex) {
+            if (parser != null) {
+                parser.close();
+            }
+            throw readError(ex);
+        }
+    }
+
+    private static CoreTechnicalException readError(Exception ex) {
+        log.error("[JsonFolderReader] Error leyendo el listado JSON de carpetas", ex);
+        return new CoreTechnicalException("El listado JSON de carpetas no es válido: " + ex.getMessage(),
+                ErrorType.FOLDER_LIST_INVALID, ex);
+    }
+
+    /**
+     * Iterador que recorre los elementos del arreglo JSON.
+     */
+    private static final class FolderNameIterator implements Iterator<String> {
+
+        private final JsonParser parser;
+        private String next;
+        private boolean finished;
+
+        private FolderNameIterator(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                next = advance();
+                finished = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String value = next;
+            next = null;
+            return value;
+        }
+
+        private String advance() {
+            try {
+                while (true) {
+                    JsonToken token = parser.nextToken();
+
+                    if (token == JsonToken.END_ARRAY) {
+                        return null;
+                    }
+
+                    switch (token) {
+                        case VALUE_STRING, VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                            String value = parser.getString().trim();
+                            if (!value.isBlank()) {
+                                return value;
+                            }
+                        }
+                        case VALUE_NULL -> { }
+                        case null -> throw new IllegalArgumentException("El arreglo JSON no está cerrado");
+                        default -> throw new IllegalArgumentException(
+                                "Elemento no admitido en el listado de carpetas: " + token);
+                    }
+                }
+            } catch (Exception ex) {
+                throw readError(ex);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.file.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketFileWriterPort;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketInvoiceSink;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Adapter de infraestructura que genera el resultado del procesamiento de tickets en formato
+ * NDJSON (un objeto JSON por línea, UTF-8).
+ *
+ * <p>
+ * Cada objeto contiene los campos {@code file}, {@code filePR}, {@code facturas} y
+ * {@code comprobantes}, equivalentes a las columnas del reporte Excel. Las líneas se
+ * escriben a medida que se reciben a través de un buffer acotado.
+ * </p>
+ *
+ * <p>
+ * Los errores registrados ({@code ticket.processing.errors.continue-on-error}) se escriben
+ * en el orden en que ocurren como {@code {"error":{"file","filePR","tipo","mensaje"}}}.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class NdjsonTicketWriterAdapter implements TicketFileWriterPort {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jsonMapper serializador JSON
+     */
+    public NdjsonTicketWriterAdapter(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public TicketReportFormat format() {
+        return TicketReportFormat.NDJSON;
+    }
+
+    /**
+     * Abre un receptor que escribe cada ticket como una línea JSON.
+     *
+     * @param outputStream flujo de salida donde se escribe el archivo NDJSON
+     * @return receptor de filas del archivo NDJSON
+     */
+    @Override
+    public TicketInvoiceSink openSink(OutputStream outputStream) {
+
+        log.info("[NdjsonWriter] Iniciando generación de archivo NDJSON");
+
+        return new NdjsonTicketInvoiceSink(new BufferedOutputStream(outputStream, BUFFER_SIZE));
+    }
+
+    private static CoreTechnicalException generationError(Exception ex) {
+        log.error("[NdjsonWriter] Error generando el archivo NDJSON de resultados", ex);
+        return new CoreTechnicalException("Error generando el archivo NDJSON de resultados",
+                ErrorType.FILE_GENERATION_ERROR, ex);
+    }
+
+    /**
+     * Línea del archivo NDJSON.
+     */
+    record NdjsonRow(String file, String filePR, String facturas, String comprobantes) {
+
+        static NdjsonRow of(TicketInvoice invoice) {
+            return new NdjsonRow(
+                    invoice.sourceFileName(),
+                    invoice.processedFileName(),
+                    invoice.facturaContent(),
+                    invoice.comprobanteContent()
+            );
+        }
+
+    }
+
+    /**
+     * Línea de error del archivo NDJSON.
+     */
+    record NdjsonErrorRow(ErrorDetail error) {
+
+        record ErrorDetail(String file, String filePR, String tipo, String mensaje) {
+        }
+
+        static NdjsonErrorRow of(TicketProcessingError error) {
+            return new NdjsonErrorRow(new ErrorDetail(
+                    error.folderName(),
+                    error.fileName(),
+                    error.errorType(),
+                    error.message()
+            ));
+        }
+
+    }
+
+    /**
+     * Receptor que escribe las líneas JSON sobre el flujo de salida.
+     */
+    private final class NdjsonTicketInvoiceSink implements TicketInvoiceSink {
+
+        private final OutputStream outputStream;
+        private int rows;
+        private int errors;
+
+        private NdjsonTicketInvoiceSink(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        public void accept(TicketInvoice invoice) {
+            writeLine(NdjsonRow.of(invoice));
+            rows++;
+        }
+
+        @Override
+        public void acceptError(TicketProcessingError error) {
+            writeLine(NdjsonErrorRow.of(error));
+            errors++;
+        }
+
+        @Override
+        public void complete() {
+            try {
+                outputStream.flush();
+                log.info("[NdjsonWriter] Archivo NDJSON generado correctamente. Registros: {}, errores: {}",
+                        rows, errors);
+            } catch (IOException ex) {
+                throw generationError(ex);
+            }
+        }
+
+        /**
+         * No cierra el flujo de salida; su ciclo de vida corresponde a quien lo entrega.
+         */
+        @Override
+        public void close() {
+            // Sin recursos propios que liberar
+        }
+
+        private void writeLine(Object line) {
+            try {
+                outputStream.write(jsonMapper.writeValueAsBytes(line));
+                outputStream.write('\n');
+            } catch (Exception ex) {
+                throw generationError(ex);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.file.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propiedades de configuración del reporte Excel de resultados.
+ *
+ * <p>
+ * En modo streaming el libro se genera con {@code SXSSFWorkbook}: solo las últimas
+ * {@code rowWindow} filas permanecen en memoria y el resto se vuelca a archivos
+ * temporales, por lo que el consumo de heap no depende de la cantidad de tickets.
+ * </p>
+ *
+ * @param streaming         indica si el libro se genera en modo streaming
+ * @param rowWindow         cantidad de filas mantenidas en memoria en modo streaming
+ * @param compressTempFiles indica si los archivos temporales del modo streaming se comprimen
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Validated
+@ConfigurationProperties(prefix = "ticket.report.excel")
+public record ExcelReportProperties(
+
+        @DefaultValue("true")
+        boolean streaming,
+
+        @Min(1)
+        @DefaultValue("100")
+        int rowWindow,
+
+        @DefaultValue("true")
+        boolean compressTempFiles
+) {
+}
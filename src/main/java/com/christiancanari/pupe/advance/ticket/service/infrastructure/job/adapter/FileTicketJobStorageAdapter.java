@@ -0,0 +1,171 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.job.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReport;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketJobStoragePort;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketJobProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreBusinessException;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.Stream;
+
+/**
+ * Adapter que almacena los archivos de los trabajos asíncronos en el sistema de archivos.
+ *
+ * <p>
+ * Estructura del directorio configurado en {@code ticket.jobs.directory}:
+ * <ul>
+ *     <li>{@code <jobId>.input}: listado de carpetas recibido</li>
+ *     <li>{@code <jobId>.result}: reporte generado</li>
+ * </ul>
+ * Los reportes se escriben en un archivo temporal y se publican con un movimiento atómico.
+ * Como los trabajos solo se registran en memoria, los archivos de ejecuciones anteriores
+ * se eliminan al iniciar.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class FileTicketJobStorageAdapter implements TicketJobStoragePort {
+
+    private static final String INPUT_SUFFIX = ".input";
+    private static final String RESULT_SUFFIX = ".result";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+
+    /**
+     * Construye el adapter, preparando el directorio de trabajos.
+     *
+     * @param properties propiedades de los trabajos asíncronos
+     */
+    public FileTicketJobStorageAdapter(TicketJobProperties properties) {
+        this.directory = properties.directory();
+        prepare();
+    }
+
+    @Override
+    public void saveInput(String jobId, InputStream input) {
+        try {
+            Files.copy(input, file(jobId, INPUT_SUFFIX), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            throw storageError("Error almacenando el listado del trabajo " + jobId, ErrorType.UNEXPECTED_ERROR, ex);
+        }
+    }
+
+    @Override
+    public InputStream openInput(String jobId) {
+        return open(jobId, INPUT_SUFFIX);
+    }
+
+    @Override
+    public void saveResult(String jobId, TicketReport report) {
+
+        Path target = file(jobId, RESULT_SUFFIX);
+        Path temp = null;
+
+        try {
+            temp = Files.createTempFile(directory, jobId, ".tmp");
+
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE)) {
+                report.writeTo(outputStream);
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+        } catch (IOException ex) {
+            deleteQuietly(temp);
+            throw storageError("Error almacenando el reporte del trabajo " + jobId,
+                    ErrorType.FILE_GENERATION_ERROR, ex);
+        } catch (RuntimeException ex) {
+            deleteQuietly(temp);
+            throw ex;
+        }
+    }
+
+    @Override
+    public InputStream openResult(String jobId) {
+        return open(jobId, RESULT_SUFFIX);
+    }
+
+    @Override
+    public void deleteInput(String jobId) {
+        deleteQuietly(file(jobId, INPUT_SUFFIX));
+    }
+
+    @Override
+    public void delete(String jobId) {
+        deleteQuietly(file(jobId, INPUT_SUFFIX));
+        deleteQuietly(file(jobId, RESULT_SUFFIX));
+    }
+
+    private InputStream open(String jobId, String suffix) {
+        try {
+            return Files.newInputStream(file(jobId, suffix));
+        } catch (NoSuchFileException ex) {
+            throw new CoreBusinessException("No existen archivos para el trabajo " + jobId,
+                    ErrorType.RESOURCE_NOT_FOUND, ex);
+        } catch (IOException ex) {
+            throw storageError("Error leyendo los archivos del trabajo " + jobId, ErrorType.UNEXPECTED_ERROR, ex);
+        }
+    }
+
+    /**
+     * Crea el directorio de trabajos y elimina los archivos de ejecuciones anteriores.
+     */
+    private void prepare() {
+
+        try {
+            Files.createDirectories(directory);
+
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(Files::isRegularFile).forEach(FileTicketJobStorageAdapter::deleteQuietly);
+            }
+
+        } catch (IOException ex) {
+            throw storageError("No se pudo inicializar el directorio de trabajos " + directory,
+                    ErrorType.UNEXPECTED_ERROR, ex);
+        }
+
+        log.info("[JobStorage] Archivos de trabajos en {}", directory);
+    }
+
+    private Path file(String jobId, String suffix) {
+        return directory.resolve(jobId.replaceAll("[^A-Za-z0-9_-]", "_") + suffix);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("[JobStorage] No se pudo eliminar {}", file, ex);
+        }
+    }
+
+    private static CoreTechnicalException storageError(String message, ErrorType type, Exception ex) {
+        log.error("[JobStorage] {}", message, ex);
+        return new CoreTechnicalException(message, type, ex);
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.manifest.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderManifest;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketManifestStorePort;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketProcessingProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Adapter que persiste el estado del procesamiento incremental en el sistema de archivos.
+ *
+ * <p>
+ * Estructura del directorio configurado en {@code ticket.processing.incremental.directory}:
+ * <ul>
+ *     <li>{@code start-page-token}: token de la API de cambios de Google Drive</li>
+ *     <li>{@code folders/<ticketsFolderId>.json}: manifiesto de cada subcarpeta de tickets</li>
+ * </ul>
+ * Todas las escrituras son atómicas mediante un archivo temporal.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class FileTicketManifestStoreAdapter implements TicketManifestStorePort {
+
+    private static final String TOKEN_FILE = "start-page-token";
+    private static final String FOLDERS_DIRECTORY = "folders";
+    private static final String MANIFEST_SUFFIX = ".json";
+
+    private final JsonMapper jsonMapper;
+    private final Path directory;
+    private final Path foldersDirectory;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param properties propiedades del procesamiento de tickets
+     * @param jsonMapper serializador de los manifiestos
+     */
+    public FileTicketManifestStoreAdapter(TicketProcessingProperties properties, JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        this.directory = properties.incremental().directory();
+        this.foldersDirectory = directory.resolve(FOLDERS_DIRECTORY);
+    }
+
+    @Override
+    public Optional<String> loadStartPageToken() {
+        try {
+            return Optional.of(Files.readString(directory.resolve(TOKEN_FILE)).trim())
+                    .filter(token -> !token.isEmpty());
+        } catch (NoSuchFileException ex) {
+            return Optional.empty();
+        } catch (IOException ex) {
+            throw storeError("Error leyendo el token de cambios", ex);
+        }
+    }
+
+    @Override
+    public void saveStartPageToken(String startPageToken) {
+        write(directory.resolve(TOKEN_FILE), startPageToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Optional<FolderManifest> load(String ticketsFolderId) {
+        return read(manifestPath(ticketsFolderId));
+    }
+
+    @Override
+    public Map<String, FolderManifest> loadAll() {
+
+        if (!Files.isDirectory(foldersDirectory)) {
+            return Map.of();
+        }
+
+        try (Stream<Path> files = Files.list(foldersDirectory)) {
+
+            Map<String, FolderManifest> manifests = new LinkedHashMap<>();
+
+            files.filter(file -> file.getFileName().toString().endsWith(MANIFEST_SUFFIX))
+                    .sorted()
+                    .map(this::read)
+                    .flatMap(Optional::stream)
+                    .forEach(manifest -> manifests.put(manifest.ticketsFolderId(), manifest));
+
+            return manifests;
+
+        } catch (IOException ex) {
+            throw storeError("Error listando los manifiestos de carpetas", ex);
+        }
+    }
+
+    @Override
+    public void save(FolderManifest manifest) {
+        write(manifestPath(manifest.ticketsFolderId()), jsonMapper.writeValueAsBytes(manifest));
+    }
+
+    @Override
+    public void clear() {
+
+        if (!Files.exists(directory)) {
+            return;
+        }
+
+        log.info("[ManifestStore] Eliminando el estado incremental en {}", directory);
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                if (!file.equals(directory)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ex) {
+            throw storeError("Error eliminando el estado incremental", ex);
+        }
+    }
+
+    private Optional<FolderManifest> read(Path file) {
+        try {
+            return Optional.of(jsonMapper.readValue(Files.readAllBytes(file), FolderManifest.class));
+        } catch (NoSuchFileException ex) {
+            return Optional.empty();
+        } catch (Exception ex) {
+            log.warn("[ManifestStore] Manifiesto ilegible {}, la carpeta se procesará completa", file, ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Escribe el contenido de forma atómica mediante un archivo temporal.
+     */
+    private void write(Path target, byte[] content) {
+
+        Path temp = null;
+
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            Files.write(temp, content);
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+        } catch (IOException ex) {
+            try {
+                if (temp != null) {
+                    Files.deleteIfExists(temp);
+                }
+            } catch (IOException suppressed) {
+                ex.addSuppressed(suppressed);
+            }
+            throw storeError("Error escribiendo el estado incremental en " + target, ex);
+        }
+    }
+
+    private Path manifestPath(String ticketsFolderId) {
+        return foldersDirectory.resolve(ticketsFolderId.replaceAll("[^A-Za-z0-9_-]", "_") + MANIFEST_SUFFIX);
+    }
+
+    private static CoreTechnicalException storeError(String message, Exception ex) {
+        log.error("[ManifestStore] {}", message, ex);
+        return new CoreTechnicalException(message, ErrorType.UNEXPECTED_ERROR, ex);
+    }
+
+}
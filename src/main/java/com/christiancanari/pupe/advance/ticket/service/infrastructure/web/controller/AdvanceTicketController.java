@@ -1,25 +1,38 @@
 package com.christiancanari.pupe.advance.ticket.service.infrastructure.web.controller;
 
-import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.FairAdmissionQueue;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ProcessTicketCommand;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketDeadline;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReport;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
 import com.christiancanari.pupe.advance.ticket.service.domain.port.in.ProcessTicketUseCase;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketAdmissionProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketDeadlineProperties;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.dto.request.ProcessTicketRequest;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreRequestException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.InputStream;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+import static com.christiancanari.pupe.advance.ticket.service.infrastructure.web.controller.TicketReportResponses.*;
 
 /**
  * Controller REST para el procesamiento de tickets.
@@ -29,6 +42,21 @@ import java.time.format.DateTimeFormatter;
  * Se encarga únicamente de recibir la petición HTTP, validar el request y delegar al caso de uso.
  * </p>
  *
+ * <p>
+ * Cada procesamiento obtiene antes un turno del {@link FairAdmissionQueue}, que se conserva
+ * hasta terminar de escribir el reporte. Si no hay turno disponible se responde 429 con
+ * {@code Retry-After}. El solicitante se identifica por la cabecera configurada en
+ * {@code ticket.admission.caller-header} o, en su defecto, por la dirección remota.
+ * </p>
+ *
+ * <p>
+ * Cada procesamiento recibe además un plazo ({@code ticket.deadline.default-timeout}), que el
+ * cliente puede ajustar con la cabecera {@code ticket.deadline.timeout-header} hasta
+ * {@code ticket.deadline.max-timeout}. El plazo se cancela si el cliente cierra la conexión
+ * o vence la petición asíncrona; al terminar, el procesamiento abandona las carpetas y PDFs
+ * pendientes. Si termina antes de comenzar la respuesta se responde 504.
+ * </p>
+ *
  * @author Christian Rodriguez
  * @version 1.0.0
  * @since 1.0.0
@@ -38,27 +66,48 @@ import java.time.format.DateTimeFormatter;
 @RequestMapping("/advances")
 @Tag(
         name = "Advance Tickets",
-        description = "Procesamiento de tickets y generación de reportes Excel"
+        description = "Procesamiento de tickets y generación de reportes Excel, CSV o NDJSON"
 )
 public class AdvanceTicketController {
 
-    /**
-     * MIME type estándar para archivos Excel (.xlsx)
-     */
-    private static final String EXCEL_MIME = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
-
     private final ProcessTicketUseCase processTicketUseCase;
+    private final FairAdmissionQueue fairAdmissionQueue;
+    private final TicketAdmissionProperties ticketAdmissionProperties;
+    private final TicketDeadlineProperties ticketDeadlineProperties;
 
-    public AdvanceTicketController(ProcessTicketUseCase processTicketUseCase) {
+    public AdvanceTicketController(
+            ProcessTicketUseCase processTicketUseCase,
+            FairAdmissionQueue fairAdmissionQueue,
+            TicketAdmissionProperties ticketAdmissionProperties,
+            TicketDeadlineProperties ticketDeadlineProperties
+    ) {
         this.processTicketUseCase = processTicketUseCase;
+        this.fairAdmissionQueue = fairAdmissionQueue;
+        this.ticketAdmissionProperties = ticketAdmissionProperties;
+        this.ticketDeadlineProperties = ticketDeadlineProperties;
     }
 
     /**
      * Procesa un archivo Excel que contiene nombres de carpetas,
-     * busca los tickets PDF asociados y genera un Excel consolidado.
+     * busca los tickets PDF asociados y genera un reporte consolidado.
+     *
+     * <p>
+     * La apertura del archivo y la resolución del primer bloque de carpetas se completan antes
+     * de responder, de modo que sus errores se traducen a la respuesta de error habitual. Las
+     * carpetas se procesan mientras el reporte se escribe directamente en la respuesta mediante
+     * {@link StreamingResponseBody}.
+     * </p>
      *
-     * @param request request multipart que contiene el archivo Excel
-     * @return archivo Excel generado como resultado
+     * <p>
+     * El formato se toma del parámetro {@code format} (xlsx, csv o ndjson) o, en su defecto,
+     * del encabezado {@code Accept}; XLSX es el formato por defecto. Los formatos de texto
+     * se comprimen con gzip cuando el cliente lo admite en {@code Accept-Encoding}.
+     * </p>
+     *
+     * @param request     request multipart que contiene el archivo Excel
+     * @param headers     encabezados de la petición
+     * @param httpRequest petición HTTP, utilizada para identificar al solicitante
+     * @return reporte generado como resultado
      */
     @Operation(
             summary = "Procesar tickets desde Excel",
@@ -66,83 +115,186 @@ public class AdvanceTicketController {
                     Recibe un archivo Excel con nombres de carpetas.
                     El sistema buscará los tickets PDF en Google Drive,
                     extraerá la información relevante y devolverá un
-                    archivo Excel consolidado.
+                    reporte consolidado en Excel (por defecto), CSV o NDJSON,
+                    según el parámetro format o el encabezado Accept.
                     """
     )
     @ApiResponse(
             responseCode = "200",
-            description = "Archivo Excel generado correctamente",
-            content = @Content(
-                    mediaType = EXCEL_MIME,
-                    schema = @Schema(type = "string", format = "binary")
-            )
+            description = "Reporte generado correctamente",
+            content = {
+                    @Content(mediaType = EXCEL_MIME, schema = @Schema(type = "string", format = "binary")),
+                    @Content(mediaType = CSV_MIME, schema = @Schema(type = "string")),
+                    @Content(mediaType = NDJSON_MIME, schema = @Schema(type = "string"))
+            }
     )
     @ApiResponse(responseCode = "400", description = "Archivo no enviado o inválido")
+    @ApiResponse(responseCode = "406", description = "Formato de reporte no soportado")
+    @ApiResponse(responseCode = "429", description = "Capacidad de procesamiento saturada; reintentar según Retry-After")
     @ApiResponse(responseCode = "500", description = "Error interno del sistema")
+    @ApiResponse(responseCode = "504", description = "Plazo de procesamiento vencido")
     @PostMapping(
             value = "/process-ticket",
-            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
-            produces = EXCEL_MIME
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE
     )
-    public ResponseEntity<byte[]> processTicket(
-            @Valid @ModelAttribute ProcessTicketRequest request
+    public ResponseEntity<StreamingResponseBody> processTicket(
+            @Valid @ModelAttribute ProcessTicketRequest request,
+            @RequestHeader HttpHeaders headers,
+            HttpServletRequest httpRequest
     ) {
 
-        MultipartFile file = request.file();
-
-        if (file == null || file.isEmpty()) {
-            throw new CoreRequestException("El archivo Excel es obligatorio", ErrorType.EXCEL_INVALID);
-        }
-
-        log.info("Solicitud recibida: procesamiento de tickets");
+        InputStream input = toInputStream(request.file());
+        TicketReportFormat format = resolveFormat(request.format(), headers.getAccept());
 
-        byte[] result = processTicketUseCase.process(toInputStream(file));
+        log.info("Solicitud recibida: procesamiento de tickets en formato {}", format);
 
-        log.info("Procesamiento finalizado exitosamente");
+        TicketReport report = admit(httpRequest, request.file().getSize(),
+                new ProcessTicketCommand(input, FolderListFormat.XLSX, format, openDeadline(httpRequest)));
 
-        return ResponseEntity.ok()
-                .header(
-                        HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + buildResultFilename() + "\""
-                )
-                .contentType(MediaType.parseMediaType(EXCEL_MIME))
-                .body(result);
+        return stream(report, format, headers);
     }
 
     /**
-     * Convierte un {@link MultipartFile} en {@link InputStream}.
+     * Procesa un listado de carpetas enviado como JSON o texto y genera un reporte consolidado.
      *
      * <p>
-     * Cualquier error de lectura se considera un error de entrada HTTP.
+     * Pensado para integraciones que ya disponen de los nombres de carpeta: evita construir
+     * un Excel de entrada. El cuerpo se interpreta según {@code Content-Type}:
+     * <ul>
+     *     <li>{@code application/json}: arreglo de nombres, por ejemplo {@code ["CARPETA_1"]}</li>
+     *     <li>{@code text/csv} o {@code text/plain}: un nombre por línea (primera columna), sin encabezado</li>
+     * </ul>
+     * El formato del reporte se negocia igual que en {@code /process-ticket}.
      * </p>
      *
-     * @param file archivo multipart validado
-     * @return flujo de entrada del archivo
+     * @param format      formato del reporte, opcional
+     * @param headers     encabezados de la petición
+     * @param httpRequest petición HTTP, utilizada para identificar al solicitante
+     * @param body        contenido del listado de carpetas
+     * @return reporte generado como resultado
+     */
+    @Operation(
+            summary = "Procesar tickets desde un listado de carpetas",
+            description = """
+                    Recibe los nombres de carpetas como arreglo JSON o como texto/CSV
+                    (un nombre por línea) y devuelve el mismo reporte consolidado que
+                    /process-ticket, sin necesidad de construir un Excel de entrada.
+                    """
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Reporte generado correctamente",
+            content = {
+                    @Content(mediaType = EXCEL_MIME, schema = @Schema(type = "string", format = "binary")),
+                    @Content(mediaType = CSV_MIME, schema = @Schema(type = "string")),
+                    @Content(mediaType = NDJSON_MIME, schema = @Schema(type = "string"))
+            }
+    )
+    @ApiResponse(responseCode = "400", description = "Listado vacío o inválido")
+    @ApiResponse(responseCode = "406", description = "Formato de reporte no soportado")
+    @ApiResponse(responseCode = "415", description = "Tipo de contenido del listado no soportado")
+    @ApiResponse(responseCode = "429", description = "Capacidad de procesamiento saturada; reintentar según Retry-After")
+    @ApiResponse(responseCode = "500", description = "Error interno del sistema")
+    @ApiResponse(responseCode = "504", description = "Plazo de procesamiento vencido")
+    @PostMapping("/process-ticket/folders")
+    public ResponseEntity<StreamingResponseBody> processFolderList(
+            @RequestParam(name = "format", required = false) String format,
+            @RequestHeader HttpHeaders headers,
+            HttpServletRequest httpRequest,
+            InputStream body
+    ) {
+
+        FolderListFormat inputFormat = resolveInputFormat(headers.getContentType());
+        TicketReportFormat outputFormat = resolveFormat(format, headers.getAccept());
+
+        log.info("Solicitud recibida: procesamiento de listado {} en formato {}", inputFormat, outputFormat);
+
+        TicketReport report = admit(httpRequest, headers.getContentLength(),
+                new ProcessTicketCommand(body, inputFormat, outputFormat, openDeadline(httpRequest)));
+
+        return stream(report, outputFormat, headers);
+    }
+
+    /**
+     * Obtiene un turno de procesamiento y prepara el reporte, que libera el turno al terminar de escribirse.
+     *
+     * @param httpRequest  petición HTTP
+     * @param requestBytes tamaño del listado recibido; negativo si se desconoce
+     * @param command      comando de procesamiento
+     * @return reporte que conserva el turno mientras se escribe
      */
-    private InputStream toInputStream(MultipartFile file) {
+    private TicketReport admit(HttpServletRequest httpRequest, long requestBytes, ProcessTicketCommand command) {
+
+        FairAdmissionQueue.Permit permit = fairAdmissionQueue.acquire(resolveCaller(httpRequest), requestBytes);
+
+        TicketReport report;
         try {
-            return file.getInputStream();
-        } catch (Exception ex) {
-            log.error("Error leyendo archivo Excel de entrada", ex);
-            throw new CoreRequestException("No se pudo leer el archivo Excel de entrada", ErrorType.EXCEL_INVALID, ex);
+            report = processTicketUseCase.processReport(command);
+        } catch (RuntimeException ex) {
+            permit.close();
+            throw ex;
         }
+
+        return outputStream -> {
+            try (permit) {
+                report.writeTo(outputStream);
+            }
+        };
     }
 
     /**
-     * Genera el nombre del archivo Excel de salida.
+     * Crea el plazo de la solicitud y lo asocia a la petición asíncrona para cancelarlo
+     * si el cliente cierra la conexión.
      *
-     * <p>
-     * Formato:
-     * <pre>resultado_yyyyMMdd_HHmmss.xlsx</pre>
-     * </p>
+     * @param httpRequest petición HTTP
+     * @return plazo del procesamiento
+     * @throws CoreRequestException si la cabecera de plazo no es una duración positiva
+     */
+    private TicketDeadline openDeadline(HttpServletRequest httpRequest) {
+
+        Duration timeout = resolveTimeout(httpRequest.getHeader(ticketDeadlineProperties.timeoutHeader()));
+        TicketDeadline deadline = timeout != null ? TicketDeadline.after(timeout) : TicketDeadline.unbounded();
+
+        WebAsyncUtils.getAsyncManager(httpRequest).registerCallableInterceptor(
+                DeadlineCancellingInterceptor.class.getName(), new DeadlineCancellingInterceptor(deadline));
+
+        return deadline;
+    }
+
+    /**
+     * Resuelve el plazo solicitado, acotado al máximo configurado.
      *
-     * @return nombre del archivo
+     * @return plazo del procesamiento; {@code null} si no se indicó uno ni existe plazo por defecto
      */
-    private String buildResultFilename() {
-        return "resultado_"
-                + LocalDateTime.now()
-                .format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"))
-                + ".xlsx";
+    private Duration resolveTimeout(String header) {
+
+        if (header == null || header.isBlank()) {
+            return ticketDeadlineProperties.defaultTimeout();
+        }
+
+        Duration timeout;
+        try {
+            timeout = DurationStyle.detectAndParse(header.strip(), ChronoUnit.SECONDS);
+        } catch (IllegalArgumentException ex) {
+            throw new CoreRequestException("Plazo de procesamiento inválido: " + header,
+                    ErrorType.REQUEST_TIMEOUT_INVALID, ex);
+        }
+
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new CoreRequestException("El plazo de procesamiento debe ser positivo: " + header,
+                    ErrorType.REQUEST_TIMEOUT_INVALID);
+        }
+
+        return timeout.compareTo(ticketDeadlineProperties.maxTimeout()) > 0
+                ? ticketDeadlineProperties.maxTimeout()
+                : timeout;
+    }
+
+    private String resolveCaller(HttpServletRequest httpRequest) {
+
+        String caller = httpRequest.getHeader(ticketAdmissionProperties.callerHeader());
+
+        return caller == null || caller.isBlank() ? httpRequest.getRemoteAddr() : caller.strip();
     }
 
 }
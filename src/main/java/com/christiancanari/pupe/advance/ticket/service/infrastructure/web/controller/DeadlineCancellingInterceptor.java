@@ -0,0 +1,52 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.web.controller;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Interceptor de la escritura asíncrona del reporte que cancela el plazo del procesamiento
+ * cuando la respuesta ya no puede entregarse.
+ *
+ * <p>
+ * El contenedor informa un error cuando el cliente cierra la conexión y un timeout cuando
+ * vence el tiempo de la petición asíncrona. En ambos casos el procesamiento pendiente se
+ * abandona en lugar de seguir descargando y analizando PDFs que nadie recibirá.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+class DeadlineCancellingInterceptor implements CallableProcessingInterceptor {
+
+    private final TicketDeadline deadline;
+
+    DeadlineCancellingInterceptor(TicketDeadline deadline) {
+        this.deadline = deadline;
+    }
+
+    @Override
+    public <T> Object handleTimeout(NativeWebRequest request, Callable<T> task) {
+        log.warn("Tiempo de la petición asíncrona agotado, se cancela el procesamiento");
+        deadline.cancel("tiempo de la petición agotado");
+        return RESULT_NONE;
+    }
+
+    @Override
+    public <T> Object handleError(NativeWebRequest request, Callable<T> task, Throwable t) {
+        log.warn("Conexión de la petición cerrada o fallida, se cancela el procesamiento: {}", t.toString());
+        deadline.cancel("conexión cerrada por el cliente");
+        return RESULT_NONE;
+    }
+
+    @Override
+    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+        deadline.cancel("respuesta finalizada");
+    }
+
+}
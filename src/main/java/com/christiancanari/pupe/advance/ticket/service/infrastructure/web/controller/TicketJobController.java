@@ -0,0 +1,215 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.web.controller;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJob;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.in.TicketJobUseCase;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketJobProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.dto.request.ProcessTicketRequest;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.dto.response.TicketJobEventResponse;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.dto.response.TicketJobResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import static com.christiancanari.pupe.advance.ticket.service.infrastructure.web.controller.TicketReportResponses.*;
+
+/**
+ * Controller REST para el procesamiento asíncrono de tickets.
+ *
+ * <p>
+ * Adapter de entrada en una arquitectura hexagonal. Recibe los mismos listados que
+ * {@link AdvanceTicketController}, pero responde {@code 202 Accepted} con el identificador
+ * del trabajo en cuanto el listado queda almacenado, liberando la conexión mientras las
+ * carpetas se procesan en segundo plano.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/advances/jobs")
+@Tag(
+        name = "Advance Ticket Jobs",
+        description = "Procesamiento asíncrono de tickets: envío, consulta de avance y descarga del reporte"
+)
+public class TicketJobController {
+
+    private static final String JOBS_PATH = "/advances/jobs/";
+
+    private final TicketJobUseCase ticketJobUseCase;
+    private final Duration eventsTimeout;
+
+    public TicketJobController(TicketJobUseCase ticketJobUseCase, TicketJobProperties ticketJobProperties) {
+        this.ticketJobUseCase = ticketJobUseCase;
+        this.eventsTimeout = ticketJobProperties.eventsTimeout();
+    }
+
+    /**
+     * Registra un trabajo a partir de un archivo Excel con nombres de carpetas.
+     *
+     * @param request request multipart con el archivo Excel y el formato opcional del reporte
+     * @return estado inicial del trabajo y su ubicación en {@code Location}
+     */
+    @Operation(
+            summary = "Enviar trabajo desde Excel",
+            description = """
+                    Recibe el mismo archivo Excel que /advances/process-ticket y retorna de inmediato
+                    el identificador del trabajo. El avance se consulta en /advances/jobs/{id}
+                    y el reporte se descarga desde /advances/jobs/{id}/result.
+                    """
+    )
+    @ApiResponse(responseCode = "202", description = "Trabajo aceptado")
+    @ApiResponse(responseCode = "400", description = "Archivo no enviado")
+    @ApiResponse(responseCode = "406", description = "Formato de reporte no soportado")
+    @ApiResponse(responseCode = "503", description = "Cola de trabajos completa")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<TicketJobResponse> submitTicket(@Valid @ModelAttribute ProcessTicketRequest request) {
+
+        InputStream input = toInputStream(request.file());
+        TicketReportFormat format = resolveFormat(request.format(), List.of());
+
+        return accepted(ticketJobUseCase.submit(input, FolderListFormat.XLSX, format));
+    }
+
+    /**
+     * Registra un trabajo a partir de un listado de carpetas enviado como JSON o texto.
+     *
+     * @param format  formato del reporte, opcional (xlsx por defecto)
+     * @param headers encabezados de la petición
+     * @param body    contenido del listado de carpetas
+     * @return estado inicial del trabajo y su ubicación en {@code Location}
+     */
+    @Operation(
+            summary = "Enviar trabajo desde un listado de carpetas",
+            description = """
+                    Recibe los nombres de carpetas como arreglo JSON o como texto/CSV
+                    (un nombre por línea) y retorna de inmediato el identificador del trabajo.
+                    """
+    )
+    @ApiResponse(responseCode = "202", description = "Trabajo aceptado")
+    @ApiResponse(responseCode = "406", description = "Formato de reporte no soportado")
+    @ApiResponse(responseCode = "415", description = "Tipo de contenido del listado no soportado")
+    @ApiResponse(responseCode = "503", description = "Cola de trabajos completa")
+    @PostMapping("/folders")
+    public ResponseEntity<TicketJobResponse> submitFolderList(
+            @RequestParam(name = "format", required = false) String format,
+            @RequestHeader HttpHeaders headers,
+            InputStream body
+    ) {
+
+        FolderListFormat inputFormat = resolveInputFormat(headers.getContentType());
+        TicketReportFormat outputFormat = resolveFormat(format, List.of());
+
+        return accepted(ticketJobUseCase.submit(body, inputFormat, outputFormat));
+    }
+
+    /**
+     * Consulta el estado y los contadores de avance de un trabajo.
+     *
+     * @param id identificador del trabajo
+     * @return estado del trabajo
+     */
+    @Operation(summary = "Consultar estado de un trabajo")
+    @ApiResponse(responseCode = "200", description = "Estado del trabajo")
+    @ApiResponse(responseCode = "404", description = "Trabajo inexistente o vencido")
+    @GetMapping("/{id}")
+    public TicketJobResponse status(@PathVariable String id) {
+        return toResponse(ticketJobUseCase.status(id));
+    }
+
+    /**
+     * Transmite los eventos de avance de un trabajo mediante Server-Sent Events.
+     *
+     * <p>
+     * El primer evento ({@code status}) contiene el estado actual. Durante el procesamiento se
+     * emiten {@code folder_resolved}, {@code pdfs_listed}, {@code pdf_extracted} y
+     * {@code folder_done}, cada uno con los contadores del trabajo, las carpetas por segundo y
+     * el tiempo estimado para finalizar. La conexión se cierra tras {@code completed} o
+     * {@code failed}.
+     * </p>
+     *
+     * @param id identificador del trabajo
+     * @return flujo de eventos
+     */
+    @Operation(
+            summary = "Seguir el avance de un trabajo (SSE)",
+            description = """
+                    Flujo text/event-stream con un evento por carpeta resuelta, listado de PDFs,
+                    PDF analizado y carpeta escrita, más el rendimiento y el tiempo estimado.
+                    Finaliza con el evento completed o failed.
+                    """
+    )
+    @ApiResponse(responseCode = "200", description = "Flujo de eventos del trabajo")
+    @ApiResponse(responseCode = "404", description = "Trabajo inexistente o vencido")
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable String id) {
+
+        SseEmitter emitter = new SseEmitter(eventsTimeout.toMillis());
+        String resultUrl = JOBS_PATH + id + "/result";
+
+        TicketJobEventRelay relay = new TicketJobEventRelay(
+                id, emitter, event -> TicketJobEventResponse.from(event, resultUrl));
+        relay.start(ticketJobUseCase.subscribe(id, relay));
+
+        log.info("[JobEvents] Cliente suscrito a los eventos del trabajo {}", id);
+
+        return emitter;
+    }
+
+    /**
+     * Descarga el reporte de un trabajo finalizado correctamente.
+     *
+     * @param id      identificador del trabajo
+     * @param headers encabezados de la petición
+     * @return reporte generado
+     */
+    @Operation(summary = "Descargar el reporte de un trabajo")
+    @ApiResponse(
+            responseCode = "200",
+            description = "Reporte generado",
+            content = {
+                    @Content(mediaType = EXCEL_MIME, schema = @Schema(type = "string", format = "binary")),
+                    @Content(mediaType = CSV_MIME, schema = @Schema(type = "string")),
+                    @Content(mediaType = NDJSON_MIME, schema = @Schema(type = "string"))
+            }
+    )
+    @ApiResponse(responseCode = "404", description = "Trabajo inexistente o vencido")
+    @ApiResponse(responseCode = "409", description = "El trabajo aún no finaliza o finalizó con error")
+    @GetMapping("/{id}/result")
+    public ResponseEntity<StreamingResponseBody> result(
+            @PathVariable String id,
+            @RequestHeader HttpHeaders headers
+    ) {
+        TicketJob job = ticketJobUseCase.status(id);
+        return stream(ticketJobUseCase.result(id), job.format(), headers);
+    }
+
+    private ResponseEntity<TicketJobResponse> accepted(TicketJob job) {
+        return ResponseEntity.accepted()
+                .location(URI.create(JOBS_PATH + job.id()))
+                .body(toResponse(job));
+    }
+
+    private TicketJobResponse toResponse(TicketJob job) {
+        return TicketJobResponse.from(job, JOBS_PATH + job.id() + "/result");
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.web.controller;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJobEvent;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.in.TicketJobUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reenvía los eventos de un trabajo a un cliente conectado por Server-Sent Events.
+ *
+ * <p>
+ * Los eventos se reciben desde los hilos del procesamiento y se encolan en una cola acotada
+ * de {@value #CAPACITY} posiciones; un hilo virtual por conexión los envía al cliente. Si el
+ * cliente es lento y la cola se llena, los eventos intermedios se descartan (cada evento
+ * incluye los contadores acumulados del trabajo), pero el evento final siempre se entrega.
+ * </p>
+ *
+ * <p>
+ * La suscripción se cierra y el hilo finaliza cuando se envía el evento final, cuando el
+ * cliente se desconecta o cuando la conexión vence.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+final class TicketJobEventRelay implements Consumer<TicketJobEvent> {
+
+    static final int CAPACITY = 256;
+
+    private static final long POLL_MILLIS = 1000;
+
+    private final String jobId;
+    private final SseEmitter emitter;
+    private final Function<TicketJobEvent, Object> payload;
+    private final BlockingQueue<TicketJobEvent> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private volatile TicketJobUseCase.Subscription subscription;
+    private volatile Thread sender;
+
+    /**
+     * Crea el reenvío para una conexión.
+     *
+     * @param jobId   identificador del trabajo
+     * @param emitter conexión SSE del cliente
+     * @param payload conversión del evento a los datos enviados
+     */
+    TicketJobEventRelay(String jobId, SseEmitter emitter, Function<TicketJobEvent, Object> payload) {
+        this.jobId = jobId;
+        this.emitter = emitter;
+        this.payload = payload;
+    }
+
+    /**
+     * Comienza a enviar los eventos de la suscripción indicada.
+     *
+     * @param subscription suscripción que entrega eventos a este reenvío
+     */
+    void start(TicketJobUseCase.Subscription subscription) {
+
+        this.subscription = subscription;
+
+        emitter.onCompletion(this::close);
+        emitter.onTimeout(this::close);
+        emitter.onError(ex -> close());
+
+        sender = Thread.ofVirtual().name("job-events-" + jobId).start(this::drain);
+    }
+
+    /**
+     * Encola un evento sin bloquear el hilo del procesamiento.
+     *
+     * @param event evento del trabajo
+     */
+    @Override
+    public void accept(TicketJobEvent event) {
+
+        if (closed.get() || queue.offer(event)) {
+            return;
+        }
+
+        if (event.type().isTerminal()) {
+            queue.clear();
+            queue.offer(event);
+        } else {
+            log.debug("[JobEvents] Cola llena para el trabajo {}, evento {} descartado", jobId, event.type());
+        }
+    }
+
+    /**
+     * Envía los eventos encolados hasta el evento final o hasta que la conexión se cierre.
+     */
+    private void drain() {
+
+        try {
+            while (!closed.get()) {
+
+                TicketJobEvent event = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (event == null) {
+                    continue;
+                }
+
+                emitter.send(SseEmitter.event()
+                        .name(event.type().name().toLowerCase(Locale.ROOT))
+                        .data(payload.apply(event), MediaType.APPLICATION_JSON));
+
+                if (event.type().isTerminal()) {
+                    emitter.complete();
+                    return;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("[JobEvents] Cliente del trabajo {} desconectado", jobId);
+            emitter.completeWithError(ex);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Cierra la suscripción y detiene el hilo de envío; es idempotente.
+     */
+    private void close() {
+
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        TicketJobUseCase.Subscription activeSubscription = subscription;
+        if (activeSubscription != null) {
+            activeSubscription.close();
+        }
+
+        Thread activeSender = sender;
+        if (activeSender != null && activeSender != Thread.currentThread()) {
+            activeSender.interrupt();
+        }
+    }
+
+}
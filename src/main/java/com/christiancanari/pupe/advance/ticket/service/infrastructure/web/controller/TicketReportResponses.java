@@ -0,0 +1,230 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.web.controller;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReport;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Utilidades compartidas por los controllers que reciben listados de carpetas y entregan reportes.
+ *
+ * <p>
+ * Centraliza la negociación del formato del reporte, la detección del formato del listado,
+ * la compresión gzip y los encabezados de descarga.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+final class TicketReportResponses {
+
+    /**
+     * MIME type estándar para archivos Excel (.xlsx)
+     */
+    static final String EXCEL_MIME = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    static final String CSV_MIME = "text/csv";
+    static final String NDJSON_MIME = "application/x-ndjson";
+
+    private static final String GZIP = "gzip";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private TicketReportResponses() {
+    }
+
+    /**
+     * Construye la respuesta que escribe el reporte directamente en el cuerpo.
+     *
+     * <p>
+     * Los formatos de texto se comprimen con gzip cuando el cliente lo admite.
+     * </p>
+     *
+     * @param report  reporte pendiente de escritura
+     * @param format  formato del reporte
+     * @param headers encabezados de la petición
+     * @return respuesta con el reporte
+     */
+    static ResponseEntity<StreamingResponseBody> stream(
+            TicketReport report,
+            TicketReportFormat format,
+            HttpHeaders headers
+    ) {
+
+        boolean gzip = format.compressible() && acceptsGzip(headers);
+
+        log.info("Generando resultado{}", gzip ? " (gzip)" : "");
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + buildResultFilename(format) + "\""
+                )
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.parseMediaType(format.contentType()));
+
+        if (!gzip) {
+            return response.body(report::writeTo);
+        }
+
+        return response
+                .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                .body(outputStream -> {
+                    GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+                    report.writeTo(gzipStream);
+                    gzipStream.finish();
+                });
+    }
+
+    /**
+     * Determina el formato del listado de carpetas a partir de su tipo de contenido.
+     *
+     * @param contentType tipo de contenido de la petición
+     * @return formato del listado
+     * @throws CoreRequestException si el tipo de contenido no está soportado
+     */
+    static FolderListFormat resolveInputFormat(MediaType contentType) {
+
+        if (contentType != null) {
+
+            if (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                    || "json".equalsIgnoreCase(contentType.getSubtypeSuffix())) {
+                return FolderListFormat.JSON;
+            }
+
+            if (MediaType.TEXT_PLAIN.isCompatibleWith(contentType)
+                    || MediaType.parseMediaType(CSV_MIME).isCompatibleWith(contentType)) {
+                return FolderListFormat.CSV;
+            }
+        }
+
+        throw new CoreRequestException(
+                "Tipo de contenido no soportado para el listado de carpetas: " + contentType,
+                ErrorType.FOLDER_LIST_FORMAT_NOT_SUPPORTED);
+    }
+
+    /**
+     * Determina el formato del reporte.
+     *
+     * <p>
+     * El parámetro {@code format} tiene prioridad. Si no se envía, se recorren los tipos del
+     * encabezado {@code Accept} por calidad descendente y se elige el primer formato compatible;
+     * un comodín o la ausencia del encabezado seleccionan XLSX.
+     * </p>
+     *
+     * @param format parámetro de formato, opcional
+     * @param accept tipos aceptados por el cliente
+     * @return formato a generar
+     * @throws CoreRequestException si el formato solicitado no está disponible
+     */
+    static TicketReportFormat resolveFormat(String format, List<MediaType> accept) {
+
+        if (format != null && !format.isBlank()) {
+            return TicketReportFormat.fromName(format.trim())
+                    .orElseThrow(() -> new CoreRequestException(
+                            "Formato de reporte no soportado: " + format,
+                            ErrorType.REPORT_FORMAT_NOT_SUPPORTED));
+        }
+
+        if (accept.isEmpty()) {
+            return TicketReportFormat.XLSX;
+        }
+
+        List<MediaType> byQuality = new ArrayList<>(accept);
+        byQuality.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+
+        for (MediaType mediaType : byQuality) {
+
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+
+            if (mediaType.isWildcardType()) {
+                return TicketReportFormat.XLSX;
+            }
+
+            for (TicketReportFormat candidate : TicketReportFormat.values()) {
+                if (mediaType.isCompatibleWith(MediaType.parseMediaType(candidate.contentType()))) {
+                    return candidate;
+                }
+            }
+        }
+
+        throw new CoreRequestException("Ninguno de los formatos aceptados está disponible: " + accept,
+                ErrorType.REPORT_FORMAT_NOT_SUPPORTED);
+    }
+
+    /**
+     * Indica si el cliente admite contenido comprimido con gzip.
+     *
+     * @param headers encabezados de la petición
+     * @return {@code true} si {@code Accept-Encoding} incluye gzip con calidad distinta de cero
+     */
+    static boolean acceptsGzip(HttpHeaders headers) {
+        return headers.getValuesAsList(HttpHeaders.ACCEPT_ENCODING).stream()
+                .map(value -> value.split(";"))
+                .filter(parts -> parts[0].trim().equalsIgnoreCase(GZIP))
+                .anyMatch(parts -> Arrays.stream(parts).skip(1)
+                        .map(String::trim)
+                        .noneMatch(parameter -> parameter.matches("q=0(\\.0{0,3})?")));
+    }
+
+    /**
+     * Convierte un {@link MultipartFile} obligatorio en {@link InputStream}.
+     *
+     * <p>
+     * Un archivo ausente o cualquier error de lectura se considera un error de entrada HTTP.
+     * </p>
+     *
+     * @param file archivo multipart recibido
+     * @return flujo de entrada del archivo
+     */
+    static InputStream toInputStream(MultipartFile file) {
+
+        if (file == null || file.isEmpty()) {
+            throw new CoreRequestException("El archivo Excel es obligatorio", ErrorType.EXCEL_INVALID);
+        }
+
+        try {
+            return file.getInputStream();
+        } catch (Exception ex) {
+            log.error("Error leyendo archivo Excel de entrada", ex);
+            throw new CoreRequestException("No se pudo leer el archivo Excel de entrada", ErrorType.EXCEL_INVALID, ex);
+        }
+    }
+
+    /**
+     * Genera el nombre del archivo de salida.
+     *
+     * <p>
+     * Formato:
+     * <pre>resultado_yyyyMMdd_HHmmss.{xlsx|csv|ndjson}</pre>
+     * </p>
+     *
+     * @param format formato del reporte
+     * @return nombre del archivo
+     */
+    static String buildResultFilename(TicketReportFormat format) {
+        return "resultado_"
+                + LocalDateTime.now()
+                .format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"))
+                + "." + format.extension();
+    }
+
+}
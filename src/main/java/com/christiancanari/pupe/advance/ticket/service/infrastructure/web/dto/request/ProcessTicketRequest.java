@@ -16,7 +16,22 @@ public record ProcessTicketRequest(
          * Archivo Excel con las carpetas de Google Drive.
          */
         @NotNull(message = "El archivo Excel es obligatorio")
-        MultipartFile file
+        MultipartFile file,
+
+        /**
+         * Formato del reporte (xlsx, csv o ndjson). Opcional; tiene prioridad sobre el encabezado Accept.
+         */
+        String format
 
 ) {
+
+    /**
+     * Crea el request sin formato explícito.
+     *
+     * @param file archivo Excel con las carpetas
+     */
+    public ProcessTicketRequest(MultipartFile file) {
+        this(file, null);
+    }
+
 }
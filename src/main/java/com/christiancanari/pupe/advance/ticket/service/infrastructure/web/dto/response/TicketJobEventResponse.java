@@ -0,0 +1,48 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.web.dto.response;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJobEvent;
+
+/**
+ * DTO con los datos de un evento de avance enviado por Server-Sent Events.
+ *
+ * @param folderName       carpeta asociada, si corresponde
+ * @param fileName         PDF asociado, si corresponde
+ * @param found            carpeta encontrada o ticket obtenido, según el evento
+ * @param count            PDFs listados o tickets de la carpeta, según el evento
+ * @param foldersPerSecond carpetas escritas por segundo
+ * @param etaSeconds       segundos estimados para finalizar, {@code null} si aún no se conoce
+ * @param job              estado del trabajo
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TicketJobEventResponse(
+        String folderName,
+        String fileName,
+        Boolean found,
+        Integer count,
+        double foldersPerSecond,
+        Long etaSeconds,
+        TicketJobResponse job
+) {
+
+    /**
+     * Construye la respuesta a partir del evento.
+     *
+     * @param event     evento de avance
+     * @param resultUrl ruta de descarga del reporte
+     * @return datos del evento
+     */
+    public static TicketJobEventResponse from(TicketJobEvent event, String resultUrl) {
+        return new TicketJobEventResponse(
+                event.folderName(),
+                event.fileName(),
+                event.found(),
+                event.count(),
+                Math.round(event.foldersPerSecond() * 100) / 100.0,
+                event.etaSeconds(),
+                TicketJobResponse.from(event.job(), resultUrl)
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.web.dto.response;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJob;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJobStatus;
+
+import java.time.Instant;
+
+/**
+ * DTO de respuesta con el estado y avance de un trabajo asíncrono.
+ *
+ * @param id               identificador del trabajo
+ * @param status           estado del trabajo (QUEUED, RUNNING, COMPLETED, FAILED)
+ * @param format           formato del reporte
+ * @param submittedAt      instante de recepción
+ * @param startedAt        instante de inicio, {@code null} si aún está en cola
+ * @param finishedAt       instante de finalización, {@code null} si no ha finalizado
+ * @param foldersTotal     total de carpetas del listado, {@code null} mientras no se haya leído completo
+ * @param foldersResolved  carpetas leídas y resueltas en Google Drive
+ * @param foldersProcessed carpetas con sus tickets ya escritos en el reporte
+ * @param pdfsExtracted    PDFs descargados y analizados
+ * @param ticketsGenerated tickets escritos en el reporte
+ * @param errorType        tipo de error si el trabajo falló
+ * @param errorMessage     mensaje de error si el trabajo falló
+ * @param resultUrl        ruta de descarga del reporte, solo cuando el trabajo finalizó correctamente
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TicketJobResponse(
+        String id,
+        String status,
+        String format,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant finishedAt,
+        Integer foldersTotal,
+        int foldersResolved,
+        int foldersProcessed,
+        int pdfsExtracted,
+        int ticketsGenerated,
+        String errorType,
+        String errorMessage,
+        String resultUrl
+) {
+
+    /**
+     * Construye la respuesta a partir del estado del trabajo.
+     *
+     * @param job       estado del trabajo
+     * @param resultUrl ruta de descarga del reporte
+     * @return respuesta del trabajo
+     */
+    public static TicketJobResponse from(TicketJob job, String resultUrl) {
+        return new TicketJobResponse(
+                job.id(),
+                job.status().name(),
+                job.format().extension(),
+                job.submittedAt(),
+                job.startedAt(),
+                job.finishedAt(),
+                job.foldersTotal(),
+                job.foldersResolved(),
+                job.foldersProcessed(),
+                job.pdfsExtracted(),
+                job.ticketsGenerated(),
+                job.errorCode(),
+                job.errorMessage(),
+                job.status() == TicketJobStatus.COMPLETED
+                        ? resultUrl
+                        : null
+        );
+    }
+}
@@ -33,6 +33,12 @@ public enum ErrorType {
     /** Archivo Excel inválido o con formato incorrecto */
     EXCEL_INVALID(HttpStatus.BAD_REQUEST),
 
+    /** Listado de carpetas (JSON o CSV) inválido */
+    FOLDER_LIST_INVALID(HttpStatus.BAD_REQUEST),
+
+    /** Plazo de procesamiento solicitado inválido */
+    REQUEST_TIMEOUT_INVALID(HttpStatus.BAD_REQUEST),
+
     /** No se encontraron carpetas para procesar */
     NO_FOLDERS_FOUND(HttpStatus.BAD_REQUEST),
 
@@ -42,6 +48,12 @@ public enum ErrorType {
     /** Conflicto de estado o duplicidad */
     CONFLICT(HttpStatus.CONFLICT),
 
+    /** Formato de reporte solicitado no disponible */
+    REPORT_FORMAT_NOT_SUPPORTED(HttpStatus.NOT_ACCEPTABLE),
+
+    /** Formato del listado de carpetas no admitido */
+    FOLDER_LIST_FORMAT_NOT_SUPPORTED(HttpStatus.UNSUPPORTED_MEDIA_TYPE),
+
     /* =======================
      * ERRORES DE SEGURIDAD
      * ======================= */
@@ -65,6 +77,15 @@ public enum ErrorType {
     /** Error de comunicación con Google Drive */
     DRIVE_ACCESS_ERROR(HttpStatus.SERVICE_UNAVAILABLE),
 
+    /** Cola de trabajos asíncronos llena */
+    JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE),
+
+    /** Capacidad de procesamiento síncrono saturada; la solicitud puede reintentarse */
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS),
+
+    /** Se superó el plazo de la solicitud o el procesamiento fue cancelado */
+    DEADLINE_EXCEEDED(HttpStatus.GATEWAY_TIMEOUT),
+
     /** Payload excede el tamaño permitido */
     PAYLOAD_TOO_LARGE(HttpStatus.valueOf(413)),
 
@@ -0,0 +1,46 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+
+import java.time.Duration;
+
+/**
+ * Excepción utilizada cuando una solicitud se rechaza por saturación y puede reintentarse.
+ *
+ * <p>
+ * El manejador de errores informa {@link #getRetryAfter()} en la cabecera {@code Retry-After}.
+ * </p>
+ *
+ * @author Christian Rodriguez
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CoreThrottlingException extends CoreException {
+
+    /**
+     * Tiempo sugerido antes de reintentar.
+     */
+    private final Duration retryAfter;
+
+    /**
+     * Crea una excepción de saturación.
+     *
+     * @param message    mensaje descriptivo del error
+     * @param type       tipo de error asociado
+     * @param retryAfter tiempo sugerido antes de reintentar
+     */
+    public CoreThrottlingException(String message, ErrorType type, Duration retryAfter) {
+        super(message, type);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Retorna el tiempo sugerido antes de reintentar.
+     *
+     * @return tiempo de espera sugerido
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+}
@@ -3,7 +3,9 @@ package com.christiancanari.pupe.advance.ticket.service.infrastructure.web.handl
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.dto.response.ErrorResponse;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreException;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreThrottlingException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -21,6 +23,7 @@ import java.time.LocalDateTime;
  * <p>
  * Captura:
  * <ul>
+ *     <li>{@link CoreThrottlingException}: rechazos por saturación, con cabecera {@code Retry-After}</li>
  *     <li>{@link CoreException}: errores controlados del dominio o infraestructura</li>
  *     <li>{@link Exception}: errores no previstos</li>
  * </ul>
@@ -48,6 +51,25 @@ public class RestExceptionHandler {
         return build(ex.getType(), ex);
     }
 
+    /**
+     * Maneja los rechazos por saturación, indicando cuándo reintentar.
+     *
+     * @param ex excepción de saturación
+     * @return respuesta HTTP estructurada con cabecera {@code Retry-After} en segundos
+     */
+    @ExceptionHandler(CoreThrottlingException.class)
+    public ResponseEntity<ErrorResponse> handleThrottling(CoreThrottlingException ex) {
+
+        log.warn("CoreThrottlingException [{}] - {}", ex.getType(), ex.getMessage());
+
+        long seconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+
+        return ResponseEntity
+                .status(ex.getType().status())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(build(ex.getType(), ex).getBody());
+    }
+
     /**
      * Maneja errores inesperados no controlados.
      *
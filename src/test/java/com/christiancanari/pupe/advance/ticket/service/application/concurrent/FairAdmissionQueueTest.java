@@ -0,0 +1,158 @@
+package com.christiancanari.pupe.advance.ticket.service.application.concurrent;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreThrottlingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FairAdmissionQueueTest {
+
+    private static final long SMALL = 1024;
+    private static final long LARGE = DataSize.ofMegabytes(10).toBytes();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Debe conceder turno inmediato mientras haya cupos libres")
+    void shouldGrantImmediatelyWhenSlotsAreFree() {
+
+        FairAdmissionQueue queue = new FairAdmissionQueue(limits(2, 0, 5, Duration.ofSeconds(5)));
+
+        FairAdmissionQueue.Permit first = queue.acquire("a", LARGE);
+        FairAdmissionQueue.Permit second = queue.acquire("b", LARGE);
+
+        assertEquals(2, queue.running());
+
+        first.close();
+        first.close();
+        second.close();
+
+        assertEquals(0, queue.running());
+    }
+
+    @Test
+    @DisplayName("Debe responder TOO_MANY_REQUESTS de inmediato cuando la cola está completa")
+    void shouldRejectWhenQueueIsFull() {
+
+        FairAdmissionQueue queue = new FairAdmissionQueue(limits(1, 0, 0, Duration.ofSeconds(5)));
+        queue.acquire("a", LARGE);
+
+        CoreThrottlingException ex = assertThrows(CoreThrottlingException.class, () -> queue.acquire("b", LARGE));
+
+        assertEquals(ErrorType.TOO_MANY_REQUESTS, ex.getType());
+        assertEquals(Duration.ofSeconds(7), ex.getRetryAfter());
+        assertEquals(0, queue.queued());
+    }
+
+    @Test
+    @DisplayName("Debe responder TOO_MANY_REQUESTS cuando la espera supera el máximo y retirar la solicitud de la cola")
+    void shouldRejectWhenWaitExpires() {
+
+        FairAdmissionQueue queue = new FairAdmissionQueue(limits(1, 0, 5, Duration.ofMillis(50)));
+        queue.acquire("a", LARGE);
+
+        assertThrows(CoreThrottlingException.class, () -> queue.acquire("b", LARGE));
+
+        assertEquals(0, queue.queued());
+    }
+
+    @Test
+    @DisplayName("Debe admitir solicitudes pequeñas en el cupo reservado mientras las grandes esperan")
+    void shouldAdmitSmallRequestsInReservedSlot() throws Exception {
+
+        FairAdmissionQueue queue = new FairAdmissionQueue(limits(1, 1, 5, Duration.ofSeconds(5)));
+        FairAdmissionQueue.Permit giant = queue.acquire("a", LARGE);
+
+        CompletableFuture<FairAdmissionQueue.Permit> waitingLarge =
+                CompletableFuture.supplyAsync(() -> queue.acquire("b", LARGE), executor);
+        awaitQueued(queue, 1);
+
+        FairAdmissionQueue.Permit small = queue.acquire("c", SMALL);
+
+        assertEquals(2, queue.running());
+        assertFalse(waitingLarge.isDone());
+
+        small.close();
+        assertFalse(waitingLarge.isDone());
+
+        giant.close();
+        waitingLarge.get(5, TimeUnit.SECONDS).close();
+
+        assertEquals(0, queue.running());
+    }
+
+    @Test
+    @DisplayName("Debe atender a los solicitantes por turnos aunque uno haya encolado más solicitudes")
+    void shouldServeCallersRoundRobin() throws Exception {
+
+        FairAdmissionQueue queue = new FairAdmissionQueue(limits(1, 0, 5, Duration.ofSeconds(5)));
+        FairAdmissionQueue.Permit running = queue.acquire("a", LARGE);
+
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<?> a1 = enqueue(queue, "a", order);
+        awaitQueued(queue, 1);
+        CompletableFuture<?> a2 = enqueue(queue, "a", order);
+        awaitQueued(queue, 2);
+        CompletableFuture<?> b1 = enqueue(queue, "b", order);
+        awaitQueued(queue, 3);
+
+        running.close();
+        CompletableFuture.allOf(a1, a2, b1).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("a", "b", "a"), order);
+    }
+
+    @Test
+    @DisplayName("No debe limitar cuando el control de admisión está deshabilitado")
+    void shouldNotLimitWhenDisabled() {
+
+        FairAdmissionQueue queue = new FairAdmissionQueue(new FairAdmissionQueue.Limits(
+                false, 1, 0, DataSize.ofKilobytes(256).toBytes(), 0, Duration.ZERO, Duration.ofSeconds(1)));
+
+        queue.acquire("a", LARGE);
+        queue.acquire("a", LARGE).close();
+
+        assertEquals(0, queue.running());
+    }
+
+    private CompletableFuture<?> enqueue(FairAdmissionQueue queue, String caller, List<String> order) {
+        return CompletableFuture.runAsync(() -> {
+            try (FairAdmissionQueue.Permit ignored = queue.acquire(caller, LARGE)) {
+                order.add(caller);
+            }
+        }, executor);
+    }
+
+    private static void awaitQueued(FairAdmissionQueue queue, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queue.queued() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, queue.queued());
+    }
+
+    private static FairAdmissionQueue.Limits limits(
+            int maxConcurrent, int smallReserved, int queueCapacity, Duration maxWait) {
+        return new FairAdmissionQueue.Limits(true, maxConcurrent, smallReserved, DataSize.ofKilobytes(256).toBytes(),
+                queueCapacity, maxWait, Duration.ofSeconds(7));
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.christiancanari.pupe.advance.ticket.service.application.concurrent;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderedParallelExecutorTest {
+
+    @Test
+    @DisplayName("Debe retornar los resultados en el orden de entrada aunque terminen desordenados")
+    void shouldReturnResultsInInputOrder() {
+
+        List<Integer> items = IntStream.range(0, 20).boxed().toList();
+
+        List<Integer> result = OrderedParallelExecutor.mapOrdered(items, 5, "test-", item -> {
+            sleep((20 - item) * 2L);
+            return item * 10;
+        });
+
+        assertEquals(items.stream().map(item -> item * 10).toList(), result);
+    }
+
+    @Test
+    @DisplayName("No debe superar el máximo de tareas simultáneas")
+    void shouldRespectMaxInFlight() {
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+
+        OrderedParallelExecutor.mapOrdered(IntStream.range(0, 30).boxed().toList(), 3, "test-", item -> {
+            maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(5);
+            inFlight.decrementAndGet();
+            return item;
+        });
+
+        assertTrue(maxObserved.get() <= 3);
+        assertTrue(maxObserved.get() > 1);
+    }
+
+    @Test
+    @DisplayName("Debe cancelar las tareas pendientes y propagar el error original")
+    void shouldCancelPendingTasksWhenOneFails() throws Exception {
+
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        AtomicBoolean slowInterrupted = new AtomicBoolean();
+        CoreTechnicalException failure = new CoreTechnicalException("Falla", ErrorType.PDF_PROCESSING_ERROR);
+
+        List<String> consumed = new ArrayList<>();
+
+        CoreTechnicalException ex = assertThrows(CoreTechnicalException.class, () ->
+                OrderedParallelExecutor.forEachOrdered(List.of("lenta", "falla").iterator(), 2, "test-", item -> {
+                    if (item.equals("lenta")) {
+                        slowStarted.countDown();
+                        try {
+                            Thread.sleep(10_000);
+                        } catch (InterruptedException interrupted) {
+                            slowInterrupted.set(true);
+                        }
+                        return item;
+                    }
+                    await(slowStarted);
+                    throw failure;
+                }, consumed::add));
+
+        assertSame(failure, ex);
+        assertTrue(consumed.isEmpty());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!slowInterrupted.get() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(slowInterrupted.get());
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar secuencialmente en el hilo invocador cuando maxInFlight es 1")
+    void shouldRunSequentiallyWhenMaxInFlightIsOne() {
+
+        Thread caller = Thread.currentThread();
+
+        List<Boolean> sameThread = OrderedParallelExecutor.mapOrdered(List.of(1, 2, 3), 1, "test-",
+                item -> Thread.currentThread() == caller);
+
+        assertEquals(List.of(true, true, true), sameThread);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
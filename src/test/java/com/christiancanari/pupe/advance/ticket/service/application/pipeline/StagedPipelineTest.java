@@ -0,0 +1,218 @@
+package com.christiancanari.pupe.advance.ticket.service.application.pipeline;
+
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.TicketProcessingContext;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketDeadline;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingListener;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StagedPipelineTest {
+
+    private final List<PipelineStage> stages = new ArrayList<>();
+
+    @AfterEach
+    void closeStages() {
+        stages.forEach(PipelineStage::close);
+    }
+
+    @Test
+    @DisplayName("Debe entregar los resultados de todas las etapas en el orden del origen")
+    void shouldDeliverResultsInSourceOrder() {
+
+        PipelineStage download = stage(PipelineStage.io("download", 4, 8));
+        PipelineStage parse = stage(PipelineStage.cpu("parse", 2, 4));
+
+        List<String> result = new ArrayList<>();
+
+        StagedPipeline
+                .of(download, (Integer item) -> {
+                    sleep((10 - item % 10) * 2L);
+                    return item * 10;
+                })
+                .then(parse, value -> "v" + value)
+                .forEachOrdered(IntStream.range(0, 30).iterator(), 6, result::add);
+
+        assertEquals(IntStream.range(0, 30).mapToObj(item -> "v" + item * 10).toList(), result);
+        assertEquals(30, download.succeeded());
+        assertEquals(30, parse.succeeded());
+        assertEquals(0, parse.queued());
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar las etapas de E/S en hilos virtuales y las de cómputo en hilos de plataforma")
+    void shouldUseThreadKindPerStage() {
+
+        PipelineStage io = stage(PipelineStage.io("io", 1, 1));
+        PipelineStage cpu = stage(PipelineStage.cpu("cpu", 1, 1));
+
+        List<Boolean> virtual = new ArrayList<>();
+
+        StagedPipeline
+                .of(io, (Integer item) -> Thread.currentThread().isVirtual())
+                .then(cpu, ioVirtual -> List.of(ioVirtual, Thread.currentThread().isVirtual()))
+                .forEachOrdered(List.of(1).iterator(), 1, virtual::addAll);
+
+        assertEquals(List.of(true, false), virtual);
+    }
+
+    @Test
+    @DisplayName("Debe frenar la lectura del origen cuando la cola de una etapa está completa")
+    void shouldApplyBackpressureToSource() throws Exception {
+
+        PipelineStage slow = stage(PipelineStage.cpu("slow", 1, 2));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger pulled = new AtomicInteger();
+
+        Iterator<Integer> source = counting(IntStream.range(0, 50).iterator(), pulled);
+
+        CompletableFuture<Void> run = CompletableFuture.runAsync(() -> StagedPipeline
+                .of(slow, (Integer item) -> {
+                    await(release);
+                    return item;
+                })
+                .forEachOrdered(source, 100, item -> { }));
+
+        sleep(300);
+
+        // un elemento en ejecución, dos en la cola y uno esperando lugar en ella
+        assertEquals(4, pulled.get());
+        assertEquals(2, slow.queued());
+        assertEquals(1, slow.busy());
+
+        release.countDown();
+        run.get(5, TimeUnit.SECONDS);
+
+        assertEquals(50, pulled.get());
+    }
+
+    @Test
+    @DisplayName("Debe propagar el primer error y no entregar los elementos posteriores")
+    void shouldPropagateFirstFailure() {
+
+        PipelineStage first = stage(PipelineStage.io("first", 2, 4));
+        PipelineStage second = stage(PipelineStage.cpu("second", 1, 2));
+        CoreTechnicalException failure = new CoreTechnicalException("Falla", ErrorType.PDF_PROCESSING_ERROR);
+
+        List<Integer> consumed = new ArrayList<>();
+
+        CoreTechnicalException thrown = assertThrows(CoreTechnicalException.class, () -> StagedPipeline
+                .of(first, (Integer item) -> item)
+                .then(second, item -> {
+                    if (item == 3) {
+                        throw failure;
+                    }
+                    return item;
+                })
+                .forEachOrdered(IntStream.range(0, 20).iterator(), 4, consumed::add));
+
+        assertSame(failure, thrown);
+        // los elementos previos al fallido pueden entregarse o no según cuándo se detecta el error
+        assertEquals(List.of(0, 1, 2).subList(0, consumed.size()), consumed);
+        assertEquals(1, second.failed());
+    }
+
+    @Test
+    @DisplayName("Debe restablecer el receptor y el plazo del invocante en los trabajadores de las etapas")
+    void shouldPropagateProcessingContext() {
+
+        PipelineStage stage = stage(PipelineStage.io("context", 2, 2));
+        TicketProcessingListener listener = new TicketProcessingListener() { };
+        TicketDeadline deadline = TicketDeadline.after(Duration.ofMinutes(1));
+
+        List<Boolean> propagated = new ArrayList<>();
+
+        TicketProcessingContext.with(listener, deadline, () -> {
+            StagedPipeline
+                    .of(stage, (Integer item) -> TicketProcessingContext.listener() == listener
+                            && TicketProcessingContext.deadline() == deadline)
+                    .forEachOrdered(IntStream.range(0, 4).iterator(), 2, propagated::add);
+            return null;
+        });
+
+        assertEquals(List.of(true, true, true, true), propagated);
+    }
+
+    @Test
+    @DisplayName("Debe abandonar la espera cuando el plazo del procesamiento es cancelado")
+    void shouldStopWaitingWhenDeadlineIsCancelled() {
+
+        PipelineStage stage = stage(PipelineStage.io("blocked", 1, 1));
+        CountDownLatch release = new CountDownLatch(1);
+        TicketDeadline deadline = TicketDeadline.after(Duration.ofMinutes(1));
+
+        CompletableFuture.runAsync(() -> {
+            sleep(100);
+            deadline.cancel("cliente desconectado");
+        });
+
+        try {
+            CoreTechnicalException thrown = assertThrows(CoreTechnicalException.class, () ->
+                    TicketProcessingContext.with(TicketProcessingListener.NONE, deadline, () -> {
+                        StagedPipeline
+                                .of(stage, (Integer item) -> {
+                                    await(release);
+                                    return item;
+                                })
+                                .forEachOrdered(List.of(1).iterator(), 1, item -> { });
+                        return null;
+                    }));
+
+            assertEquals(ErrorType.DEADLINE_EXCEEDED, thrown.getType());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private PipelineStage stage(PipelineStage stage) {
+        stages.add(stage);
+        return stage;
+    }
+
+    private static Iterator<Integer> counting(Iterator<Integer> source, AtomicInteger pulled) {
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                pulled.incrementAndGet();
+                return source.next();
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
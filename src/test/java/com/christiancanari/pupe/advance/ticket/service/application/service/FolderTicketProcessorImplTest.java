@@ -1,10 +1,16 @@
 package com.christiancanari.pupe.advance.ticket.service.application.service;
 
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.TicketProcessingContext;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketDeadline;
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketFile;
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingListener;
 import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketGoogleDrivePort;
 import com.christiancanari.pupe.advance.ticket.service.domain.service.TicketInvoiceExtractor;
 import com.christiancanari.pupe.advance.ticket.service.domain.service.TicketInvoicePolicy;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketProcessingProperties;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreBusinessException;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
@@ -13,8 +19,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,7 +47,8 @@ class FolderTicketProcessorImplTest {
         processor = new FolderTicketProcessorImpl(
                 drivePort,
                 extractor,
-                policy
+                policy,
+                properties(false)
         );
     }
 
@@ -74,8 +86,8 @@ class FolderTicketProcessorImplTest {
                 .thenReturn(Optional.of("folder-id"));
         when(drivePort.findTicketFolderId("folder-id"))
                 .thenReturn(Optional.of("tickets-id"));
-        when(drivePort.listPdfFiles("tickets-id"))
-                .thenReturn(List.of());
+        when(drivePort.streamPdfFiles("tickets-id"))
+                .thenReturn(Stream.empty());
 
         List<TicketInvoice> result = processor.process("FACTURAS");
 
@@ -93,13 +105,13 @@ class FolderTicketProcessorImplTest {
                 .thenReturn(Optional.of("folder-id"));
         when(drivePort.findTicketFolderId("folder-id"))
                 .thenReturn(Optional.of("tickets-id"));
-        when(drivePort.listPdfFiles("tickets-id"))
-                .thenReturn(List.of(validPdf, invalidPdf));
+        when(drivePort.streamPdfFiles("tickets-id"))
+                .thenReturn(Stream.of(validPdf, invalidPdf));
 
         when(policy.isValid("ticket-pr.pdf")).thenReturn(true);
         when(policy.isValid("otro.pdf")).thenReturn(false);
 
-        when(drivePort.downloadFile("1"))
+        when(drivePort.downloadFile(validPdf))
                 .thenReturn(new ByteArrayInputStream("pdf".getBytes()));
 
         TicketInvoice invoice = mock(TicketInvoice.class);
@@ -121,11 +133,11 @@ class FolderTicketProcessorImplTest {
                 .thenReturn(Optional.of("folder-id"));
         when(drivePort.findTicketFolderId("folder-id"))
                 .thenReturn(Optional.of("tickets-id"));
-        when(drivePort.listPdfFiles("tickets-id"))
-                .thenReturn(List.of(pdf));
+        when(drivePort.streamPdfFiles("tickets-id"))
+                .thenReturn(Stream.of(pdf));
         when(policy.isValid("ticket.pdf")).thenReturn(true);
 
-        when(drivePort.downloadFile("1"))
+        when(drivePort.downloadFile(pdf))
                 .thenReturn(new ByteArrayInputStream("pdf".getBytes()));
 
         when(extractor.extract(any(), any(), any()))
@@ -167,7 +179,7 @@ class FolderTicketProcessorImplTest {
                 .thenReturn(Optional.of("tickets-id"));
 
         // 🔥 Error inesperado ANTES del stream
-        when(drivePort.listPdfFiles("tickets-id"))
+        when(drivePort.streamPdfFiles("tickets-id"))
                 .thenThrow(new RuntimeException("Boom inesperado"));
 
         CoreTechnicalException ex = assertThrows(
@@ -179,6 +191,211 @@ class FolderTicketProcessorImplTest {
         assertTrue(ex.getMessage().contains("FACTURAS"));
     }
 
+    @Test
+    @DisplayName("Debe delegar la resolución en bloque al puerto de Google Drive")
+    void shouldResolveFoldersInBulk() {
+
+        Map<String, ResolvedFolder> resolved = Map.of(
+                "FACTURAS", new ResolvedFolder("FACTURAS", "folder-id", "tickets-id"));
+
+        when(drivePort.resolveFolders(List.of("FACTURAS"))).thenReturn(resolved);
+
+        assertSame(resolved, processor.resolveFolders(List.of("FACTURAS")));
+    }
+
+    @Test
+    @DisplayName("Debe envolver en CoreTechnicalException un error inesperado en la resolución en bloque")
+    void shouldWrapUnexpectedExceptionInResolveFolders() {
+
+        when(drivePort.resolveFolders(any())).thenThrow(new RuntimeException("Boom"));
+
+        CoreTechnicalException ex = assertThrows(
+                CoreTechnicalException.class,
+                () -> processor.resolveFolders(List.of("FACTURAS"))
+        );
+
+        assertEquals(ErrorType.DRIVE_ACCESS_ERROR, ex.getType());
+    }
+
+    @Test
+    @DisplayName("Debe procesar una carpeta resuelta sin volver a buscarla en Drive")
+    void shouldProcessResolvedFolderWithoutLookups() {
+
+        TicketFile pdf = new TicketFile("1", "ticket-pr.pdf");
+
+        when(drivePort.streamPdfFiles("tickets-id")).thenReturn(Stream.of(pdf));
+        when(policy.isValid("ticket-pr.pdf")).thenReturn(true);
+        when(drivePort.downloadFile(pdf)).thenReturn(new ByteArrayInputStream("pdf".getBytes()));
+        when(extractor.extract(eq("FACTURAS"), eq("ticket-pr.pdf"), any()))
+                .thenReturn(mock(TicketInvoice.class));
+
+        List<TicketInvoice> result =
+                processor.process(new ResolvedFolder("FACTURAS", "folder-id", "tickets-id"));
+
+        assertEquals(1, result.size());
+        verify(drivePort, never()).findFolderIdByName(any());
+        verify(drivePort, never()).findTicketFolderId(any());
+    }
+
+    @Test
+    @DisplayName("Debe retornar lista vacía cuando la carpeta resuelta no existe o no tiene Tickets")
+    void shouldReturnEmptyForUnresolvedFolders() {
+
+        assertTrue(processor.process(ResolvedFolder.notFound("FACTURAS")).isEmpty());
+        assertTrue(processor.process(new ResolvedFolder("FACTURAS", "folder-id", null)).isEmpty());
+
+        verifyNoInteractions(drivePort);
+    }
+
+    @Test
+    @DisplayName("Debe procesar PDFs concurrentemente conservando el orden del listado")
+    void shouldProcessPdfsConcurrentlyInListingOrder() {
+
+        processor = new FolderTicketProcessorImpl(drivePort, extractor, policy, properties(true));
+
+        List<TicketFile> pdfs = IntStream.range(0, 6)
+                .mapToObj(i -> new TicketFile("id-" + i, "ticket-" + i + "-pr.pdf"))
+                .toList();
+
+        when(drivePort.streamPdfFiles("tickets-id")).thenReturn(pdfs.stream());
+        when(policy.isValid(any())).thenReturn(true);
+        when(drivePort.downloadFile(any(TicketFile.class))).thenAnswer(invocation -> {
+            String id = invocation.<TicketFile>getArgument(0).id();
+            Thread.sleep(60L - Long.parseLong(id.substring(3)) * 10L);
+            return new ByteArrayInputStream(id.getBytes());
+        });
+        when(extractor.extract(eq("FACTURAS"), any(), any())).thenAnswer(invocation ->
+                new TicketInvoice("FACTURAS", invocation.getArgument(1), "", ""));
+
+        List<TicketInvoice> result =
+                processor.process(new ResolvedFolder("FACTURAS", "folder-id", "tickets-id"));
+
+        assertEquals(
+                pdfs.stream().map(TicketFile::name).toList(),
+                result.stream().map(TicketInvoice::processedFileName).toList()
+        );
+    }
+
+    @Test
+    @DisplayName("Debe informar el listado y cada PDF analizado al receptor del contexto en modo concurrente")
+    void shouldNotifyContextListenerFromPdfThreads() {
+
+        processor = new FolderTicketProcessorImpl(drivePort, extractor, policy, properties(true));
+
+        TicketFile valid = new TicketFile("1", "ticket-pr.pdf");
+        TicketFile empty = new TicketFile("2", "vacio-pr.pdf");
+
+        when(drivePort.streamPdfFiles("tickets-id")).thenReturn(Stream.of(valid, empty));
+        when(policy.isValid(any())).thenReturn(true);
+        when(drivePort.downloadFile(any(TicketFile.class)))
+                .thenAnswer(invocation -> new ByteArrayInputStream("pdf".getBytes()));
+        when(extractor.extract(eq("FACTURAS"), eq("ticket-pr.pdf"), any()))
+                .thenReturn(new TicketInvoice("FACTURAS", "ticket-pr.pdf", "", ""));
+
+        ConcurrentLinkedQueue<String> events = new ConcurrentLinkedQueue<>();
+        TicketProcessingListener listener = new TicketProcessingListener() {
+            @Override
+            public void pdfsListed(String folderName, int pdfs) {
+                events.add("listados:" + folderName + ":" + pdfs);
+            }
+
+            @Override
+            public void pdfExtracted(String folderName, String pdfName, boolean ticketFound) {
+                events.add(pdfName + ":" + ticketFound);
+            }
+        };
+
+        List<TicketInvoice> result = TicketProcessingContext.with(listener,
+                () -> processor.process(new ResolvedFolder("FACTURAS", "folder-id", "tickets-id")));
+
+        assertEquals(1, result.size());
+        assertEquals(3, events.size());
+        assertTrue(events.containsAll(List.of("listados:FACTURAS:2", "ticket-pr.pdf:true", "vacio-pr.pdf:false")));
+        assertSame(TicketProcessingListener.NONE, TicketProcessingContext.listener());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar CoreTechnicalException cuando falla un PDF en modo concurrente")
+    void shouldThrowExceptionWhenConcurrentExtractionFails() {
+
+        processor = new FolderTicketProcessorImpl(drivePort, extractor, policy, properties(true));
+
+        TicketFile pdf = new TicketFile("1", "ticket.pdf");
+
+        when(drivePort.streamPdfFiles("tickets-id")).thenReturn(Stream.of(pdf));
+        when(policy.isValid("ticket.pdf")).thenReturn(true);
+        when(drivePort.downloadFile(pdf)).thenReturn(new ByteArrayInputStream("pdf".getBytes()));
+        when(extractor.extract(any(), any(), any())).thenThrow(new RuntimeException("Extractor error"));
+
+        CoreTechnicalException ex = assertThrows(
+                CoreTechnicalException.class,
+                () -> processor.process(new ResolvedFolder("FACTURAS", "folder-id", "tickets-id"))
+        );
+
+        assertEquals(ErrorType.PDF_PROCESSING_ERROR, ex.getType());
+    }
+
+    @Test
+    @DisplayName("Debe omitir el PDF fallido e informar el error cuando se continúa ante errores")
+    void shouldSkipFailedPdfWhenContinuingOnError() {
+
+        processor = new FolderTicketProcessorImpl(drivePort, extractor, policy, properties(true, true));
+
+        TicketFile broken = new TicketFile("1", "roto-pr.pdf");
+        TicketFile valid = new TicketFile("2", "ticket-pr.pdf");
+
+        when(drivePort.streamPdfFiles("tickets-id")).thenReturn(Stream.of(broken, valid));
+        when(policy.isValid(any())).thenReturn(true);
+        when(drivePort.downloadFile(any(TicketFile.class)))
+                .thenAnswer(invocation -> new ByteArrayInputStream("pdf".getBytes()));
+        when(extractor.extract(eq("FACTURAS"), eq("roto-pr.pdf"), any()))
+                .thenThrow(new RuntimeException("PDF dañado"));
+        when(extractor.extract(eq("FACTURAS"), eq("ticket-pr.pdf"), any()))
+                .thenReturn(new TicketInvoice("FACTURAS", "ticket-pr.pdf", "", ""));
+
+        ConcurrentLinkedQueue<TicketProcessingError> errors = new ConcurrentLinkedQueue<>();
+
+        List<TicketInvoice> result = TicketProcessingContext.collectingFailures(errors::add,
+                () -> processor.process(new ResolvedFolder("FACTURAS", "folder-id", "tickets-id")));
+
+        assertEquals(List.of("ticket-pr.pdf"), result.stream().map(TicketInvoice::processedFileName).toList());
+        assertEquals(1, errors.size());
+
+        TicketProcessingError error = errors.peek();
+        assertEquals("FACTURAS", error.folderName());
+        assertEquals("roto-pr.pdf", error.fileName());
+        assertEquals(ErrorType.PDF_PROCESSING_ERROR.name(), error.errorType());
+        assertTrue(error.message().contains("PDF dañado"));
+    }
+
+    @Test
+    @DisplayName("Debe abandonar los PDFs pendientes al cancelarse el plazo aunque se continúe ante errores")
+    void shouldStopPendingPdfsWhenDeadlineIsCancelled() {
+
+        processor = new FolderTicketProcessorImpl(drivePort, extractor, policy, properties(false, true));
+
+        TicketDeadline deadline = TicketDeadline.after(Duration.ofMinutes(5));
+
+        when(drivePort.streamPdfFiles("tickets-id")).thenReturn(Stream.of(
+                new TicketFile("1", "a-pr.pdf"), new TicketFile("2", "b-pr.pdf"), new TicketFile("3", "c-pr.pdf")));
+        when(policy.isValid(any())).thenReturn(true);
+        when(drivePort.downloadFile(any(TicketFile.class)))
+                .thenAnswer(invocation -> new ByteArrayInputStream("pdf".getBytes()));
+        when(extractor.extract(eq("FACTURAS"), any(), any())).thenAnswer(invocation -> {
+            deadline.cancel("conexión cerrada por el cliente");
+            return new TicketInvoice("FACTURAS", invocation.getArgument(1), "", "");
+        });
+
+        CoreTechnicalException ex = assertThrows(CoreTechnicalException.class,
+                () -> TicketProcessingContext.with(TicketProcessingListener.NONE, deadline,
+                        () -> processor.process(new ResolvedFolder("FACTURAS", "folder-id", "tickets-id"))));
+
+        assertEquals(ErrorType.DEADLINE_EXCEEDED, ex.getType());
+        assertTrue(ex.getMessage().contains("conexión cerrada por el cliente"));
+        verify(extractor, times(1)).extract(any(), any(), any());
+        verify(drivePort, times(1)).downloadFile(any(TicketFile.class));
+    }
+
     @Test
     @DisplayName("Debe cubrir el constructor CoreBusinessException con causa")
     void shouldCreateCoreBusinessExceptionWithCause() {
@@ -197,5 +414,17 @@ class FolderTicketProcessorImplTest {
         assertEquals(rootCause, exception.getCause());
     }
 
+    private TicketProcessingProperties properties(boolean concurrentPdfs) {
+        return properties(concurrentPdfs, false);
+    }
+
+    private TicketProcessingProperties properties(boolean concurrentPdfs, boolean continueOnError) {
+        return new TicketProcessingProperties(
+                new TicketProcessingProperties.Folders(false, 1),
+                new TicketProcessingProperties.Pdfs(concurrentPdfs, 3, 2),
+                new TicketProcessingProperties.Incremental(false, null),
+                new TicketProcessingProperties.Errors(continueOnError)
+        );
+    }
 
 }
@@ -0,0 +1,257 @@
+package com.christiancanari.pupe.advance.ticket.service.application.service;
+
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.TicketProcessingContext;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.DriveChange;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.DriveChanges;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderManifest;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ManifestEntry;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketFile;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketGoogleDrivePort;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketManifestStorePort;
+import com.christiancanari.pupe.advance.ticket.service.domain.service.TicketInvoicePolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class IncrementalFolderTicketProcessorTest {
+
+    private static final ResolvedFolder FOLDER = new ResolvedFolder("FACTURAS", "folder-id", "tickets-id");
+
+    private FolderTicketProcessor delegate;
+    private TicketGoogleDrivePort drivePort;
+    private InMemoryManifestStore store;
+
+    private IncrementalFolderTicketProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(FolderTicketProcessor.class);
+        drivePort = mock(TicketGoogleDrivePort.class);
+        store = new InMemoryManifestStore();
+
+        TicketInvoicePolicy policy = mock(TicketInvoicePolicy.class);
+        when(policy.isValid(any())).thenAnswer(invocation -> invocation.<String>getArgument(0).endsWith("-pr.pdf"));
+
+        when(delegate.extract(eq("FACTURAS"), anyList())).thenAnswer(invocation ->
+                invocation.<List<TicketFile>>getArgument(1).stream()
+                        .map(pdf -> Optional.of(invoice(pdf)))
+                        .toList());
+
+        when(drivePort.getStartPageToken()).thenReturn("token-1");
+
+        processor = new IncrementalFolderTicketProcessor(delegate, drivePort, policy, store);
+    }
+
+    @Test
+    @DisplayName("Debe procesar completa una carpeta sin manifiesto y luego responder desde el estado")
+    void shouldProcessFullFolderOnceThenServeFromState() {
+
+        TicketFile first = pdf("1", "ticket-1-pr.pdf", "md5-1");
+        TicketFile second = pdf("2", "ticket-2-pr.pdf", "md5-2");
+
+        when(drivePort.streamPdfFiles("tickets-id"))
+                .thenAnswer(invocation -> Stream.of(first, pdf("3", "otro.pdf", "md5-3"), second));
+        when(drivePort.listChanges("token-1")).thenReturn(new DriveChanges(List.of(), "token-2"));
+
+        processor.resolveFolders(List.of("FACTURAS"));
+        List<TicketInvoice> firstRun = processor.process(FOLDER);
+
+        processor.resolveFolders(List.of("FACTURAS"));
+        List<TicketInvoice> secondRun = processor.process(FOLDER);
+
+        assertEquals(List.of(invoice(first), invoice(second)), firstRun);
+        assertEquals(firstRun, secondRun);
+        verify(drivePort, times(1)).streamPdfFiles("tickets-id");
+        verify(delegate, times(1)).extract(eq("FACTURAS"), anyList());
+        assertEquals(Optional.of("token-2"), store.loadStartPageToken());
+    }
+
+    @Test
+    @DisplayName("Debe extraer solo los PDFs nuevos o modificados y retirar los eliminados")
+    void shouldExtractOnlyChangedFiles() {
+
+        TicketFile unchanged = pdf("1", "ticket-1-pr.pdf", "md5-1");
+        TicketFile modified = pdf("2", "ticket-2-pr.pdf", "md5-2");
+        TicketFile removed = pdf("3", "ticket-3-pr.pdf", "md5-3");
+
+        when(drivePort.streamPdfFiles("tickets-id")).thenReturn(Stream.of(unchanged, modified, removed));
+
+        processor.resolveFolders(List.of("FACTURAS"));
+        processor.process(FOLDER);
+
+        TicketFile modifiedV2 = pdf("2", "ticket-2-pr.pdf", "md5-2b");
+        TicketFile added = pdf("4", "ticket-4-pr.pdf", "md5-4");
+        TicketFile elsewhere = pdf("5", "ticket-5-pr.pdf", "md5-5");
+
+        when(drivePort.listChanges("token-1")).thenReturn(new DriveChanges(List.of(
+                new DriveChange("2", modifiedV2, Set.of("tickets-id")),
+                DriveChange.removed("3"),
+                new DriveChange("4", added, Set.of("tickets-id")),
+                new DriveChange("5", elsewhere, Set.of("otra-carpeta"))
+        ), "token-2"));
+
+        processor.resolveFolders(List.of("FACTURAS"));
+        List<TicketInvoice> result = processor.process(FOLDER);
+
+        assertEquals(List.of(invoice(unchanged), invoice(modifiedV2), invoice(added)), result);
+        verify(delegate).extract("FACTURAS", List.of(modifiedV2, added));
+    }
+
+    @Test
+    @DisplayName("Debe reintentar solo el PDF fallido aunque otro PDF de la carpeta tenga el mismo nombre")
+    void shouldTrackFailuresByFileId() {
+
+        TicketFile failing = pdf("1", "ticket-pr.pdf", "md5-1");
+        TicketFile sibling = pdf("2", "ticket-pr.pdf", "md5-2");
+
+        when(drivePort.streamPdfFiles("tickets-id")).thenReturn(Stream.of(failing, sibling));
+        when(drivePort.listChanges("token-1")).thenReturn(new DriveChanges(List.of(), "token-2"));
+        when(delegate.extract(eq("FACTURAS"), anyList())).thenAnswer(invocation -> {
+            TicketProcessingContext.listener().failed(new TicketProcessingError(
+                    "FACTURAS", failing.name(), "PDF_PROCESSING_ERROR", "PDF dañado", failing.id()));
+            return List.of(Optional.empty(), Optional.of(invoice(sibling)));
+        });
+
+        processor.resolveFolders(List.of("FACTURAS"));
+        processor.process(FOLDER);
+
+        FolderManifest manifest = store.load("tickets-id").orElseThrow();
+        assertTrue(manifest.entries().get("1").pending());
+        assertFalse(manifest.entries().get("2").pending());
+    }
+
+    @Test
+    @DisplayName("Debe mover el PDF entre manifiestos cuando cambia de carpeta padre")
+    void shouldMoveEntryBetweenManifests() {
+
+        TicketFile moved = pdf("1", "ticket-1-pr.pdf", "md5-1");
+        TicketFile untouched = pdf("2", "ticket-2-pr.pdf", "md5-2");
+
+        store.save(new FolderManifest("tickets-a", Map.of(
+                "1", ManifestEntry.processed(moved, invoice(moved)),
+                "2", ManifestEntry.processed(untouched, invoice(untouched)))));
+        store.save(new FolderManifest("tickets-b", Map.of()));
+        store.save(new FolderManifest("tickets-c", Map.of()));
+        store.saveStartPageToken("token-1");
+
+        when(drivePort.listChanges("token-1")).thenReturn(new DriveChanges(List.of(
+                new DriveChange("1", moved, Set.of("tickets-b", "fuera-de-seguimiento"))), "token-2"));
+
+        processor.synchronizeChanges();
+
+        assertEquals(Set.of("2"), store.load("tickets-a").orElseThrow().entries().keySet());
+        assertTrue(store.load("tickets-b").orElseThrow().entries().get("1").pending());
+        assertTrue(store.load("tickets-c").orElseThrow().entries().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe conservar el resultado cuando un PDF solo cambia de nombre")
+    void shouldKeepResultWhenOnlyNameChanges() {
+
+        TicketFile original = pdf("1", "ticket-1-pr.pdf", "md5-1");
+        when(drivePort.streamPdfFiles("tickets-id")).thenReturn(Stream.of(original));
+
+        processor.resolveFolders(List.of("FACTURAS"));
+        processor.process(FOLDER);
+
+        TicketFile renamed = pdf("1", "renombrado-pr.pdf", "md5-1");
+        when(drivePort.listChanges("token-1")).thenReturn(new DriveChanges(
+                List.of(new DriveChange("1", renamed, Set.of("tickets-id"))), "token-2"));
+
+        processor.resolveFolders(List.of("FACTURAS"));
+        List<TicketInvoice> result = processor.process(FOLDER);
+
+        assertEquals(List.of(new TicketInvoice("FACTURAS", "renombrado-pr.pdf", "F-1", "")), result);
+        verify(delegate, times(1)).extract(eq("FACTURAS"), anyList());
+    }
+
+    @Test
+    @DisplayName("Debe descartar los manifiestos cuando no existe token de cambios")
+    void shouldDiscardManifestsWithoutToken() {
+
+        store.save(new FolderManifest("tickets-id", Map.of()));
+
+        processor.resolveFolders(List.of("FACTURAS"));
+
+        assertTrue(store.loadAll().isEmpty());
+        assertEquals(Optional.of("token-1"), store.loadStartPageToken());
+        verify(drivePort, never()).listChanges(any());
+    }
+
+    @Test
+    @DisplayName("Debe delegar las carpetas no encontradas o sin subcarpeta de tickets")
+    void shouldDelegateUnresolvedFolders() {
+
+        ResolvedFolder notFound = ResolvedFolder.notFound("FACTURAS");
+        when(delegate.process(notFound)).thenReturn(List.of());
+
+        assertTrue(processor.process(notFound).isEmpty());
+        verify(delegate).process(notFound);
+        verifyNoInteractions(drivePort);
+    }
+
+    private static TicketFile pdf(String id, String name, String md5) {
+        return new TicketFile(id, name, md5, null);
+    }
+
+    private static TicketInvoice invoice(TicketFile pdf) {
+        return new TicketInvoice("FACTURAS", pdf.name(), "F-" + pdf.id(), "");
+    }
+
+    /**
+     * Almacenamiento en memoria del estado incremental.
+     */
+    private static final class InMemoryManifestStore implements TicketManifestStorePort {
+
+        private final Map<String, FolderManifest> manifests = new LinkedHashMap<>();
+        private String startPageToken;
+
+        @Override
+        public Optional<String> loadStartPageToken() {
+            return Optional.ofNullable(startPageToken);
+        }
+
+        @Override
+        public void saveStartPageToken(String startPageToken) {
+            this.startPageToken = startPageToken;
+        }
+
+        @Override
+        public Optional<FolderManifest> load(String ticketsFolderId) {
+            return Optional.ofNullable(manifests.get(ticketsFolderId));
+        }
+
+        @Override
+        public Map<String, FolderManifest> loadAll() {
+            return Map.copyOf(manifests);
+        }
+
+        @Override
+        public void save(FolderManifest manifest) {
+            manifests.put(manifest.ticketsFolderId(), manifest);
+        }
+
+        @Override
+        public void clear() {
+            manifests.clear();
+            startPageToken = null;
+        }
+    }
+
+}
@@ -1,18 +1,43 @@
 package com.christiancanari.pupe.advance.ticket.service.application.usecase;
 
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.TicketProcessingContext;
 import com.christiancanari.pupe.advance.ticket.service.application.service.FolderTicketProcessor;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderCheckpoint;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ProcessTicketCommand;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketDeadline;
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingListener;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReport;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketCheckpointPort;
 import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketFileWriterPort;
 import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketFolderReaderPort;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketInvoiceSink;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketProcessingProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreBusinessException;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -22,19 +47,29 @@ class ProcessTicketUseCaseImplTest {
     private TicketFolderReaderPort folderReaderPort;
     private TicketFileWriterPort fileWriterPort;
     private FolderTicketProcessor folderTicketProcessor;
+    private TicketCheckpointPort checkpointPort;
 
     private ProcessTicketUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
         folderReaderPort = mock(TicketFolderReaderPort.class);
+        when(folderReaderPort.format()).thenReturn(FolderListFormat.XLSX);
         fileWriterPort = mock(TicketFileWriterPort.class);
+        when(fileWriterPort.format()).thenReturn(TicketReportFormat.XLSX);
         folderTicketProcessor = mock(FolderTicketProcessor.class);
+        checkpointPort = mock(TicketCheckpointPort.class);
 
         useCase = new ProcessTicketUseCaseImpl(
-                folderReaderPort,
-                fileWriterPort,
-                folderTicketProcessor
+                List.of(folderReaderPort),
+                List.of(fileWriterPort),
+                folderTicketProcessor,
+                new TicketProcessingProperties(
+                        new TicketProcessingProperties.Folders(false, 1),
+                        new TicketProcessingProperties.Pdfs(false, 1, 1),
+                        new TicketProcessingProperties.Incremental(false, null),
+                        new TicketProcessingProperties.Errors(false)),
+                checkpointPort
         );
     }
 
@@ -44,30 +79,35 @@ class ProcessTicketUseCaseImplTest {
 
         InputStream excelInput = new ByteArrayInputStream("excel".getBytes());
 
-        when(folderReaderPort.readFolderNames(any()))
-                .thenReturn(List.of("CARPETA_1", "CARPETA_2"));
+        when(folderReaderPort.streamFolderNames(any()))
+                .thenAnswer(invocation -> Stream.of("CARPETA_1", "CARPETA_2"));
 
         TicketInvoice invoice1 = mock(TicketInvoice.class);
         TicketInvoice invoice2 = mock(TicketInvoice.class);
 
-        when(folderTicketProcessor.process("CARPETA_1"))
+        ResolvedFolder folder1 = new ResolvedFolder("CARPETA_1", "id-1", "tickets-1");
+        ResolvedFolder folder2 = new ResolvedFolder("CARPETA_2", "id-2", "tickets-2");
+
+        when(folderTicketProcessor.resolveFolders(List.of("CARPETA_1", "CARPETA_2")))
+                .thenReturn(Map.of("CARPETA_1", folder1, "CARPETA_2", folder2));
+        when(folderTicketProcessor.process(folder1))
                 .thenReturn(List.of(invoice1));
-        when(folderTicketProcessor.process("CARPETA_2"))
+        when(folderTicketProcessor.process(folder2))
                 .thenReturn(List.of(invoice2));
 
-        byte[] output = "resultado".getBytes();
-        when(fileWriterPort.export(List.of(invoice1, invoice2)))
-                .thenReturn(output);
+        RecordingSink sink = stubSink();
 
         byte[] result = useCase.process(excelInput);
 
         assertNotNull(result);
-        assertArrayEquals(output, result);
-
-        verify(folderReaderPort).readFolderNames(any());
-        verify(folderTicketProcessor).process("CARPETA_1");
-        verify(folderTicketProcessor).process("CARPETA_2");
-        verify(fileWriterPort).export(List.of(invoice1, invoice2));
+        assertArrayEquals(RecordingSink.CONTENT, result);
+
+        verify(folderReaderPort).streamFolderNames(any());
+        verify(folderTicketProcessor).resolveFolders(List.of("CARPETA_1", "CARPETA_2"));
+        verify(folderTicketProcessor).process(folder1);
+        verify(folderTicketProcessor).process(folder2);
+        assertEquals(List.of(invoice1, invoice2), sink.invoices);
+        assertTrue(sink.closed);
     }
 
     @Test
@@ -76,13 +116,13 @@ class ProcessTicketUseCaseImplTest {
 
         InputStream excelInput = new ByteArrayInputStream("excel".getBytes());
 
-        when(folderReaderPort.readFolderNames(any()))
-                .thenReturn(List.of());
+        when(folderReaderPort.streamFolderNames(any()))
+                .thenAnswer(invocation -> Stream.empty());
 
         assertThrows(CoreBusinessException.class,
                 () -> useCase.process(excelInput));
 
-        verify(fileWriterPort, never()).export(any());
+        verify(fileWriterPort, never()).openSink(any());
     }
 
     @Test
@@ -91,13 +131,13 @@ class ProcessTicketUseCaseImplTest {
 
         InputStream excelInput = new ByteArrayInputStream("excel".getBytes());
 
-        when(folderReaderPort.readFolderNames(any()))
+        when(folderReaderPort.streamFolderNames(any()))
                 .thenThrow(new RuntimeException("Excel corrupto"));
 
         assertThrows(CoreTechnicalException.class,
                 () -> useCase.process(excelInput));
 
-        verify(folderTicketProcessor, never()).process(any());
+        verify(folderTicketProcessor, never()).process(any(ResolvedFolder.class));
     }
 
     @Test
@@ -106,17 +146,445 @@ class ProcessTicketUseCaseImplTest {
 
         InputStream excelInput = new ByteArrayInputStream("excel".getBytes());
 
-        when(folderReaderPort.readFolderNames(any()))
-                .thenReturn(List.of("CARPETA_1"));
+        when(folderReaderPort.streamFolderNames(any()))
+                .thenAnswer(invocation -> Stream.of("CARPETA_1"));
+
+        ResolvedFolder folder = new ResolvedFolder("CARPETA_1", "id-1", "tickets-1");
 
-        when(folderTicketProcessor.process("CARPETA_1"))
+        when(folderTicketProcessor.resolveFolders(List.of("CARPETA_1")))
+                .thenReturn(Map.of("CARPETA_1", folder));
+        when(folderTicketProcessor.process(folder))
                 .thenReturn(List.of(mock(TicketInvoice.class)));
 
-        when(fileWriterPort.export(any()))
-                .thenThrow(new RuntimeException("Error escribiendo Excel"));
+        RecordingSink sink = stubSink();
+        sink.failure = new RuntimeException("Error escribiendo Excel");
 
         assertThrows(CoreTechnicalException.class,
                 () -> useCase.process(excelInput));
     }
 
+    @Test
+    @DisplayName("Debe tratar como no encontrada una carpeta ausente en la resolución en bloque")
+    void shouldTreatMissingResolutionAsNotFound() {
+
+        InputStream excelInput = new ByteArrayInputStream("excel".getBytes());
+
+        when(folderReaderPort.streamFolderNames(any()))
+                .thenAnswer(invocation -> Stream.of("CARPETA_1"));
+        when(folderTicketProcessor.resolveFolders(List.of("CARPETA_1")))
+                .thenReturn(Map.of());
+        when(folderTicketProcessor.process(ResolvedFolder.notFound("CARPETA_1")))
+                .thenReturn(List.of());
+        stubSink();
+
+        useCase.process(excelInput);
+
+        verify(folderTicketProcessor).process(ResolvedFolder.notFound("CARPETA_1"));
+    }
+
+    @Test
+    @DisplayName("Debe conservar el orden de entrada al procesar carpetas en paralelo")
+    void shouldKeepInputOrderWhenProcessingInParallel() {
+
+        useCase = new ProcessTicketUseCaseImpl(
+                List.of(folderReaderPort),
+                List.of(fileWriterPort),
+                folderTicketProcessor,
+                new TicketProcessingProperties(
+                        new TicketProcessingProperties.Folders(true, 4),
+                        new TicketProcessingProperties.Pdfs(false, 1, 1),
+                        new TicketProcessingProperties.Incremental(false, null),
+                        new TicketProcessingProperties.Errors(false)),
+                checkpointPort
+        );
+
+        List<String> folders = List.of("CARPETA_1", "CARPETA_2", "CARPETA_3");
+        List<TicketInvoice> expected = new ArrayList<>();
+
+        when(folderReaderPort.streamFolderNames(any())).thenAnswer(invocation -> folders.stream());
+        when(folderTicketProcessor.resolveFolders(folders)).thenReturn(Map.of());
+
+        for (int i = 0; i < folders.size(); i++) {
+            String name = folders.get(i);
+            TicketInvoice invoice = new TicketInvoice(name, name + ".pdf", "", "");
+            expected.add(invoice);
+            long delay = (folders.size() - i) * 30L;
+            when(folderTicketProcessor.process(ResolvedFolder.notFound(name))).thenAnswer(invocation -> {
+                Thread.sleep(delay);
+                return List.of(invoice);
+            });
+        }
+
+        RecordingSink sink = stubSink();
+
+        assertArrayEquals(RecordingSink.CONTENT, useCase.process(new ByteArrayInputStream("excel".getBytes())));
+        assertEquals(expected, sink.invoices);
+    }
+
+    @Test
+    @DisplayName("Debe resolver las carpetas al preparar el reporte y procesarlas solo al escribirlo")
+    void shouldDeferFolderProcessingUntilReportIsWritten() throws Exception {
+
+        TicketInvoice invoice = new TicketInvoice("CARPETA_1", "a.pdf", "", "");
+        ResolvedFolder folder = new ResolvedFolder("CARPETA_1", "id-1", "tickets-1");
+
+        when(folderReaderPort.streamFolderNames(any())).thenAnswer(invocation -> Stream.of("CARPETA_1"));
+        when(folderTicketProcessor.resolveFolders(List.of("CARPETA_1")))
+                .thenReturn(Map.of("CARPETA_1", folder));
+        when(folderTicketProcessor.process(folder)).thenReturn(List.of(invoice));
+        RecordingSink sink = stubSink();
+
+        TicketReport report = useCase.processReport(new ByteArrayInputStream("excel".getBytes()));
+
+        verify(folderTicketProcessor).resolveFolders(List.of("CARPETA_1"));
+        verify(folderTicketProcessor, never()).process(any(ResolvedFolder.class));
+        verify(fileWriterPort, never()).openSink(any());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        report.writeTo(output);
+
+        assertArrayEquals(RecordingSink.CONTENT, output.toByteArray());
+        assertEquals(List.of(invoice), sink.invoices);
+    }
+
+    @Test
+    @DisplayName("Debe emitir las filas de cada carpeta antes de procesar las siguientes")
+    void shouldEmitRowsAsFoldersFinish() {
+
+        List<String> folders = List.of("CARPETA_1", "CARPETA_2");
+        TicketInvoice first = new TicketInvoice("CARPETA_1", "a.pdf", "", "");
+
+        when(folderReaderPort.streamFolderNames(any())).thenAnswer(invocation -> folders.stream());
+        when(folderTicketProcessor.resolveFolders(folders)).thenReturn(Map.of());
+        when(folderTicketProcessor.process(ResolvedFolder.notFound("CARPETA_1"))).thenReturn(List.of(first));
+
+        RecordingSink sink = stubSink();
+        List<TicketInvoice> emittedBeforeSecond = new ArrayList<>();
+
+        when(folderTicketProcessor.process(ResolvedFolder.notFound("CARPETA_2"))).thenAnswer(invocation -> {
+            emittedBeforeSecond.addAll(sink.invoices);
+            return List.of();
+        });
+
+        useCase.process(new ByteArrayInputStream("excel".getBytes()));
+
+        assertEquals(List.of(first), emittedBeforeSecond);
+    }
+
+    @Test
+    @DisplayName("Debe cerrar el receptor sin completarlo si falla el procesamiento de una carpeta")
+    void shouldCloseSinkWithoutCompletingWhenFolderFails() {
+
+        when(folderReaderPort.streamFolderNames(any())).thenAnswer(invocation -> Stream.of("CARPETA_1"));
+        when(folderTicketProcessor.resolveFolders(List.of("CARPETA_1"))).thenReturn(Map.of());
+        when(folderTicketProcessor.process(ResolvedFolder.notFound("CARPETA_1")))
+                .thenThrow(new IllegalStateException("Drive caído"));
+        RecordingSink sink = stubSink();
+
+        TicketReport report = useCase.processReport(new ByteArrayInputStream("excel".getBytes()));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertThrows(IllegalStateException.class, () -> report.writeTo(output));
+        assertTrue(sink.closed);
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    @DisplayName("Debe dejar de procesar carpetas y no completar el reporte al cancelarse el plazo")
+    void shouldStopProcessingWhenDeadlineIsCancelled() {
+
+        TicketDeadline deadline = TicketDeadline.after(Duration.ofMinutes(5));
+        ResolvedFolder folder1 = ResolvedFolder.notFound("CARPETA_1");
+
+        when(folderReaderPort.streamFolderNames(any())).thenAnswer(invocation -> Stream.of("CARPETA_1", "CARPETA_2"));
+        when(folderTicketProcessor.resolveFolders(List.of("CARPETA_1", "CARPETA_2"))).thenReturn(Map.of());
+        when(folderTicketProcessor.process(folder1)).thenAnswer(invocation -> {
+            assertSame(deadline, TicketProcessingContext.deadline());
+            deadline.cancel("conexión cerrada por el cliente");
+            return List.of();
+        });
+        RecordingSink sink = stubSink();
+
+        TicketReport report = useCase.processReport(new ProcessTicketCommand(new ByteArrayInputStream("excel".getBytes()),
+                FolderListFormat.XLSX, TicketReportFormat.XLSX, deadline));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        CoreTechnicalException ex = assertThrows(CoreTechnicalException.class, () -> report.writeTo(output));
+
+        assertEquals(ErrorType.DEADLINE_EXCEEDED, ex.getType());
+        verify(folderTicketProcessor, never()).process(ResolvedFolder.notFound("CARPETA_2"));
+        assertTrue(sink.closed);
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    @DisplayName("Debe registrar los errores de carpetas y PDFs y continuar cuando se continúa ante errores")
+    void shouldWriteErrorsAndContinueWhenContinuingOnError() throws Exception {
+
+        useCase = new ProcessTicketUseCaseImpl(
+                List.of(folderReaderPort),
+                List.of(fileWriterPort),
+                folderTicketProcessor,
+                new TicketProcessingProperties(
+                        new TicketProcessingProperties.Folders(false, 1),
+                        new TicketProcessingProperties.Pdfs(false, 1, 1),
+                        new TicketProcessingProperties.Incremental(false, null),
+                        new TicketProcessingProperties.Errors(true)),
+                checkpointPort
+        );
+
+        TicketInvoice invoice = new TicketInvoice("CARPETA_2", "ticket.pdf", "", "");
+        TicketProcessingError pdfError =
+                new TicketProcessingError("CARPETA_2", "roto.pdf", "PDF_PROCESSING_ERROR", "PDF dañado");
+
+        when(folderReaderPort.streamFolderNames(any())).thenAnswer(invocation -> Stream.of("CARPETA_1", "CARPETA_2"));
+        when(folderTicketProcessor.resolveFolders(List.of("CARPETA_1", "CARPETA_2"))).thenReturn(Map.of());
+        when(folderTicketProcessor.process(ResolvedFolder.notFound("CARPETA_1")))
+                .thenThrow(new CoreTechnicalException("Drive caído", ErrorType.DRIVE_ACCESS_ERROR));
+        when(folderTicketProcessor.process(ResolvedFolder.notFound("CARPETA_2"))).thenAnswer(invocation -> {
+            TicketProcessingContext.listener().failed(pdfError);
+            return List.of(invoice);
+        });
+        RecordingSink sink = stubSink();
+
+        List<TicketProcessingError> notified = new ArrayList<>();
+        TicketProcessingListener listener = new TicketProcessingListener() {
+            @Override
+            public void failed(TicketProcessingError error) {
+                notified.add(error);
+            }
+        };
+
+        useCase.processReport(new ProcessTicketCommand(new ByteArrayInputStream("excel".getBytes()),
+                FolderListFormat.XLSX, TicketReportFormat.XLSX, listener)).writeTo(new ByteArrayOutputStream());
+
+        TicketProcessingError folderError =
+                new TicketProcessingError("CARPETA_1", null, "DRIVE_ACCESS_ERROR", "Drive caído");
+
+        assertEquals(List.of(invoice), sink.invoices);
+        assertEquals(List.of(folderError, pdfError), sink.errors);
+        assertEquals(List.of(folderError, pdfError), notified);
+    }
+
+    @Test
+    @DisplayName("Debe reanudar desde el punto de control sin volver a procesar las carpetas completadas")
+    void shouldResumeFromCheckpoint() throws Exception {
+
+        TicketInvoice restoredInvoice = new TicketInvoice("CARPETA_1", "ticket-1.pdf", "F111-00000001", "");
+        TicketInvoice newInvoice = new TicketInvoice("CARPETA_2", "ticket-2.pdf", "", "");
+
+        when(checkpointPort.load("hash-xlsx"))
+                .thenReturn(List.of(new FolderCheckpoint(0, "CARPETA_1", List.of(restoredInvoice), List.of())));
+        when(folderReaderPort.streamFolderNames(any())).thenAnswer(invocation -> Stream.of("CARPETA_1", "CARPETA_2"));
+        when(folderTicketProcessor.resolveFolders(List.of("CARPETA_2"))).thenReturn(Map.of());
+        when(folderTicketProcessor.process(ResolvedFolder.notFound("CARPETA_2"))).thenReturn(List.of(newInvoice));
+        RecordingSink sink = stubSink();
+
+        useCase.processReport(new ProcessTicketCommand(new ByteArrayInputStream("excel".getBytes()),
+                FolderListFormat.XLSX, TicketReportFormat.XLSX, null, "hash-xlsx")).writeTo(new ByteArrayOutputStream());
+
+        assertEquals(List.of(restoredInvoice, newInvoice), sink.invoices);
+        verify(folderTicketProcessor, never()).process(ResolvedFolder.notFound("CARPETA_1"));
+        verify(checkpointPort).append("hash-xlsx", new FolderCheckpoint(1, "CARPETA_2", List.of(newInvoice), List.of()));
+        verify(checkpointPort, never()).append(eq("hash-xlsx"), argThat(checkpoint -> checkpoint.position() == 0));
+        verify(checkpointPort).delete("hash-xlsx");
+    }
+
+    @Test
+    @DisplayName("Debe recortar el punto de control cuando el listado deja de coincidir")
+    void shouldTrimCheckpointWhenListDiverges() throws Exception {
+
+        FolderCheckpoint kept = new FolderCheckpoint(0, "CARPETA_1", List.of(), List.of());
+
+        when(checkpointPort.load("hash-xlsx"))
+                .thenReturn(List.of(kept, new FolderCheckpoint(1, "CARPETA_X", List.of(), List.of())));
+        when(folderReaderPort.streamFolderNames(any())).thenAnswer(invocation -> Stream.of("CARPETA_1", "CARPETA_2"));
+        when(folderTicketProcessor.resolveFolders(List.of("CARPETA_2"))).thenReturn(Map.of());
+        when(folderTicketProcessor.process(ResolvedFolder.notFound("CARPETA_2"))).thenReturn(List.of());
+        stubSink();
+
+        TicketReport report = useCase.processReport(new ProcessTicketCommand(new ByteArrayInputStream("excel".getBytes()),
+                FolderListFormat.XLSX, TicketReportFormat.XLSX, null, "hash-xlsx"));
+
+        InOrder order = inOrder(checkpointPort);
+        order.verify(checkpointPort).delete("hash-xlsx");
+        order.verify(checkpointPort).append("hash-xlsx", kept);
+
+        report.writeTo(new ByteArrayOutputStream());
+
+        order.verify(checkpointPort).append("hash-xlsx", new FolderCheckpoint(1, "CARPETA_2", List.of(), List.of()));
+    }
+
+    @Test
+    @DisplayName("Debe calcular el mismo hash para listados con las mismas carpetas en el mismo orden")
+    void shouldDigestNormalizedFolderList() {
+
+        when(folderReaderPort.streamFolderNames(any()))
+                .thenAnswer(invocation -> Stream.of("CARPETA_1", "CARPETA_2"))
+                .thenAnswer(invocation -> Stream.of("CARPETA_1", "CARPETA_2"))
+                .thenAnswer(invocation -> Stream.of("CARPETA_2", "CARPETA_1"));
+
+        String first = useCase.folderListDigest(new ByteArrayInputStream("a".getBytes()), FolderListFormat.XLSX);
+        String second = useCase.folderListDigest(new ByteArrayInputStream("b".getBytes()), FolderListFormat.XLSX);
+        String reordered = useCase.folderListDigest(new ByteArrayInputStream("c".getBytes()), FolderListFormat.XLSX);
+
+        assertTrue(first.matches("[0-9a-f]{64}"));
+        assertEquals(first, second);
+        assertNotEquals(first, reordered);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un formato sin generador antes de leer el archivo")
+    void shouldRejectUnsupportedFormatBeforeReading() {
+
+        CoreBusinessException ex = assertThrows(CoreBusinessException.class,
+                () -> useCase.processReport(new ByteArrayInputStream("excel".getBytes()), TicketReportFormat.CSV));
+
+        assertEquals(ErrorType.REPORT_FORMAT_NOT_SUPPORTED, ex.getType());
+        verify(folderReaderPort, never()).streamFolderNames(any());
+    }
+
+    @Test
+    @DisplayName("Debe leer y resolver las carpetas por bloques a medida que se procesan")
+    void shouldReadAndResolveFoldersInBatches() throws Exception {
+
+        int total = ProcessTicketUseCaseImpl.RESOLVE_BATCH_SIZE + 50;
+        AtomicInteger read = new AtomicInteger();
+        List<String> names = IntStream.range(0, total).mapToObj(i -> "CARPETA_" + i).toList();
+
+        when(folderReaderPort.streamFolderNames(any()))
+                .thenAnswer(invocation -> names.stream().peek(name -> read.incrementAndGet()));
+        when(folderTicketProcessor.resolveFolders(any())).thenReturn(Map.of());
+        when(folderTicketProcessor.process(any(ResolvedFolder.class))).thenAnswer(invocation ->
+                List.of(new TicketInvoice(invocation.<ResolvedFolder>getArgument(0).folderName(), "", "", "")));
+        RecordingSink sink = stubSink();
+
+        TicketReport report = useCase.processReport(new ByteArrayInputStream("excel".getBytes()));
+
+        assertEquals(ProcessTicketUseCaseImpl.RESOLVE_BATCH_SIZE, read.get());
+        verify(folderTicketProcessor).resolveFolders(names.subList(0, ProcessTicketUseCaseImpl.RESOLVE_BATCH_SIZE));
+
+        report.writeTo(new ByteArrayOutputStream());
+
+        assertEquals(total, read.get());
+        verify(folderTicketProcessor).resolveFolders(names.subList(ProcessTicketUseCaseImpl.RESOLVE_BATCH_SIZE, total));
+        assertEquals(names, sink.invoices.stream().map(TicketInvoice::sourceFileName).toList());
+    }
+
+    @Test
+    @DisplayName("Debe informar el avance al receptor del comando")
+    void shouldNotifyProgressListener() throws IOException {
+
+        when(folderReaderPort.streamFolderNames(any()))
+                .thenAnswer(invocation -> Stream.of("CARPETA_1", "CARPETA_2"));
+        when(folderTicketProcessor.resolveFolders(List.of("CARPETA_1", "CARPETA_2"))).thenReturn(Map.of());
+        when(folderTicketProcessor.process(any(ResolvedFolder.class))).thenAnswer(invocation ->
+                invocation.<ResolvedFolder>getArgument(0).folderName().equals("CARPETA_1")
+                        ? List.of(mock(TicketInvoice.class), mock(TicketInvoice.class))
+                        : List.of());
+        stubSink();
+
+        List<String> events = new ArrayList<>();
+        TicketProcessingListener listener = new TicketProcessingListener() {
+            @Override
+            public void folderResolved(ResolvedFolder folder) {
+                events.add("resuelta:" + folder.folderName());
+            }
+
+            @Override
+            public void folderListRead(int folders) {
+                events.add("listado:" + folders);
+            }
+
+            @Override
+            public void folderProcessed(String folderName, int tickets) {
+                events.add("procesada:" + folderName + ":" + tickets);
+            }
+        };
+
+        useCase.processReport(new ProcessTicketCommand(
+                        new ByteArrayInputStream("excel".getBytes()), FolderListFormat.XLSX, TicketReportFormat.XLSX,
+                        listener))
+                .writeTo(new ByteArrayOutputStream());
+
+        assertEquals(List.of("listado:2", "resuelta:CARPETA_1", "resuelta:CARPETA_2",
+                "procesada:CARPETA_1:2", "procesada:CARPETA_2:0"), events);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un listado de carpetas sin lector para su formato")
+    void shouldRejectUnsupportedFolderListFormat() {
+
+        ProcessTicketCommand command = new ProcessTicketCommand(
+                new ByteArrayInputStream("[]".getBytes()), FolderListFormat.JSON, TicketReportFormat.XLSX);
+
+        CoreBusinessException ex = assertThrows(CoreBusinessException.class, () -> useCase.processReport(command));
+
+        assertEquals(ErrorType.FOLDER_LIST_FORMAT_NOT_SUPPORTED, ex.getType());
+    }
+
+    @Test
+    @DisplayName("Debe conservar el error tipificado por el lector del listado")
+    void shouldKeepReaderErrorType() {
+
+        when(folderReaderPort.streamFolderNames(any()))
+                .thenThrow(new CoreTechnicalException("JSON inválido", ErrorType.FOLDER_LIST_INVALID));
+
+        CoreTechnicalException ex = assertThrows(CoreTechnicalException.class,
+                () -> useCase.processReport(new ByteArrayInputStream("excel".getBytes())));
+
+        assertEquals(ErrorType.FOLDER_LIST_INVALID, ex.getType());
+    }
+
+    private RecordingSink stubSink() {
+        RecordingSink sink = new RecordingSink();
+        when(fileWriterPort.openSink(any())).thenAnswer(invocation -> {
+            sink.outputStream = invocation.getArgument(0);
+            return sink;
+        });
+        return sink;
+    }
+
+    /**
+     * Receptor que registra las filas y escribe un contenido fijo al completarse.
+     */
+    private static final class RecordingSink implements TicketInvoiceSink {
+
+        static final byte[] CONTENT = "resultado".getBytes();
+
+        final List<TicketInvoice> invoices = new ArrayList<>();
+        final List<TicketProcessingError> errors = new ArrayList<>();
+        OutputStream outputStream;
+        RuntimeException failure;
+        boolean closed;
+
+        @Override
+        public void accept(TicketInvoice invoice) {
+            invoices.add(invoice);
+        }
+
+        @Override
+        public void acceptError(TicketProcessingError error) {
+            errors.add(error);
+        }
+
+        @Override
+        public void complete() {
+            if (failure != null) {
+                throw failure;
+            }
+            try {
+                outputStream.write(CONTENT);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+    }
+
 }
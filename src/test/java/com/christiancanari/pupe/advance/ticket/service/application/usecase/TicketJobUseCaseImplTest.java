@@ -0,0 +1,302 @@
+package com.christiancanari.pupe.advance.ticket.service.application.usecase;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ProcessTicketCommand;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJob;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJobEvent;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJobEventType;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJobStatus;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReport;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.in.ProcessTicketUseCase;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.in.TicketJobUseCase;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketJobStoragePort;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketJobProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreBusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TicketJobUseCaseImplTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private ProcessTicketUseCase processTicketUseCase;
+    private TicketJobStoragePort storage;
+    private TicketJobUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        processTicketUseCase = mock(ProcessTicketUseCase.class);
+        storage = mock(TicketJobStoragePort.class);
+        when(storage.openInput(any())).thenAnswer(inv -> new ByteArrayInputStream(new byte[0]));
+        useCase = new TicketJobUseCaseImpl(processTicketUseCase, storage,
+                new TicketJobProperties(1, 0, TTL, Duration.ofHours(1), Duration.ofHours(1), Path.of("unused"), null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.close();
+    }
+
+    @Test
+    @DisplayName("Debe procesar el trabajo en segundo plano informando el avance")
+    void shouldProcessJobAndReportProgress() throws Exception {
+
+        TicketReport report = outputStream -> outputStream.write("reporte".getBytes());
+
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class))).thenAnswer(inv -> {
+            ProcessTicketCommand command = inv.getArgument(0);
+            command.listener().folderResolved(new ResolvedFolder("A", "id-a", "tickets-a"));
+            command.listener().folderResolved(ResolvedFolder.notFound("B"));
+            command.listener().folderListRead(2);
+            command.listener().pdfExtracted("A", "a-pr.pdf", true);
+            command.listener().folderProcessed("A", 3);
+            command.listener().folderProcessed("B", 0);
+            return report;
+        });
+        when(storage.openResult(any())).thenAnswer(inv -> new ByteArrayInputStream("reporte".getBytes()));
+
+        TicketJob submitted = useCase.submit(input(), FolderListFormat.JSON, TicketReportFormat.CSV);
+        TicketJob finished = awaitFinished(submitted.id());
+
+        assertEquals(TicketJobStatus.COMPLETED, finished.status());
+        assertEquals(2, finished.foldersTotal());
+        assertEquals(2, finished.foldersResolved());
+        assertEquals(1, finished.pdfsExtracted());
+        assertEquals(2, finished.foldersProcessed());
+        assertEquals(3, finished.ticketsGenerated());
+        assertNotNull(finished.startedAt());
+
+        ByteArrayOutputStream downloaded = new ByteArrayOutputStream();
+        useCase.result(submitted.id()).writeTo(downloaded);
+        assertEquals("reporte", downloaded.toString());
+
+        verify(storage).saveInput(eq(submitted.id()), any());
+        verify(storage).saveResult(submitted.id(), report);
+        verify(storage).deleteInput(submitted.id());
+    }
+
+    @Test
+    @DisplayName("Debe publicar los eventos de avance a los suscriptores con rendimiento y tiempo estimado")
+    void shouldPublishEventsToSubscribers() throws Exception {
+
+        CountDownLatch subscribed = new CountDownLatch(1);
+        List<TicketJobEvent> events = new CopyOnWriteArrayList<>();
+
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class))).thenAnswer(inv -> {
+            ProcessTicketCommand command = inv.getArgument(0);
+            subscribed.await(5, TimeUnit.SECONDS);
+            command.listener().folderResolved(new ResolvedFolder("A", "id-a", "tickets-a"));
+            command.listener().folderListRead(1);
+            command.listener().pdfsListed("A", 1);
+            command.listener().pdfExtracted("A", "a-pr.pdf", true);
+            command.listener().folderProcessed("A", 1);
+            return (TicketReport) outputStream -> { };
+        });
+
+        TicketJob submitted = useCase.submit(input(), FolderListFormat.XLSX, TicketReportFormat.XLSX);
+        TicketJobUseCase.Subscription subscription = useCase.subscribe(submitted.id(), events::add);
+        subscribed.countDown();
+
+        TicketJob finished = awaitFinished(submitted.id());
+        subscription.close();
+
+        List<TicketJobEventType> types = events.stream().map(TicketJobEvent::type).distinct().toList();
+        assertEquals(TicketJobEventType.STATUS, types.getFirst());
+        assertTrue(types.containsAll(List.of(
+                TicketJobEventType.FOLDER_RESOLVED,
+                TicketJobEventType.PDFS_LISTED,
+                TicketJobEventType.PDF_EXTRACTED,
+                TicketJobEventType.FOLDER_DONE)));
+
+        TicketJobEvent last = events.getLast();
+        assertEquals(TicketJobEventType.COMPLETED, last.type());
+        assertEquals(0L, last.etaSeconds());
+        assertEquals(1, last.job().ticketsGenerated());
+
+        TicketJobEvent folderDone = events.stream()
+                .filter(event -> event.type() == TicketJobEventType.FOLDER_DONE)
+                .findFirst().orElseThrow();
+        assertEquals("A", folderDone.folderName());
+        assertEquals(1, folderDone.count());
+
+        int received = events.size();
+        useCase.subscribe(finished.id(), events::add).close();
+        assertEquals(List.of(TicketJobEventType.STATUS, TicketJobEventType.COMPLETED),
+                events.subList(received, events.size()).stream().map(TicketJobEvent::type).toList());
+    }
+
+    @Test
+    @DisplayName("Debe registrar el error cuando el procesamiento falla")
+    void shouldRecordFailure() throws Exception {
+
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class)))
+                .thenThrow(new CoreBusinessException("sin carpetas", ErrorType.NO_FOLDERS_FOUND));
+
+        TicketJob finished = awaitFinished(
+                useCase.submit(input(), FolderListFormat.XLSX, TicketReportFormat.XLSX).id());
+
+        assertEquals(TicketJobStatus.FAILED, finished.status());
+        assertEquals("NO_FOLDERS_FOUND", finished.errorCode());
+        assertEquals("sin carpetas", finished.errorMessage());
+
+        CoreBusinessException ex = assertThrows(CoreBusinessException.class, () -> useCase.result(finished.id()));
+        assertEquals(ErrorType.CONFLICT, ex.getType());
+        verify(storage).deleteInput(finished.id());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar trabajos cuando el ejecutor y la cola están completos")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class))).thenAnswer(inv -> {
+            started.countDown();
+            release.await();
+            return (TicketReport) outputStream -> { };
+        });
+
+        TicketJob running = useCase.submit(input(), FolderListFormat.XLSX, TicketReportFormat.XLSX);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CoreBusinessException ex = assertThrows(CoreBusinessException.class,
+                () -> useCase.submit(input(), FolderListFormat.XLSX, TicketReportFormat.XLSX));
+        assertEquals(ErrorType.JOB_QUEUE_FULL, ex.getType());
+
+        CoreBusinessException conflict = assertThrows(CoreBusinessException.class, () -> useCase.result(running.id()));
+        assertEquals(ErrorType.CONFLICT, conflict.getType());
+
+        release.countDown();
+        assertEquals(TicketJobStatus.COMPLETED, awaitFinished(running.id()).status());
+        verify(storage, times(2)).deleteInput(any());
+        verify(storage, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Debe eliminar los trabajos finalizados al vencer su TTL")
+    void shouldEvictExpiredJobs() throws Exception {
+
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class)))
+                .thenReturn(outputStream -> { });
+
+        TicketJob finished = awaitFinished(
+                useCase.submit(input(), FolderListFormat.XLSX, TicketReportFormat.XLSX).id());
+
+        assertEquals(0, useCase.evictExpired(finished.finishedAt().plus(TTL)));
+        assertEquals(1, useCase.evictExpired(finished.finishedAt().plus(TTL).plusSeconds(1)));
+
+        verify(storage).delete(finished.id());
+        CoreBusinessException ex = assertThrows(CoreBusinessException.class, () -> useCase.status(finished.id()));
+        assertEquals(ErrorType.RESOURCE_NOT_FOUND, ex.getType());
+    }
+
+    @Test
+    @DisplayName("Debe identificar el punto de control por el hash y el formato del listado")
+    void shouldDeriveCheckpointKeyFromInputHash() throws Exception {
+
+        doAnswer(inv -> ((InputStream) inv.getArgument(1)).readAllBytes()).when(storage).saveInput(any(), any());
+
+        List<String> keys = new CopyOnWriteArrayList<>();
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class))).thenAnswer(inv -> {
+            keys.add(((ProcessTicketCommand) inv.getArgument(0)).checkpointKey());
+            return (TicketReport) outputStream -> { };
+        });
+
+        awaitFinished(useCase.submit(input(), FolderListFormat.JSON, TicketReportFormat.XLSX).id());
+        awaitFinished(useCase.submit(input(), FolderListFormat.JSON, TicketReportFormat.CSV).id());
+        awaitFinished(useCase.submit(input(), FolderListFormat.CSV, TicketReportFormat.CSV).id());
+
+        assertEquals(3, keys.size());
+        assertTrue(keys.getFirst().matches("[0-9a-f]{64}-json"));
+        assertEquals(keys.get(0), keys.get(1));
+        assertNotEquals(keys.get(1), keys.get(2));
+    }
+
+    @Test
+    @DisplayName("Debe entregar el mismo trabajo a envíos idénticos en curso o recién completados")
+    void shouldCoalesceIdenticalSubmissions() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(processTicketUseCase.folderListDigest(any(), any())).thenReturn("abc");
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class))).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return (TicketReport) outputStream -> { };
+        });
+
+        TicketJob first = useCase.submit(input(), FolderListFormat.XLSX, TicketReportFormat.XLSX);
+        TicketJob second = useCase.submit(input(), FolderListFormat.JSON, TicketReportFormat.XLSX);
+
+        assertEquals(first.id(), second.id());
+
+        release.countDown();
+        TicketJob finished = awaitFinished(first.id());
+
+        assertEquals(first.id(), useCase.submit(input(), FolderListFormat.CSV, TicketReportFormat.XLSX).id());
+        verify(processTicketUseCase, times(1)).processReport(any(ProcessTicketCommand.class));
+
+        TicketJob otherFormat = useCase.submit(input(), FolderListFormat.XLSX, TicketReportFormat.CSV);
+        assertNotEquals(first.id(), otherFormat.id());
+        awaitFinished(otherFormat.id());
+
+        useCase.evictExpired(finished.finishedAt().plus(Duration.ofMinutes(3)));
+        assertNotEquals(first.id(), useCase.submit(input(), FolderListFormat.XLSX, TicketReportFormat.XLSX).id());
+    }
+
+    @Test
+    @DisplayName("Debe crear un nuevo trabajo cuando el trabajo idéntico anterior falló")
+    void shouldNotCoalesceWithFailedJob() throws Exception {
+
+        when(processTicketUseCase.folderListDigest(any(), any())).thenReturn("abc");
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class)))
+                .thenThrow(new CoreBusinessException("Sin carpetas", ErrorType.NO_FOLDERS_FOUND));
+
+        TicketJob failed = awaitFinished(
+                useCase.submit(input(), FolderListFormat.XLSX, TicketReportFormat.XLSX).id());
+
+        assertEquals(TicketJobStatus.FAILED, failed.status());
+        assertNotEquals(failed.id(), useCase.submit(input(), FolderListFormat.XLSX, TicketReportFormat.XLSX).id());
+    }
+
+    private static InputStream input() {
+        return new ByteArrayInputStream("[\"CARPETA\"]".getBytes());
+    }
+
+    private TicketJob awaitFinished(String jobId) throws InterruptedException {
+
+        Instant deadline = Instant.now().plusSeconds(5);
+
+        while (Instant.now().isBefore(deadline)) {
+            TicketJob job = useCase.status(jobId);
+            if (job.status().isFinished()) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+
+        return fail("El trabajo " + jobId + " no finalizó");
+    }
+
+}
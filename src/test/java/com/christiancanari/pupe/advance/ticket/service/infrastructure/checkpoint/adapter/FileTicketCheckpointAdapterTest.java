@@ -0,0 +1,130 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.checkpoint.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderCheckpoint;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketJobProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileTicketCheckpointAdapterTest {
+
+    private static final String KEY = "abc123-xlsx";
+
+    @TempDir
+    Path directory;
+
+    private FileTicketCheckpointAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new FileTicketCheckpointAdapter(
+                new TicketJobProperties(1, 1, Duration.ofHours(1), Duration.ofMinutes(5), Duration.ofHours(1),
+                        directory.resolve("jobs"),
+                        new TicketJobProperties.Checkpoints(true, Duration.ofHours(24), directory), null),
+                JsonMapper.builder().build()
+        );
+    }
+
+    @Test
+    @DisplayName("Debe recuperar las carpetas registradas en orden con sus tickets y errores")
+    void shouldLoadAppendedCheckpoints() {
+
+        FolderCheckpoint first = new FolderCheckpoint(0, "CARPETA_1",
+                List.of(new TicketInvoice("CARPETA_1", "ticket.pdf", "F111-00000001", "")), List.of());
+        FolderCheckpoint second = new FolderCheckpoint(1, "CARPETA_2", List.of(),
+                List.of(new TicketProcessingError("CARPETA_2", null, "DRIVE_ACCESS_ERROR", "Drive caído")));
+
+        adapter.append(KEY, first);
+        adapter.append(KEY, second);
+
+        assertEquals(List.of(first, second), adapter.load(KEY));
+        assertEquals(List.of(), adapter.load("otro-xlsx"));
+
+        adapter.delete(KEY);
+        assertEquals(List.of(), adapter.load(KEY));
+    }
+
+    @Test
+    @DisplayName("Debe descartar una última línea incompleta y las posiciones repetidas o con saltos")
+    void shouldKeepOnlyContiguousPrefix() throws Exception {
+
+        adapter.append(KEY, new FolderCheckpoint(0, "CARPETA_1", List.of(), List.of()));
+        adapter.append(KEY, new FolderCheckpoint(0, "CARPETA_1", List.of(), List.of()));
+        adapter.append(KEY, new FolderCheckpoint(1, "CARPETA_2", List.of(), List.of()));
+        Files.writeString(directory.resolve(KEY + ".ndjson"), "{\"position\":2,\"folder",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(List.of("CARPETA_1", "CARPETA_2"),
+                adapter.load(KEY).stream().map(FolderCheckpoint::folderName).toList());
+
+        adapter.delete(KEY);
+        adapter.append(KEY, new FolderCheckpoint(1, "CARPETA_2", List.of(), List.of()));
+
+        assertEquals(List.of(), adapter.load(KEY));
+    }
+
+    @Test
+    @DisplayName("Debe truncar una línea incompleta para que los puntos de control reanudados sigan siendo legibles")
+    void shouldRepairTornLineBeforeResuming() throws Exception {
+
+        adapter.append(KEY, new FolderCheckpoint(0, "CARPETA_1", List.of(), List.of()));
+        adapter.append(KEY, new FolderCheckpoint(1, "CARPETA_2", List.of(), List.of()));
+        Files.writeString(directory.resolve(KEY + ".ndjson"), "{\"position\":2,\"folder",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(2, adapter.load(KEY).size());
+
+        adapter.append(KEY, new FolderCheckpoint(2, "CARPETA_3", List.of(), List.of()));
+        adapter.append(KEY, new FolderCheckpoint(3, "CARPETA_4", List.of(), List.of()));
+
+        assertEquals(List.of("CARPETA_1", "CARPETA_2", "CARPETA_3", "CARPETA_4"),
+                adapter.load(KEY).stream().map(FolderCheckpoint::folderName).toList());
+    }
+
+    @Test
+    @DisplayName("Debe descartar una última línea completa en JSON pero sin salto de línea")
+    void shouldDiscardLastLineWithoutNewline() throws Exception {
+
+        adapter.append(KEY, new FolderCheckpoint(0, "CARPETA_1", List.of(), List.of()));
+        Path file = directory.resolve(KEY + ".ndjson");
+        long validBytes = Files.size(file);
+        Files.writeString(file, "{\"position\":1,\"folderName\":\"CARPETA_2\",\"invoices\":[],\"errors\":[]}",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(1, adapter.load(KEY).size());
+        assertEquals(validBytes, Files.size(file));
+
+        adapter.append(KEY, new FolderCheckpoint(1, "CARPETA_2", List.of(), List.of()));
+
+        assertEquals(2, adapter.load(KEY).size());
+    }
+
+    @Test
+    @DisplayName("Debe eliminar los puntos de control vencidos al iniciar")
+    void shouldDeleteExpiredCheckpoints() throws Exception {
+
+        adapter.append(KEY, new FolderCheckpoint(0, "CARPETA_1", List.of(), List.of()));
+        Path file = directory.resolve(KEY + ".ndjson");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        assertEquals(0, adapter.prepare(Duration.ofHours(3), Instant.now()));
+        assertEquals(1, adapter.prepare(Duration.ofHours(1), Instant.now()));
+        assertFalse(Files.exists(file));
+    }
+
+}
@@ -1,10 +1,21 @@
 package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.adapter;
 
+import com.christiancanari.pupe.advance.ticket.service.domain.model.DriveChange;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.DriveChanges;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketFile;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config.DriveResilienceProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.resilience.ResilientDriveExecutor;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.GoogleDriveProperties;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
 import com.google.api.services.drive.Drive;
+import com.google.api.services.drive.model.Change;
+import com.google.api.services.drive.model.ChangeList;
 import com.google.api.services.drive.model.File;
 import com.google.api.services.drive.model.FileList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,8 +24,12 @@ import org.mockito.MockitoAnnotations;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,7 +53,25 @@ class TicketGoogleDriveAdapterTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        adapter = new TicketGoogleDriveAdapter(drive);
+        adapter = new TicketGoogleDriveAdapter(
+                drive,
+                new GoogleDriveProperties(
+                        "test-app",
+                        new GoogleDriveProperties.Credentials("classpath:credentials/fake.json"),
+                        List.of("scope"),
+                        100,
+                        2
+                ),
+                new ResilientDriveExecutor(
+                        new DriveResilienceProperties(
+                                new DriveResilienceProperties.Retry(3, Duration.ofMillis(1), Duration.ofMillis(5),
+                                        2.0, 0.0, Duration.ofMillis(5)),
+                                new DriveResilienceProperties.CircuitBreaker(true, 10, Duration.ofSeconds(30)),
+                                new DriveResilienceProperties.Limiter(true, 8, 1, 64, 0.7, 2.0, Duration.ofSeconds(5))
+                        ),
+                        new SimpleMeterRegistry()
+                )
+        );
     }
 
     // ----------------------------------------------------------------------
@@ -167,6 +200,98 @@ class TicketGoogleDriveAdapterTest {
         assertTrue(exception.getMessage().contains("Google Drive"));
     }
 
+    // ----------------------------------------------------------------------
+    // resolveFolders
+    // ----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("Debe resolver carpetas en bloque combinando nombres y padres en lotes")
+    void shouldResolveFoldersInBatches() throws Exception {
+
+        FileList foldersBatch1 = new FileList();
+        foldersBatch1.setFiles(List.of(folder("id-a", "Adelanto A 2024"), folder("id-b", "Adelanto B")));
+
+        FileList foldersBatch2 = new FileList();
+        foldersBatch2.setFiles(List.of());
+
+        FileList ticketsBatch = new FileList();
+        ticketsBatch.setFiles(List.of(ticketsFolder("tickets-a", "id-a")));
+
+        Drive.Files.List second = mock(Drive.Files.List.class);
+        Drive.Files.List third = mock(Drive.Files.List.class);
+
+        when(drive.files()).thenReturn(driveFiles);
+        when(driveFiles.list()).thenReturn(driveFilesList, second, third);
+        stubListRequest(driveFilesList, foldersBatch1);
+        stubListRequest(second, foldersBatch2);
+        stubListRequest(third, ticketsBatch);
+
+        Map<String, ResolvedFolder> result =
+                adapter.resolveFolders(List.of("Adelanto A", "Adelanto B", "O'Higgins"));
+
+        assertEquals(List.of("Adelanto A", "Adelanto B", "O'Higgins"), List.copyOf(result.keySet()));
+        assertEquals(new ResolvedFolder("Adelanto A", "id-a", "tickets-a"), result.get("Adelanto A"));
+        assertEquals(new ResolvedFolder("Adelanto B", "id-b", null), result.get("Adelanto B"));
+        assertEquals(ResolvedFolder.notFound("O'Higgins"), result.get("O'Higgins"));
+
+        verify(driveFilesList).setQ(contains("name contains 'Adelanto A' or name contains 'Adelanto B'"));
+        verify(second).setQ(contains("name contains 'O\\'Higgins'"));
+        verify(third).setQ(contains("'id-a' in parents or 'id-b' in parents"));
+        verify(driveFiles, times(3)).list();
+    }
+
+    @Test
+    @DisplayName("Debe asignar cada carpeta del lote solo al nombre que Drive hace coincidir, prefiriendo el idéntico")
+    void shouldMatchBatchResultsWithDriveContainsSemantics() throws Exception {
+
+        FileList folders = new FileList();
+        folders.setFiles(List.of(
+                folder("id-mariana", "MARIANA"),
+                folder("id-analisis", "ANALISIS 2024"),
+                folder("id-ana", "Ana"),
+                folder("id-rosa", "2024 - Rosa María")));
+
+        FileList tickets = new FileList();
+        tickets.setFiles(List.of());
+
+        Drive.Files.List second = mock(Drive.Files.List.class);
+
+        when(drive.files()).thenReturn(driveFiles);
+        when(driveFiles.list()).thenReturn(driveFilesList, second);
+        stubListRequest(driveFilesList, folders);
+        stubListRequest(second, tickets);
+
+        Map<String, ResolvedFolder> result = adapter.resolveFolders(List.of("ANA", "ROSA"));
+
+        assertEquals("id-ana", result.get("ANA").folderId());
+        assertEquals("id-rosa", result.get("ROSA").folderId());
+    }
+
+    @Test
+    @DisplayName("Debe clasificar las coincidencias de nombre como el operador contains de Drive")
+    void shouldRankNameMatchesLikeDriveContains() {
+
+        assertEquals(0, TicketGoogleDriveAdapter.matchRank("Adelanto A", "adelanto a"));
+        assertEquals(1, TicketGoogleDriveAdapter.matchRank("Adelanto A 2024", "Adelanto A"));
+        assertEquals(2, TicketGoogleDriveAdapter.matchRank("2024_Adelanto", "Adelanto"));
+        assertEquals(Integer.MAX_VALUE, TicketGoogleDriveAdapter.matchRank("MARIANA", "ANA"));
+    }
+
+    @Test
+    @DisplayName("Debe lanzar CoreTechnicalException cuando falla la resolución en bloque")
+    void shouldThrowExceptionWhenResolveFoldersFails() throws Exception {
+
+        when(drive.files()).thenReturn(driveFiles);
+        when(driveFiles.list()).thenThrow(new RuntimeException("Drive error"));
+
+        CoreTechnicalException exception = assertThrows(
+                CoreTechnicalException.class,
+                () -> adapter.resolveFolders(List.of("Adelanto A"))
+        );
+
+        assertTrue(exception.getMessage().contains("Google Drive"));
+    }
+
     // ----------------------------------------------------------------------
     // listPdfFiles
     // ----------------------------------------------------------------------
@@ -188,6 +313,8 @@ class TicketGoogleDriveAdapterTest {
         when(driveFilesList.setFields(anyString())).thenReturn(driveFilesList);
         when(driveFilesList.setSupportsAllDrives(true)).thenReturn(driveFilesList);
         when(driveFilesList.setIncludeItemsFromAllDrives(true)).thenReturn(driveFilesList);
+        when(driveFilesList.setPageSize(100)).thenReturn(driveFilesList);
+        when(driveFilesList.setPageToken(any())).thenReturn(driveFilesList);
         when(driveFilesList.execute()).thenReturn(fileList);
 
         List<TicketFile> result = adapter.listPdfFiles("folder-id");
@@ -197,6 +324,52 @@ class TicketGoogleDriveAdapterTest {
         assertEquals("ticket.pdf", result.get(0).name());
     }
 
+    @Test
+    @DisplayName("Debe recorrer todas las páginas siguiendo nextPageToken")
+    void shouldFollowNextPageTokenWhenListingPdfFiles() throws Exception {
+
+        FileList firstPage = new FileList();
+        firstPage.setFiles(List.of(pdf("pdf-1", "ticket-1.pdf"), pdf("pdf-2", "ticket-2.pdf")));
+        firstPage.setNextPageToken("page-2");
+
+        FileList secondPage = new FileList();
+        secondPage.setFiles(List.of(pdf("pdf-3", "ticket-3.pdf")));
+
+        Drive.Files.List secondRequest = mock(Drive.Files.List.class);
+
+        when(drive.files()).thenReturn(driveFiles);
+        when(driveFiles.list()).thenReturn(driveFilesList, secondRequest);
+        stubListRequest(driveFilesList, firstPage);
+        stubListRequest(secondRequest, secondPage);
+
+        List<TicketFile> result = adapter.listPdfFiles("folder-id");
+
+        assertEquals(List.of("pdf-1", "pdf-2", "pdf-3"), result.stream().map(TicketFile::id).toList());
+        verify(driveFilesList).setPageToken(null);
+        verify(secondRequest).setPageToken("page-2");
+    }
+
+    @Test
+    @DisplayName("Debe entregar la primera página sin esperar a consumir el flujo completo")
+    void shouldStreamFirstPageLazily() throws Exception {
+
+        FileList firstPage = new FileList();
+        firstPage.setFiles(List.of(pdf("pdf-1", "ticket-1.pdf")));
+
+        when(drive.files()).thenReturn(driveFiles);
+        when(driveFiles.list()).thenReturn(driveFilesList);
+        stubListRequest(driveFilesList, firstPage);
+
+        try (Stream<TicketFile> stream = adapter.streamPdfFiles("folder-id")) {
+
+            verify(driveFiles, never()).list();
+
+            assertEquals("pdf-1", stream.findFirst().map(TicketFile::id).orElseThrow());
+        }
+
+        verify(driveFilesList, times(1)).execute();
+    }
+
     @Test
     @DisplayName("Debe lanzar CoreTechnicalException cuando falla el listado de PDFs")
     void shouldThrowExceptionWhenListPdfFilesFails() throws Exception{
@@ -231,6 +404,22 @@ class TicketGoogleDriveAdapterTest {
         assertNotNull(result);
     }
 
+    @Test
+    @DisplayName("Debe reintentar la descarga cuando Drive responde 503")
+    void shouldRetryDownloadOnServiceUnavailable() throws Exception {
+
+        InputStream inputStream = new ByteArrayInputStream("content".getBytes());
+
+        when(drive.files()).thenReturn(driveFiles);
+        when(driveFiles.get("file-id")).thenReturn(driveFilesGet);
+        when(driveFilesGet.executeMediaAsInputStream())
+                .thenThrow(new HttpResponseException.Builder(503, "Service Unavailable", new HttpHeaders()).build())
+                .thenReturn(inputStream);
+
+        assertSame(inputStream, adapter.downloadFile("file-id"));
+        verify(driveFilesGet, times(2)).executeMediaAsInputStream();
+    }
+
     @Test
     @DisplayName("Debe lanzar CoreTechnicalException cuando falla la descarga del archivo")
     void shouldThrowExceptionWhenDownloadFileFails() throws Exception{
@@ -245,4 +434,100 @@ class TicketGoogleDriveAdapterTest {
         assertTrue(exception.getMessage().contains("Google Drive"));
     }
 
+    // ----------------------------------------------------------------------
+    // listChanges
+    // ----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("Debe recorrer las páginas de cambios y convertir bajas, papelera y no PDFs en eliminaciones")
+    void shouldListChangesAcrossPages() throws Exception {
+
+        Drive.Changes driveChanges = mock(Drive.Changes.class);
+        Drive.Changes.List firstRequest = mock(Drive.Changes.List.class);
+        Drive.Changes.List secondRequest = mock(Drive.Changes.List.class);
+
+        File modifiedPdf = pdf("1", "ticket-pr.pdf");
+        modifiedPdf.setMimeType("application/pdf");
+        modifiedPdf.setMd5Checksum("abc");
+        modifiedPdf.setParents(List.of("tickets-id"));
+
+        File trashedPdf = pdf("2", "otro.pdf");
+        trashedPdf.setMimeType("application/pdf");
+        trashedPdf.setTrashed(true);
+
+        File spreadsheet = pdf("3", "hoja");
+        spreadsheet.setMimeType("application/vnd.google-apps.spreadsheet");
+
+        when(drive.changes()).thenReturn(driveChanges);
+        when(driveChanges.list("token-1")).thenReturn(firstRequest);
+        when(driveChanges.list("token-2")).thenReturn(secondRequest);
+        stubChangesRequest(firstRequest, new ChangeList()
+                .setChanges(List.of(change("1", modifiedPdf), change("2", trashedPdf)))
+                .setNextPageToken("token-2"));
+        stubChangesRequest(secondRequest, new ChangeList()
+                .setChanges(List.of(change("3", spreadsheet), new Change().setFileId("4").setRemoved(true)))
+                .setNewStartPageToken("token-3"));
+
+        DriveChanges result = adapter.listChanges("token-1");
+
+        assertEquals("token-3", result.newStartPageToken());
+        assertEquals(
+                List.of(
+                        new DriveChange("1", new TicketFile("1", "ticket-pr.pdf", "abc", null), Set.of("tickets-id")),
+                        DriveChange.removed("2"),
+                        DriveChange.removed("3"),
+                        DriveChange.removed("4")
+                ),
+                result.changes()
+        );
+    }
+
+    // ----------------------------------------------------------------------
+    // Utils
+    // ----------------------------------------------------------------------
+
+    private File pdf(String id, String name) {
+        File file = new File();
+        file.setId(id);
+        file.setName(name);
+        return file;
+    }
+
+    private File folder(String id, String name) {
+        File file = new File();
+        file.setId(id);
+        file.setName(name);
+        return file;
+    }
+
+    private File ticketsFolder(String id, String parentId) {
+        File file = new File();
+        file.setId(id);
+        file.setParents(List.of(parentId));
+        return file;
+    }
+
+    private Change change(String fileId, File file) {
+        return new Change().setFileId(fileId).setFile(file);
+    }
+
+    private void stubChangesRequest(Drive.Changes.List request, ChangeList response) throws Exception {
+        when(request.setFields(anyString())).thenReturn(request);
+        when(request.setPageSize(anyInt())).thenReturn(request);
+        when(request.setIncludeRemoved(true)).thenReturn(request);
+        when(request.setSupportsAllDrives(true)).thenReturn(request);
+        when(request.setIncludeItemsFromAllDrives(true)).thenReturn(request);
+        when(request.execute()).thenReturn(response);
+    }
+
+    private void stubListRequest(Drive.Files.List request, FileList response) throws Exception {
+        when(request.setQ(anyString())).thenReturn(request);
+        when(request.setFields(anyString())).thenReturn(request);
+        when(request.setPageSize(anyInt())).thenReturn(request);
+        when(request.setPageToken(any())).thenReturn(request);
+        when(request.setSupportsAllDrives(true)).thenReturn(request);
+        when(request.setIncludeItemsFromAllDrives(true)).thenReturn(request);
+        when(request.execute()).thenReturn(response);
+    }
+
 }
@@ -0,0 +1,132 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.cache;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ResolvedFolder;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketGoogleDrivePort;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config.DriveFolderCacheProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingTicketGoogleDriveAdapterTest {
+
+    private TicketGoogleDrivePort delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanos;
+
+    private CachingTicketGoogleDriveAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(TicketGoogleDrivePort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        nanos = new AtomicLong();
+
+        adapter = new CachingTicketGoogleDriveAdapter(
+                delegate,
+                new DriveFolderCacheProperties(true, 100, Duration.ofHours(1), Duration.ofMinutes(1)),
+                meterRegistry,
+                nanos::get
+        );
+    }
+
+    @Test
+    @DisplayName("Debe consultar Drive una sola vez para la misma carpeta")
+    void shouldCacheFolderIdByName() {
+
+        when(delegate.findFolderIdByName("CARPETA")).thenReturn(Optional.of("folder-id"));
+
+        assertEquals(Optional.of("folder-id"), adapter.findFolderIdByName("CARPETA"));
+        assertEquals(Optional.of("folder-id"), adapter.findFolderIdByName("CARPETA"));
+
+        verify(delegate, times(1)).findFolderIdByName("CARPETA");
+        assertEquals(1.0, functionCount("cache.gets", CachingTicketGoogleDriveAdapter.FOLDER_CACHE_NAME, "hit"));
+        assertEquals(1.0, functionCount("cache.gets", CachingTicketGoogleDriveAdapter.FOLDER_CACHE_NAME, "miss"));
+    }
+
+    @Test
+    @DisplayName("Debe expirar los resultados vacíos antes que los encontrados")
+    void shouldExpireNegativeResultsWithShorterTtl() {
+
+        when(delegate.findTicketFolderId("parent-found")).thenReturn(Optional.of("tickets-id"));
+        when(delegate.findTicketFolderId("parent-missing")).thenReturn(Optional.empty());
+
+        adapter.findTicketFolderId("parent-found");
+        adapter.findTicketFolderId("parent-missing");
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        assertEquals(Optional.of("tickets-id"), adapter.findTicketFolderId("parent-found"));
+        assertEquals(Optional.empty(), adapter.findTicketFolderId("parent-missing"));
+
+        verify(delegate, times(1)).findTicketFolderId("parent-found");
+        verify(delegate, times(2)).findTicketFolderId("parent-missing");
+    }
+
+    @Test
+    @DisplayName("Debe expirar los resultados encontrados según el TTL configurado")
+    void shouldExpirePositiveResultsAfterTtl() {
+
+        when(delegate.findFolderIdByName("CARPETA")).thenReturn(Optional.of("folder-id"));
+
+        adapter.findFolderIdByName("CARPETA");
+        nanos.addAndGet(Duration.ofHours(2).toNanos());
+        adapter.findFolderIdByName("CARPETA");
+
+        verify(delegate, times(2)).findFolderIdByName("CARPETA");
+    }
+
+    @Test
+    @DisplayName("No debe almacenar en caché los errores técnicos")
+    void shouldNotCacheFailures() {
+
+        when(delegate.findFolderIdByName("CARPETA"))
+                .thenThrow(new CoreTechnicalException("Drive caído", ErrorType.DRIVE_ACCESS_ERROR))
+                .thenReturn(Optional.of("folder-id"));
+
+        assertThrows(CoreTechnicalException.class, () -> adapter.findFolderIdByName("CARPETA"));
+        assertEquals(Optional.of("folder-id"), adapter.findFolderIdByName("CARPETA"));
+    }
+
+    @Test
+    @DisplayName("Debe resolver en bloque solo las carpetas ausentes en caché")
+    void shouldResolveOnlyCacheMissesInBulk() {
+
+        when(delegate.findFolderIdByName("CARPETA_1")).thenReturn(Optional.of("id-1"));
+        when(delegate.findTicketFolderId("id-1")).thenReturn(Optional.of("tickets-1"));
+        when(delegate.resolveFolders(List.of("CARPETA_2")))
+                .thenReturn(Map.of("CARPETA_2", ResolvedFolder.notFound("CARPETA_2")));
+
+        adapter.findFolderIdByName("CARPETA_1");
+        adapter.findTicketFolderId("id-1");
+
+        Map<String, ResolvedFolder> result = adapter.resolveFolders(List.of("CARPETA_1", "CARPETA_2"));
+
+        assertEquals(List.of("CARPETA_1", "CARPETA_2"), List.copyOf(result.keySet()));
+        assertEquals(new ResolvedFolder("CARPETA_1", "id-1", "tickets-1"), result.get("CARPETA_1"));
+        assertFalse(result.get("CARPETA_2").isFound());
+
+        adapter.resolveFolders(List.of("CARPETA_2"));
+        verify(delegate, times(1)).resolveFolders(any());
+    }
+
+    private double functionCount(String name, String cache, String result) {
+        return meterRegistry.get(name)
+                .tag("cache", cache)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.cache;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketFile;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketGoogleDrivePort;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config.DrivePdfCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DiskCachingTicketGoogleDriveAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    private TicketGoogleDrivePort delegate;
+    private SimpleMeterRegistry meterRegistry;
+
+    private DiskCachingTicketGoogleDriveAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(TicketGoogleDrivePort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = adapter(DataSize.ofMegabytes(1));
+
+        when(delegate.downloadFile(any(TicketFile.class))).thenAnswer(invocation ->
+                new ByteArrayInputStream(content(invocation.getArgument(0)).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("Debe descargar una sola vez un PDF sin cambios")
+    void shouldServeUnchangedPdfFromDisk() throws IOException {
+
+        TicketFile pdf = pdf("1", "contenido-1");
+
+        assertEquals("contenido-1", read(adapter.downloadFile(pdf)));
+        assertEquals("contenido-1", read(adapter.downloadFile(pdf)));
+
+        verify(delegate, times(1)).downloadFile(pdf);
+        assertEquals(1.0, meterRegistry.get("drive.pdf-cache.requests").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar la caché existente tras un reinicio")
+    void shouldReuseCacheAfterRestart() throws IOException {
+
+        TicketFile pdf = pdf("1", "contenido-1");
+        read(adapter.downloadFile(pdf));
+
+        DiskCachingTicketGoogleDriveAdapter restarted = adapter(DataSize.ofMegabytes(1));
+
+        assertEquals("contenido-1", read(restarted.downloadFile(pdf)));
+        verify(delegate, times(1)).downloadFile(pdf);
+        assertEquals(1, restarted.entryCount());
+    }
+
+    @Test
+    @DisplayName("Debe descargar nuevamente cuando cambia la versión del PDF")
+    void shouldDownloadAgainWhenVersionChanges() throws IOException {
+
+        TicketFile original = pdf("1", "contenido-1");
+        TicketFile modified = pdf("1", "contenido-2");
+
+        read(adapter.downloadFile(original));
+
+        assertEquals("contenido-2", read(adapter.downloadFile(modified)));
+        verify(delegate).downloadFile(modified);
+    }
+
+    @Test
+    @DisplayName("No debe almacenar PDFs cuyo MD5 no coincide con el informado por Drive")
+    void shouldNotCacheOnChecksumMismatch() throws IOException {
+
+        TicketFile pdf = new TicketFile("1", "ticket.pdf", "00000000000000000000000000000000", null);
+        when(delegate.downloadFile(pdf)).thenAnswer(invocation -> new ByteArrayInputStream("otro".getBytes()));
+
+        assertEquals("otro", read(adapter.downloadFile(pdf)));
+        assertEquals("otro", read(adapter.downloadFile(pdf)));
+
+        verify(delegate, times(2)).downloadFile(pdf);
+        assertEquals(0, adapter.entryCount());
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe desalojar los PDFs menos usados al superar el tamaño máximo")
+    void shouldEvictLeastRecentlyUsedEntries() throws IOException {
+
+        adapter = adapter(DataSize.ofBytes(25));
+
+        TicketFile first = pdf("1", "0123456789");
+        TicketFile second = pdf("2", "abcdefghij");
+        TicketFile third = pdf("3", "ABCDEFGHIJ");
+
+        read(adapter.downloadFile(first));
+        read(adapter.downloadFile(second));
+        read(adapter.downloadFile(first));
+        read(adapter.downloadFile(third));
+
+        assertEquals(2, adapter.entryCount());
+        assertEquals(20, adapter.sizeBytes());
+
+        read(adapter.downloadFile(first));
+        read(adapter.downloadFile(second));
+
+        verify(delegate, times(1)).downloadFile(first);
+        verify(delegate, times(2)).downloadFile(second);
+    }
+
+    @Test
+    @DisplayName("No debe eliminar el archivo de una entrada almacenada nuevamente mientras se desaloja")
+    void shouldKeepFileOfEntryRestoredDuringEviction() throws Exception {
+
+        adapter = adapter(DataSize.ofBytes(25));
+
+        List<TicketFile> pdfs = IntStream.range(0, 6)
+                .mapToObj(i -> pdf(String.valueOf(i), "contenido-" + i))
+                .toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> downloads = new ArrayList<>();
+
+            for (int worker = 0; worker < 8; worker++) {
+                int offset = worker;
+                downloads.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        TicketFile pdf = pdfs.get((offset + i) % pdfs.size());
+                        assertEquals(pdf.name(), read(adapter.downloadFile(pdf)));
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> download : downloads) {
+                download.get(30, TimeUnit.SECONDS);
+            }
+
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (var files = Files.list(directory)) {
+            List<Path> cached = files.filter(file -> file.toString().endsWith(".pdf")).toList();
+            long bytes = 0;
+            for (Path file : cached) {
+                bytes += Files.size(file);
+            }
+
+            assertEquals(adapter.entryCount(), cached.size());
+            assertEquals(adapter.sizeBytes(), bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe descargar sin caché los PDFs sin versión informada")
+    void shouldBypassCacheWithoutVersion() throws IOException {
+
+        TicketFile pdf = new TicketFile("1", "ticket.pdf");
+        when(delegate.downloadFile(pdf)).thenAnswer(invocation -> new ByteArrayInputStream("pdf".getBytes()));
+
+        read(adapter.downloadFile(pdf));
+        read(adapter.downloadFile(pdf));
+
+        verify(delegate, times(2)).downloadFile(pdf);
+        assertEquals(0, adapter.entryCount());
+    }
+
+    private DiskCachingTicketGoogleDriveAdapter adapter(DataSize maxSize) {
+        return new DiskCachingTicketGoogleDriveAdapter(
+                delegate,
+                new DrivePdfCacheProperties(true, directory, maxSize),
+                meterRegistry
+        );
+    }
+
+    /**
+     * Crea un archivo cuyo MD5 corresponde al contenido indicado; el contenido se codifica en el nombre.
+     */
+    private static TicketFile pdf(String id, String content) {
+        try {
+            String md5 = HexFormat.of().formatHex(
+                    MessageDigest.getInstance("MD5").digest(content.getBytes(StandardCharsets.UTF_8)));
+            return new TicketFile(id, content, md5, Instant.EPOCH);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String content(TicketFile file) {
+        return file.name();
+    }
+
+    private static String read(InputStream stream) throws IOException {
+        try (stream) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.resilience;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config.DriveResilienceProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DriveConcurrencyLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("Debe incrementar el límite mientras la latencia se mantiene estable")
+    void shouldIncreaseLimitWhileLatencyIsFlat() {
+
+        DriveConcurrencyLimiter limiter = limiter(2, Duration.ofSeconds(1));
+
+        for (int i = 0; i < 20; i++) {
+            long first = limiter.acquire();
+            long second = limiter.acquire();
+            now.addAndGet(100);
+            limiter.release("files.list", first, DriveConcurrencyLimiter.Outcome.SUCCESS);
+            limiter.release("files.list", second, DriveConcurrencyLimiter.Outcome.SUCCESS);
+        }
+
+        assertTrue(limiter.limit() > 2);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    @DisplayName("Debe reducir el límite ante un 429")
+    void shouldDecreaseLimitOnDrop() {
+
+        DriveConcurrencyLimiter limiter = limiter(10, Duration.ofSeconds(1));
+
+        limiter.release("files.list", limiter.acquire(), DriveConcurrencyLimiter.Outcome.DROPPED);
+
+        assertEquals(7, limiter.limit());
+    }
+
+    @Test
+    @DisplayName("Debe reducir el límite ante un pico de latencia, una vez por ventana")
+    void shouldDecreaseLimitOnLatencySpike() {
+
+        DriveConcurrencyLimiter limiter = limiter(10, Duration.ofSeconds(1));
+
+        long startedAt = limiter.acquire();
+        now.addAndGet(100);
+        limiter.release("files.list", startedAt, DriveConcurrencyLimiter.Outcome.SUCCESS);
+
+        long first = limiter.acquire();
+        long second = limiter.acquire();
+        now.addAndGet(1_000);
+        limiter.release("files.list", first, DriveConcurrencyLimiter.Outcome.SUCCESS);
+        limiter.release("files.list", second, DriveConcurrencyLimiter.Outcome.SUCCESS);
+
+        assertEquals(7, limiter.limit());
+    }
+
+    @Test
+    @DisplayName("Debe recuperar el límite cuando la latencia aumenta de forma permanente")
+    void shouldRecoverLimitAfterPermanentLatencyIncrease() {
+
+        DriveConcurrencyLimiter limiter = limiter(8, Duration.ofSeconds(1));
+
+        runRounds(limiter, "files.list", 20, 100);
+        int before = limiter.limit();
+
+        runRounds(limiter, "files.list", 1, 1_000);
+        int dropped = limiter.limit();
+
+        runRounds(limiter, "files.list", 200, 1_000);
+
+        assertTrue(dropped < before);
+        assertTrue(limiter.limit() > before);
+    }
+
+    @Test
+    @DisplayName("Debe mantener una latencia base independiente por operación")
+    void shouldKeepBaselinePerOperation() {
+
+        DriveConcurrencyLimiter limiter = limiter(8, Duration.ofSeconds(1));
+
+        runRounds(limiter, "files.get.media", 5, 50);
+        runRounds(limiter, "files.list", 5, 2_000);
+
+        assertTrue(limiter.limit() >= 8);
+    }
+
+    @Test
+    @DisplayName("No debe modificar el límite ante errores no relacionados con la carga")
+    void shouldIgnoreUnrelatedErrors() {
+
+        DriveConcurrencyLimiter limiter = limiter(4, Duration.ofSeconds(1));
+
+        limiter.release("files.list", limiter.acquire(), DriveConcurrencyLimiter.Outcome.IGNORED);
+
+        assertEquals(4, limiter.limit());
+    }
+
+    @Test
+    @DisplayName("Debe encolar llamadas que exceden el límite hasta liberar un cupo")
+    void shouldQueueCallsOverLimit() throws Exception {
+
+        DriveConcurrencyLimiter limiter = limiter(1, Duration.ofSeconds(5));
+        long startedAt = limiter.acquire();
+
+        CompletableFuture<Long> waiting = CompletableFuture.supplyAsync(limiter::acquire);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.queued() == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        assertEquals(1, limiter.queued());
+        assertFalse(waiting.isDone());
+
+        limiter.release("files.list", startedAt, DriveConcurrencyLimiter.Outcome.IGNORED);
+
+        assertNotNull(waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(0, limiter.queued());
+        assertEquals(1, limiter.inFlight());
+    }
+
+    @Test
+    @DisplayName("Debe fallar cuando no obtiene cupo dentro del tiempo máximo de espera")
+    void shouldFailWhenWaitExceedsMaxWait() {
+
+        DriveConcurrencyLimiter limiter = limiter(1, Duration.ofMillis(10));
+        limiter.acquire();
+
+        assertThrows(CoreTechnicalException.class, limiter::acquire);
+        assertEquals(0, limiter.queued());
+    }
+
+    /**
+     * Ejecuta rondas de tantas llamadas simultáneas como permite el límite, todas con la latencia indicada.
+     */
+    private void runRounds(DriveConcurrencyLimiter limiter, String operation, int rounds, long latency) {
+
+        for (int round = 0; round < rounds; round++) {
+
+            long[] started = new long[limiter.limit()];
+            for (int i = 0; i < started.length; i++) {
+                started[i] = limiter.acquire();
+            }
+
+            now.addAndGet(latency);
+
+            for (long startedAt : started) {
+                limiter.release(operation, startedAt, DriveConcurrencyLimiter.Outcome.SUCCESS);
+            }
+        }
+    }
+
+    private DriveConcurrencyLimiter limiter(int initialLimit, Duration maxWait) {
+        return new DriveConcurrencyLimiter(
+                new DriveResilienceProperties.Limiter(true, initialLimit, 1, 64, 0.7, 2.0, maxWait),
+                now::get
+        );
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.client.resilience;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.client.config.DriveResilienceProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilientDriveExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResilientDriveExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = executor(3, 10);
+    }
+
+    @Test
+    @DisplayName("Debe reintentar errores 429/5xx y de red hasta obtener respuesta")
+    void shouldRetryTransientErrors() throws Exception {
+
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = executor.execute("files.list", () -> switch (calls.incrementAndGet()) {
+            case 1 -> throw httpError(429, null);
+            case 2 -> throw new SocketTimeoutException("timeout");
+            default -> "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+        assertEquals(1.0, meterRegistry.get("drive.client.retries").tag("cause", "429").counter().count());
+        assertEquals(1.0, meterRegistry.get("drive.client.retries")
+                .tag("cause", "SocketTimeoutException").counter().count());
+    }
+
+    @Test
+    @DisplayName("No debe reintentar errores no transitorios")
+    void shouldNotRetryPermanentErrors() {
+
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(HttpResponseException.class, () -> executor.execute("files.get", () -> {
+            calls.incrementAndGet();
+            throw httpError(404, null);
+        }));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Debe propagar el último error al agotar los intentos")
+    void shouldPropagateErrorWhenAttemptsAreExhausted() {
+
+        AtomicInteger calls = new AtomicInteger();
+
+        HttpResponseException ex = assertThrows(HttpResponseException.class,
+                () -> executor.execute("files.list", () -> {
+                    calls.incrementAndGet();
+                    throw httpError(503, null);
+                }));
+
+        assertEquals(503, ex.getStatusCode());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    @DisplayName("Debe respetar Retry-After acotado al máximo configurado")
+    void shouldHonorRetryAfterHeader() {
+
+        assertEquals(Optional.of(Duration.ofMillis(20)), executor.retryAfter(httpError(429, "120")));
+        assertEquals(Optional.of(Duration.ZERO), executor.retryAfter(httpError(503, "0")));
+        assertEquals(Optional.empty(), executor.retryAfter(httpError(503, null)));
+        assertEquals(Optional.empty(), executor.retryAfter(new IOException("red")));
+    }
+
+    @Test
+    @DisplayName("Debe calcular el backoff exponencial acotado")
+    void shouldComputeCappedExponentialBackoff() {
+
+        assertEquals(Duration.ofMillis(1), executor.backoff(1));
+        assertEquals(Duration.ofMillis(2), executor.backoff(2));
+        assertEquals(Duration.ofMillis(5), executor.backoff(10));
+    }
+
+    @Test
+    @DisplayName("Debe abrir el circuito y fallar rápido tras fallas consecutivas")
+    void shouldOpenCircuitAfterConsecutiveFailures() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        executor = executor(1, 2);
+        AtomicInteger calls = new AtomicInteger();
+
+        DriveCall<String> failing = () -> {
+            calls.incrementAndGet();
+            throw httpError(503, null);
+        };
+
+        assertThrows(HttpResponseException.class, () -> executor.execute("files.list", failing));
+        assertThrows(HttpResponseException.class, () -> executor.execute("files.list", failing));
+        assertThrows(CoreTechnicalException.class, () -> executor.execute("files.list", failing));
+
+        assertEquals(2, calls.get());
+        assertEquals(DriveCircuitBreaker.State.OPEN, executor.circuitState());
+        assertEquals(1.0, meterRegistry.get("drive.client.circuit.rejections").counter().count());
+        assertEquals(2.0, meterRegistry.get("drive.client.circuit.state").gauge().value());
+    }
+
+    @Test
+    @DisplayName("No debe abrir el circuito ante 429, que corresponden al limitador")
+    void shouldNotOpenCircuitOnOverload() {
+
+        executor = executor(2, 2);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(HttpResponseException.class, () -> executor.execute("files.get.media", () -> {
+                throw httpError(429, null);
+            }));
+        }
+
+        assertEquals(DriveCircuitBreaker.State.CLOSED, executor.circuitState());
+    }
+
+    @Test
+    @DisplayName("Debe esperar la llamada de prueba del circuito en lugar de fallar durante un reintento")
+    void shouldWaitForCircuitTrialWhileRetrying() throws Exception {
+
+        executor = executor(3, 1, Duration.ofMillis(50));
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = executor.execute("files.list", () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw httpError(503, null);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(2, calls.get());
+        assertEquals(DriveCircuitBreaker.State.CLOSED, executor.circuitState());
+        assertTrue(meterRegistry.get("drive.client.circuit.rejections").counter().count() >= 1.0);
+    }
+
+    @Test
+    @DisplayName("No debe cerrar el circuito semiabierto por un error sin respuesta de Drive")
+    void shouldNotCloseCircuitWithoutDriveResponse() {
+
+        executor = executor(1, 1, Duration.ofNanos(1));
+
+        assertThrows(HttpResponseException.class, () -> executor.execute("files.list", () -> {
+            throw httpError(503, null);
+        }));
+        assertThrows(CoreTechnicalException.class, () -> executor.execute("files.list", () -> {
+            throw new CoreTechnicalException("Sin cupo", ErrorType.DRIVE_ACCESS_ERROR);
+        }));
+
+        assertEquals(DriveCircuitBreaker.State.HALF_OPEN, executor.circuitState());
+    }
+
+    @Test
+    @DisplayName("Debe cerrar el circuito cuando la llamada de prueba tiene éxito")
+    void shouldCloseCircuitAfterSuccessfulTrial() {
+
+        AtomicInteger now = new AtomicInteger();
+        DriveCircuitBreaker breaker = new DriveCircuitBreaker(
+                new DriveResilienceProperties.CircuitBreaker(true, 1, Duration.ofNanos(10)), now::get);
+
+        breaker.onFailure();
+        assertFalse(breaker.tryAcquire());
+
+        now.set(10);
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onSuccess();
+        assertEquals(DriveCircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    private ResilientDriveExecutor executor(int maxAttempts, int failureThreshold) {
+        return executor(maxAttempts, failureThreshold, Duration.ofMinutes(1));
+    }
+
+    private ResilientDriveExecutor executor(int maxAttempts, int failureThreshold, Duration openDuration) {
+        return new ResilientDriveExecutor(
+                new DriveResilienceProperties(
+                        new DriveResilienceProperties.Retry(maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5),
+                                2.0, 0.0, Duration.ofMillis(20)),
+                        new DriveResilienceProperties.CircuitBreaker(true, failureThreshold, openDuration),
+                        new DriveResilienceProperties.Limiter(true, 8, 1, 64, 0.7, 2.0, Duration.ofSeconds(5))
+                ),
+                meterRegistry
+        );
+    }
+
+    private static HttpResponseException httpError(int status, String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setRetryAfter(retryAfter);
+        return new HttpResponseException.Builder(status, "error", headers).build();
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.diagnostics;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.diagnostics.config.VirtualThreadPinningProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_23)
+    @DisplayName("Debe registrar el bloqueo de un hilo virtual dentro de un bloque synchronized")
+    void shouldRecordPinnedVirtualThread() throws Exception {
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try (VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(
+                new VirtualThreadPinningProperties(true, Duration.ofMillis(1), 5), registry)) {
+
+            assertTrue(monitor.isActive());
+
+            Thread.ofVirtual().start(this::sleepWhileHoldingLock).join();
+
+            String source = getClass().getName() + ".sleepWhileHoldingLock";
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+
+            while (registry.find("jvm.threads.virtual.pinned").tag("source", source).timer() == null
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+
+            Timer timer = registry.find("jvm.threads.virtual.pinned").tag("source", source).timer();
+
+            assertNotNull(timer);
+            assertTrue(timer.count() >= 1);
+            assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 1);
+        }
+    }
+
+    @Test
+    @DisplayName("No debe iniciar la escucha JFR cuando el diagnóstico está deshabilitado")
+    void shouldNotStartWhenDisabled() {
+
+        try (VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(
+                new VirtualThreadPinningProperties(false, Duration.ofMillis(20), 5), new SimpleMeterRegistry())) {
+
+            assertFalse(monitor.isActive());
+        }
+    }
+
+    private void sleepWhileHoldingLock() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
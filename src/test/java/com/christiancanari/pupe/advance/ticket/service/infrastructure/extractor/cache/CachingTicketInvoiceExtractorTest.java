@@ -0,0 +1,128 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.extractor.cache;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.service.TicketInvoiceExtractor;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.classifier.config.TicketInvoiceClassifierProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.extractor.config.TicketExtractionCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CachingTicketInvoiceExtractorTest {
+
+    private static final TicketInvoiceClassifierProperties PATTERNS =
+            new TicketInvoiceClassifierProperties("F11\\d-\\d{8}", "ANC-F501-\\d{8}");
+
+    @TempDir
+    Path directory;
+
+    private TicketInvoiceExtractor delegate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(TicketInvoiceExtractor.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        when(delegate.extract(any(), any(), any())).thenAnswer(invocation -> new TicketInvoice(
+                invocation.getArgument(0), invocation.getArgument(1), "F112-12345678", "ANC-F501-00000001"));
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar el resultado de un PDF con el mismo contenido")
+    void shouldReuseResultForSameContent() {
+
+        CachingTicketInvoiceExtractor extractor = extractor(PATTERNS);
+
+        extractor.extract("CARPETA-1", "a.pdf", pdf("contenido"));
+        TicketInvoice cached = extractor.extract("CARPETA-2", "b.pdf", pdf("contenido"));
+
+        assertEquals(new TicketInvoice("CARPETA-2", "b.pdf", "F112-12345678", "ANC-F501-00000001"), cached);
+        verify(delegate, times(1)).extract(any(), any(), any());
+        assertEquals(1.0, meterRegistry.get("ticket.extraction-cache.requests")
+                .tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("Debe persistir los resultados entre instancias")
+    void shouldPersistResultsAcrossInstances() {
+
+        extractor(PATTERNS).extract("CARPETA", "a.pdf", pdf("contenido"));
+        extractor(PATTERNS).extract("CARPETA", "a.pdf", pdf("contenido"));
+
+        verify(delegate, times(1)).extract(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe extraer nuevamente cuando cambia el contenido del PDF")
+    void shouldExtractAgainWhenContentChanges() {
+
+        CachingTicketInvoiceExtractor extractor = extractor(PATTERNS);
+
+        extractor.extract("CARPETA", "a.pdf", pdf("v1"));
+        extractor.extract("CARPETA", "a.pdf", pdf("v2"));
+
+        verify(delegate, times(2)).extract(eq("CARPETA"), eq("a.pdf"), any());
+    }
+
+    @Test
+    @DisplayName("Debe invalidar la caché y eliminar la generación previa al cambiar las expresiones regulares")
+    void shouldInvalidateCacheWhenPatternsChange() throws Exception {
+
+        TicketInvoiceClassifierProperties changed =
+                new TicketInvoiceClassifierProperties("F12\\d-\\d{8}", "ANC-F501-\\d{8}");
+
+        extractor(PATTERNS).extract("CARPETA", "a.pdf", pdf("contenido"));
+        extractor(changed).extract("CARPETA", "a.pdf", pdf("contenido"));
+
+        verify(delegate, times(2)).extract(any(), any(), any());
+        assertFalse(Files.exists(directory.resolve(CachingTicketInvoiceExtractor.fingerprint(PATTERNS))));
+        assertTrue(Files.exists(directory.resolve(CachingTicketInvoiceExtractor.fingerprint(changed))));
+    }
+
+    @Test
+    @DisplayName("Debe extraer nuevamente cuando la entrada almacenada está corrupta")
+    void shouldIgnoreCorruptEntries() throws Exception {
+
+        CachingTicketInvoiceExtractor extractor = extractor(PATTERNS);
+        extractor.extract("CARPETA", "a.pdf", pdf("contenido"));
+
+        try (var generations = Files.walk(directory)) {
+            for (Path entry : generations.filter(path -> path.toString().endsWith(".json")).toList()) {
+                Files.writeString(entry, "{no-json");
+            }
+        }
+
+        TicketInvoice result = extractor.extract("CARPETA", "a.pdf", pdf("contenido"));
+
+        assertEquals("F112-12345678", result.facturaContent());
+        verify(delegate, times(2)).extract(any(), any(), any());
+    }
+
+    private CachingTicketInvoiceExtractor extractor(TicketInvoiceClassifierProperties patterns) {
+        return new CachingTicketInvoiceExtractor(
+                delegate,
+                new TicketExtractionCacheProperties(true, directory),
+                patterns,
+                JsonMapper.builder().build(),
+                meterRegistry
+        );
+    }
+
+    private static ByteArrayInputStream pdf(String content) {
+        return new ByteArrayInputStream(content.getBytes());
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.file.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTicketFolderReaderAdapterTest {
+
+    private final CsvTicketFolderReaderAdapter adapter = new CsvTicketFolderReaderAdapter();
+
+    @Test
+    @DisplayName("Debe leer un nombre por línea tomando la primera columna y omitiendo el BOM")
+    void shouldReadFirstColumnOfEachLine() {
+
+        String content = "\uFEFFCarpeta A\r\n\r\n  Carpeta B , otra\n\"Carpeta, \"\"C\"\"\",x\n   \n";
+
+        List<String> result = adapter.readFolderNames(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(List.of("Carpeta A", "Carpeta B", "Carpeta, \"C\""), result);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un valor entre comillas sin cierre")
+    void shouldRejectUnterminatedQuotedValue() {
+
+        assertThrows(CoreTechnicalException.class, () -> CsvTicketFolderReaderAdapter.firstField("\"Carpeta A"));
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.file.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketInvoiceSink;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTicketWriterAdapterTest {
+
+    private final CsvTicketWriterAdapter adapter = new CsvTicketWriterAdapter();
+
+    @Test
+    @DisplayName("Debe generar un CSV con encabezado y una línea por ticket")
+    void shouldGenerateCsvWithHeaderAndRows() {
+
+        byte[] result = adapter.export(List.of(
+                new TicketInvoice("origen-1.pdf", "procesado-1.pdf", "F111-00000001", "ANC-F501-00000001"),
+                new TicketInvoice("origen-2.pdf", "procesado-2.pdf", "", "")
+        ));
+
+        assertEquals(TicketReportFormat.CSV, adapter.format());
+        assertEquals("""
+                file,filePR,facturas,comprobantes,tipo,mensaje\r
+                origen-1.pdf,procesado-1.pdf,F111-00000001,ANC-F501-00000001,,\r
+                origen-2.pdf,procesado-2.pdf,,,,\r
+                """, new String(result, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Debe escribir los errores en orden como filas de la misma tabla")
+    void shouldWriteErrorsAsRowsOfSameTable() {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (TicketInvoiceSink sink = adapter.openSink(output)) {
+            sink.acceptError(new TicketProcessingError("CARPETA_1", "roto.pdf", "PDF_PROCESSING_ERROR",
+                    "PDF, \"dañado\"\nen la página 2"));
+            sink.accept(new TicketInvoice("CARPETA_2", "ticket.pdf", "F111-00000001", ""));
+            sink.acceptError(new TicketProcessingError("CARPETA_3", null, "DRIVE_ACCESS_ERROR", "Drive caído"));
+            sink.complete();
+        }
+
+        List<List<String>> records = parse(output.toString(StandardCharsets.UTF_8));
+
+        assertEquals(List.of(
+                List.of("file", "filePR", "facturas", "comprobantes", "tipo", "mensaje"),
+                List.of("CARPETA_1", "roto.pdf", "", "", "PDF_PROCESSING_ERROR", "PDF, \"dañado\"\nen la página 2"),
+                List.of("CARPETA_2", "ticket.pdf", "F111-00000001", "", "", ""),
+                List.of("CARPETA_3", "", "", "", "DRIVE_ACCESS_ERROR", "Drive caído")
+        ), records);
+    }
+
+    @Test
+    @DisplayName("Debe escapar comas, comillas y saltos de línea según RFC 4180")
+    void shouldEscapeSpecialCharacters() {
+
+        assertEquals("simple", CsvTicketWriterAdapter.escape("simple"));
+        assertEquals("\"a,b\"", CsvTicketWriterAdapter.escape("a,b"));
+        assertEquals("\"di \"\"hola\"\"\"", CsvTicketWriterAdapter.escape("di \"hola\""));
+        assertEquals("\"a\nb\"", CsvTicketWriterAdapter.escape("a\nb"));
+        assertEquals("", CsvTicketWriterAdapter.escape(null));
+    }
+
+    /**
+     * Lee un CSV RFC 4180 completo, respetando campos entre comillas con comas, comillas y saltos de línea.
+     */
+    private static List<List<String>> parse(String csv) {
+
+        List<List<String>> records = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                fields.add(field.toString());
+                field.setLength(0);
+                records.add(List.copyOf(fields));
+                fields.clear();
+                i++;
+            } else {
+                field.append(c);
+            }
+        }
+
+        assertFalse(quoted, "Campo entre comillas sin cerrar");
+        assertTrue(fields.isEmpty() && field.isEmpty(), "Última línea sin CRLF");
+        return records;
+    }
+
+}
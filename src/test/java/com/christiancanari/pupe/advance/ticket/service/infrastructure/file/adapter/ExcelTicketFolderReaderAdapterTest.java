@@ -4,6 +4,7 @@ import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.except
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,7 +13,9 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -72,6 +75,45 @@ class ExcelTicketFolderReaderAdapterTest {
         assertEquals("Carpeta B", result.get(1));
     }
 
+    @Test
+    @DisplayName("Debe leer textos en línea, valores numéricos y filas dispersas de la primera columna")
+    void shouldReadInlineStringsAndSparseRows() throws Exception {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("Sheet1");
+            sheet.createRow(0).createCell(0).setCellValue("HEADER");
+            Row first = sheet.createRow(2);
+            first.createCell(1).setCellValue("Otra columna");
+            first.createCell(0).setCellValue("Carpeta A");
+            sheet.createRow(5).createCell(0).setCellValue(12345);
+            sheet.createRow(7).createCell(1).setCellValue("Sin primera columna");
+            workbook.write(outputStream);
+            workbook.dispose();
+        }
+
+        List<String> result = adapter.readFolderNames(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertEquals(List.of("Carpeta A", "12345"), result);
+    }
+
+    @Test
+    @DisplayName("Debe entregar las carpetas a medida que se consume el flujo")
+    void shouldStreamFolderNamesLazily() throws Exception {
+
+        try (Stream<String> folderNames = adapter.streamFolderNames(
+                createExcel("HEADER", "Carpeta A", "Carpeta B", "Carpeta C"))) {
+
+            Iterator<String> iterator = folderNames.iterator();
+
+            assertEquals("Carpeta A", iterator.next());
+            assertEquals("Carpeta B", iterator.next());
+            assertEquals("Carpeta C", iterator.next());
+            assertFalse(iterator.hasNext());
+        }
+    }
+
     // ----------------------------------------------------------------------
     // Error técnico
     // ----------------------------------------------------------------------
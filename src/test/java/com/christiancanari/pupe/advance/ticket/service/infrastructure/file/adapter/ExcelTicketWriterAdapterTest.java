@@ -1,6 +1,9 @@
 package com.christiancanari.pupe.advance.ticket.service.infrastructure.file.adapter;
 
 import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketInvoiceSink;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.file.config.ExcelReportProperties;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
@@ -11,8 +14,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,7 +27,7 @@ class ExcelTicketWriterAdapterTest {
 
     @BeforeEach
     void setUp() {
-        adapter = new ExcelTicketWriterAdapter();
+        adapter = new ExcelTicketWriterAdapter(new ExcelReportProperties(true, 10, true));
     }
 
     // ----------------------------------------------------------------------
@@ -83,6 +88,104 @@ class ExcelTicketWriterAdapterTest {
         }
     }
 
+    @Test
+    @DisplayName("Debe generar todas las filas en modo streaming aunque excedan la ventana en memoria")
+    void shouldGenerateRowsBeyondStreamingWindow() throws Exception {
+
+        List<TicketInvoice> invoices = IntStream.range(0, 250)
+                .mapToObj(i -> new TicketInvoice("origen.pdf", "procesado-" + i + ".pdf", "FAC-" + i, ""))
+                .toList();
+
+        byte[] result = adapter.export(invoices);
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(result))) {
+            Sheet sheet = workbook.getSheet("RESULTADO");
+            assertEquals(250, sheet.getLastRowNum());
+            assertEquals("procesado-0.pdf", sheet.getRow(1).getCell(1).getStringCellValue());
+            assertEquals("FAC-249", sheet.getRow(250).getCell(2).getStringCellValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe generar el mismo contenido con el libro en memoria")
+    void shouldGenerateExcelWithInMemoryWorkbook() throws Exception {
+
+        adapter = new ExcelTicketWriterAdapter(new ExcelReportProperties(false, 10, true));
+
+        byte[] result = adapter.export(List.of(new TicketInvoice("origen.pdf", "procesado.pdf", "FAC", "COMP")));
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(result))) {
+            Row row = workbook.getSheet("RESULTADO").getRow(1);
+            assertEquals("procesado.pdf", row.getCell(1).getStringCellValue());
+            assertEquals("COMP", row.getCell(3).getStringCellValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe escribir el libro solo al completar el receptor de filas")
+    void shouldWriteWorkbookOnlyWhenSinkIsCompleted() throws Exception {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (TicketInvoiceSink sink = adapter.openSink(output)) {
+            IntStream.range(0, 25).forEach(i ->
+                    sink.accept(new TicketInvoice("origen.pdf", "procesado-" + i + ".pdf", "FAC-" + i, "")));
+
+            assertEquals(0, output.size());
+            sink.complete();
+        }
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(output.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("RESULTADO");
+            assertEquals(25, sheet.getLastRowNum());
+            assertEquals("FAC-24", sheet.getRow(25).getCell(2).getStringCellValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe agregar la hoja ERRORES solo cuando se registran errores")
+    void shouldAddErrorSheetOnlyWhenErrorsAreRegistered() throws Exception {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (TicketInvoiceSink sink = adapter.openSink(output)) {
+            sink.accept(new TicketInvoice("CARPETA_1", "ticket.pdf", "FAC", "COMP"));
+            sink.acceptError(new TicketProcessingError("CARPETA_1", "roto.pdf", "PDF_PROCESSING_ERROR", "PDF dañado"));
+            sink.acceptError(new TicketProcessingError("CARPETA_2", null, "DRIVE_ACCESS_ERROR", "Drive caído"));
+            sink.complete();
+        }
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(output.toByteArray()))) {
+            assertEquals(1, workbook.getSheet("RESULTADO").getLastRowNum());
+
+            Sheet errors = workbook.getSheet("ERRORES");
+            assertNotNull(errors);
+            assertEquals("tipo", errors.getRow(0).getCell(2).getStringCellValue());
+            assertEquals("mensaje", errors.getRow(0).getCell(3).getStringCellValue());
+            assertEquals("roto.pdf", errors.getRow(1).getCell(1).getStringCellValue());
+            assertEquals("PDF_PROCESSING_ERROR", errors.getRow(1).getCell(2).getStringCellValue());
+            assertEquals("CARPETA_2", errors.getRow(2).getCell(0).getStringCellValue());
+            assertEquals("Drive caído", errors.getRow(2).getCell(3).getStringCellValue());
+        }
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(adapter.export(List.of())))) {
+            assertNull(workbook.getSheet("ERRORES"));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe descartar el libro si el receptor se cierra sin completarse")
+    void shouldDiscardWorkbookWhenSinkIsNotCompleted() {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (TicketInvoiceSink sink = adapter.openSink(output)) {
+            sink.accept(new TicketInvoice("origen.pdf", "procesado.pdf", "FAC", "COMP"));
+        }
+
+        assertEquals(0, output.size());
+    }
+
     // ----------------------------------------------------------------------
     // Edge cases
     // ----------------------------------------------------------------------
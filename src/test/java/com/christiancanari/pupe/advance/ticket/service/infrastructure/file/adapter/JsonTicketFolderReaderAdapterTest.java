@@ -0,0 +1,60 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.file.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonTicketFolderReaderAdapterTest {
+
+    private final JsonTicketFolderReaderAdapter adapter = new JsonTicketFolderReaderAdapter(JsonMapper.builder().build());
+
+    @Test
+    @DisplayName("Debe leer los nombres del arreglo JSON ignorando nulos y blancos")
+    void shouldReadFolderNamesFromJsonArray() {
+
+        List<String> result = adapter.readFolderNames(json("[\" Carpeta A \", null, \"\", 12345, \"Carpeta B\"]"));
+
+        assertEquals(List.of("Carpeta A", "12345", "Carpeta B"), result);
+    }
+
+    @Test
+    @DisplayName("Debe entregar el primer nombre antes de detectar un error posterior del arreglo")
+    void shouldStreamNamesBeforeLaterError() {
+
+        try (Stream<String> folderNames = adapter.streamFolderNames(json("[\"Carpeta A\", {\"x\": 1}]"))) {
+
+            Iterator<String> iterator = folderNames.iterator();
+
+            assertEquals("Carpeta A", iterator.next());
+
+            CoreTechnicalException ex = assertThrows(CoreTechnicalException.class, iterator::hasNext);
+            assertEquals(ErrorType.FOLDER_LIST_INVALID, ex.getType());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe lanzar FOLDER_LIST_INVALID cuando el contenido no es un arreglo")
+    void shouldRejectNonArrayContent() {
+
+        CoreTechnicalException ex = assertThrows(CoreTechnicalException.class,
+                () -> adapter.streamFolderNames(json("{\"folders\": []}")));
+
+        assertEquals(ErrorType.FOLDER_LIST_INVALID, ex.getType());
+    }
+
+    private static InputStream json(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.file.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketProcessingError;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.out.TicketInvoiceSink;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonTicketWriterAdapterTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final NdjsonTicketWriterAdapter adapter = new NdjsonTicketWriterAdapter(jsonMapper);
+
+    @Test
+    @DisplayName("Debe generar un objeto JSON por línea con las columnas del reporte")
+    void shouldGenerateOneJsonObjectPerLine() {
+
+        byte[] result = adapter.export(List.of(
+                new TicketInvoice("origen-1.pdf", "procesado-1.pdf", "F111-00000001", "ANC-F501-00000001"),
+                new TicketInvoice("origen-2.pdf", "con \"comillas\"\n.pdf", "", "")
+        ));
+
+        String[] lines = new String(result, StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(TicketReportFormat.NDJSON, adapter.format());
+        assertEquals(2, lines.length);
+
+        JsonNode first = jsonMapper.readTree(lines[0]);
+        assertEquals("origen-1.pdf", first.get("file").asString());
+        assertEquals("procesado-1.pdf", first.get("filePR").asString());
+        assertEquals("F111-00000001", first.get("facturas").asString());
+        assertEquals("ANC-F501-00000001", first.get("comprobantes").asString());
+
+        assertEquals("con \"comillas\"\n.pdf", jsonMapper.readTree(lines[1]).get("filePR").asString());
+    }
+
+    @Test
+    @DisplayName("Debe escribir los errores registrados como líneas con el objeto error")
+    void shouldWriteErrorLines() {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (TicketInvoiceSink sink = adapter.openSink(output)) {
+            sink.accept(new TicketInvoice("CARPETA_1", "ticket.pdf", "", ""));
+            sink.acceptError(new TicketProcessingError("CARPETA_1", "roto.pdf", "PDF_PROCESSING_ERROR", "PDF dañado"));
+            sink.complete();
+        }
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(2, lines.length);
+
+        JsonNode error = jsonMapper.readTree(lines[1]).get("error");
+        assertEquals("CARPETA_1", error.get("file").asString());
+        assertEquals("roto.pdf", error.get("filePR").asString());
+        assertEquals("PDF_PROCESSING_ERROR", error.get("tipo").asString());
+        assertEquals("PDF dañado", error.get("mensaje").asString());
+    }
+
+}
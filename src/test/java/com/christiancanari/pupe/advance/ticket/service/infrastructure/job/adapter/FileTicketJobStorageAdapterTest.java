@@ -0,0 +1,86 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.job.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketJobProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreBusinessException;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreTechnicalException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileTicketJobStorageAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    private FileTicketJobStorageAdapter storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new FileTicketJobStorageAdapter(properties());
+    }
+
+    @Test
+    @DisplayName("Debe almacenar y recuperar el listado y el reporte de un trabajo")
+    void shouldStoreInputAndResult() throws Exception {
+
+        storage.saveInput("job-1", new ByteArrayInputStream("listado".getBytes()));
+        storage.saveResult("job-1", outputStream -> outputStream.write("reporte".getBytes()));
+
+        try (InputStream input = storage.openInput("job-1"); InputStream result = storage.openResult("job-1")) {
+            assertEquals("listado", new String(input.readAllBytes()));
+            assertEquals("reporte", new String(result.readAllBytes()));
+        }
+
+        storage.delete("job-1");
+
+        CoreBusinessException ex = assertThrows(CoreBusinessException.class, () -> storage.openResult("job-1"));
+        assertEquals(ErrorType.RESOURCE_NOT_FOUND, ex.getType());
+    }
+
+    @Test
+    @DisplayName("No debe publicar un reporte cuya escritura falló")
+    void shouldNotPublishFailedResult() throws Exception {
+
+        CoreTechnicalException ex = assertThrows(CoreTechnicalException.class, () ->
+                storage.saveResult("job-1", outputStream -> {
+                    outputStream.write("parcial".getBytes());
+                    throw new IOException("disco lleno");
+                }));
+
+        assertEquals(ErrorType.FILE_GENERATION_ERROR, ex.getType());
+        assertThrows(CoreBusinessException.class, () -> storage.openResult("job-1"));
+
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe eliminar los archivos de ejecuciones anteriores al iniciar")
+    void shouldDeleteLeftoversOnStartup() throws Exception {
+
+        storage.saveResult("job-1", outputStream -> outputStream.write("reporte".getBytes()));
+
+        new FileTicketJobStorageAdapter(properties());
+
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private TicketJobProperties properties() {
+        return new TicketJobProperties(1, 1, Duration.ofHours(1), Duration.ofMinutes(5), Duration.ofHours(1), directory, null, null);
+    }
+
+}
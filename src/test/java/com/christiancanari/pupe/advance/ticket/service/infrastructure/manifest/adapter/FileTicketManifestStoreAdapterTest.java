@@ -0,0 +1,91 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.manifest.adapter;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderManifest;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ManifestEntry;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketFile;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketInvoice;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketProcessingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileTicketManifestStoreAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    private FileTicketManifestStoreAdapter store;
+
+    @BeforeEach
+    void setUp() {
+        store = new FileTicketManifestStoreAdapter(
+                new TicketProcessingProperties(
+                        new TicketProcessingProperties.Folders(false, 1),
+                        new TicketProcessingProperties.Pdfs(false, 1, 1),
+                        new TicketProcessingProperties.Incremental(true, directory),
+                        new TicketProcessingProperties.Errors(false)
+                ),
+                JsonMapper.builder().build()
+        );
+    }
+
+    @Test
+    @DisplayName("Debe persistir y recuperar el token de cambios")
+    void shouldPersistStartPageToken() {
+
+        assertEquals(Optional.empty(), store.loadStartPageToken());
+
+        store.saveStartPageToken("token-1");
+        store.saveStartPageToken("token-2");
+
+        assertEquals(Optional.of("token-2"), store.loadStartPageToken());
+    }
+
+    @Test
+    @DisplayName("Debe persistir los manifiestos conservando el orden de las entradas")
+    void shouldPersistManifests() {
+
+        TicketFile first = new TicketFile("b", "ticket-b-pr.pdf", "md5-b", Instant.parse("2026-01-01T00:00:00Z"));
+        TicketFile second = new TicketFile("a", "ticket-a-pr.pdf", null, null);
+
+        FolderManifest manifest = new FolderManifest("tickets-id", Map.of())
+                .with(ManifestEntry.processed(first, new TicketInvoice("CARPETA", first.name(), "F112-1", "")))
+                .with(ManifestEntry.pending(second));
+
+        store.save(manifest);
+
+        FolderManifest loaded = store.load("tickets-id").orElseThrow();
+
+        assertEquals(manifest, loaded);
+        assertEquals(List.of("b", "a"), List.copyOf(loaded.entries().keySet()));
+        assertEquals(Map.of("tickets-id", manifest), store.loadAll());
+    }
+
+    @Test
+    @DisplayName("Debe ignorar manifiestos ilegibles y limpiar todo el estado")
+    void shouldIgnoreCorruptManifestsAndClear() throws Exception {
+
+        store.saveStartPageToken("token");
+        store.save(new FolderManifest("tickets-id", Map.of()));
+        Files.writeString(directory.resolve("folders").resolve("roto.json"), "{no-json");
+
+        assertEquals(1, store.loadAll().size());
+
+        store.clear();
+
+        assertEquals(Optional.empty(), store.loadStartPageToken());
+        assertTrue(store.loadAll().isEmpty());
+    }
+
+}
@@ -1,6 +1,13 @@
 package com.christiancanari.pupe.advance.ticket.service.infrastructure.web.controller;
 
+import com.christiancanari.pupe.advance.ticket.service.application.concurrent.FairAdmissionQueue;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.ProcessTicketCommand;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketDeadline;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
 import com.christiancanari.pupe.advance.ticket.service.domain.port.in.ProcessTicketUseCase;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketAdmissionProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketDeadlineProperties;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.dto.request.ProcessTicketRequest;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
 import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreRequestException;
@@ -9,30 +16,48 @@ import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.handle
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 class AdvanceTicketControllerTest {
 
     private MockMvc mockMvc;
     private ProcessTicketUseCase processTicketUseCase;
+    private FairAdmissionQueue fairAdmissionQueue;
     private AdvanceTicketController controller;
 
     @BeforeEach
     void setUp() {
 
+        TicketAdmissionProperties admission = new TicketAdmissionProperties(
+                true, 1, 0, DataSize.ofKilobytes(256), 0, Duration.ZERO, Duration.ofSeconds(15), "X-Client-Id");
+
         processTicketUseCase = mock(ProcessTicketUseCase.class);
-        controller = new AdvanceTicketController(processTicketUseCase);
+        fairAdmissionQueue = new FairAdmissionQueue(admission.limits());
+        controller = new AdvanceTicketController(processTicketUseCase, fairAdmissionQueue, admission,
+                new TicketDeadlineProperties(Duration.ofMinutes(5), Duration.ofMinutes(10), "X-Request-Timeout"));
 
         mockMvc = MockMvcBuilders
                 .standaloneSetup(controller)
@@ -50,8 +75,8 @@ class AdvanceTicketControllerTest {
 
         byte[] excelResult = "excel-result".getBytes();
 
-        when(processTicketUseCase.process(any()))
-                .thenReturn(excelResult);
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class)))
+                .thenReturn(outputStream -> outputStream.write(excelResult));
 
         MockMultipartFile file = new MockMultipartFile(
                 "file",
@@ -60,10 +85,14 @@ class AdvanceTicketControllerTest {
                 "contenido".getBytes()
         );
 
-        mockMvc.perform(
+        MvcResult result = mockMvc.perform(
                         multipart("/advances/process-ticket")
                                 .file(file)
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(header().string(
                         "Content-Disposition",
@@ -71,7 +100,136 @@ class AdvanceTicketControllerTest {
                 ))
                 .andExpect(content().bytes(excelResult));
 
-        verify(processTicketUseCase).process(any());
+        verify(processTicketUseCase).processReport(command(FolderListFormat.XLSX, TicketReportFormat.XLSX));
+    }
+
+    // ---------------------------------------------------------------------
+    // Selección de formato
+    // ---------------------------------------------------------------------
+
+    @Test
+    @DisplayName("Debe generar CSV cuando se indica el parámetro format")
+    void shouldReturnCsvWhenFormatParameterIsSent() throws Exception {
+
+        when(processTicketUseCase.processReport(command(FolderListFormat.XLSX, TicketReportFormat.CSV)))
+                .thenReturn(outputStream -> outputStream.write("csv".getBytes()));
+
+        MvcResult result = mockMvc.perform(
+                        multipart("/advances/process-ticket")
+                                .file(inputFile())
+                                .param("format", "csv")
+                                .header(HttpHeaders.ACCEPT, "application/x-ndjson")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string(
+                        "Content-Disposition",
+                        org.hamcrest.Matchers.endsWith(".csv\"")
+                ))
+                .andExpect(content().bytes("csv".getBytes()));
+    }
+
+    @Test
+    @DisplayName("Debe elegir el formato según el encabezado Accept y comprimir con gzip si se admite")
+    void shouldNegotiateFormatAndGzipFromHeaders() throws Exception {
+
+        when(processTicketUseCase.processReport(command(FolderListFormat.XLSX, TicketReportFormat.NDJSON)))
+                .thenReturn(outputStream -> outputStream.write("{}\n".getBytes()));
+
+        MvcResult result = mockMvc.perform(
+                        multipart("/advances/process-ticket")
+                                .file(inputFile())
+                                .header(HttpHeaders.ACCEPT, "text/html, application/x-ndjson;q=0.9, */*;q=0.1")
+                                .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertArrayEquals("{}\n".getBytes(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe retornar 406 cuando el formato solicitado no existe")
+    void shouldReturnNotAcceptableWhenFormatIsUnknown() throws Exception {
+
+        mockMvc.perform(
+                        multipart("/advances/process-ticket")
+                                .file(inputFile())
+                                .param("format", "pdf")
+                )
+                .andExpect(status().isNotAcceptable());
+
+        verifyNoInteractions(processTicketUseCase);
+    }
+
+    // ---------------------------------------------------------------------
+    // Listado de carpetas JSON / CSV
+    // ---------------------------------------------------------------------
+
+    @Test
+    @DisplayName("Debe procesar un listado JSON de carpetas sin pasar por Excel")
+    void shouldProcessJsonFolderList() throws Exception {
+
+        when(processTicketUseCase.processReport(command(FolderListFormat.JSON, TicketReportFormat.CSV)))
+                .thenReturn(outputStream -> outputStream.write("csv".getBytes()));
+
+        MvcResult result = mockMvc.perform(
+                        post("/advances/process-ticket/folders")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[\"CARPETA_1\"]")
+                                .param("format", "csv")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes("csv".getBytes()));
+    }
+
+    @Test
+    @DisplayName("Debe interpretar texto plano como listado CSV")
+    void shouldProcessPlainTextFolderList() throws Exception {
+
+        when(processTicketUseCase.processReport(command(FolderListFormat.CSV, TicketReportFormat.XLSX)))
+                .thenReturn(outputStream -> outputStream.write("xlsx".getBytes()));
+
+        mockMvc.perform(
+                        post("/advances/process-ticket/folders")
+                                .contentType(MediaType.TEXT_PLAIN)
+                                .content("CARPETA_1\nCARPETA_2\n")
+                )
+                .andExpect(request().asyncStarted());
+
+        verify(processTicketUseCase).processReport(command(FolderListFormat.CSV, TicketReportFormat.XLSX));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 415 cuando el listado tiene un tipo de contenido no soportado")
+    void shouldReturnUnsupportedMediaTypeForUnknownFolderList() throws Exception {
+
+        mockMvc.perform(
+                        post("/advances/process-ticket/folders")
+                                .contentType(MediaType.APPLICATION_XML)
+                                .content("<carpetas/>")
+                )
+                .andExpect(status().isUnsupportedMediaType());
+
+        verifyNoInteractions(processTicketUseCase);
     }
 
     // ---------------------------------------------------------------------
@@ -125,7 +283,7 @@ class AdvanceTicketControllerTest {
     @DisplayName("Debe retornar 500 cuando el UseCase lanza una excepción")
     void shouldReturnInternalServerErrorWhenUseCaseFails() throws Exception {
 
-        when(processTicketUseCase.process(any()))
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class)))
                 .thenThrow(new RuntimeException("Boom"));
 
         MockMultipartFile file = new MockMultipartFile(
@@ -142,6 +300,132 @@ class AdvanceTicketControllerTest {
                 .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    @DisplayName("Debe liberar el turno cuando el UseCase lanza una excepción")
+    void shouldReleasePermitWhenUseCaseFails() throws Exception {
+
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class)))
+                .thenThrow(new RuntimeException("Boom"));
+
+        mockMvc.perform(multipart("/advances/process-ticket").file(inputFile()))
+                .andExpect(status().isInternalServerError());
+
+        assertEquals(0, fairAdmissionQueue.running());
+    }
+
+    // ---------------------------------------------------------------------
+    // Plazo de procesamiento
+    // ---------------------------------------------------------------------
+
+    @Test
+    @DisplayName("Debe aplicar el plazo indicado en la cabecera, acotado al máximo configurado")
+    void shouldApplyRequestedTimeout() throws Exception {
+
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class)))
+                .thenReturn(outputStream -> outputStream.write("ok".getBytes()));
+
+        MvcResult first = mockMvc.perform(multipart("/advances/process-ticket").file(inputFile())
+                        .header("X-Request-Timeout", "30s"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(first))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(multipart("/advances/process-ticket").file(inputFile())
+                        .header("X-Request-Timeout", "2h"))
+                .andExpect(request().asyncStarted());
+
+        verify(processTicketUseCase).processReport(argThat((ProcessTicketCommand command) ->
+                command.deadline().remaining().compareTo(Duration.ofSeconds(30)) <= 0));
+        verify(processTicketUseCase).processReport(argThat((ProcessTicketCommand command) ->
+                command.deadline().remaining().compareTo(Duration.ofMinutes(9)) > 0
+                        && command.deadline().remaining().compareTo(Duration.ofMinutes(10)) <= 0));
+    }
+
+    @Test
+    @DisplayName("No debe limitar el tiempo del procesamiento cuando no hay plazo solicitado ni por defecto")
+    void shouldNotLimitProcessingWithoutTimeout() throws Exception {
+
+        controller = new AdvanceTicketController(processTicketUseCase, fairAdmissionQueue,
+                new TicketAdmissionProperties(true, 1, 0, DataSize.ofKilobytes(256), 0, Duration.ZERO,
+                        Duration.ofSeconds(15), "X-Client-Id"),
+                new TicketDeadlineProperties(null, Duration.ofHours(2), "X-Request-Timeout"));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).setControllerAdvice(new RestExceptionHandler()).build();
+
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class)))
+                .thenReturn(outputStream -> outputStream.write("ok".getBytes()));
+
+        mockMvc.perform(multipart("/advances/process-ticket").file(inputFile()))
+                .andExpect(request().asyncStarted());
+
+        verify(processTicketUseCase).processReport(argThat((ProcessTicketCommand command) ->
+                command.deadline() != TicketDeadline.NONE
+                        && command.deadline().remaining().compareTo(Duration.ofDays(365)) > 0));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 cuando la cabecera de plazo es inválida")
+    void shouldReturnBadRequestWhenTimeoutHeaderIsInvalid() throws Exception {
+
+        mockMvc.perform(multipart("/advances/process-ticket").file(inputFile())
+                        .header("X-Request-Timeout", "mañana"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value("REQUEST_TIMEOUT_INVALID"));
+
+        verifyNoInteractions(processTicketUseCase);
+        assertEquals(0, fairAdmissionQueue.running());
+    }
+
+    @Test
+    @DisplayName("Debe retornar 504 cuando el plazo vence antes de comenzar la respuesta")
+    void shouldReturnGatewayTimeoutWhenDeadlineExceeded() throws Exception {
+
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class)))
+                .thenThrow(new CoreTechnicalException("Plazo vencido", ErrorType.DEADLINE_EXCEEDED));
+
+        mockMvc.perform(multipart("/advances/process-ticket").file(inputFile()))
+                .andExpect(status().isGatewayTimeout());
+
+        assertEquals(0, fairAdmissionQueue.running());
+    }
+
+    // ---------------------------------------------------------------------
+    // Capacidad saturada → TOO_MANY_REQUESTS → 429 con Retry-After
+    // ---------------------------------------------------------------------
+
+    @Test
+    @DisplayName("Debe retornar 429 con Retry-After cuando no hay turno y liberarlo al escribir el reporte")
+    void shouldReturnTooManyRequestsWhenSaturated() throws Exception {
+
+        CountDownLatch writing = new CountDownLatch(1);
+
+        when(processTicketUseCase.processReport(any(ProcessTicketCommand.class)))
+                .thenReturn(outputStream -> {
+                    awaitQuietly(writing);
+                    outputStream.write("ok".getBytes());
+                });
+
+        MvcResult first = mockMvc.perform(multipart("/advances/process-ticket").file(inputFile()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(1, fairAdmissionQueue.running());
+
+        mockMvc.perform(multipart("/advances/process-ticket").file(inputFile())
+                        .header("X-Client-Id", "otro-cliente"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "15"))
+                .andExpect(jsonPath("$.type").value("TOO_MANY_REQUESTS"));
+
+        writing.countDown();
+
+        mockMvc.perform(asyncDispatch(first))
+                .andExpect(status().isOk());
+
+        assertEquals(0, fairAdmissionQueue.running());
+    }
+
     // ---------------------------------------------------------------------
     // TEST UNITARIO DIRECTO
     // Cubre: file == null
@@ -156,7 +440,7 @@ class AdvanceTicketControllerTest {
 
         CoreRequestException ex = assertThrows(
                 CoreRequestException.class,
-                () -> controller.processTicket(request)
+                () -> controller.processTicket(request, new HttpHeaders(), new MockHttpServletRequest())
         );
 
         assertEquals(ErrorType.EXCEL_INVALID, ex.getType());
@@ -185,7 +469,7 @@ class AdvanceTicketControllerTest {
 
         CoreRequestException ex = assertThrows(
                 CoreRequestException.class,
-                () -> controller.processTicket(request)
+                () -> controller.processTicket(request, new HttpHeaders(), new MockHttpServletRequest())
         );
 
         assertEquals(ErrorType.EXCEL_INVALID, ex.getType());
@@ -206,4 +490,27 @@ class AdvanceTicketControllerTest {
         assertNull(exception.getCause());
     }
 
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private MockMultipartFile inputFile() {
+        return new MockMultipartFile(
+                "file",
+                "input.xlsx",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                "contenido".getBytes()
+        );
+    }
+
+    private static ProcessTicketCommand command(FolderListFormat inputFormat, TicketReportFormat outputFormat) {
+        return argThat(command -> command != null
+                && command.inputFormat() == inputFormat
+                && command.outputFormat() == outputFormat);
+    }
+
 }
@@ -0,0 +1,230 @@
+package com.christiancanari.pupe.advance.ticket.service.infrastructure.web.controller;
+
+import com.christiancanari.pupe.advance.ticket.service.domain.model.FolderListFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJob;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJobEvent;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJobEventType;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketJobStatus;
+import com.christiancanari.pupe.advance.ticket.service.domain.model.TicketReportFormat;
+import com.christiancanari.pupe.advance.ticket.service.domain.port.in.TicketJobUseCase;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.config.TicketJobProperties;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.error.ErrorType;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.exception.CoreBusinessException;
+import com.christiancanari.pupe.advance.ticket.service.infrastructure.web.handler.RestExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class TicketJobControllerTest {
+
+    private static final Instant SUBMITTED_AT = Instant.parse("2026-01-01T10:00:00Z");
+
+    private MockMvc mockMvc;
+    private TicketJobUseCase ticketJobUseCase;
+
+    @BeforeEach
+    void setUp() {
+
+        ticketJobUseCase = mock(TicketJobUseCase.class);
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new TicketJobController(ticketJobUseCase,
+                        new TicketJobProperties(1, 1, Duration.ofHours(1), Duration.ofMinutes(5),
+                                Duration.ofMinutes(1), Path.of("unused"), null, null)))
+                .setControllerAdvice(new RestExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe aceptar el Excel y retornar 202 con la ubicación del trabajo")
+    void shouldAcceptExcelJob() throws Exception {
+
+        when(ticketJobUseCase.submit(any(), eq(FolderListFormat.XLSX), eq(TicketReportFormat.CSV)))
+                .thenReturn(job(TicketJobStatus.QUEUED, TicketReportFormat.CSV));
+
+        mockMvc.perform(
+                        multipart("/advances/jobs")
+                                .file(new MockMultipartFile("file", "input.xlsx", "application/octet-stream",
+                                        "contenido".getBytes()))
+                                .param("format", "csv")
+                )
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/advances/jobs/job-1"))
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.format").value("csv"))
+                .andExpect(jsonPath("$.resultUrl").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Debe aceptar un listado JSON de carpetas")
+    void shouldAcceptFolderListJob() throws Exception {
+
+        when(ticketJobUseCase.submit(any(), eq(FolderListFormat.JSON), eq(TicketReportFormat.XLSX)))
+                .thenReturn(job(TicketJobStatus.QUEUED, TicketReportFormat.XLSX));
+
+        mockMvc.perform(
+                        post("/advances/jobs/folders")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[\"CARPETA_1\"]")
+                )
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/advances/jobs/job-1"));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 503 cuando la cola de trabajos está completa")
+    void shouldReturnServiceUnavailableWhenQueueIsFull() throws Exception {
+
+        when(ticketJobUseCase.submit(any(), any(), any()))
+                .thenThrow(new CoreBusinessException("cola completa", ErrorType.JOB_QUEUE_FULL));
+
+        mockMvc.perform(
+                        post("/advances/jobs/folders")
+                                .contentType(MediaType.TEXT_PLAIN)
+                                .content("CARPETA_1")
+                )
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.type").value("JOB_QUEUE_FULL"));
+    }
+
+    @Test
+    @DisplayName("Debe retornar el estado y el enlace de descarga de un trabajo finalizado")
+    void shouldReturnJobStatus() throws Exception {
+
+        when(ticketJobUseCase.status("job-1")).thenReturn(job(TicketJobStatus.COMPLETED, TicketReportFormat.XLSX));
+
+        mockMvc.perform(get("/advances/jobs/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.foldersProcessed").value(4))
+                .andExpect(jsonPath("$.ticketsGenerated").value(9))
+                .andExpect(jsonPath("$.resultUrl").value("/advances/jobs/job-1/result"));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 404 para un trabajo inexistente")
+    void shouldReturnNotFoundForUnknownJob() throws Exception {
+
+        when(ticketJobUseCase.status("otro"))
+                .thenThrow(new CoreBusinessException("Trabajo no encontrado", ErrorType.RESOURCE_NOT_FOUND));
+
+        mockMvc.perform(get("/advances/jobs/otro"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Debe descargar el reporte comprimido cuando el cliente admite gzip")
+    void shouldDownloadCompressedResult() throws Exception {
+
+        when(ticketJobUseCase.status("job-1")).thenReturn(job(TicketJobStatus.COMPLETED, TicketReportFormat.CSV));
+        when(ticketJobUseCase.result("job-1")).thenReturn(outputStream -> outputStream.write("a;b".getBytes()));
+
+        MvcResult result = mockMvc.perform(
+                        get("/advances/jobs/job-1/result")
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals("a;b", gunzip(body));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 409 cuando el reporte aún no está disponible")
+    void shouldReturnConflictWhenResultIsNotReady() throws Exception {
+
+        when(ticketJobUseCase.status("job-1")).thenReturn(job(TicketJobStatus.RUNNING, TicketReportFormat.XLSX));
+        when(ticketJobUseCase.result("job-1"))
+                .thenThrow(new CoreBusinessException("aún no finaliza", ErrorType.CONFLICT));
+
+        mockMvc.perform(get("/advances/jobs/job-1/result"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Debe transmitir los eventos del trabajo por SSE y cerrar la suscripción al finalizar")
+    void shouldStreamJobEvents() throws Exception {
+
+        AtomicBoolean unsubscribed = new AtomicBoolean();
+
+        when(ticketJobUseCase.subscribe(eq("job-1"), any())).thenAnswer(inv -> {
+            Consumer<TicketJobEvent> subscriber = inv.getArgument(1);
+            subscriber.accept(new TicketJobEvent(TicketJobEventType.FOLDER_DONE, "CARPETA_1", null, null, 3,
+                    job(TicketJobStatus.RUNNING, TicketReportFormat.XLSX), 1.5, 2L));
+            subscriber.accept(new TicketJobEvent(TicketJobEventType.COMPLETED, null, null, null, null,
+                    job(TicketJobStatus.COMPLETED, TicketReportFormat.XLSX), 1.5, 0L));
+            return (TicketJobUseCase.Subscription) () -> unsubscribed.set(true);
+        });
+
+        MvcResult result = mockMvc.perform(get("/advances/jobs/job-1/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(body.contains("event:folder_done"), body);
+        assertTrue(body.contains("\"folderName\":\"CARPETA_1\""), body);
+        assertTrue(body.contains("\"etaSeconds\":2"), body);
+        assertTrue(body.contains("event:completed"), body);
+        assertTrue(unsubscribed.get());
+    }
+
+    @Test
+    @DisplayName("Debe retornar 404 al suscribirse a un trabajo inexistente")
+    void shouldReturnNotFoundWhenSubscribingToUnknownJob() throws Exception {
+
+        when(ticketJobUseCase.subscribe(eq("otro"), any()))
+                .thenThrow(new CoreBusinessException("Trabajo no encontrado", ErrorType.RESOURCE_NOT_FOUND));
+
+        mockMvc.perform(get("/advances/jobs/otro/events"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static TicketJob job(TicketJobStatus status, TicketReportFormat format) {
+        return new TicketJob("job-1", status, format, SUBMITTED_AT,
+                status == TicketJobStatus.QUEUED ? null : SUBMITTED_AT,
+                status.isFinished() ? SUBMITTED_AT : null,
+                5, 5, 4, 7, 9, null, null);
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(gzip.readAllBytes());
+        }
+    }
+
+}